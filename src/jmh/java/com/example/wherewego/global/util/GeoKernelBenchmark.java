@@ -0,0 +1,115 @@
+package com.example.wherewego.global.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 거리 계산 벤치마크
+ *
+ * 기존 PlaceService 방식(박싱된 좌표, 쌍 단위 Haversine, 매 쌍마다 cos(위도) 재계산)과
+ * GeoKernel 배열 커널(Haversine, 등장방형 근사)을 서울 도심 반경 10km 내 좌표로 비교합니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoKernelBenchmark {
+
+	private static final double ORIGIN_LAT = 37.4979;
+	private static final double ORIGIN_LNG = 127.0276;
+
+	// 검색 결과 한 페이지 ~ 주변 장소 인덱스 버킷 규모
+	@Param({"20", "200", "2000"})
+	private int size;
+
+	private Double[] boxedLatitudes;
+	private Double[] boxedLongitudes;
+	private double[] latitudes;
+	private double[] longitudes;
+	private double[] out;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		boxedLatitudes = new Double[size];
+		boxedLongitudes = new Double[size];
+		latitudes = new double[size];
+		longitudes = new double[size];
+		out = new double[size];
+		for (int i = 0; i < size; i++) {
+			latitudes[i] = ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.18;
+			longitudes[i] = ORIGIN_LNG + (random.nextDouble() - 0.5) * 0.22;
+			boxedLatitudes[i] = latitudes[i];
+			boxedLongitudes[i] = longitudes[i];
+		}
+	}
+
+	@Benchmark
+	public void legacyOneToMany(Blackhole blackhole) {
+		Double userLatitude = ORIGIN_LAT;
+		Double userLongitude = ORIGIN_LNG;
+		for (int i = 0; i < size; i++) {
+			blackhole.consume(legacyDistance(userLatitude, userLongitude, boxedLatitudes[i], boxedLongitudes[i]));
+		}
+	}
+
+	@Benchmark
+	public void kernelHaversineOneToMany(Blackhole blackhole) {
+		GeoKernel.haversineFrom(ORIGIN_LAT, ORIGIN_LNG, latitudes, longitudes, out);
+		blackhole.consume(out);
+	}
+
+	@Benchmark
+	public void kernelEquirectangularOneToMany(Blackhole blackhole) {
+		GeoKernel.equirectangularFrom(ORIGIN_LAT, ORIGIN_LNG, latitudes, longitudes, out);
+		blackhole.consume(out);
+	}
+
+	@Benchmark
+	public void legacyLegs(Blackhole blackhole) {
+		for (int i = 1; i < size; i++) {
+			blackhole.consume(legacyDistance(boxedLatitudes[i - 1], boxedLongitudes[i - 1], boxedLatitudes[i],
+				boxedLongitudes[i]));
+		}
+	}
+
+	@Benchmark
+	public void kernelHaversineLegs(Blackhole blackhole) {
+		GeoKernel.haversineLegs(latitudes, longitudes, out);
+		blackhole.consume(out);
+	}
+
+	/**
+	 * GeoKernel 도입 전 PlaceService의 거리 계산 (calculateDistanceWhenCoordinatesAvailable + calculateHaversineDistance)
+	 */
+	private static Integer legacyDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
+		if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) {
+			return null;
+		}
+
+		final int EARTH_RADIUS = 6371000;
+		double lat1Rad = Math.toRadians(lat1);
+		double lat2Rad = Math.toRadians(lat2);
+		double deltaLat = Math.toRadians(lat2 - lat1);
+		double deltaLon = Math.toRadians(lon2 - lon1);
+
+		double sinHalfDeltaLat = Math.sin(deltaLat / 2);
+		double sinHalfDeltaLon = Math.sin(deltaLon / 2);
+		double haversineValue = sinHalfDeltaLat * sinHalfDeltaLat
+			+ Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinHalfDeltaLon * sinHalfDeltaLon;
+
+		double angularDistance = 2 * Math.atan2(Math.sqrt(haversineValue), Math.sqrt(1 - haversineValue));
+		return (int)(EARTH_RADIUS * angularDistance);
+	}
+}
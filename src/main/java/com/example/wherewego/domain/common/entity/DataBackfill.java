@@ -0,0 +1,36 @@
+package com.example.wherewego.domain.common.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 데이터 백필 완료 기록 엔티티
+ * - 기동 시 한 번만 실행해야 하는 데이터 보정 작업의 완료 여부를 작업 이름 단위로 기록
+ * - 대상 테이블의 행 수 대신 이 기록으로 실행 여부를 판단하여, 백필 전에 들어온 증분 갱신이 있어도 건너뛰지 않음
+ * - DataBackfillRepository의 INSERT IGNORE로만 기록하며, 엔티티로 직접 저장하지 않음
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "data_backfills")
+public class DataBackfill {
+
+	/**
+	 * 백필 작업 이름
+	 */
+	@Id
+	@Column(name = "name", length = 100)
+	private String name;
+
+	/**
+	 * 완료 일시
+	 */
+	@Column(name = "completed_at", nullable = false)
+	private LocalDateTime completedAt;
+}
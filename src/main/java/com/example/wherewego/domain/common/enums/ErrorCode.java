@@ -25,6 +25,7 @@ public enum ErrorCode {
 	UNAUTHORIZED_USER(HttpStatus.UNAUTHORIZED, "로그인 하지 않은 사용자입니다."),
 	MISSING_USER_ID(HttpStatus.BAD_REQUEST, "사용자 ID는 필수입니다."),
 	MISSING_COURSE_ID(HttpStatus.BAD_REQUEST, "코스 ID는 필수입니다."),
+	UNAUTHORIZED_ADMIN_ACCESS(HttpStatus.FORBIDDEN, "관리자 권한이 필요합니다."),
 
 	// 코스 관련 에러 정의
 	COURSE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 코스입니다."),
@@ -56,6 +57,8 @@ public enum ErrorCode {
 
 	// 외부 API 관련 에러 정의
 	EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "외부 API 호출에 실패했습니다."),
+	EXTERNAL_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 API 요청이 많아 일시적으로 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	EXTERNAL_API_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "외부 API 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
 	// 북마크 관련 에러 정의
 	BOOKMARK_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 북마크한 장소입니다."),
@@ -64,6 +67,7 @@ public enum ErrorCode {
 	// 장소 관련 에러 정의
 	PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "장소 정보를 찾을 수 없습니다."),
 	PLACE_API_ERROR(HttpStatus.BAD_GATEWAY, "장소 정보 조회에 실패했습니다."),
+	PLACE_PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "장소 사진을 찾을 수 없습니다."),
 
 	// 리뷰 관련 에러 정의
 	REVIEW_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 리뷰를 작성한 장소입니다."),
@@ -0,0 +1,36 @@
+package com.example.wherewego.domain.common.enums;
+
+import com.example.wherewego.global.quota.GoogleApiSku;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 구글 Place Details 조회 필드 등급
+ *
+ * 구글은 기본(Basic) 필드와 연락처(Contact)/분위기(Atmosphere) 필드를 따로 과금하므로,
+ * 목록/코스 화면은 BASIC만 조회하고 장소 상세 화면에서만 FULL로 올려 조회합니다.
+ * FULL은 BASIC 필드를 모두 포함합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PlaceDetailTier {
+	BASIC("place_id,name,formatted_address,geometry,types,photos,address_components",
+		GoogleApiSku.PLACE_DETAILS_BASIC),
+	FULL("place_id,name,formatted_address,geometry,types,photos,address_components,"
+		+ "rating,user_ratings_total,price_level,formatted_phone_number,website,opening_hours",
+		GoogleApiSku.PLACE_DETAILS);
+
+	private final String fields;
+	private final GoogleApiSku sku;
+
+	/**
+	 * 이 등급으로 조회한 정보가 요청한 등급의 필드를 모두 포함하는지 확인합니다.
+	 *
+	 * @param required 필요한 등급
+	 * @return 포함하면 true
+	 */
+	public boolean covers(PlaceDetailTier required) {
+		return compareTo(required) >= 0;
+	}
+}
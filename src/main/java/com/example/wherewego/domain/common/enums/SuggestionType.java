@@ -0,0 +1,7 @@
+package com.example.wherewego.domain.common.enums;
+
+public enum SuggestionType {
+	QUERY,
+	PLACE,
+	COURSE
+}
\ No newline at end of file
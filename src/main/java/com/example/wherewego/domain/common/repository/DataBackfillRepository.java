@@ -0,0 +1,27 @@
+package com.example.wherewego.domain.common.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.wherewego.domain.common.entity.DataBackfill;
+
+/**
+ * 데이터 백필 완료 기록 Repository
+ */
+@Repository
+public interface DataBackfillRepository extends JpaRepository<DataBackfill, String> {
+
+	/**
+	 * 백필 작업 완료를 기록 (여러 인스턴스가 동시에 완료해도 중복 키 오류 없이 한 번만 기록)
+	 *
+	 * @param name 백필 작업 이름
+	 * @return 새로 기록된 행 수 (이미 기록되어 있으면 0)
+	 */
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO data_backfills (name, completed_at) VALUES (:name, NOW())",
+		nativeQuery = true)
+	int markCompleted(@Param("name") String name);
+}
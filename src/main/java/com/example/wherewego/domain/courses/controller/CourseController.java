@@ -22,10 +22,12 @@ import com.example.wherewego.domain.auth.security.CustomUserDetail;
 import com.example.wherewego.domain.common.enums.CourseTheme;
 import com.example.wherewego.domain.courses.dto.request.CourseCreateRequestDto;
 import com.example.wherewego.domain.courses.dto.request.CourseListFilterDto;
+import com.example.wherewego.domain.courses.dto.request.CourseRouteOptimizeRequestDto;
 import com.example.wherewego.domain.courses.dto.request.CourseUpdateRequestDto;
 import com.example.wherewego.domain.courses.dto.response.CourseCreateResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseDetailResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseListResponseDto;
+import com.example.wherewego.domain.courses.dto.response.CourseRouteOptimizeResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseUpdateResponseDto;
 import com.example.wherewego.domain.courses.service.CourseService;
 import com.example.wherewego.global.response.ApiResponse;
@@ -67,6 +69,22 @@ public class CourseController {
 		return ApiResponse.created("코스가 성공적으로 생성되었습니다.", response);
 	}
 
+	/**
+	 * 장소 목록의 방문 순서를 총 이동 거리가 최소가 되도록 재정렬합니다.
+	 * 출발 위치가 있으면 그 위치에서 출발하는 경로로 최적화하며, 코스는 저장하지 않습니다.
+	 *
+	 * @param requestDto 장소 ID 목록과 출발 위치 (선택사항)
+	 * @return 최적화된 방문 순서의 장소 목록과 최적화 전후 경로 요약 정보
+	 */
+	@PostMapping("/route/optimize")
+	public ApiResponse<CourseRouteOptimizeResponseDto> optimizeCourseRoute(
+		@RequestBody @Valid CourseRouteOptimizeRequestDto requestDto
+	) {
+		CourseRouteOptimizeResponseDto response = courseService.optimizeRoute(requestDto);
+
+		return ApiResponse.ok("코스 경로 최적화를 성공했습니다.", response);
+	}
+
 	/**
 	 * 지역과 테마 조건에 따라 공개된 코스 목록을 페이징하여 조회합니다.
 	 * 성능 최적화된 지역 검색과 N+1 쿼리 해결이 적용되어 있습니다.
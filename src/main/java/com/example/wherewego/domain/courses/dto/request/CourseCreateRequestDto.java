@@ -56,4 +56,19 @@ public class CourseCreateRequestDto {
 	 */
 	// 기본값 = false(null일 경우)
 	private Boolean isPublic;
+
+	/**
+	 * 총 이동 거리가 최소가 되도록 장소 방문 순서를 재정렬할지 여부 (기본값: false)
+	 */
+	private Boolean optimizeRoute;
+
+	/**
+	 * 경로 최적화 출발 위치 위도 (선택사항)
+	 */
+	private Double userLatitude;
+
+	/**
+	 * 경로 최적화 출발 위치 경도 (선택사항)
+	 */
+	private Double userLongitude;
 }
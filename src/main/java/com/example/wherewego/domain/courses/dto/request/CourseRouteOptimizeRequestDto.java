@@ -0,0 +1,38 @@
+package com.example.wherewego.domain.courses.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스 경로 최적화 요청 DTO
+ * 장소 목록의 방문 순서를 총 이동 거리가 최소가 되도록 재정렬할 때 사용하는 요청 데이터 클래스입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseRouteOptimizeRequestDto {
+
+	/**
+	 * 최적화할 장소들의 ID 목록 (최대 30개)
+	 */
+	@NotEmpty(message = "장소 선택은 필수입니다.")
+	@Size(max = 30, message = "경로 최적화는 최대 30개 장소까지 가능합니다.")
+	private List<String> placeIds;
+
+	/**
+	 * 출발 위치 위도 (선택사항)
+	 */
+	private Double userLatitude;
+
+	/**
+	 * 출발 위치 경도 (선택사항)
+	 */
+	private Double userLongitude;
+}
@@ -0,0 +1,34 @@
+package com.example.wherewego.domain.courses.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스 경로 최적화 응답 DTO
+ * 최적화된 방문 순서의 장소 목록과 최적화 전후 경로 요약 정보를 반환합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseRouteOptimizeResponseDto {
+
+	/**
+	 * 최적화된 방문 순서의 장소 목록 (경로 거리 포함)
+	 */
+	private List<CoursePlaceInfo> places;
+
+	/**
+	 * 요청한 순서 기준 경로 요약 정보
+	 */
+	private CourseRouteSummary originalSummary;
+
+	/**
+	 * 최적화된 순서 기준 경로 요약 정보
+	 */
+	private CourseRouteSummary optimizedSummary;
+}
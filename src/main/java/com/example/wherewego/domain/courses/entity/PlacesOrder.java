@@ -56,4 +56,13 @@ public class PlacesOrder {
 	@Column(name = "created_at", nullable = false)
 	@Builder.Default
 	private LocalDateTime createdAt = LocalDateTime.now();
-}
\ No newline at end of file
+
+	/**
+	 * 코스 내 방문 순서를 변경합니다.
+	 *
+	 * @param visitOrder 새 방문 순서 (1부터 시작)
+	 */
+	public void updateVisitOrder(Integer visitOrder) {
+		this.visitOrder = visitOrder;
+	}
+}
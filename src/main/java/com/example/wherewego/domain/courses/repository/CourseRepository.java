@@ -58,6 +58,9 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 	Page<Course> findByExactRegionAndIsPublicTrue(@Param("region") String region,
 		Pageable pageable);
 
+	// 자동완성 인덱스 적재용 (공개 코스 제목)
+	Page<Course> findByIsPublicTrueAndIsDeletedFalse(Pageable pageable);
+
 	// 성능 최적화: 지역 시작 문자로 검색 (인덱스 활용 가능)
 	@Query("""
 		    SELECT c FROM Course c
@@ -137,18 +137,19 @@ public class CourseBookmarkService {
 		List<PlacesOrder> allPlaceOrders = placesOrderRepository.findByCourseIdInOrderByCourseIdAscVisitOrderAsc(
 			courseIds);
 
-		// 4. CourseId 기준으로 그룹핑
-		Map<Long, List<PlacesOrder>> placeOrdersByCourse = allPlaceOrders.stream()
-			.collect(Collectors.groupingBy(PlacesOrder::getCourseId));
+		// 4. CourseId 기준으로 장소 ID 그룹핑 (방문 순서 유지)
+		Map<Long, List<String>> placeIdsByCourse = allPlaceOrders.stream()
+			.collect(Collectors.groupingBy(PlacesOrder::getCourseId,
+				Collectors.mapping(PlacesOrder::getPlaceId, Collectors.toList())));
+
+		// 5. 페이지 내 모든 장소를 한 번에 병렬 조회 후 북마크 → DTO 변환
+		Map<Long, List<CoursePlaceInfo>> placesByCourse = placeService.getPlacesForCoursesWithRoute(
+			placeIdsByCourse, null, null);
 
-		// 5. 북마크 → DTO 변환 (장소 포함)
 		List<UserCourseBookmarkListDto> dtoList = bookmarkPage.getContent().stream()
 			.map(bookmark -> {
 				Course course = bookmark.getCourse();
-
-				List<PlacesOrder> orders = placeOrdersByCourse.getOrDefault(course.getId(), new ArrayList<>());
-				List<String> placeIds = orders.stream().map(PlacesOrder::getPlaceId).toList();
-				List<CoursePlaceInfo> places = placeService.getPlacesForCourseWithRoute(placeIds, null, null);
+				List<CoursePlaceInfo> places = placesByCourse.getOrDefault(course.getId(), new ArrayList<>());
 
 				return CourseMapper.toBookmarkCourseDto(course, bookmark.getCreatedAt(), places);
 			})
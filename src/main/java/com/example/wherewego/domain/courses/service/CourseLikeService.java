@@ -165,20 +165,24 @@ public class CourseLikeService {
 		}
 
 		//place가져오기
-		List<Long> courseIds = pagedLikeList.getContent().stream().map(CourseLike::getId).toList();
+		List<Long> courseIds = pagedLikeList.getContent().stream()
+			.map(courseLike -> courseLike.getCourse().getId())
+			.toList();
 
 		List<PlacesOrder> allPlaceOrders = placesOrderRepository.findByCourseIdInOrderByCourseIdAscVisitOrderAsc(
 			courseIds);
 
-		Map<Long, List<PlacesOrder>> mappedPlaceOrders = allPlaceOrders.stream()
-			.collect(Collectors.groupingBy(PlacesOrder::getCourseId));
+		Map<Long, List<String>> placeIdsByCourse = allPlaceOrders.stream()
+			.collect(Collectors.groupingBy(PlacesOrder::getCourseId,
+				Collectors.mapping(PlacesOrder::getPlaceId, Collectors.toList())));
+
+		// 페이지 내 모든 장소를 한 번에 병렬 조회
+		Map<Long, List<CoursePlaceInfo>> placesByCourse = placeService.getPlacesForCoursesWithRoute(
+			placeIdsByCourse, null, null);
 
 		List<CourseLikeListResponseDto> dtos = pagedLikeList.getContent().stream().map(courseLike -> {
 			Course course = courseLike.getCourse();
-			List<PlacesOrder> orders = mappedPlaceOrders.getOrDefault(courseLike.getCourse().getId(),
-				new ArrayList<>());
-			List<String> placeIds = orders.stream().map(PlacesOrder::getPlaceId).toList();
-			List<CoursePlaceInfo> places = placeService.getPlacesForCourseWithRoute(placeIds, null, null);
+			List<CoursePlaceInfo> places = placesByCourse.getOrDefault(course.getId(), new ArrayList<>());
 			return CourseMapper.toCourseLikeDto(course, courseLike, places);
 		}).toList();
 
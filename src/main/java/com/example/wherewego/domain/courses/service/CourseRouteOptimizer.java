@@ -0,0 +1,293 @@
+package com.example.wherewego.domain.courses.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.global.util.GeoKernel;
+
+/**
+ * 코스 방문 순서 최적화기
+ *
+ * 코스 총 이동 거리(사용자 위치 → 1번 장소 → 2번 장소 → ...)가 최소가 되도록 방문 순서를 정합니다.
+ * 시작 위치가 주어지면 그 위치에서 출발하고, 없으면 출발 장소도 함께 고릅니다 (마지막 장소에서 끝나는 열린 경로).
+ *
+ * 1. 장소 간 Haversine 거리 행렬을 한 번 계산
+ * 2. 최근접 이웃(Nearest Neighbour)으로 초기 경로 구성 (시작 위치가 없으면 모든 출발 장소를 시도)
+ * 3. 2-opt(구간 뒤집기)와 Or-opt(1~3개 장소 묶음 이동)로 더 이상 줄지 않을 때까지 개선
+ *
+ * 장소 30개 기준 수 밀리초 내에 끝나며, 좌표가 없는 장소는 원래 순서대로 경로 끝에 둡니다.
+ * 최적화 결과가 원래 순서보다 짧지 않으면 원래 순서를 그대로 반환합니다.
+ */
+@Component
+public class CourseRouteOptimizer {
+
+	private static final int NONE = -1;
+	// 개선 반복 상한 (실제로는 수 회 안에 수렴)
+	private static final int MAX_PASSES = 100;
+	private static final int MAX_OR_OPT_SEGMENT = 3;
+	private static final double EPSILON = 1e-6;
+
+	/**
+	 * 총 이동 거리가 최소가 되는 방문 순서를 계산합니다.
+	 *
+	 * @param latitudes 장소 위도 배열 (좌표가 없으면 NaN)
+	 * @param longitudes 장소 경도 배열 (좌표가 없으면 NaN)
+	 * @param startLatitude 출발 위치 위도 (null 가능)
+	 * @param startLongitude 출발 위치 경도 (null 가능)
+	 * @return 방문할 장소의 원래 인덱스 배열 (방문 순서대로)
+	 */
+	public int[] optimize(double[] latitudes, double[] longitudes, Double startLatitude, Double startLongitude) {
+		List<Integer> located = new ArrayList<>();
+		List<Integer> unlocated = new ArrayList<>();
+		for (int i = 0; i < latitudes.length; i++) {
+			if (Double.isNaN(latitudes[i]) || Double.isNaN(longitudes[i])) {
+				unlocated.add(i);
+			} else {
+				located.add(i);
+			}
+		}
+
+		int[] result = new int[latitudes.length];
+		int count = located.size();
+		boolean hasStart = startLatitude != null && startLongitude != null;
+
+		if (count > 1) {
+			Route route = new Route(buildMatrix(located, latitudes, longitudes, startLatitude, startLongitude),
+				count, hasStart);
+			int[] identity = new int[count];
+			for (int i = 0; i < count; i++) {
+				identity[i] = i;
+			}
+
+			int[] optimized = route.improve(route.nearestNeighbour());
+			int[] order = route.cost(optimized) < route.cost(identity) - EPSILON ? optimized : identity;
+			for (int i = 0; i < count; i++) {
+				result[i] = located.get(order[i]);
+			}
+		} else if (count == 1) {
+			result[0] = located.get(0);
+		}
+
+		for (int i = 0; i < unlocated.size(); i++) {
+			result[count + i] = unlocated.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * 장소 간(및 출발 위치와 장소 간) 거리 행렬을 계산합니다. 출발 위치가 있으면 마지막 행/열에 둡니다.
+	 */
+	private double[][] buildMatrix(List<Integer> located, double[] latitudes, double[] longitudes,
+		Double startLatitude, Double startLongitude) {
+		int count = located.size();
+		boolean hasStart = startLatitude != null && startLongitude != null;
+		int size = hasStart ? count + 1 : count;
+
+		double[] nodeLatitudes = new double[size];
+		double[] nodeLongitudes = new double[size];
+		for (int i = 0; i < count; i++) {
+			nodeLatitudes[i] = latitudes[located.get(i)];
+			nodeLongitudes[i] = longitudes[located.get(i)];
+		}
+		if (hasStart) {
+			nodeLatitudes[count] = startLatitude;
+			nodeLongitudes[count] = startLongitude;
+		}
+
+		double[][] matrix = new double[size][size];
+		for (int i = 0; i < size; i++) {
+			GeoKernel.haversineFrom(nodeLatitudes[i], nodeLongitudes[i], nodeLatitudes, nodeLongitudes, matrix[i]);
+		}
+		return matrix;
+	}
+
+	/**
+	 * 거리 행렬 위의 열린 경로 (0..count-1: 장소, count: 출발 위치)
+	 */
+	private static final class Route {
+
+		private final double[][] matrix;
+		private final int count;
+		// 출발 위치 노드 (없으면 NONE)
+		private final int start;
+
+		private Route(double[][] matrix, int count, boolean hasStart) {
+			this.matrix = matrix;
+			this.count = count;
+			this.start = hasStart ? count : NONE;
+		}
+
+		private double distance(int from, int to) {
+			return from == NONE || to == NONE ? 0 : matrix[from][to];
+		}
+
+		private double cost(int[] order) {
+			double total = distance(start, order[0]);
+			for (int i = 1; i < order.length; i++) {
+				total += matrix[order[i - 1]][order[i]];
+			}
+			return total;
+		}
+
+		/**
+		 * 최근접 이웃 경로. 출발 위치가 없으면 모든 장소를 출발점으로 시도해 가장 짧은 경로를 고릅니다.
+		 */
+		private int[] nearestNeighbour() {
+			if (start != NONE) {
+				return nearestNeighbourFrom(start);
+			}
+
+			int[] best = null;
+			double bestCost = Double.MAX_VALUE;
+			for (int first = 0; first < count; first++) {
+				int[] candidate = nearestNeighbourFrom(first);
+				double candidateCost = cost(candidate);
+				if (candidateCost < bestCost) {
+					best = candidate;
+					bestCost = candidateCost;
+				}
+			}
+			return best;
+		}
+
+		private int[] nearestNeighbourFrom(int origin) {
+			int[] order = new int[count];
+			boolean[] visited = new boolean[count];
+			int position = 0;
+			int current = origin;
+			if (origin != start) {
+				order[position++] = origin;
+				visited[origin] = true;
+			}
+
+			while (position < count) {
+				int next = NONE;
+				for (int candidate = 0; candidate < count; candidate++) {
+					if (!visited[candidate] && (next == NONE || matrix[current][candidate] < matrix[current][next])) {
+						next = candidate;
+					}
+				}
+				order[position++] = next;
+				visited[next] = true;
+				current = next;
+			}
+			return order;
+		}
+
+		private int[] improve(int[] order) {
+			boolean improved = true;
+			for (int pass = 0; improved && pass < MAX_PASSES; pass++) {
+				improved = twoOpt(order);
+				improved |= orOpt(order);
+			}
+			return order;
+		}
+
+		private int previous(int[] order, int position) {
+			return position > 0 ? order[position - 1] : start;
+		}
+
+		private int next(int[] order, int position) {
+			return position < order.length - 1 ? order[position + 1] : NONE;
+		}
+
+		/**
+		 * 구간 [i, j]를 뒤집어 거리가 줄어들면 적용합니다.
+		 */
+		private boolean twoOpt(int[] order) {
+			boolean improved = false;
+			for (int i = 0; i < order.length - 1; i++) {
+				for (int j = i + 1; j < order.length; j++) {
+					int before = previous(order, i);
+					int after = next(order, j);
+					double delta = distance(before, order[j]) + distance(order[i], after)
+						- distance(before, order[i]) - distance(order[j], after);
+					if (delta < -EPSILON) {
+						reverse(order, i, j);
+						improved = true;
+					}
+				}
+			}
+			return improved;
+		}
+
+		/**
+		 * 1~3개 연속 장소 묶음을 다른 위치로 옮겨(필요하면 뒤집어) 거리가 줄어들면 적용합니다.
+		 */
+		private boolean orOpt(int[] order) {
+			boolean improved = false;
+			for (int length = 1; length <= MAX_OR_OPT_SEGMENT && length < order.length; length++) {
+				for (int i = 0; i + length <= order.length; i++) {
+					if (relocate(order, i, length)) {
+						improved = true;
+					}
+				}
+			}
+			return improved;
+		}
+
+		private boolean relocate(int[] order, int from, int length) {
+			int first = order[from];
+			int last = order[from + length - 1];
+			int before = previous(order, from);
+			int after = next(order, from + length - 1);
+			double removeGain = distance(before, first) + distance(last, after) - distance(before, after);
+
+			int[] rest = new int[order.length - length];
+			for (int i = 0, j = 0; i < order.length; i++) {
+				if (i < from || i >= from + length) {
+					rest[j++] = order[i];
+				}
+			}
+
+			// 삽입 위치 k: rest[k - 1]과 rest[k] 사이 (k = 0이면 맨 앞, k = rest.length이면 맨 뒤)
+			int bestPosition = NONE;
+			boolean bestReversed = false;
+			double bestGain = EPSILON;
+			for (int k = 0; k <= rest.length; k++) {
+				if (k == from) {
+					continue;
+				}
+				int left = k > 0 ? rest[k - 1] : start;
+				int right = k < rest.length ? rest[k] : NONE;
+				double base = distance(left, right);
+				double forward = distance(left, first) + distance(last, right) - base;
+				double backward = distance(left, last) + distance(first, right) - base;
+
+				if (removeGain - forward > bestGain) {
+					bestGain = removeGain - forward;
+					bestPosition = k;
+					bestReversed = false;
+				}
+				if (removeGain - backward > bestGain) {
+					bestGain = removeGain - backward;
+					bestPosition = k;
+					bestReversed = true;
+				}
+			}
+
+			if (bestPosition == NONE) {
+				return false;
+			}
+
+			int[] segment = new int[length];
+			System.arraycopy(order, from, segment, 0, length);
+			System.arraycopy(rest, 0, order, 0, bestPosition);
+			for (int i = 0; i < length; i++) {
+				order[bestPosition + i] = bestReversed ? segment[length - 1 - i] : segment[i];
+			}
+			System.arraycopy(rest, bestPosition, order, bestPosition + length, rest.length - bestPosition);
+			return true;
+		}
+
+		private void reverse(int[] order, int from, int to) {
+			while (from < to) {
+				int temp = order[from];
+				order[from++] = order[to];
+				order[to--] = temp;
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.example.wherewego.domain.courses.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -16,11 +17,13 @@ import com.example.wherewego.domain.common.enums.CourseTheme;
 import com.example.wherewego.domain.common.enums.ErrorCode;
 import com.example.wherewego.domain.courses.dto.request.CourseCreateRequestDto;
 import com.example.wherewego.domain.courses.dto.request.CourseListFilterDto;
+import com.example.wherewego.domain.courses.dto.request.CourseRouteOptimizeRequestDto;
 import com.example.wherewego.domain.courses.dto.request.CourseUpdateRequestDto;
 import com.example.wherewego.domain.courses.dto.response.CourseCreateResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseDetailResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseListResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CoursePlaceInfo;
+import com.example.wherewego.domain.courses.dto.response.CourseRouteOptimizeResponseDto;
 import com.example.wherewego.domain.courses.dto.response.CourseUpdateResponseDto;
 import com.example.wherewego.domain.courses.entity.Course;
 import com.example.wherewego.domain.courses.entity.PlacesOrder;
@@ -28,6 +31,7 @@ import com.example.wherewego.domain.courses.mapper.CourseMapper;
 import com.example.wherewego.domain.courses.repository.CourseRepository;
 import com.example.wherewego.domain.courses.repository.PlacesOrderRepository;
 import com.example.wherewego.domain.places.service.PlaceService;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
 import com.example.wherewego.domain.user.entity.User;
 import com.example.wherewego.domain.user.service.UserService;
 import com.example.wherewego.global.exception.CustomException;
@@ -47,6 +51,8 @@ public class CourseService {
 	private final UserService userService;
 	private final PlaceService placeService;
 	private final PlacesOrderRepository placesOrderRepository;
+	private final CourseRouteOptimizer courseRouteOptimizer;
+	private final SearchSuggestService searchSuggestService;
 
 	/**
 	 * 새로운 여행 코스를 생성합니다.
@@ -71,8 +77,12 @@ public class CourseService {
 		// 3. 저장하기 - 변환된 Course 엔티티를 DB에 저장
 		Course savedCourse = courseRepository.save(course);
 
-		// requestDto 안에 리스트 placeIds 가져오기
+		// requestDto 안에 리스트 placeIds 가져오기 (경로 최적화 요청 시 총 이동 거리가 최소가 되는 순서로 재정렬)
 		List<String> placeIds = requestDto.getPlaceIds();
+		if (Boolean.TRUE.equals(requestDto.getOptimizeRoute())) {
+			placeIds = reorder(placeIds, optimizeVisitOrder(placeIds, requestDto.getUserLatitude(),
+				requestDto.getUserLongitude()));
+		}
 
 		// placesOrder 엔티티 만들기
 		List<PlacesOrder> placesOrders = new ArrayList<>();
@@ -90,6 +100,9 @@ public class CourseService {
 		// 저장하기
 		placesOrderRepository.saveAll(placesOrders);
 
+		// 공개 코스 제목을 자동완성 인덱스에 반영 (커밋 후)
+		searchSuggestService.indexCourse(savedCourse);
+
 		return CourseMapper.toDto(savedCourse);
 	}
 
@@ -129,29 +142,20 @@ public class CourseService {
 		List<PlacesOrder> allPlaceOrders = placesOrderRepository.findByCourseIdInOrderByCourseIdAscVisitOrderAsc(
 			courseIds);
 
-		// 4-2. 코스 ID별로 장소들 그룹핑
-		Map<Long, List<PlacesOrder>> placeOrdersByCourse = allPlaceOrders.stream()
-			.collect(Collectors.groupingBy(PlacesOrder::getCourseId));
+		// 4-2. 코스 ID별로 장소 ID 그룹핑 (방문 순서 유지)
+		Map<Long, List<String>> placeIdsByCourse = allPlaceOrders.stream()
+			.collect(Collectors.groupingBy(PlacesOrder::getCourseId,
+				Collectors.mapping(PlacesOrder::getPlaceId, Collectors.toList())));
+
+		// 4-3. 페이지 내 모든 코스의 장소 정보를 한 번에 병렬 조회 (목록에서는 위치정보 필요 없어서 null 처리)
+		Map<Long, List<CoursePlaceInfo>> placesByCourse = placeService.getPlacesForCoursesWithRoute(
+			placeIdsByCourse, null, null
+		);
 
-		// 4-3. [엔티티 -> 응답 dto 변환] (map 활용) + 장소 정보 포함
+		// 4-4. [엔티티 -> 응답 dto 변환] (map 활용) + 장소 정보 포함
 		List<CourseListResponseDto> dtoList = coursePage.stream()
-			.map(course -> {
-				// 해당 코스의 장소 순서 가져오기 (이미 조회된 데이터에서)
-				List<PlacesOrder> placeOrders = placeOrdersByCourse.getOrDefault(course.getId(), new ArrayList<>());
-
-				// placeId 리스트 추출
-				List<String> placeIds = placeOrders.stream()
-					.map(PlacesOrder::getPlaceId)
-					.toList();
-
-				// 장소 정보 조회 (목록에서는 위치정보 필요 없어서 null 처리)
-				List<CoursePlaceInfo> places = placeService.getPlacesForCourseWithRoute(
-					placeIds, null, null
-				);
-
-				// 매퍼로 DTO 변환
-				return CourseMapper.toListWithPlaces(course, places);
-			})
+			.map(course -> CourseMapper.toListWithPlaces(course,
+				placesByCourse.getOrDefault(course.getId(), new ArrayList<>())))
 			.toList();
 
 		// 5. PageImpl 로 Page 객체 생성
@@ -272,10 +276,97 @@ public class CourseService {
 			requestDto.getIsPublic()
 		);
 
-		// 4. dto 반환하기[엔티티 -> 응답 dto 변환]
+		// 4. 경로 최적화 요청 시 기존 장소의 방문 순서 재정렬 (변경 감지로 반영)
+		if (Boolean.TRUE.equals(requestDto.getOptimizeRoute())) {
+			List<PlacesOrder> placesOrders = placesOrderRepository.findByCourseIdOrderByVisitOrderAsc(courseId);
+			List<String> placeIds = placesOrders.stream()
+				.map(PlacesOrder::getPlaceId)
+				.toList();
+
+			int[] order = optimizeVisitOrder(placeIds, requestDto.getUserLatitude(), requestDto.getUserLongitude());
+			for (int i = 0; i < order.length; i++) {
+				placesOrders.get(order[i]).updateVisitOrder(i + 1);
+			}
+		}
+
+		// 5. 자동완성 인덱스 반영 (제목 변경, 공개/비공개 전환, 커밋 후)
+		searchSuggestService.indexCourse(updatedCourse);
+
+		// 6. dto 반환하기[엔티티 -> 응답 dto 변환]
 		return CourseMapper.toUpdateDto(updatedCourse);
 	}
 
+	/**
+	 * 장소 목록의 방문 순서를 총 이동 거리가 최소가 되도록 재정렬합니다.
+	 * 코스를 저장하지 않고 최적화된 경로와 최적화 전후 경로 요약 정보만 반환합니다.
+	 *
+	 * @param requestDto 장소 ID 목록과 출발 위치 (선택사항)
+	 * @return 최적화된 방문 순서의 장소 목록과 경로 요약 정보
+	 */
+	@Transactional(readOnly = true)
+	public CourseRouteOptimizeResponseDto optimizeRoute(CourseRouteOptimizeRequestDto requestDto) {
+		List<String> placeIds = requestDto.getPlaceIds();
+		Double userLatitude = requestDto.getUserLatitude();
+		Double userLongitude = requestDto.getUserLongitude();
+
+		// 1. 요청 순서 기준 경로 (좌표 조회 겸용)
+		List<CoursePlaceInfo> originalRoute = placeService.getPlacesForCourseWithRoute(placeIds, userLatitude,
+			userLongitude);
+
+		// 2. 방문 순서 최적화 후 최적화된 순서 기준 경로 계산 (장소 정보는 캐시에서 조회)
+		int[] order = optimizeVisitOrder(placeIds, originalRoute, userLatitude, userLongitude);
+		List<CoursePlaceInfo> optimizedRoute = placeService.getPlacesForCourseWithRoute(reorder(placeIds, order),
+			userLatitude, userLongitude);
+
+		return CourseRouteOptimizeResponseDto.builder()
+			.places(optimizedRoute)
+			.originalSummary(placeService.calculateRouteSummary(originalRoute))
+			.optimizedSummary(placeService.calculateRouteSummary(optimizedRoute))
+			.build();
+	}
+
+	/**
+	 * 장소 좌표를 조회하여 총 이동 거리가 최소가 되는 방문 순서를 계산합니다.
+	 *
+	 * @param placeIds 현재 방문 순서대로 정렬된 장소 ID 목록
+	 * @param userLatitude 출발 위치 위도 (null 가능)
+	 * @param userLongitude 출발 위치 경도 (null 가능)
+	 * @return 방문할 장소의 원래 인덱스 배열 (방문 순서대로)
+	 */
+	private int[] optimizeVisitOrder(List<String> placeIds, Double userLatitude, Double userLongitude) {
+		List<CoursePlaceInfo> route = placeService.getPlacesForCourseWithRoute(placeIds, null, null);
+		return optimizeVisitOrder(placeIds, route, userLatitude, userLongitude);
+	}
+
+	/**
+	 * 조회된 장소 좌표로 총 이동 거리가 최소가 되는 방문 순서를 계산합니다.
+	 * 상세 정보(좌표)를 찾을 수 없는 장소는 원래 순서대로 경로 끝에 둡니다.
+	 */
+	private int[] optimizeVisitOrder(List<String> placeIds, List<CoursePlaceInfo> route, Double userLatitude,
+		Double userLongitude) {
+		Map<String, CoursePlaceInfo> placeById = new HashMap<>();
+		route.forEach(place -> placeById.putIfAbsent(place.getPlaceId(), place));
+
+		double[] latitudes = new double[placeIds.size()];
+		double[] longitudes = new double[placeIds.size()];
+		for (int i = 0; i < placeIds.size(); i++) {
+			CoursePlaceInfo place = placeById.get(placeIds.get(i));
+			boolean located = place != null && place.getLatitude() != null && place.getLongitude() != null;
+			latitudes[i] = located ? place.getLatitude() : Double.NaN;
+			longitudes[i] = located ? place.getLongitude() : Double.NaN;
+		}
+
+		return courseRouteOptimizer.optimize(latitudes, longitudes, userLatitude, userLongitude);
+	}
+
+	private List<String> reorder(List<String> placeIds, int[] order) {
+		List<String> reordered = new ArrayList<>(order.length);
+		for (int index : order) {
+			reordered.add(placeIds.get(index));
+		}
+		return reordered;
+	}
+
 	/**
 	 * 코스를 소프트 삭제합니다.
 	 * 코스 작성자만 삭제할 수 있습니다.
@@ -300,6 +391,9 @@ public class CourseService {
 
 		// 3. 소프트 삭제
 		findCourse.softDelete();
+
+		// 4. 자동완성 인덱스에서 제거 (커밋 후)
+		searchSuggestService.removeCourse(courseId);
 	}
 
 	/**
@@ -354,22 +448,25 @@ public class CourseService {
 			);
 		}
 
-		// 4. [엔티티 -> 응답 dto 변환] - 코스별 장소 조회 및 매핑
-		List<CourseListResponseDto> dtoList = coursePage.stream()
-			.map(course -> {
-				List<PlacesOrder> placeOrders = placesOrderRepository.findByCourseIdOrderByVisitOrderAsc(
-					course.getId());
+		// 4. 모든 코스의 장소 순서를 한 번에 조회 후 코스 ID별로 그룹핑
+		List<Long> courseIds = coursePage.getContent().stream()
+			.map(Course::getId)
+			.toList();
 
-				List<String> placeIds = placeOrders.stream()
-					.map(PlacesOrder::getPlaceId)
-					.toList();
+		Map<Long, List<String>> placeIdsByCourse = placesOrderRepository
+			.findByCourseIdInOrderByCourseIdAscVisitOrderAsc(courseIds).stream()
+			.collect(Collectors.groupingBy(PlacesOrder::getCourseId,
+				Collectors.mapping(PlacesOrder::getPlaceId, Collectors.toList())));
 
-				List<CoursePlaceInfo> places = placeService.getPlacesForCourseWithRoute(
-					placeIds, null, null
-				);
+		// 4-1. 페이지 내 모든 코스의 장소 정보를 한 번에 병렬 조회
+		Map<Long, List<CoursePlaceInfo>> placesByCourse = placeService.getPlacesForCoursesWithRoute(
+			placeIdsByCourse, null, null
+		);
 
-				return CourseMapper.toListWithPlaces(course, places);
-			})
+		// 4-2. [엔티티 -> 응답 dto 변환] - 코스별 장소 매핑
+		List<CourseListResponseDto> dtoList = coursePage.stream()
+			.map(course -> CourseMapper.toListWithPlaces(course,
+				placesByCourse.getOrDefault(course.getId(), new ArrayList<>())))
 			.toList();
 
 		// 5. PageImpl로 Page 객체 생성
@@ -403,19 +500,18 @@ public class CourseService {
 		List<PlacesOrder> allPlaceOrders = placesOrderRepository.findByCourseIdInOrderByCourseIdAscVisitOrderAsc(
 			courseIds);
 
-		// 4. courseId → placeOrders 그룹핑
-		Map<Long, List<PlacesOrder>> placeOrdersByCourse = allPlaceOrders.stream()
-			.collect(Collectors.groupingBy(PlacesOrder::getCourseId));
+		// 4. courseId → placeIds 그룹핑 (방문 순서 유지)
+		Map<Long, List<String>> placeIdsByCourse = allPlaceOrders.stream()
+			.collect(Collectors.groupingBy(PlacesOrder::getCourseId,
+				Collectors.mapping(PlacesOrder::getPlaceId, Collectors.toList())));
 
-		// 5. 각 Course → CourseListResponseDto로 변환 (장소 포함)
-		List<CourseListResponseDto> dtoList = coursePage.getContent().stream()
-			.map(course -> {
-				List<PlacesOrder> orders = placeOrdersByCourse.getOrDefault(course.getId(), new ArrayList<>());
-				List<String> placeIds = orders.stream().map(PlacesOrder::getPlaceId).toList();
-				List<CoursePlaceInfo> places = placeService.getPlacesForCourseWithRoute(placeIds, null, null);
+		// 5. 페이지 내 모든 장소를 한 번에 병렬 조회 후 각 Course → CourseListResponseDto로 변환
+		Map<Long, List<CoursePlaceInfo>> placesByCourse = placeService.getPlacesForCoursesWithRoute(
+			placeIdsByCourse, null, null);
 
-				return CourseMapper.toListWithPlaces(course, places);
-			})
+		List<CourseListResponseDto> dtoList = coursePage.getContent().stream()
+			.map(course -> CourseMapper.toListWithPlaces(course,
+				placesByCourse.getOrDefault(course.getId(), new ArrayList<>())))
 			.toList();
 
 		// 6. 최종 페이지 생성 및 반환
@@ -0,0 +1,127 @@
+package com.example.wherewego.domain.places.controller;
+
+import java.util.List;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.wherewego.domain.auth.security.CustomUserDetail;
+import com.example.wherewego.domain.places.dto.response.PlacePrefetchStatsDto;
+import com.example.wherewego.domain.places.service.AdminPlaceService;
+import com.example.wherewego.global.cache.CacheLayerStats;
+import com.example.wherewego.global.quota.GoogleApiQuotaStats;
+import com.example.wherewego.global.resilience.EndpointResilienceStats;
+import com.example.wherewego.global.response.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장소 운영 관리자용 REST API 컨트롤러
+ *
+ * 장소 조회 경로의 캐시 통계, 외부 API 장애 대응 상태, 할당량 사용 현황, 인기 장소 미리 갱신 현황 등 운영 지표 조회 기능을 제공합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/places")
+public class AdminPlaceController {
+
+	private final AdminPlaceService adminPlaceService;
+
+	/**
+	 * 장소 관련 캐시의 계층별 히트 통계를 조회합니다.
+	 *
+	 * GET /api/admin/places/cache-stats
+	 *
+	 * @param userDetail 인증된 사용자 정보
+	 * @return 캐시별 L1/L2 히트 수와 히트율
+	 */
+	@GetMapping("/cache-stats")
+	public ApiResponse<List<CacheLayerStats>> getCacheStats(
+		@AuthenticationPrincipal CustomUserDetail userDetail
+	) {
+		Long userId = userDetail.getUser().getId();
+
+		List<CacheLayerStats> stats = adminPlaceService.getCacheStats(userId);
+
+		return ApiResponse.ok("캐시 통계 조회가 완료되었습니다.", stats);
+	}
+
+	/**
+	 * 외부 API 엔드포인트별 장애 대응 상태를 조회합니다.
+	 *
+	 * GET /api/admin/places/api-stats
+	 *
+	 * @param userDetail 인증된 사용자 정보
+	 * @return 엔드포인트별 서킷 브레이커 상태, 지연 시간 백분위수, 타임아웃, 헤지/거절 횟수
+	 */
+	@GetMapping("/api-stats")
+	public ApiResponse<List<EndpointResilienceStats>> getApiStats(
+		@AuthenticationPrincipal CustomUserDetail userDetail
+	) {
+		Long userId = userDetail.getUser().getId();
+
+		List<EndpointResilienceStats> stats = adminPlaceService.getApiResilienceStats(userId);
+
+		return ApiResponse.ok("외부 API 상태 조회가 완료되었습니다.", stats);
+	}
+
+	/**
+	 * Google API 할당량 사용 현황을 조회합니다.
+	 *
+	 * GET /api/admin/places/quota-stats
+	 *
+	 * @param userDetail 인증된 사용자 정보
+	 * @return 예산 잔량, 백그라운드 차단 여부, SKU/레인별 호출 수와 누적 비용
+	 */
+	@GetMapping("/quota-stats")
+	public ApiResponse<GoogleApiQuotaStats> getQuotaStats(
+		@AuthenticationPrincipal CustomUserDetail userDetail
+	) {
+		Long userId = userDetail.getUser().getId();
+
+		GoogleApiQuotaStats stats = adminPlaceService.getQuotaStats(userId);
+
+		return ApiResponse.ok("외부 API 사용량 조회가 완료되었습니다.", stats);
+	}
+
+	/**
+	 * 조회 빈도 상위 장소 목록과 미리 갱신 실행 현황을 조회합니다.
+	 *
+	 * GET /api/admin/places/hot-places
+	 *
+	 * @param userDetail 인증된 사용자 정보
+	 * @return 추정 조회 빈도 순 인기 장소 목록, 실행당 호출 예산, 최근/누적 갱신 수
+	 */
+	@GetMapping("/hot-places")
+	public ApiResponse<PlacePrefetchStatsDto> getHotPlaces(
+		@AuthenticationPrincipal CustomUserDetail userDetail
+	) {
+		Long userId = userDetail.getUser().getId();
+
+		PlacePrefetchStatsDto stats = adminPlaceService.getPrefetchStats(userId);
+
+		return ApiResponse.ok("인기 장소 조회가 완료되었습니다.", stats);
+	}
+
+	/**
+	 * 리뷰/북마크 원본 데이터로 장소 통계 집계를 다시 계산합니다.
+	 *
+	 * POST /api/admin/places/stats/rebuild
+	 *
+	 * @param userDetail 인증된 사용자 정보
+	 * @return 다시 집계된 장소 수
+	 */
+	@PostMapping("/stats/rebuild")
+	public ApiResponse<Integer> rebuildPlaceStats(
+		@AuthenticationPrincipal CustomUserDetail userDetail
+	) {
+		Long userId = userDetail.getUser().getId();
+
+		int rebuilt = adminPlaceService.rebuildPlaceStats(userId);
+
+		return ApiResponse.ok("장소 통계 재집계가 완료되었습니다.", rebuilt);
+	}
+}
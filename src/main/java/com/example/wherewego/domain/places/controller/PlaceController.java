@@ -1,14 +1,25 @@
 package com.example.wherewego.domain.places.controller;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,10 +28,14 @@ import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 import com.example.wherewego.domain.places.dto.response.BookmarkCreateResponseDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
 import com.example.wherewego.domain.places.service.PlaceBookmarkService;
+import com.example.wherewego.domain.places.service.PlaceNearbyService;
+import com.example.wherewego.domain.places.service.PlacePhotoService;
 import com.example.wherewego.domain.places.service.PlaceService;
 import com.example.wherewego.domain.user.entity.User;
 import com.example.wherewego.global.response.ApiResponse;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,8 +51,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PlaceController {
 
+	// Tomcat sendfile 요청 속성 (커넥터가 지원하면 응답 본문을 커널에서 직접 전송)
+	private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+	private static final Duration PHOTO_MAX_AGE = Duration.ofDays(7);
+
 	private final PlaceService placeService;
 	private final PlaceBookmarkService placeBookmarkService;
+	private final PlaceNearbyService placeNearbyService;
+	private final PlacePhotoService placePhotoService;
 
 	/**
 	 * 장소 검색 API
@@ -140,4 +164,120 @@ public class PlaceController {
 
 		return ApiResponse.ok("장소 상세 정보 조회 성공", placeDetail);
 	}
+
+	/**
+	 * 주변 장소 조회 API
+	 *
+	 * GET /api/places/nearby
+	 *
+	 * 지금까지 검색/조회된 장소 중 지정한 위치 반경 내의 장소를 가까운 순으로 반환합니다.
+	 * 인메모리 공간 인덱스만 사용하므로 구글 API를 호출하지 않습니다.
+	 *
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radius 검색 반경 (미터, 기본 1000, 최대 5000)
+	 * @param categories 포함할 카테고리 목록 (예: 카페, 음식점, 생략 시 전체)
+	 * @param limit 최대 결과 수 (기본 20, 최대 50)
+	 * @return 거리 정보가 포함된 주변 장소 목록
+	 */
+	@GetMapping("/api/places/nearby")
+	public ApiResponse<List<PlaceDetailResponseDto>> getNearbyPlaces(
+		@RequestParam Double latitude,
+		@RequestParam Double longitude,
+		@RequestParam(defaultValue = "1000") int radius,
+		@RequestParam(required = false) List<String> categories,
+		@RequestParam(defaultValue = "20") int limit) {
+
+		List<PlaceDetailResponseDto> places = placeNearbyService.findNearbyPlaces(latitude, longitude, radius,
+			categories, limit);
+
+		return ApiResponse.ok("주변 장소 조회 성공", places);
+	}
+
+	/**
+	 * 다음 방문지 추천 API
+	 *
+	 * GET /api/places/{placeId}/next-stops
+	 *
+	 * 코스 작성 시 기준 장소 주변에서 다음에 방문할 장소 후보를 가까운 순으로 추천합니다.
+	 * 기준 장소와 이미 코스에 포함된 장소(excludePlaceIds)는 결과에서 제외합니다.
+	 *
+	 * @param placeId 기준 장소의 고유 ID
+	 * @param radius 검색 반경 (미터, 기본 1000, 최대 5000)
+	 * @param categories 포함할 카테고리 목록 (생략 시 전체)
+	 * @param excludePlaceIds 제외할 장소 ID 목록
+	 * @param limit 최대 결과 수 (기본 10, 최대 50)
+	 * @return 거리 정보가 포함된 다음 방문지 후보 목록
+	 */
+	@GetMapping("/api/places/{placeId}/next-stops")
+	public ApiResponse<List<PlaceDetailResponseDto>> getNextStops(
+		@PathVariable String placeId,
+		@RequestParam(defaultValue = "1000") int radius,
+		@RequestParam(required = false) List<String> categories,
+		@RequestParam(required = false) List<String> excludePlaceIds,
+		@RequestParam(defaultValue = "10") int limit) {
+
+		List<PlaceDetailResponseDto> places = placeNearbyService.suggestNextStops(placeId, radius, categories,
+			excludePlaceIds, limit);
+
+		return ApiResponse.ok("다음 방문지 추천 성공", places);
+	}
+
+	/**
+	 * 장소 사진 조회 API
+	 *
+	 * GET /api/places/photos/{photoReference}/{signature}?w=200
+	 *
+	 * 구글 사진을 서버에서 한 번만 받아 디스크에 캐시하고, 이후 요청은 캐시된 파일로 응답합니다.
+	 * 클라이언트에 API 키가 노출되지 않으며, 목록 화면은 w 파라미터로 썸네일(200, 400px)을 요청할 수 있습니다.
+	 * 서명은 장소 응답의 사진 URL에 포함되어 있으며, 서명이 없는 기존 URL은 캐시된 사진으로만 응답합니다.
+	 * 파일 본문은 sendfile로 사용자 공간 복사 없이 전송합니다. sendfile은 응답이 끝난 뒤 경로로 파일을 열기 때문에
+	 * 그 사이 캐시에서 밀려나 삭제되지 않도록 요청마다 고정한 하드 링크 경로를 넘깁니다.
+	 * 커넥터가 sendfile을 지원하지 않으면 열린 파일 채널에서 응답 스트림으로 버퍼 복사하여 전송합니다.
+	 *
+	 * @param photoReference 구글 photo reference
+	 * @param signature 사진 URL 서명
+	 * @param width 원하는 너비 (생략 시 원본 800px)
+	 */
+	@GetMapping({"/api/places/photos/{photoReference}", "/api/places/photos/{photoReference}/{signature}"})
+	public void getPlacePhoto(
+		@PathVariable String photoReference,
+		@PathVariable(required = false) String signature,
+		@RequestParam(name = "w", required = false) Integer width,
+		HttpServletRequest request,
+		HttpServletResponse response) throws IOException {
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+			Path photo = placePhotoService.pinPhoto(photoReference, signature, width);
+			writePhotoHeaders(response, Files.size(photo));
+			request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, photo.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+			request.setAttribute(SENDFILE_END_ATTRIBUTE, Files.size(photo));
+			return;
+		}
+
+		try (FileChannel photo = placePhotoService.openPhoto(photoReference, signature, width)) {
+			writePhotoHeaders(response, photo.size());
+			copyFile(photo, response);
+		}
+	}
+
+	private void writePhotoHeaders(HttpServletResponse response, long size) {
+		response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(PHOTO_MAX_AGE).cachePublic().getHeaderValue());
+		response.setContentLengthLong(size);
+	}
+
+	/**
+	 * sendfile을 쓸 수 없을 때 열린 파일 채널을 응답 스트림으로 복사합니다.
+	 * 응답 스트림은 소켓 채널이 아니므로 transferTo는 힙 버퍼를 거치는 복사로 동작합니다.
+	 */
+	private void copyFile(FileChannel channel, HttpServletResponse response) throws IOException {
+		long size = channel.size();
+		WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+		long position = 0;
+		while (position < size) {
+			position += channel.transferTo(position, size - position, out);
+		}
+	}
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.example.wherewego.domain.places.dto.response;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +16,9 @@ import lombok.NoArgsConstructor;
  * 클라이언트에게 반환할 표준화된 장소 정보를 담는 클래스입니다.
  * Google Maps API 응답을 통일된 형태로 변환하며, 이중 평점 시스템을 지원합니다.
  *
+ * 구글에서 조회한 필드 등급(detailTier)을 함께 기록합니다. 목록/코스 화면용 BASIC 정보에는
+ * 구글 평점, 연락처, 영업시간 등 FULL 전용 필드가 비어 있으며, 장소 상세 화면에서 FULL로 올려 조회합니다.
+ *
  * 사용 API:
  * - 장소 검색: POST /api/places/search
  * - 장소 상세 조회: GET /api/places/{placeId}/details
@@ -36,7 +44,13 @@ import lombok.NoArgsConstructor;
  *   "googleRating": 4.3,      // 구글 평점 (참고용)
  *   "bookmarkCount": 89,
  *   "isBookmarked": false,
- *   "photo": "https://maps.googleapis.com/maps/api/place/photo?maxwidth=800&photoreference=CmRaAAAA...&key=API_KEY"
+ *   "googleRatingCount": 1520, // FULL 전용
+ *   "priceLevel": 2,           // FULL 전용
+ *   "phoneNumber": "02-1522-3232",              // FULL 전용
+ *   "website": "https://www.starbucks.co.kr/", // FULL 전용
+ *   "openingHours": ["월요일: 오전 7:00 ~ 오후 10:00", ...], // FULL 전용
+ *   "detailTier": "FULL",
+ *   "photo": "/api/places/photos/CmRaAAAA.../q3Kx9vTz0bW1cY2dE4fG5h"
  * }
  */
 @Getter
@@ -109,6 +123,72 @@ public class PlaceDetailResponseDto {
 	 * 장소 대표 이미지 URL
 	 */
 	private String photo;              // 장소 대표 사진 URL
+	/**
+	 * 구글 API에서 장소 정보를 조회한 시각
+	 */
+	private LocalDateTime fetchedAt;   // 구글 API 조회 시각
+	/**
+	 * 구글 평점 참여 수 (FULL 전용)
+	 */
+	private Integer googleRatingCount; // 구글 평점 참여 수
+	/**
+	 * 가격 수준 (0~4, FULL 전용)
+	 */
+	private Integer priceLevel;        // 가격 수준 (0~4)
+	/**
+	 * 전화번호 (FULL 전용)
+	 */
+	private String phoneNumber;        // 전화번호
+	/**
+	 * 웹사이트 URL (FULL 전용)
+	 */
+	private String website;            // 웹사이트 URL
+	/**
+	 * 요일별 영업시간 안내 문구 (FULL 전용)
+	 */
+	private List<String> openingHours; // 요일별 영업시간
+	/**
+	 * 구글에서 조회한 필드 등급 (기록이 없으면 BASIC으로 취급)
+	 */
+	private PlaceDetailTier detailTier; // 조회 필드 등급
+
+	/**
+	 * 이 정보가 요청한 등급의 필드를 모두 포함하는지 확인합니다.
+	 * 등급이 기록되지 않은 정보(검색 결과, 카탈로그 데이터 등)는 BASIC으로 취급합니다.
+	 *
+	 * @param required 필요한 필드 등급
+	 * @return 포함하면 true
+	 */
+	public boolean holdsTier(PlaceDetailTier required) {
+		return (detailTier != null ? detailTier : PlaceDetailTier.BASIC).covers(required);
+	}
+
+	/**
+	 * 새로 조회한 정보에 기존 정보의 상위 등급 필드를 합칩니다.
+	 * 기존 정보가 더 높은 등급이면 새 정보에 없는 FULL 전용 필드와 등급을 유지하고, 조회 시각은 더 오래된 쪽을 따라
+	 * 유지한 필드도 유효 기간 안에 다시 조회되도록 합니다. 그렇지 않으면 새 정보를 그대로 사용합니다.
+	 *
+	 * @param previous 기존 정보 (null 가능)
+	 * @return 합쳐진 장소 정보
+	 */
+	public PlaceDetailResponseDto mergeWith(PlaceDetailResponseDto previous) {
+		if (previous == null || holdsTier(PlaceDetailTier.FULL) || !previous.holdsTier(PlaceDetailTier.FULL)) {
+			return this;
+		}
+
+		LocalDateTime mergedFetchedAt = fetchedAt == null || (previous.fetchedAt != null
+			&& previous.fetchedAt.isBefore(fetchedAt)) ? previous.fetchedAt : fetchedAt;
+		return toBuilder()
+			.googleRating(googleRating != null ? googleRating : previous.googleRating)
+			.googleRatingCount(googleRatingCount != null ? googleRatingCount : previous.googleRatingCount)
+			.priceLevel(priceLevel != null ? priceLevel : previous.priceLevel)
+			.phoneNumber(previous.phoneNumber)
+			.website(previous.website)
+			.openingHours(previous.openingHours)
+			.detailTier(previous.detailTier)
+			.fetchedAt(mergedFetchedAt)
+			.build();
+	}
 
 	@Getter
 	@NoArgsConstructor
@@ -0,0 +1,68 @@
+package com.example.wherewego.domain.places.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인기 장소 미리 갱신 현황 DTO
+ *
+ * 응답 예시:
+ * {
+ *   "maxCallsPerRun": 50,
+ *   "lastRunAt": "2025-08-01T12:00:00",
+ *   "lastRefreshedCount": 12,
+ *   "totalRefreshedCount": 340,
+ *   "hotPlaces": [
+ *     {"placeId": "ChIJn6Nu-3OkfDURFidBwPXoZ5A", "estimatedHits": 182}
+ *   ]
+ * }
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class PlacePrefetchStatsDto {
+
+	/**
+	 * 한 번 실행할 때 허용하는 최대 API 호출 수
+	 */
+	private int maxCallsPerRun;
+
+	/**
+	 * 마지막 실행 시각 (아직 실행 전이면 null)
+	 */
+	private LocalDateTime lastRunAt;
+
+	/**
+	 * 마지막 실행에서 갱신한 장소 수
+	 */
+	private int lastRefreshedCount;
+
+	/**
+	 * 기동 이후 갱신한 장소 수 합계
+	 */
+	private long totalRefreshedCount;
+
+	/**
+	 * 추정 조회 빈도 내림차순 인기 장소 목록
+	 */
+	private List<HotPlace> hotPlaces;
+
+	@Getter
+	@AllArgsConstructor
+	public static class HotPlace {
+
+		/**
+		 * Google 장소 ID
+		 */
+		private String placeId;
+
+		/**
+		 * 추정 조회 빈도 (실행할 때마다 절반으로 감쇠)
+		 */
+		private long estimatedHits;
+	}
+}
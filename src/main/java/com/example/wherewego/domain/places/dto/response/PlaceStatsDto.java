@@ -19,7 +19,7 @@ import lombok.NoArgsConstructor;
  *   "hasUserReview": false
  * }
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
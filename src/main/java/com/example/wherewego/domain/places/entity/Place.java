@@ -0,0 +1,122 @@
+package com.example.wherewego.domain.places.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.example.wherewego.domain.common.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 카탈로그 엔티티
+ * - 구글 Places API에서 조회한 장소 정보를 변환된 형태로 영구 보관
+ * - Redis 캐시 미스 시 구글 API 호출 전에 조회하는 3차 저장소
+ * - 사진은 API 키가 포함된 URL 대신 photo reference만 저장
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "places",
+	indexes = {
+		// 오래된 장소 재조회 대상 탐색용 인덱스
+		@Index(name = "idx_places_fetched_at", columnList = "fetched_at")
+	}
+)
+public class Place extends BaseEntity {
+
+	/**
+	 * 구글 API 장소 ID
+	 */
+	@Id
+	@Column(name = "place_id", length = 100)
+	private String placeId;
+
+	/**
+	 * 장소명
+	 */
+	@Column(nullable = false)
+	private String name;
+
+	/**
+	 * 카테고리 (GooglePlaceConverter.extractMainCategory 결과)
+	 */
+	@Column(length = 50)
+	private String category;
+
+	/**
+	 * 지역 요약 (예: "서울 강남구")
+	 */
+	@Column(name = "region_summary", length = 100)
+	private String regionSummary;
+
+	/**
+	 * 1단계 행정구역 (시/도)
+	 */
+	@Column(name = "region_depth1", length = 50)
+	private String regionDepth1;
+
+	/**
+	 * 2단계 행정구역 (시/군/구)
+	 */
+	@Column(name = "region_depth2", length = 50)
+	private String regionDepth2;
+
+	/**
+	 * 기본 주소
+	 */
+	private String address;
+
+	/**
+	 * 도로명 주소
+	 */
+	@Column(name = "road_address")
+	private String roadAddress;
+
+	/**
+	 * 위도
+	 */
+	private Double latitude;
+
+	/**
+	 * 경도
+	 */
+	private Double longitude;
+
+	/**
+	 * 구글 평점
+	 */
+	@Column(name = "google_rating")
+	private Double googleRating;
+
+	/**
+	 * 대표 사진 photo reference
+	 */
+	@Column(name = "photo_reference", length = 1000)
+	private String photoReference;
+
+	/**
+	 * 구글 API에서 마지막으로 조회한 시각
+	 */
+	@Column(name = "fetched_at", nullable = false)
+	private LocalDateTime fetchedAt;
+
+	/**
+	 * 마지막 조회 이후 허용 기간이 지났는지 확인합니다.
+	 *
+	 * @param maxAge 허용 기간
+	 * @return 허용 기간이 지났으면 true
+	 */
+	public boolean isStale(Duration maxAge) {
+		return fetchedAt == null || fetchedAt.isBefore(LocalDateTime.now().minus(maxAge));
+	}
+}
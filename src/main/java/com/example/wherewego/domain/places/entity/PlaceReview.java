@@ -68,6 +68,12 @@ public class PlaceReview extends BaseEntity {
 	@Column(name = "place_id", nullable = false, length = 30)
 	private String placeId;
 
+	/**
+	 * 작성 시점의 장소 이름 (목록 조회 시 장소 조회 없이 표시, 없으면 조회로 보완)
+	 */
+	@Column(name = "place_name", length = 200)
+	private String placeName;
+
 	/**
 	 * 평점 (1-5점)
 	 */
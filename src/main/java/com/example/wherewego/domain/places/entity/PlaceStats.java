@@ -0,0 +1,67 @@
+package com.example.wherewego.domain.places.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 통계 집계 엔티티
+ * - 장소별 리뷰 수, 평점 합계, 북마크 수를 미리 집계하여 보관
+ * - 리뷰/북마크 변경 시 PlaceStatsRepository의 원자적 upsert로 증감하며, 엔티티로 직접 수정하지 않음
+ * - 평균 평점은 평점 합계 / 리뷰 수로 계산
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "place_stats")
+public class PlaceStats {
+
+	/**
+	 * 구글 API 장소 ID
+	 */
+	@Id
+	@Column(name = "place_id", length = 100)
+	private String placeId;
+
+	/**
+	 * 리뷰 수
+	 */
+	@Column(name = "review_count", nullable = false)
+	private long reviewCount;
+
+	/**
+	 * 평점 합계
+	 */
+	@Column(name = "rating_sum", nullable = false)
+	private long ratingSum;
+
+	/**
+	 * 북마크 수
+	 */
+	@Column(name = "bookmark_count", nullable = false)
+	private long bookmarkCount;
+
+	/**
+	 * 마지막 집계 변경 일시
+	 */
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	/**
+	 * 평균 평점을 계산합니다.
+	 *
+	 * @return 평균 평점, 리뷰가 없으면 null
+	 */
+	public Double getAverageRating() {
+		return reviewCount > 0 ? (double)ratingSum / reviewCount : null;
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.wherewego.domain.places.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +40,25 @@ public interface PlaceBookmarkRepository extends JpaRepository<PlaceBookmark, Lo
 	long countByPlaceId(String placeId);
 
 
+	/**
+	 * 여러 장소 중 특정 사용자가 북마크한 장소 ID 조회 (사용자-장소 유니크 인덱스 사용)
+	 *
+	 * @param userId 사용자 ID
+	 * @param placeIds 확인할 장소 ID 목록
+	 * @return 북마크한 장소 ID 목록
+	 */
+	@Query("SELECT b.placeId FROM PlaceBookmark b WHERE b.user.id = :userId AND b.placeId IN :placeIds")
+	List<String> findBookmarkedPlaceIds(@Param("userId") Long userId, @Param("placeIds") Collection<String> placeIds);
+
+	/**
+	 * 특정 사용자가 북마크한 전체 장소 ID 조회 (사용자별 플래그 캐시 적재용)
+	 *
+	 * @param userId 사용자 ID
+	 * @return 북마크한 장소 ID 목록
+	 */
+	@Query("SELECT b.placeId FROM PlaceBookmark b WHERE b.user.id = :userId")
+	List<String> findAllPlaceIdsByUserId(@Param("userId") Long userId);
+
 	// ====================== Stream 방식 배치 처리 메서드 ======================
 
 	/**
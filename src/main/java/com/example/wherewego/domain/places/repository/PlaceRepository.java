@@ -0,0 +1,63 @@
+package com.example.wherewego.domain.places.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.wherewego.domain.places.entity.Place;
+
+/**
+ * 장소 카탈로그 Repository
+ *
+ * 같은 장소를 담은 저장 작업이 동시에 실행될 수 있으므로, 저장은 조회 후 삽입하는 대신
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 수행하여 기본 키 중복으로 실패하지 않습니다.
+ */
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, String> {
+
+	/**
+	 * 여러 장소를 한 번에 조회
+	 */
+	List<Place> findAllByPlaceIdIn(Collection<String> placeIds);
+
+	/**
+	 * 장소를 원자적으로 저장 (없으면 추가, 있으면 마지막 조회 시각이 기준 시각 이전인 경우에만 갱신)
+	 * MySQL은 왼쪽 대입부터 적용하므로 조건에 쓰는 fetched_at은 마지막에 갱신합니다.
+	 * 구글 평점은 BASIC 등급 조회에 포함되지 않으므로 값이 있을 때만 갱신합니다.
+	 *
+	 * @param place 구글 API에서 변환된 장소
+	 * @param staleBefore 이 시각 이전에 조회된 장소만 갱신
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO places (place_id, name, category, region_summary, region_depth1, region_depth2, address,
+		    road_address, latitude, longitude, google_rating, photo_reference, fetched_at,
+		    created_at, updated_at, is_deleted)
+		VALUES (:#{#place.placeId}, :#{#place.name}, :#{#place.category}, :#{#place.regionSummary},
+		    :#{#place.regionDepth1}, :#{#place.regionDepth2}, :#{#place.address}, :#{#place.roadAddress},
+		    :#{#place.latitude}, :#{#place.longitude}, :#{#place.googleRating}, :#{#place.photoReference},
+		    :#{#place.fetchedAt}, NOW(), NOW(), false)
+		ON DUPLICATE KEY UPDATE
+		    name = IF(fetched_at < :staleBefore, :#{#place.name}, name),
+		    category = IF(fetched_at < :staleBefore, :#{#place.category}, category),
+		    region_summary = IF(fetched_at < :staleBefore, :#{#place.regionSummary}, region_summary),
+		    region_depth1 = IF(fetched_at < :staleBefore, :#{#place.regionDepth1}, region_depth1),
+		    region_depth2 = IF(fetched_at < :staleBefore, :#{#place.regionDepth2}, region_depth2),
+		    address = IF(fetched_at < :staleBefore, :#{#place.address}, address),
+		    road_address = IF(fetched_at < :staleBefore, :#{#place.roadAddress}, road_address),
+		    latitude = IF(fetched_at < :staleBefore, :#{#place.latitude}, latitude),
+		    longitude = IF(fetched_at < :staleBefore, :#{#place.longitude}, longitude),
+		    google_rating = IF(fetched_at < :staleBefore, COALESCE(:#{#place.googleRating}, google_rating),
+		        google_rating),
+		    photo_reference = IF(fetched_at < :staleBefore, :#{#place.photoReference}, photo_reference),
+		    updated_at = IF(fetched_at < :staleBefore, NOW(), updated_at),
+		    fetched_at = IF(fetched_at < :staleBefore, :#{#place.fetchedAt}, fetched_at)
+		""", nativeQuery = true)
+	int upsertPlace(@Param("place") Place place, @Param("staleBefore") LocalDateTime staleBefore);
+}
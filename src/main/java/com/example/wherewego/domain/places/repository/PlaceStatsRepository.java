@@ -0,0 +1,100 @@
+package com.example.wherewego.domain.places.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.wherewego.domain.places.entity.PlaceStats;
+
+/**
+ * 장소 통계 집계 Repository
+ *
+ * 집계 값은 읽고-수정하고-쓰는 방식 대신 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 증감하여
+ * 동시에 리뷰/북마크가 변경되어도 갱신이 유실되지 않습니다.
+ */
+@Repository
+public interface PlaceStatsRepository extends JpaRepository<PlaceStats, String> {
+
+	/**
+	 * 여러 장소의 통계를 한 번에 조회
+	 */
+	List<PlaceStats> findAllByPlaceIdIn(Collection<String> placeIds);
+
+	/**
+	 * 리뷰 수와 평점 합계를 원자적으로 증감 (통계 행이 없으면 생성)
+	 *
+	 * @param placeId 장소 ID
+	 * @param countDelta 리뷰 수 증감량
+	 * @param ratingDelta 평점 합계 증감량
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO place_stats (place_id, review_count, rating_sum, bookmark_count, updated_at)
+		VALUES (:placeId, GREATEST(:countDelta, 0), GREATEST(:ratingDelta, 0), 0, NOW())
+		ON DUPLICATE KEY UPDATE
+		    review_count = GREATEST(review_count + :countDelta, 0),
+		    rating_sum = GREATEST(rating_sum + :ratingDelta, 0),
+		    updated_at = NOW()
+		""", nativeQuery = true)
+	int addReviewStats(@Param("placeId") String placeId, @Param("countDelta") long countDelta,
+		@Param("ratingDelta") long ratingDelta);
+
+	/**
+	 * 북마크 수를 원자적으로 증감 (통계 행이 없으면 생성)
+	 *
+	 * @param placeId 장소 ID
+	 * @param delta 북마크 수 증감량
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO place_stats (place_id, review_count, rating_sum, bookmark_count, updated_at)
+		VALUES (:placeId, 0, 0, GREATEST(:delta, 0), NOW())
+		ON DUPLICATE KEY UPDATE
+		    bookmark_count = GREATEST(bookmark_count + :delta, 0),
+		    updated_at = NOW()
+		""", nativeQuery = true)
+	int addBookmarkCount(@Param("placeId") String placeId, @Param("delta") long delta);
+
+	/**
+	 * 리뷰/북마크 원본 테이블에서 전체 통계를 다시 집계 (초기 백필 및 불일치 보정용)
+	 *
+	 * @return 반영된 행 수
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO place_stats (place_id, review_count, rating_sum, bookmark_count, updated_at)
+		SELECT ids.place_id, COALESCE(r.review_count, 0), COALESCE(r.rating_sum, 0),
+		       COALESCE(b.bookmark_count, 0), NOW()
+		  FROM (SELECT place_id FROM place_reviews UNION SELECT place_id FROM place_bookmarks) ids
+		  LEFT JOIN (SELECT place_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+		               FROM place_reviews GROUP BY place_id) r ON r.place_id = ids.place_id
+		  LEFT JOIN (SELECT place_id, COUNT(*) AS bookmark_count
+		               FROM place_bookmarks GROUP BY place_id) b ON b.place_id = ids.place_id
+		ON DUPLICATE KEY UPDATE
+		    review_count = VALUES(review_count),
+		    rating_sum = VALUES(rating_sum),
+		    bookmark_count = VALUES(bookmark_count),
+		    updated_at = NOW()
+		""", nativeQuery = true)
+	int rebuildAll();
+
+	/**
+	 * 리뷰와 북마크가 모두 사라진 장소의 통계를 0으로 보정 (rebuildAll과 함께 사용)
+	 *
+	 * @return 보정된 행 수
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE place_stats s
+		   SET s.review_count = 0, s.rating_sum = 0, s.bookmark_count = 0, s.updated_at = NOW()
+		 WHERE NOT EXISTS (SELECT 1 FROM place_reviews r WHERE r.place_id = s.place_id)
+		   AND NOT EXISTS (SELECT 1 FROM place_bookmarks b WHERE b.place_id = s.place_id)
+		   AND (s.review_count > 0 OR s.bookmark_count > 0)
+		""", nativeQuery = true)
+	int resetOrphans();
+}
@@ -0,0 +1,121 @@
+package com.example.wherewego.domain.places.service;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+
+import com.example.wherewego.domain.auth.enums.UserRole;
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.domain.places.dto.response.PlacePrefetchStatsDto;
+import com.example.wherewego.domain.user.entity.User;
+import com.example.wherewego.domain.user.service.UserService;
+import com.example.wherewego.global.cache.CacheLayerStats;
+import com.example.wherewego.global.cache.TwoTierCacheManager;
+import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiQuotaStats;
+import com.example.wherewego.global.resilience.EndpointResilienceStats;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장소 운영 관리자용 서비스
+ *
+ * 장소 조회 경로의 캐시 상태, 외부 API 장애 대응 상태, 할당량 사용 현황, 인기 장소 미리 갱신 현황 등 운영 지표를 관리자에게 제공합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminPlaceService {
+
+	private final UserService userService;
+	private final TwoTierCacheManager cacheManager;
+	private final List<ResilientEndpoint> resilientEndpoints;
+	private final GoogleApiQuotaGovernor googleApiQuotaGovernor;
+	private final PlaceStatsService placeStatsService;
+	private final PlacePrefetchService placePrefetchService;
+
+	/**
+	 * 장소 관련 캐시의 계층별(L1/L2) 히트 통계를 조회합니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @return 캐시별 계층 통계
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	public List<CacheLayerStats> getCacheStats(Long userId) {
+		validateAdmin(userId);
+
+		return cacheManager.getStats();
+	}
+
+	/**
+	 * 외부 API 엔드포인트별 장애 대응 상태(서킷 브레이커, 지연 시간, 타임아웃, 헤지 요청)를 조회합니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @return 엔드포인트별 장애 대응 상태
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	public List<EndpointResilienceStats> getApiResilienceStats(Long userId) {
+		validateAdmin(userId);
+
+		return resilientEndpoints.stream()
+			.map(ResilientEndpoint::getStats)
+			.toList();
+	}
+
+	/**
+	 * Google API 할당량 예산 잔량과 SKU/레인별 호출 수, 누적 비용을 조회합니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @return 할당량 사용 현황
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	public GoogleApiQuotaStats getQuotaStats(Long userId) {
+		validateAdmin(userId);
+
+		return googleApiQuotaGovernor.getStats();
+	}
+
+	/**
+	 * 조회 빈도 상위 장소 목록과 미리 갱신 실행 현황을 조회합니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @return 인기 장소 목록과 미리 갱신 현황
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	public PlacePrefetchStatsDto getPrefetchStats(Long userId) {
+		validateAdmin(userId);
+
+		return placePrefetchService.getStats();
+	}
+
+	/**
+	 * 리뷰/북마크 원본 데이터로 장소 통계 집계(place_stats)를 다시 계산합니다.
+	 * 변경된 집계가 바로 보이도록 장소 통계 캐시도 비웁니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @return 다시 집계된 장소 수
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	@CacheEvict(value = "place-stats", allEntries = true)
+	public int rebuildPlaceStats(Long userId) {
+		validateAdmin(userId);
+
+		return placeStatsService.rebuildPlaceStats();
+	}
+
+	/**
+	 * 관리자 권한을 확인합니다.
+	 *
+	 * @param userId 요청한 사용자 ID
+	 * @throws CustomException 관리자가 아닌 경우
+	 */
+	private void validateAdmin(Long userId) {
+		User user = userService.getUserById(userId);
+
+		if (!user.getRole().equals(UserRole.ADMIN)) {
+			throw new CustomException(ErrorCode.UNAUTHORIZED_ADMIN_ACCESS);
+		}
+	}
+}
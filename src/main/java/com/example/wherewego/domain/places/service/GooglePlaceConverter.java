@@ -1,14 +1,16 @@
 package com.example.wherewego.domain.places.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.wherewego.domain.places.dto.response.GooglePlaceDetailResponseDto;
 import com.example.wherewego.domain.places.dto.response.GooglePlaceResponseDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -19,10 +21,15 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class GooglePlaceConverter {
 
-    @Value("${google.api.key}")
-    private String googleApiKey;
+    /**
+     * 장소 사진 프록시 경로 (API 키를 클라이언트에 노출하지 않고 서버에서 캐시하여 제공)
+     */
+    public static final String PHOTO_PROXY_PATH = "/api/places/photos/";
+
+    private final PlacePhotoSigner placePhotoSigner;
 
     /**
      * Google Place Details를 PlaceDetailResponse로 변환
@@ -40,7 +47,8 @@ public class GooglePlaceConverter {
             .reviewCount(0)      // 우리 서비스 리뷰 수 (기본값)
             .bookmarkCount(0)    // 북마크 수 (기본값)
             .isBookmarked(false) // 기본값 (실제로는 사용자별로 설정)
-            .googleRating(detail.getRating()); // 구글 평점
+            .googleRating(detail.getRating()) // 구글 평점
+            .fetchedAt(LocalDateTime.now()); // 구글 API 조회 시각
 
         // 위치 정보 추출
         if (detail.getGeometry() != null && detail.getGeometry().getLocation() != null) {
@@ -96,7 +104,8 @@ public class GooglePlaceConverter {
             .reviewCount(0) // 우리 서비스 리뷰 수 (추후 계산)
             .googleRating(result.getRating()) // 구글 평점
             .bookmarkCount(0) // 추후 계산
-            .isBookmarked(false); // 추후 계산
+            .isBookmarked(false) // 추후 계산
+            .fetchedAt(LocalDateTime.now()); // 구글 API 조회 시각
 
         // 지역 정보 설정 (구글 formatted_address에서 추출)
         PlaceDetailResponseDto.Region region = extractRegionFromAddress(result.getFormattedAddress());
@@ -245,18 +254,41 @@ public class GooglePlaceConverter {
     }
 
     /**
-     * Google Places Photos API URL 생성
+     * 사진 URL에서 photo reference 추출 (장소 카탈로그 저장용)
+     * 프록시 URL과 캐시에 남아 있을 수 있는 기존 Google Photos API URL을 모두 지원합니다.
+     */
+    public String extractPhotoReference(String photoUrl) {
+        if (photoUrl == null || photoUrl.isBlank()) {
+            return null;
+        }
+
+        if (photoUrl.startsWith(PHOTO_PROXY_PATH)) {
+            String photoReference = photoUrl.substring(PHOTO_PROXY_PATH.length());
+            int queryStart = photoReference.indexOf('?');
+            if (queryStart >= 0) {
+                photoReference = photoReference.substring(0, queryStart);
+            }
+            int signatureStart = photoReference.indexOf('/');
+            return signatureStart >= 0 ? photoReference.substring(0, signatureStart) : photoReference;
+        }
+
+        return UriComponentsBuilder.fromUriString(photoUrl).build()
+            .getQueryParams()
+            .getFirst("photoreference");
+    }
+
+    /**
+     * 장소 사진 프록시 URL 생성
+     * 클라이언트는 프록시를 통해 사진을 받으므로 API 키가 노출되지 않고, 같은 사진은 한 번만 과금됩니다.
+     * 목록 화면에서는 {@code ?w=200} 등 썸네일 너비를 붙여 요청할 수 있습니다.
+     * 서명이 붙은 URL만 구글에서 사진을 받을 수 있으므로 프록시 URL은 항상 이 메서드로 생성합니다.
      */
-    private String buildPhotoUrl(String photoReference) {
+    public String buildPhotoUrl(String photoReference) {
         if (photoReference == null || photoReference.trim().isEmpty()) {
             return null;
         }
 
-        return String.format(
-            "https://maps.googleapis.com/maps/api/place/photo?maxwidth=800&photoreference=%s&key=%s",
-            photoReference,
-            googleApiKey
-        );
+        return PHOTO_PROXY_PATH + photoReference + "/" + placePhotoSigner.sign(photoReference);
     }
 
     /**
@@ -1,25 +1,70 @@
 package com.example.wherewego.domain.places.service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.example.wherewego.domain.common.enums.ErrorCode;
-import com.example.wherewego.domain.places.dto.response.GooglePlaceDetailResponseDto;
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.service.GooglePlaceStreamDecoder.DecodedResponse;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.cache.RefreshAheadPolicy;
+import com.example.wherewego.global.cache.SingleFlight;
+import com.example.wherewego.global.config.CacheConfig;
 import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiSku;
+import com.example.wherewego.global.quota.QuotaLane;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+import com.example.wherewego.global.util.CacheKeyUtil;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Google Place Details API 전용 서비스
  * 
  * Place Details API 호출과 응답 처리만을 담당하는 특화 서비스입니다.
  * 캐싱, 예외 처리, 타임아웃 관리 등 API 호출 관련 로직을 집중 관리합니다.
+ *
+ * API 호출은 엔드포인트 전용 장애 대응 호출기(서킷 브레이커, 벌크헤드, 헤지 요청, 적응형 타임아웃)를 거치며,
+ * 호출이 거절되거나 실패하면 허용 기간이 지난 카탈로그 데이터라도 찾아서 대신 응답합니다.
+ *
+ * 캐시 히트한 엔트리가 TTL의 일정 비율보다 오래되면 기존 값을 바로 응답하고 백그라운드에서 갱신하므로
+ * (refresh-ahead / stale-while-revalidate), 자주 조회되는 장소는 만료로 인한 동기 API 호출을 겪지 않습니다.
+ *
+ * 모든 API 호출은 할당량 관리자에서 SKU 비용만큼 예산을 차감하며, 사용자 요청은 INTERACTIVE,
+ * 조기 갱신과 헤지 요청은 BACKGROUND 레인으로 구분하여 예산이 부족하면 백그라운드 호출부터 차단됩니다.
+ *
+ * 조회 필드는 등급(PlaceDetailTier)으로 나누어, 목록/코스 화면은 기본 필드(BASIC)만 조회하고
+ * 장소 상세 화면은 연락처/분위기 필드까지(FULL) 조회합니다. 캐시 엔트리는 자신이 가진 등급을 기록하며,
+ * BASIC 엔트리에 FULL 요청이 오면 그때 FULL로 올려 다시 조회합니다. 조기 갱신은 엔트리의 등급을 유지합니다.
+ *
+ * 접근 빈도 상위 장소는 스케줄러가 호출 예산 안에서 만료 전에 미리 갱신하므로, 조기 갱신 요청이 없어도 캐시가 유지됩니다.
+ *
+ * 구글이 존재하지 않는다고 응답한 장소(NOT_FOUND, INVALID_REQUEST 등)는 짧은 TTL의 부정 캐시에 기록하여,
+ * 코스/리뷰에 남아 있는 삭제되었거나 잘못된 장소 ID가 목록을 그릴 때마다 API를 다시 호출하지 않도록 합니다.
  */
 @Slf4j
 @Service
@@ -27,79 +72,606 @@ public class GooglePlaceDetailService {
 
     // API 엔드포인트 상수
     private static final String PLACE_DETAILS_ENDPOINT = "/details/json";
-    private static final int DEFAULT_TIMEOUT_SECONDS = 10;
+    private static final String PLACE_DETAILS_CACHE = "google-place-details";
+    private static final String PLACE_NOT_FOUND_CACHE = "google-place-not-found";
+    // 구글이 장소가 없다고 확정한 응답 상태 (일시적 오류/권한 문제는 포함하지 않음)
+    private static final Set<String> NOT_FOUND_STATUSES = Set.of("NOT_FOUND", "INVALID_REQUEST", "ZERO_RESULTS");
+    // 같은 장소의 백그라운드 갱신을 중복 예약하지 않는 기간 (작업이 버려진 경우 이후 재예약 허용)
+    private static final long REFRESH_CLAIM_MILLIS = 60_000;
 
     private final WebClient googleWebClient;
-    private final GooglePlaceConverter googlePlaceConverter;
+    private final GooglePlaceStreamDecoder googlePlaceStreamDecoder;
+    private final RedisBatchCache redisBatchCache;
+    private final CacheKeyUtil cacheKeyUtil;
+    private final Executor placeHydrationExecutor;
+    private final SingleFlight singleFlight;
+    private final PlaceCatalogService placeCatalogService;
+    private final ResilientEndpoint googlePlaceDetailsEndpoint;
+    private final RefreshAheadPolicy placeDetailsRefreshPolicy;
+    private final Executor placeTaskExecutor;
+    private final GoogleApiQuotaGovernor googleApiQuotaGovernor;
+
+    // 백그라운드 갱신 예약 시각 (장소 ID 기준)
+    private final ConcurrentMap<String, Long> refreshClaims = new ConcurrentHashMap<>();
 
     @Value("${google.api.key}")
     private String googleApiKey;
 
     public GooglePlaceDetailService(@Qualifier("googleWebClient") WebClient googleWebClient,
-                                    GooglePlaceConverter googlePlaceConverter) {
+                                    GooglePlaceStreamDecoder googlePlaceStreamDecoder,
+                                    RedisBatchCache redisBatchCache,
+                                    CacheKeyUtil cacheKeyUtil,
+                                    @Qualifier("placeHydrationExecutor") Executor placeHydrationExecutor,
+                                    SingleFlight singleFlight,
+                                    PlaceCatalogService placeCatalogService,
+                                    @Qualifier("googlePlaceDetailsEndpoint") ResilientEndpoint googlePlaceDetailsEndpoint,
+                                    RefreshAheadPolicy placeDetailsRefreshPolicy,
+                                    @Qualifier("placeTaskExecutor") Executor placeTaskExecutor,
+                                    GoogleApiQuotaGovernor googleApiQuotaGovernor) {
         this.googleWebClient = googleWebClient;
-        this.googlePlaceConverter = googlePlaceConverter;
+        this.googlePlaceStreamDecoder = googlePlaceStreamDecoder;
+        this.redisBatchCache = redisBatchCache;
+        this.cacheKeyUtil = cacheKeyUtil;
+        this.placeHydrationExecutor = placeHydrationExecutor;
+        this.singleFlight = singleFlight;
+        this.placeCatalogService = placeCatalogService;
+        this.googlePlaceDetailsEndpoint = googlePlaceDetailsEndpoint;
+        this.placeDetailsRefreshPolicy = placeDetailsRefreshPolicy;
+        this.placeTaskExecutor = placeTaskExecutor;
+        this.googleApiQuotaGovernor = googleApiQuotaGovernor;
     }
 
     /**
-     * 구글 Places API를 사용하여 특정 장소의 상세 정보를 조회합니다.
-     * Place Details API를 호출하여 장소의 전체 정보를 가져옵니다.
+     * 구글 Places API를 사용하여 특정 장소의 기본 정보(BASIC)를 조회합니다.
      *
      * @param placeId 조회할 장소의 고유 ID (구글 Places API에서 제공)
      * @return 장소의 상세 정보 (PlaceDetailResponse 형태로 변환)
      * @throws CustomException 구글 API 호출 실패 또는 장소를 찾을 수 없는 경우
      */
-    @Cacheable(value = "google-place-details", key = "@cacheKeyUtil.generateGooglePlaceDetailKey(#placeId)")
     public PlaceDetailResponseDto getPlaceDetail(String placeId) {
-        log.info("Google Place Details API 요청 - placeId: {}", placeId);
+        return getPlaceDetail(placeId, PlaceDetailTier.BASIC);
+    }
+
+    /**
+     * 구글 Places API를 사용하여 특정 장소의 상세 정보를 요청한 필드 등급으로 조회합니다.
+     * 캐시 미스 시 장소 카탈로그에 신선한 데이터가 있으면 API를 호출하지 않습니다 (카탈로그는 BASIC 필드만 보관).
+     * 일괄 조회와 같은 캐시 조회/저장 경로를 사용하며, 오래된 캐시 엔트리는 응답 후 백그라운드에서 갱신합니다.
+     * 캐시 엔트리가 요청한 등급보다 낮으면 요청한 등급으로 다시 조회하여 캐시를 올립니다.
+     * 최근 존재하지 않는 것으로 확인된 장소는 API를 호출하지 않고 바로 예외를 던집니다.
+     *
+     * @param placeId 조회할 장소의 고유 ID (구글 Places API에서 제공)
+     * @param tier 필요한 필드 등급
+     * @return 장소의 상세 정보 (PlaceDetailResponse 형태로 변환)
+     * @throws CustomException 구글 API 호출 실패 또는 장소를 찾을 수 없는 경우
+     */
+    public PlaceDetailResponseDto getPlaceDetail(String placeId, PlaceDetailTier tier) {
+        String cacheKey = cacheKeyUtil.generateGooglePlaceDetailKey(placeId);
+        PlaceDetailResponseDto cached = redisBatchCache.multiGet(
+            PLACE_DETAILS_CACHE, List.of(cacheKey), PlaceDetailResponseDto.class).get(cacheKey);
+
+        if (cached != null && cached.holdsTier(tier)) {
+            refreshAheadIfAging(placeId, cached);
+            return cached;
+        }
+        if (cached != null) {
+            return upgradePlaceDetail(placeId, cached, tier);
+        }
+
+        if (!findKnownNotFound(List.of(placeId)).isEmpty()) {
+            log.debug("존재하지 않는 장소로 기록된 장소 조회 - placeId: {}", placeId);
+            throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
+        }
+
+        PlaceDetailResponseDto placeDetail = loadPlaceDetail(placeId, tier);
+        redisBatchCache.multiPut(PLACE_DETAILS_CACHE, Map.of(cacheKey, placeDetail),
+            CacheConfig.GOOGLE_PLACE_DETAILS_TTL);
+        return placeDetail;
+    }
+
+    /**
+     * 캐시에 낮은 등급 정보만 있는 장소를 요청한 등급으로 다시 조회하여 캐시 엔트리를 교체합니다.
+     * 상위 등급은 하위 등급 필드를 모두 포함하므로 기존 엔트리와 합칠 필요가 없습니다.
+     * 호출이 거절되거나 실패하면 캐시된 정보로 대신 응답합니다.
+     *
+     * @param placeId 장소 ID
+     * @param cached 캐시에서 조회한 낮은 등급의 장소 정보
+     * @param tier 필요한 필드 등급
+     * @return 요청한 등급의 장소 정보, 실패 시 캐시된 정보
+     * @throws CustomException 구글이 장소가 없다고 응답한 경우
+     */
+    private PlaceDetailResponseDto upgradePlaceDetail(String placeId, PlaceDetailResponseDto cached,
+                                                      PlaceDetailTier tier) {
+        PlaceDetailResponseDto upgraded;
+        try {
+            upgraded = singleFlight.execute(flightKey(placeId, tier),
+                () -> requestPlaceDetail(placeId, QuotaLane.INTERACTIVE, tier));
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.PLACE_NOT_FOUND) {
+                rememberNotFound(placeId);
+                throw e;
+            }
+            log.warn("장소 상세 정보 등급 상향 실패로 캐시 정보 사용 - placeId: {}, 사유: {}", placeId, e.getErrorCode());
+            return cached;
+        }
+
+        redisBatchCache.multiPut(PLACE_DETAILS_CACHE,
+            Map.of(cacheKeyUtil.generateGooglePlaceDetailKey(placeId), upgraded),
+            CacheConfig.GOOGLE_PLACE_DETAILS_TTL);
+        placeCatalogService.saveAllAsync(List.of(upgraded));
+        return upgraded;
+    }
+
+    /**
+     * 여러 장소의 상세 정보를 일괄 조회합니다.
+     *
+     * 1. 모든 장소의 캐시 키를 MGET 한 번으로 조회
+     * 2. 캐시 미스 장소 중 존재하지 않는 것으로 기록된 장소는 부정 캐시 MGET 한 번으로 제외하고,
+     *    나머지는 장소 카탈로그(MySQL)에서 한 번에 조회
+     * 3. 카탈로그에도 없거나 오래된 장소만 Place Details API를 병렬 호출
+     * 4. 새로 조회한 결과를 파이프라인 한 번으로 캐시에 저장
+     *
+     * 캐시 히트 중 오래된 엔트리는 기존 값으로 응답하고 백그라운드 갱신을 예약합니다.
+     * 목록/코스 화면용이므로 캐시 미스 장소는 BASIC 등급으로 조회하며, 캐시 히트는 등급과 관계없이 사용합니다.
+     * 단건 조회(getPlaceDetail)와 동일한 캐시 엔트리를 공유하며,
+     * 조회에 실패한 장소는 예외 대신 결과 맵에서 제외됩니다.
+     *
+     * @param placeIds 조회할 장소 ID 목록 (중복 허용)
+     * @return 장소 ID를 키로 하는 장소 상세 정보 (조회 실패 장소 제외)
+     */
+    public Map<String, PlaceDetailResponseDto> getPlaceDetails(Collection<String> placeIds) {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> distinctIds = placeIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+        // 1. 캐시 일괄 조회 (MGET)
+        List<String> cacheKeys = distinctIds.stream()
+            .map(cacheKeyUtil::generateGooglePlaceDetailKey)
+            .toList();
+        Map<String, PlaceDetailResponseDto> cached = redisBatchCache.multiGet(
+            PLACE_DETAILS_CACHE, cacheKeys, PlaceDetailResponseDto.class);
+
+        Map<String, PlaceDetailResponseDto> result = new LinkedHashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            PlaceDetailResponseDto hit = cached.get(cacheKeys.get(i));
+            if (hit != null) {
+                result.put(distinctIds.get(i), hit);
+                refreshAheadIfAging(distinctIds.get(i), hit);
+            } else {
+                missedIds.add(distinctIds.get(i));
+            }
+        }
+
+        if (missedIds.isEmpty()) {
+            return result;
+        }
+
+        // 2. 존재하지 않는 장소 제외 후 카탈로그 일괄 조회
+        Set<String> knownNotFound = findKnownNotFound(missedIds);
+        if (!knownNotFound.isEmpty()) {
+            missedIds.removeAll(knownNotFound);
+            if (missedIds.isEmpty()) {
+                return result;
+            }
+        }
+        Map<String, PlaceDetailResponseDto> fetched = new HashMap<>(placeCatalogService.findFreshPlaces(missedIds));
 
-        GooglePlaceDetailResponseDto detailResponse;
+        // 3. 카탈로그에도 없는 장소만 API 병렬 호출
+        List<String> apiTargetIds = missedIds.stream()
+            .filter(placeId -> !fetched.containsKey(placeId))
+            .toList();
+        fetched.putAll(fetchPlaceDetails(apiTargetIds));
+        result.putAll(fetched);
+
+        // 4. 새로 조회한 결과 일괄 저장 (파이프라인)
+        Map<String, PlaceDetailResponseDto> cacheEntries = new HashMap<>();
+        fetched.forEach((placeId, placeDetail) ->
+            cacheEntries.put(cacheKeyUtil.generateGooglePlaceDetailKey(placeId), placeDetail));
+        redisBatchCache.multiPut(PLACE_DETAILS_CACHE, cacheEntries, CacheConfig.GOOGLE_PLACE_DETAILS_TTL);
+
+        log.info("Google Place Details 일괄 조회 완료 - 요청: {}, 캐시 히트: {}, 없는 장소: {}, 카탈로그 히트: {}, API 조회: {}",
+            distinctIds.size(), distinctIds.size() - missedIds.size() - knownNotFound.size(), knownNotFound.size(),
+            missedIds.size() - apiTargetIds.size(), apiTargetIds.size());
+        return result;
+    }
+
+    /**
+     * 자주 조회되는 장소의 상세 정보를 만료 전에 미리 갱신합니다.
+     * 캐시에 없거나 조회 시각이 기준보다 오래된 장소만 목록 순서대로 최대 호출 수까지 BACKGROUND 레인으로 갱신하며
+     * (캐시 엔트리의 필드 등급 유지, 캐시에 없으면 BASIC),
+     * 존재하지 않는 것으로 기록된 장소와 이미 조기 갱신이 예약된 장소는 건너뜁니다.
+     * BACKGROUND 예산이 부족하면 남은 장소는 다음 실행으로 미룹니다.
+     * 갱신하는 사이 사용자 요청이 엔트리를 FULL로 올렸을 수 있으므로, 저장 직전의 엔트리와 합쳐 등급을 낮추지 않습니다.
+     *
+     * @param placeIds 갱신 우선순위 순으로 정렬된 장소 ID 목록
+     * @param staleAfter 갱신 대상으로 보는 조회 후 경과 시간
+     * @param maxCalls 이번 실행에서 허용하는 최대 API 호출 수
+     * @return 갱신한 장소 수
+     */
+    public int prefetchPlaceDetails(List<String> placeIds, Duration staleAfter, int maxCalls) {
+        if (placeIds == null || placeIds.isEmpty() || maxCalls <= 0) {
+            return 0;
+        }
+
+        List<String> cacheKeys = placeIds.stream()
+            .map(cacheKeyUtil::generateGooglePlaceDetailKey)
+            .toList();
+        Map<String, PlaceDetailResponseDto> cached = redisBatchCache.multiGet(
+            PLACE_DETAILS_CACHE, cacheKeys, PlaceDetailResponseDto.class);
+        Set<String> knownNotFound = findKnownNotFound(placeIds);
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+
+        Map<String, PlaceDetailResponseDto> refreshed = new HashMap<>();
+        int calls = 0;
+        for (int i = 0; i < placeIds.size() && calls < maxCalls; i++) {
+            String placeId = placeIds.get(i);
+            PlaceDetailResponseDto hit = cached.get(cacheKeys.get(i));
+            if (knownNotFound.contains(placeId)
+                || (hit != null && (hit.getFetchedAt() == null || hit.getFetchedAt().isAfter(staleBefore)))
+                || refreshClaims.putIfAbsent(placeId, System.currentTimeMillis()) != null) {
+                continue;
+            }
+
+            calls++;
+            PlaceDetailTier tier = hit != null ? tierOf(hit) : PlaceDetailTier.BASIC;
+            try {
+                refreshed.put(cacheKeys.get(i), singleFlight.execute(flightKey(placeId, tier, QuotaLane.BACKGROUND),
+                    () -> requestPlaceDetail(placeId, QuotaLane.BACKGROUND, tier)));
+            } catch (CustomException e) {
+                if (e.getErrorCode() == ErrorCode.PLACE_NOT_FOUND) {
+                    rememberNotFound(placeId);
+                } else if (e.getErrorCode() == ErrorCode.EXTERNAL_API_QUOTA_EXCEEDED) {
+                    log.info("BACKGROUND 예산 부족으로 장소 미리 갱신 중단 - 남은 후보: {}", placeIds.size() - i);
+                    break;
+                } else {
+                    log.debug("장소 상세 정보 미리 갱신 보류 - placeId: {}, 사유: {}", placeId, e.getErrorCode());
+                }
+            } catch (RuntimeException e) {
+                log.warn("장소 상세 정보 미리 갱신 실패 - placeId: {}", placeId, e);
+            } finally {
+                refreshClaims.remove(placeId);
+            }
+        }
+
+        if (!refreshed.isEmpty()) {
+            refreshed = mergeWithStored(refreshed);
+            redisBatchCache.multiPut(PLACE_DETAILS_CACHE, refreshed, CacheConfig.GOOGLE_PLACE_DETAILS_TTL);
+            placeCatalogService.saveAllAsync(List.copyOf(refreshed.values()));
+        }
+        log.info("인기 장소 상세 정보 미리 갱신 완료 - 후보: {}, API 호출: {}, 갱신: {}",
+            placeIds.size(), calls, refreshed.size());
+        return refreshed.size();
+    }
+
+    /**
+     * 새로 조회한 정보를 저장 직전의 캐시 엔트리와 합칩니다.
+     * 조회 대상 등급은 조회 전 스냅샷으로 정했으므로, 그 사이 더 높은 등급으로 저장된 엔트리의 필드와 등급을 유지합니다.
+     *
+     * @param refreshed 캐시 키를 키로 하는 새로 조회한 장소 정보
+     * @return 캐시 키를 키로 하는 저장할 장소 정보
+     */
+    private Map<String, PlaceDetailResponseDto> mergeWithStored(Map<String, PlaceDetailResponseDto> refreshed) {
+        Map<String, PlaceDetailResponseDto> stored = redisBatchCache.multiGet(
+            PLACE_DETAILS_CACHE, List.copyOf(refreshed.keySet()), PlaceDetailResponseDto.class);
+        Map<String, PlaceDetailResponseDto> merged = new HashMap<>();
+        refreshed.forEach((cacheKey, placeDetail) -> merged.put(cacheKey, placeDetail.mergeWith(stored.get(cacheKey))));
+        return merged;
+    }
+
+    /**
+     * 캐시와 카탈로그에 모두 없는 장소들의 상세 정보를 제한된 스레드 풀에서 병렬로 API 조회합니다.
+     * 개별 장소 조회 실패는 로그만 남기고 결과에서 제외합니다.
+     *
+     * @param placeIds 조회할 장소 ID 목록 (중복 없음)
+     * @return 장소 ID를 키로 하는 장소 상세 정보 (조회 실패 장소 제외)
+     */
+    private Map<String, PlaceDetailResponseDto> fetchPlaceDetails(List<String> placeIds) {
+        Map<String, PlaceDetailResponseDto> result = new HashMap<>();
+        if (placeIds.isEmpty()) {
+            return result;
+        }
+
+        // 단일 장소는 스레드 전환 비용 없이 바로 조회
+        if (placeIds.size() == 1) {
+            PlaceDetailResponseDto placeDetail = fetchFromApiSafely(placeIds.get(0));
+            if (placeDetail != null) {
+                result.put(placeIds.get(0), placeDetail);
+            }
+            return result;
+        }
+
+        List<CompletableFuture<PlaceDetailResponseDto>> futures = placeIds.stream()
+            .map(placeId -> CompletableFuture.supplyAsync(() -> fetchFromApiSafely(placeId),
+                placeHydrationExecutor))
+            .toList();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < placeIds.size(); i++) {
+            PlaceDetailResponseDto placeDetail = futures.get(i).join();
+            if (placeDetail != null) {
+                result.put(placeIds.get(i), placeDetail);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단일 장소 기본 정보(BASIC)를 API로 조회하며, 실패 시 예외 대신 null을 반환합니다.
+     *
+     * @param placeId 조회할 장소 ID
+     * @return 장소 상세 정보, 조회 실패 시 null
+     */
+    private PlaceDetailResponseDto fetchFromApiSafely(String placeId) {
         try {
-            detailResponse = callPlaceDetailsApi(placeId);
+            return singleFlight.execute(flightKey(placeId, PlaceDetailTier.BASIC),
+                () -> requestAndStorePlaceDetail(placeId, PlaceDetailTier.BASIC));
+        } catch (Exception e) {
+            log.error("장소 상세 정보 조회 중 오류 발생 - placeId: {}", placeId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 미스 장소의 상세 정보를 카탈로그 또는 Place Details API에서 조회합니다.
+     * 카탈로그는 BASIC 필드만 보관하므로 FULL 요청은 바로 API를 호출합니다.
+     * 같은 장소/등급에 대한 동시 캐시 미스는 하나의 조회로 병합되어 결과를 공유합니다.
+     * (단건 조회와 일괄 조회 경로가 같은 키로 병합됩니다)
+     *
+     * @param placeId 조회할 장소의 고유 ID
+     * @param tier 필요한 필드 등급
+     * @return 장소의 상세 정보
+     * @throws CustomException 구글 API 호출 실패 또는 장소를 찾을 수 없는 경우
+     */
+    private PlaceDetailResponseDto loadPlaceDetail(String placeId, PlaceDetailTier tier) {
+        if (tier != PlaceDetailTier.BASIC) {
+            return singleFlight.execute(flightKey(placeId, tier), () -> requestAndStorePlaceDetail(placeId, tier));
+        }
+        return singleFlight.execute(flightKey(placeId, tier), () -> placeCatalogService.findFreshPlace(placeId)
+            .orElseGet(() -> requestAndStorePlaceDetail(placeId, tier)));
+    }
+
+    /**
+     * Place Details API로 조회한 결과를 장소 카탈로그에 비동기로 저장합니다.
+     * API 호출이 거절되거나 실패하면 허용 기간이 지난 카탈로그 데이터로 대체합니다.
+     * (존재하지 않는 장소로 확인된 경우는 대체하지 않고 부정 캐시에 기록합니다)
+     *
+     * @param placeId 조회할 장소의 고유 ID
+     * @param tier 조회할 필드 등급
+     * @return 장소의 상세 정보
+     * @throws CustomException 구글 API 호출 실패 또는 장소를 찾을 수 없는 경우
+     */
+    private PlaceDetailResponseDto requestAndStorePlaceDetail(String placeId, PlaceDetailTier tier) {
+        PlaceDetailResponseDto placeDetail;
+        try {
+            placeDetail = requestPlaceDetail(placeId, QuotaLane.INTERACTIVE, tier);
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.PLACE_NOT_FOUND) {
+                rememberNotFound(placeId);
+                throw e;
+            }
+            return placeCatalogService.findLastKnownPlace(placeId)
+                .map(lastKnown -> {
+                    log.warn("Place Details API 사용 불가로 카탈로그 데이터 사용 - placeId: {}, fetchedAt: {}",
+                        placeId, lastKnown.getFetchedAt());
+                    return lastKnown;
+                })
+                .orElseThrow(() -> e);
+        }
+        placeCatalogService.saveAllAsync(List.of(placeDetail));
+        return placeDetail;
+    }
+
+    /**
+     * 존재하지 않는 것으로 기록된 장소를 부정 캐시에서 한 번에 조회합니다.
+     *
+     * @param placeIds 확인할 장소 ID 목록
+     * @return 존재하지 않는 것으로 기록된 장소 ID
+     */
+    private Set<String> findKnownNotFound(List<String> placeIds) {
+        List<String> cacheKeys = placeIds.stream()
+            .map(cacheKeyUtil::generateGooglePlaceDetailKey)
+            .toList();
+        Map<String, Boolean> notFound = redisBatchCache.multiGet(PLACE_NOT_FOUND_CACHE, cacheKeys, Boolean.class);
+        if (notFound.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < placeIds.size(); i++) {
+            if (notFound.containsKey(cacheKeys.get(i))) {
+                result.add(placeIds.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 존재하지 않는 것으로 확인된 장소를 부정 캐시에 기록합니다.
+     *
+     * @param placeId 존재하지 않는 장소 ID
+     */
+    private void rememberNotFound(String placeId) {
+        log.info("존재하지 않는 장소 기록 - placeId: {}, TTL: {}", placeId, CacheConfig.GOOGLE_PLACE_NOT_FOUND_TTL);
+        redisBatchCache.multiPut(PLACE_NOT_FOUND_CACHE,
+            Map.of(cacheKeyUtil.generateGooglePlaceDetailKey(placeId), Boolean.TRUE),
+            CacheConfig.GOOGLE_PLACE_NOT_FOUND_TTL);
+    }
+
+    /**
+     * 캐시 엔트리가 조기 갱신 대상이면 백그라운드 갱신을 예약합니다.
+     * 같은 장소는 일정 시간 안에 한 번만 예약하며, 요청 스레드는 갱신을 기다리지 않습니다.
+     *
+     * @param placeId 장소 ID
+     * @param cached 캐시에서 조회한 장소 상세 정보
+     */
+    private void refreshAheadIfAging(String placeId, PlaceDetailResponseDto cached) {
+        if (!placeDetailsRefreshPolicy.shouldRefresh(cached.getFetchedAt())) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long claimedAt = refreshClaims.putIfAbsent(placeId, now);
+        if (claimedAt != null
+            && (now - claimedAt < REFRESH_CLAIM_MILLIS || !refreshClaims.replace(placeId, claimedAt, now))) {
+            return;
+        }
+
+        log.debug("장소 상세 정보 조기 갱신 예약 - placeId: {}, fetchedAt: {}", placeId, cached.getFetchedAt());
+        PlaceDetailTier tier = tierOf(cached);
+        placeTaskExecutor.execute(() -> refreshPlaceDetail(placeId, tier));
+    }
+
+    /**
+     * Place Details API로 장소 상세 정보를 다시 조회하여 캐시와 카탈로그를 갱신합니다.
+     * 갱신에 실패하면 기존 캐시 엔트리를 그대로 두어 만료 전까지 계속 응답에 사용합니다.
+     * 갱신을 예약한 뒤 사용자 요청이 엔트리를 FULL로 올렸을 수 있으므로, 저장 직전의 엔트리와 합쳐 등급을 낮추지 않습니다.
+     *
+     * @param placeId 갱신할 장소 ID
+     * @param tier 기존 캐시 엔트리의 필드 등급
+     */
+    private void refreshPlaceDetail(String placeId, PlaceDetailTier tier) {
+        try {
+            PlaceDetailResponseDto placeDetail = singleFlight.execute(flightKey(placeId, tier, QuotaLane.BACKGROUND),
+                () -> requestPlaceDetail(placeId, QuotaLane.BACKGROUND, tier));
+            Map<String, PlaceDetailResponseDto> refreshed = mergeWithStored(
+                Map.of(cacheKeyUtil.generateGooglePlaceDetailKey(placeId), placeDetail));
+            redisBatchCache.multiPut(PLACE_DETAILS_CACHE, refreshed, CacheConfig.GOOGLE_PLACE_DETAILS_TTL);
+            placeCatalogService.saveAllAsync(List.copyOf(refreshed.values()));
+        } catch (CustomException e) {
+            log.debug("장소 상세 정보 조기 갱신 보류 - placeId: {}, 사유: {}", placeId, e.getErrorCode());
+        } catch (RuntimeException e) {
+            log.warn("장소 상세 정보 조기 갱신 실패 - placeId: {}", placeId, e);
+        } finally {
+            refreshClaims.remove(placeId);
+        }
+    }
+
+    /**
+     * 사용자 요청(INTERACTIVE 레인)의 중복 호출 병합 키
+     */
+    private String flightKey(String placeId, PlaceDetailTier tier) {
+        return flightKey(placeId, tier, QuotaLane.INTERACTIVE);
+    }
+
+    /**
+     * 중복 호출 병합 키 (BASIC은 캐시 엔트리 키와 동일, 상위 등급은 등급 이름을 덧붙임)
+     * 낮은 등급 조회를 기다리던 요청이 필드가 부족한 결과를 받지 않도록 등급별로 병합합니다.
+     * BACKGROUND 레인 조회는 레인 이름을 덧붙여 따로 병합하므로, 사용자 요청이 BACKGROUND 예산 부족 실패를
+     * 물려받지 않고 자신의 INTERACTIVE 호출과 카탈로그 대체 경로를 거칩니다.
+     */
+    private String flightKey(String placeId, PlaceDetailTier tier, QuotaLane lane) {
+        String key = cacheKeyUtil.generateRedisCacheKey(PLACE_DETAILS_CACHE,
+            cacheKeyUtil.generateGooglePlaceDetailKey(placeId));
+        if (tier != PlaceDetailTier.BASIC) {
+            key += ":" + tier.name();
+        }
+        return lane == QuotaLane.BACKGROUND ? key + ":" + lane.name() : key;
+    }
+
+    /**
+     * 캐시 엔트리가 가진 필드 등급 (기록이 없으면 BASIC)
+     */
+    private static PlaceDetailTier tierOf(PlaceDetailResponseDto placeDetail) {
+        return placeDetail.holdsTier(PlaceDetailTier.FULL) ? PlaceDetailTier.FULL : PlaceDetailTier.BASIC;
+    }
+
+    /**
+     * Place Details API를 호출하고 응답을 검증하여 장소 상세 정보로 변환합니다.
+     *
+     * @param placeId 조회할 장소의 고유 ID
+     * @param lane 할당량 우선순위 레인
+     * @param tier 조회할 필드 등급
+     * @return 조회한 필드 등급이 기록된 장소의 상세 정보
+     * @throws CustomException 구글 API 호출 실패 또는 장소를 찾을 수 없는 경우
+     */
+    private PlaceDetailResponseDto requestPlaceDetail(String placeId, QuotaLane lane, PlaceDetailTier tier) {
+        log.info("Google Place Details API 요청 - placeId: {}, tier: {}", placeId, tier);
+
+        DecodedResponse detailResponse;
+        try {
+            detailResponse = callPlaceDetailsApi(placeId, lane, tier);
+        } catch (CustomException e) {
+            log.warn("구글 Place Details API 호출 거절 - placeId: {}, 사유: {}", placeId, e.getErrorCode());
+            throw e;
         } catch (Exception e) {
             log.error("구글 Place Details API 호출 중 예외 발생 - placeId: {}", placeId, e);
             throw new CustomException(ErrorCode.PLACE_API_ERROR);
         }
 
         if (detailResponse == null || !"OK".equals(detailResponse.getStatus())) {
-            log.warn("구글 Place Details API 호출 실패 - placeId: {}, status: {}",
-                placeId, detailResponse != null ? detailResponse.getStatus() : "null");
-            throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
+            String status = detailResponse != null ? detailResponse.getStatus() : "null";
+            log.warn("구글 Place Details API 호출 실패 - placeId: {}, status: {}", placeId, status);
+            // 쿼터 초과, 권한 오류 등은 장소가 없다는 의미가 아니므로 부정 캐시 대상에서 제외
+            throw new CustomException(NOT_FOUND_STATUSES.contains(status)
+                ? ErrorCode.PLACE_NOT_FOUND : ErrorCode.PLACE_API_ERROR);
         }
 
-        if (detailResponse.getResult() == null) {
+        if (detailResponse.getPlaces().isEmpty()) {
             log.warn("구글 Place Details 결과가 비어있음 - placeId: {}", placeId);
             throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
         }
 
-        // Google API 응답을 PlaceDetailResponse로 변환
-        PlaceDetailResponseDto result = googlePlaceConverter.convertToPlaceDetailResponse(detailResponse.getResult());
+        // 스트리밍 디코더가 Google API 응답을 PlaceDetailResponse로 변환한 결과
+        PlaceDetailResponseDto result = detailResponse.getPlaces().get(0).toBuilder()
+            .detailTier(tier)
+            .build();
         log.info("Google Place Details API 완료 - placeId: {}, name: {}", placeId, result.getName());
         return result;
     }
 
     /**
-     * 구글 Place Details API를 직접 호출하여 원시 응답 데이터를 가져옵니다.
+     * 할당량 예산을 차감한 뒤 구글 Place Details API를 장애 대응 호출기를 거쳐 호출합니다.
+     * 타임아웃은 최근 응답 지연 시간으로 정해지며, 응답이 늦어지면 헤지 요청이 추가로 나갈 수 있습니다.
+     * 헤지 요청은 BACKGROUND 레인 예산이 있을 때만 보냅니다.
+     * 필드 등급에 따라 과금 SKU가 달라지므로 등급별 비용으로 예산을 차감합니다.
      *
      * @param placeId 조회할 장소의 고유 ID
-     * @return 구글 API 원시 응답 데이터
+     * @param lane 할당량 우선순위 레인
+     * @param tier 조회할 필드 등급
+     * @return 스트리밍 디코딩된 장소 상세 정보
+     * @throws CustomException 예산이 부족하거나, 회로가 열려 있거나, 동시 호출 수가 가득 찬 경우
      */
-    private GooglePlaceDetailResponseDto callPlaceDetailsApi(String placeId) {
-        return googleWebClient.get()
+    private DecodedResponse callPlaceDetailsApi(String placeId, QuotaLane lane, PlaceDetailTier tier) {
+        GoogleApiSku sku = tier.getSku();
+        googleApiQuotaGovernor.acquire(sku, lane);
+        try {
+            return googlePlaceDetailsEndpoint.execute(() -> requestPlaceDetailsBody(placeId, tier),
+                () -> googleApiQuotaGovernor.tryAcquire(sku, QuotaLane.BACKGROUND));
+        } catch (CustomException e) {
+            // 서킷 브레이커/벌크헤드 거절은 실제 호출이 없었으므로 예산을 되돌림
+            googleApiQuotaGovernor.refund(sku, lane);
+            throw e;
+        }
+    }
+
+    /**
+     * 구글 Place Details API 요청을 구성합니다. 구독할 때마다 새 요청이 전송됩니다.
+     *
+     * @param placeId 조회할 장소의 고유 ID
+     * @param tier 조회할 필드 등급
+     * @return 스트리밍 디코딩될 장소 상세 정보
+     */
+    private Mono<DecodedResponse> requestPlaceDetailsBody(String placeId, PlaceDetailTier tier) {
+        Flux<DataBuffer> body = googleWebClient.get()
             .uri(uriBuilder -> {
                 java.net.URI finalUri = uriBuilder
                     .path(PLACE_DETAILS_ENDPOINT)
                     .queryParam("place_id", placeId)
                     .queryParam("key", googleApiKey)
-                    .queryParam("fields",
-                        "place_id,name,formatted_address,geometry,types,rating,user_ratings_total,price_level,formatted_phone_number,international_phone_number,website,url,opening_hours,address_components,photos")
+                    .queryParam("fields", tier.getFields())
                     .queryParam("language", "ko")  // 한국어 응답
                     .build();
                 return finalUri;
             })
             .retrieve()
-            .bodyToMono(GooglePlaceDetailResponseDto.class)
-            .timeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS))
-            .block();
+            .bodyToFlux(DataBuffer.class);
+
+        return googlePlaceStreamDecoder.decode(body);
     }
 }
\ No newline at end of file
@@ -1,30 +1,60 @@
 package com.example.wherewego.domain.places.service;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.example.wherewego.domain.common.enums.ErrorCode;
 import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
-import com.example.wherewego.domain.places.dto.response.GooglePlaceResponseDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.service.GooglePlaceStreamDecoder.DecodedResponse;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.cache.SingleFlight;
 import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiSku;
+import com.example.wherewego.global.quota.QuotaLane;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+import com.example.wherewego.global.util.CacheKeyUtil;
+import com.example.wherewego.global.util.GeoKernel;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Google Text Search API 전용 서비스
  *
  * Text Search API 호출과 검색 결과 처리만을 담당하는 특화 서비스입니다.
  * 검색 쿼리 구성, API 호출, 결과 변환 등 검색 관련 로직을 집중 관리합니다.
+ *
+ * 검색 결과는 페이지/정렬과 무관하게 검색 조건 단위로 전체 결과 집합을 캐싱합니다.
+ * 첫 페이지 응답에 next_page_token이 있으면 나머지 페이지(최대 60건)를 백그라운드에서 미리 조회하여
+ * 같은 캐시 엔트리에 병합하므로, 이후 페이지 이동과 정렬은 API 호출 없이 캐시된 결과에서 처리됩니다.
+ *
+ * API 호출은 엔드포인트 전용 장애 대응 호출기(서킷 브레이커, 벌크헤드, 헤지 요청, 적응형 타임아웃)를 거칩니다.
+ * 검색 결과는 TTL이 긴 예비 캐시에도 함께 저장하여, 호출이 거절되거나 실패하면 마지막 검색 결과로 대신 응답합니다.
+ * 모든 API 호출은 할당량 관리자에서 SKU 비용만큼 예산을 차감하며, 사용자 검색은 INTERACTIVE,
+ * 다음 페이지 미리 조회와 헤지 요청은 BACKGROUND 레인을 사용합니다.
+ *
+ * 위치 기반 검색 결과는 지오해시 타일 단위로 캐싱합니다. 사용자 타일과 주변 8개 타일의 캐시를 MGET 한 번으로 조회하여,
+ * 사용자 타일에 결과가 있거나 주변 타일 결과 중 반경 안의 장소가 충분하면 API를 호출하지 않고
+ * 사용자 타일 결과 뒤에 주변 타일 결과를 이어 붙여 응답합니다.
+ * 캐시 적중 여부와 관계없이 같은 검색의 순서가 유지되도록 다시 정렬하지 않으며, 정렬은 호출하는 쪽(PlaceService)이 담당합니다.
  */
 @Slf4j
 @Service
@@ -32,58 +62,340 @@ public class GooglePlaceSearchService {
 
 	// API 엔드포인트 상수
 	private static final String TEXT_SEARCH_ENDPOINT = "/textsearch/json";
-	private static final int DEFAULT_TIMEOUT_SECONDS = 10;
+	private static final String SEARCH_CACHE_NAME = "google-place-search";
+	private static final String STALE_SEARCH_CACHE_NAME = "google-place-search-stale";
+
+	// next_page_token은 발급 후 약 2초가 지나야 유효해지며, 검색당 최대 3페이지(60건)까지 제공됨
+	private static final long NEXT_PAGE_TOKEN_DELAY_MILLIS = 2000;
+	private static final int MAX_RESULT_PAGES = 3;
+	private static final String STATUS_INVALID_REQUEST = "INVALID_REQUEST";
+	// 사용자 타일 결과 없이 주변 타일 결과만으로 응답하기 위한 반경 내 최소 장소 수
+	private static final int MIN_NEIGHBOR_TILE_RESULTS = 10;
 
 	private final WebClient googleWebClient;
-	private final GooglePlaceConverter googlePlaceConverter;
+	private final GooglePlaceStreamDecoder googlePlaceStreamDecoder;
+	private final CacheKeyUtil cacheKeyUtil;
+	private final RedisBatchCache redisBatchCache;
+	private final SingleFlight singleFlight;
+	private final PlaceCatalogService placeCatalogService;
+	private final CacheManager cacheManager;
+	private final Executor placeTaskExecutor;
+	private final ResilientEndpoint googleTextSearchEndpoint;
+	private final GoogleApiQuotaGovernor googleApiQuotaGovernor;
 
 	@Value("${google.api.key}")
 	private String googleApiKey;
 
 	public GooglePlaceSearchService(@Qualifier("googleWebClient") WebClient googleWebClient,
-									GooglePlaceConverter googlePlaceConverter) {
+									GooglePlaceStreamDecoder googlePlaceStreamDecoder,
+									CacheKeyUtil cacheKeyUtil,
+									RedisBatchCache redisBatchCache,
+									SingleFlight singleFlight,
+									PlaceCatalogService placeCatalogService,
+									CacheManager cacheManager,
+									@Qualifier("placeTaskExecutor") Executor placeTaskExecutor,
+									@Qualifier("googleTextSearchEndpoint") ResilientEndpoint googleTextSearchEndpoint,
+									GoogleApiQuotaGovernor googleApiQuotaGovernor) {
 		this.googleWebClient = googleWebClient;
-		this.googlePlaceConverter = googlePlaceConverter;
+		this.googlePlaceStreamDecoder = googlePlaceStreamDecoder;
+		this.cacheKeyUtil = cacheKeyUtil;
+		this.redisBatchCache = redisBatchCache;
+		this.singleFlight = singleFlight;
+		this.placeCatalogService = placeCatalogService;
+		this.cacheManager = cacheManager;
+		this.placeTaskExecutor = placeTaskExecutor;
+		this.googleTextSearchEndpoint = googleTextSearchEndpoint;
+		this.googleApiQuotaGovernor = googleApiQuotaGovernor;
 	}
 
 	/**
 	 * 구글 Places API를 사용하여 장소를 검색합니다.
 	 * Text Search API를 호출하여 검색 결과를 PlaceDetailResponse 형태로 변환합니다.
 	 * 검색 결과는 캐싱되어 동일한 검색 조건에 대해 빠른 응답을 제공합니다.
+	 * 위치 기반 검색은 사용자 타일과 주변 타일의 캐시를 함께 조회하여 재사용합니다.
+	 * 같은 캐시 키로 동시에 들어온 캐시 미스는 하나의 API 호출로 병합됩니다.
+	 * 페이지/정렬은 캐시 키에 포함되지 않으며, 호출하는 쪽에서 반환된 전체 결과를 잘라서 사용합니다.
 	 *
-	 * @param request 장소 검색 요청 정보 (검색어, 위치, 페이지 등)
-	 * @return 검색된 장소 목록 (PlaceDetailResponse 형태로 변환)
+	 * @param request 장소 검색 요청 정보 (검색어, 위치 등)
+	 * @return 검색된 전체 장소 목록 (구글 연관도순, 타일 캐시 재사용 시 주변 타일 결과가 뒤에 추가됨, 미리 조회된 다음 페이지 포함)
 	 * @throws CustomException 구글 API 호출 실패 시
 	 */
-	@Cacheable(value = "google-place-search", key = "@cacheKeyUtil.generateGoogleSearchKey(#request)")
 	public List<PlaceDetailResponseDto> searchPlaces(PlaceSearchRequestDto request) {
+		List<String> tileKeys = cacheKeyUtil.generateGoogleSearchTileKeys(request);
+		String searchKey = tileKeys.get(0);
+
+		List<PlaceDetailResponseDto> cached = findCachedResults(request, tileKeys);
+		if (cached != null) {
+			return cached;
+		}
+
+		String flightKey = cacheKeyUtil.generateRedisCacheKey(SEARCH_CACHE_NAME, searchKey);
+		return singleFlight.execute(flightKey, () -> requestSearch(request, searchKey));
+	}
+
+	/**
+	 * 검색 캐시에서 재사용할 수 있는 결과를 찾습니다.
+	 *
+	 * 위치가 없는 검색은 검색어 키 하나만 확인합니다.
+	 * 위치 기반 검색은 사용자 타일과 주변 타일 엔트리를 MGET 한 번으로 조회하여,
+	 * 사용자 타일 결과 전체를 저장된 순서(구글 연관도순) 그대로 두고, 주변 타일 결과 중 반경 안의 장소를 뒤에 이어 붙입니다.
+	 * 사용자 타일에 엔트리가 없으면 주변 타일의 반경 안 장소가 충분할 때만 재사용합니다.
+	 *
+	 * @param request 장소 검색 요청 정보
+	 * @param tileKeys 사용자 타일 키가 첫 번째인 검색 캐시 키 목록
+	 * @return 재사용할 검색 결과, 없으면 null
+	 */
+	@SuppressWarnings("unchecked")
+	private List<PlaceDetailResponseDto> findCachedResults(PlaceSearchRequestDto request, List<String> tileKeys) {
+		Map<String, List> cached = redisBatchCache.multiGet(SEARCH_CACHE_NAME, tileKeys, List.class);
+		if (cached.isEmpty()) {
+			return null;
+		}
+
+		List<PlaceDetailResponseDto> ownTile = cached.get(tileKeys.get(0));
+		if (tileKeys.size() == 1) {
+			return ownTile;
+		}
+
+		PlaceSearchRequestDto.UserLocation location = request.getUserLocation();
+		double latitude = location.getLatitude();
+		double longitude = location.getLongitude();
+
+		// 사용자 타일 결과는 모두 포함하고, 주변 타일 결과는 반경 안의 장소만 중복 없이 추가
+		Map<String, PlaceDetailResponseDto> merged = new LinkedHashMap<>();
+		if (ownTile != null) {
+			ownTile.forEach(place -> merged.putIfAbsent(place.getPlaceId(), place));
+		}
+		int neighborResults = 0;
+		for (String tileKey : tileKeys.subList(1, tileKeys.size())) {
+			List<PlaceDetailResponseDto> tileResults = cached.get(tileKey);
+			if (tileResults == null) {
+				continue;
+			}
+			for (PlaceDetailResponseDto place : tileResults) {
+				if (isWithinRadius(place, latitude, longitude, location.getRadius())
+					&& merged.putIfAbsent(place.getPlaceId(), place) == null) {
+					neighborResults++;
+				}
+			}
+		}
+
+		if (ownTile == null && neighborResults < MIN_NEIGHBOR_TILE_RESULTS) {
+			log.debug("주변 타일 검색 결과 부족으로 API 조회 - 히트 타일: {}, 반경 내 장소: {}", cached.size(),
+				neighborResults);
+			return null;
+		}
+
+		log.debug("타일 검색 캐시 재사용 - 사용자 타일 히트: {}, 히트 타일: {}, 주변 타일 장소: {}", ownTile != null,
+			cached.size(), neighborResults);
+		return new ArrayList<>(merged.values());
+	}
+
+	/**
+	 * 장소가 기준 위치로부터 반경 안에 있는지 확인합니다. 좌표가 없는 장소는 제외합니다.
+	 */
+	private boolean isWithinRadius(PlaceDetailResponseDto place, double latitude, double longitude,
+		Integer radiusMeters) {
+		if (place.getLatitude() == null || place.getLongitude() == null) {
+			return false;
+		}
+		return radiusMeters == null
+			|| GeoKernel.haversineMeters(latitude, longitude, place.getLatitude(), place.getLongitude())
+			<= radiusMeters;
+	}
+
+	/**
+	 * Text Search API를 호출하고 검색 결과를 PlaceDetailResponse 형태로 변환합니다.
+	 * 변환된 검색 결과는 장소 카탈로그에 비동기로 저장되며, 다음 페이지가 있으면 미리 조회를 예약합니다.
+	 * API 호출이 거절되거나 실패하면 예비 캐시에 남아 있는 마지막 검색 결과로 대신 응답합니다.
+	 *
+	 * @param request 장소 검색 요청 정보
+	 * @param searchKey 검색 결과 캐시 키 (다음 페이지 병합용)
+	 * @return 첫 페이지 검색 결과
+	 * @throws CustomException 구글 API 호출 실패 시 (예비 검색 결과도 없는 경우)
+	 */
+	private List<PlaceDetailResponseDto> requestSearch(PlaceSearchRequestDto request, String searchKey) {
 		log.info("Google Places API 검색 요청 - 쿼리: {}", request.getQuery());
 
-		// 구글 Text Search API 호출
-		GooglePlaceResponseDto googleResponse = callTextSearchApi(request);
+		// 구글 Text Search API 호출 (응답을 스트리밍으로 PlaceDetailResponse로 변환)
+		DecodedResponse googleResponse;
+		try {
+			googleResponse = callTextSearchApi(request);
+		} catch (CustomException e) {
+			List<PlaceDetailResponseDto> staleResults = findStaleResults(searchKey);
+			if (staleResults == null) {
+				throw e;
+			}
+			log.warn("Text Search API 사용 불가로 예비 검색 결과 사용 - key: {}, 결과 수: {}", searchKey,
+				staleResults.size());
+			return staleResults;
+		}
 
-		if (googleResponse == null || googleResponse.getResults() == null) {
+		if (googleResponse == null) {
 			log.warn("구글 API 응답이 비어있습니다");
 			return Collections.emptyList();
 		}
 
-		// 검색 결과를 PlaceDetailResponse로 변환
-		List<PlaceDetailResponseDto> results = convertToPlaceDetailResponses(googleResponse);
+		List<PlaceDetailResponseDto> results = googleResponse.getPlaces();
 
 		log.info("Google Places API 검색 완료 - 결과 수: {}", results.size());
+		putSearchResults(searchKey, results);
+		putStaleResults(searchKey, results);
+
+		// 장소 카탈로그에 비동기 저장 (응답 지연 없음)
+		placeCatalogService.saveAllAsync(results);
+
+		// 다음 페이지 미리 조회 예약 (응답 지연 없음)
+		if (googleResponse.getNextPageToken() != null) {
+			scheduleNextPagePrefetch(searchKey, results, googleResponse.getNextPageToken(), 2, false);
+		}
 		return results;
 	}
 
 	/**
-	 * 구글 Text Search API를 호출하여 검색어와 위치 조건에 맞는 장소 목록을 가져옵니다.
+	 * next_page_token이 유효해지는 시점 이후에 다음 페이지 조회를 예약합니다.
+	 *
+	 * @param searchKey 검색 결과 캐시 키
+	 * @param accumulated 지금까지 조회된 전체 결과
+	 * @param pageToken 다음 페이지 토큰
+	 * @param pageNumber 조회할 페이지 번호 (2부터 시작)
+	 * @param retried 토큰 미활성으로 이미 재시도한 요청인지 여부
+	 */
+	private void scheduleNextPagePrefetch(String searchKey, List<PlaceDetailResponseDto> accumulated,
+		String pageToken, int pageNumber, boolean retried) {
+		if (pageNumber > MAX_RESULT_PAGES) {
+			return;
+		}
+
+		Executor delayedExecutor = CompletableFuture.delayedExecutor(NEXT_PAGE_TOKEN_DELAY_MILLIS,
+			TimeUnit.MILLISECONDS, placeTaskExecutor);
+		CompletableFuture.runAsync(() -> prefetchNextPage(searchKey, accumulated, pageToken, pageNumber, retried),
+			delayedExecutor);
+	}
+
+	/**
+	 * 다음 페이지를 조회하여 기존 결과와 병합한 뒤 검색 캐시 엔트리를 갱신합니다.
+	 * 미리 조회는 부가 작업이므로 실패해도 기존 캐시 엔트리는 그대로 유지됩니다.
+	 */
+	private void prefetchNextPage(String searchKey, List<PlaceDetailResponseDto> accumulated, String pageToken,
+		int pageNumber, boolean retried) {
+		try {
+			DecodedResponse googleResponse = callNextPageApi(pageToken);
+			if (googleResponse == null) {
+				return;
+			}
+
+			// 토큰이 아직 활성화되지 않은 경우 한 번만 다시 시도
+			if (STATUS_INVALID_REQUEST.equals(googleResponse.getStatus())) {
+				if (!retried) {
+					scheduleNextPagePrefetch(searchKey, accumulated, pageToken, pageNumber, true);
+				}
+				return;
+			}
+
+			List<PlaceDetailResponseDto> pageResults = googleResponse.getPlaces();
+			List<PlaceDetailResponseDto> merged = mergeResults(accumulated, pageResults);
+
+			putSearchResults(searchKey, merged);
+			putStaleResults(searchKey, merged);
+			placeCatalogService.saveAllAsync(pageResults);
+
+			log.debug("검색 결과 다음 페이지 미리 조회 완료 - key: {}, 페이지: {}, 누적: {}", searchKey, pageNumber,
+				merged.size());
+
+			if (googleResponse.getNextPageToken() != null) {
+				scheduleNextPagePrefetch(searchKey, merged, googleResponse.getNextPageToken(), pageNumber + 1, false);
+			}
+		} catch (RuntimeException e) {
+			log.warn("검색 결과 다음 페이지 미리 조회 실패 - key: {}, 페이지: {}", searchKey, pageNumber, e);
+		}
+	}
+
+	/**
+	 * 기존 결과 뒤에 새 페이지 결과를 이어 붙입니다. 이미 있는 장소는 제외하여 구글 연관도 순서를 유지합니다.
+	 * 캐시 직렬화를 위해 가변 리스트(ArrayList)로 반환합니다.
+	 */
+	private List<PlaceDetailResponseDto> mergeResults(List<PlaceDetailResponseDto> accumulated,
+		List<PlaceDetailResponseDto> pageResults) {
+		Map<String, PlaceDetailResponseDto> merged = new LinkedHashMap<>();
+		accumulated.forEach(place -> merged.put(place.getPlaceId(), place));
+		pageResults.forEach(place -> merged.putIfAbsent(place.getPlaceId(), place));
+		return new ArrayList<>(merged.values());
+	}
+
+	/**
+	 * 검색 캐시에 검색 결과를 저장합니다. 캐시 직렬화를 위해 가변 리스트(ArrayList)로 저장하며,
+	 * 저장 실패는 검색 응답에 영향을 주지 않습니다.
+	 */
+	private void putSearchResults(String searchKey, List<PlaceDetailResponseDto> results) {
+		try {
+			Cache searchCache = cacheManager.getCache(SEARCH_CACHE_NAME);
+			if (searchCache != null) {
+				searchCache.put(searchKey, new ArrayList<>(results));
+			}
+		} catch (RuntimeException e) {
+			log.warn("검색 결과 캐시 저장 실패 - key: {}", searchKey, e);
+		}
+	}
+
+	/**
+	 * 장애 대응용 예비 캐시에 검색 결과를 저장합니다. 예비 캐시 저장 실패는 검색 응답에 영향을 주지 않습니다.
+	 */
+	private void putStaleResults(String searchKey, List<PlaceDetailResponseDto> results) {
+		try {
+			Cache staleCache = cacheManager.getCache(STALE_SEARCH_CACHE_NAME);
+			if (staleCache != null) {
+				staleCache.put(searchKey, results);
+			}
+		} catch (RuntimeException e) {
+			log.warn("예비 검색 결과 저장 실패 - key: {}", searchKey, e);
+		}
+	}
+
+	/**
+	 * 장애 대응용 예비 캐시에서 마지막 검색 결과를 조회합니다.
+	 *
+	 * @return 마지막 검색 결과, 없으면 null
+	 */
+	@SuppressWarnings("unchecked")
+	private List<PlaceDetailResponseDto> findStaleResults(String searchKey) {
+		try {
+			Cache staleCache = cacheManager.getCache(STALE_SEARCH_CACHE_NAME);
+			return staleCache != null ? staleCache.get(searchKey, List.class) : null;
+		} catch (RuntimeException e) {
+			log.warn("예비 검색 결과 조회 실패 - key: {}", searchKey, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 구글 Text Search API를 사용자 요청(INTERACTIVE) 레인 예산으로 장애 대응 호출기를 거쳐 호출합니다.
+	 * 타임아웃은 최근 응답 지연 시간으로 정해지며, 응답이 늦어지면 헤지 요청이 추가로 나갈 수 있습니다.
+	 *
+	 * @param request 검색 요청 정보 (검색어, 사용자 위치, 반경 등)
+	 * @return 스트리밍 디코딩된 검색 결과
+	 * @throws CustomException API 호출 실패, 네트워크 오류, 예산 부족, 호출 거절 시
+	 */
+	private DecodedResponse callTextSearchApi(PlaceSearchRequestDto request) {
+		try {
+			return executeTextSearch(() -> requestTextSearchBody(request), QuotaLane.INTERACTIVE);
+		} catch (CustomException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			log.error("구글 Text Search API 호출 중 예상치 못한 오류", e);
+			throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
+		}
+	}
+
+	/**
+	 * 구글 Text Search API 요청을 구성합니다. 구독할 때마다 새 요청이 전송됩니다.
 	 * 사용자 위치가 제공된 경우 거리 기반 우선순위로 정렬됩니다.
 	 *
 	 * @param request 검색 요청 정보 (검색어, 사용자 위치, 반경 등)
-	 * @return 구글 API 원시 검색 결과 데이터
-	 * @throws CustomException API 호출 실패 또는 네트워크 오류 시
+	 * @return 스트리밍 디코딩될 검색 결과
 	 */
-	private GooglePlaceResponseDto callTextSearchApi(PlaceSearchRequestDto request) {
-		return googleWebClient.get()
+	private Mono<DecodedResponse> requestTextSearchBody(PlaceSearchRequestDto request) {
+		Flux<DataBuffer> body = googleWebClient.get()
 			.uri(uriBuilder -> {
 				uriBuilder.path(TEXT_SEARCH_ENDPOINT)
 					.queryParam("query", request.getQuery())
@@ -116,36 +428,51 @@ public class GooglePlaceSearchService {
 				return uriBuilder.build();
 			})
 			.retrieve()
-			.bodyToMono(GooglePlaceResponseDto.class)
-			.timeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS))
-			.doOnError(error -> log.error("구글 API 호출 실패", error))
-			.onErrorMap(throwable -> {
-				if (throwable instanceof CustomException) {
-					return throwable;
-				}
-				log.error("구글 Text Search API 호출 중 예상치 못한 오류", throwable);
-				return new CustomException(ErrorCode.EXTERNAL_API_ERROR);
-			})
-			.block();
+			.bodyToFlux(DataBuffer.class);
+
+		return googlePlaceStreamDecoder.decode(body);
 	}
 
 	/**
-	 * 구글 Text Search API 응답을 애플리케이션 표준 형식으로 변환합니다.
-	 * 검색 결과 목록을 PlaceDetailResponse 목록으로 변환하여 일관된 데이터 구조를 제공합니다.
+	 * next_page_token으로 구글 Text Search API의 다음 페이지를 조회합니다.
+	 * 토큰 요청에는 다른 검색 파라미터를 함께 보내지 않습니다.
 	 *
-	 * @param googleResponse 구글 API 원시 검색 응답
-	 * @return 변환된 장소 상세 정보 목록
+	 * @param pageToken 이전 응답의 next_page_token
+	 * @return 스트리밍 디코딩된 검색 결과
 	 */
-	private List<PlaceDetailResponseDto> convertToPlaceDetailResponses(GooglePlaceResponseDto googleResponse) {
-		if (googleResponse.getResults() == null) {
-			return Collections.emptyList();
-		}
+	private DecodedResponse callNextPageApi(String pageToken) {
+		return executeTextSearch(() -> {
+			Flux<DataBuffer> body = googleWebClient.get()
+				.uri(uriBuilder -> uriBuilder.path(TEXT_SEARCH_ENDPOINT)
+					.queryParam("pagetoken", pageToken)
+					.queryParam("key", googleApiKey)
+					.build())
+				.retrieve()
+				.bodyToFlux(DataBuffer.class);
 
-		return googleResponse.getResults().stream()
-			.filter(Objects::nonNull)
-			.map(result -> googlePlaceConverter.convertToPlaceDetailResponse(result))
-			.filter(Objects::nonNull)
-			.collect(Collectors.toList());
+			return googlePlaceStreamDecoder.decode(body);
+		}, QuotaLane.BACKGROUND);
+	}
+
+	/**
+	 * 할당량 예산을 차감한 뒤 Text Search 요청을 장애 대응 호출기를 거쳐 실행합니다.
+	 * 헤지 요청은 BACKGROUND 레인 예산이 있을 때만 보냅니다.
+	 *
+	 * @param call Text Search 요청 생성 함수
+	 * @param lane 할당량 우선순위 레인
+	 * @return 스트리밍 디코딩된 검색 결과
+	 * @throws CustomException 예산이 부족하거나, 회로가 열려 있거나, 동시 호출 수가 가득 찬 경우
+	 */
+	private DecodedResponse executeTextSearch(Supplier<Mono<DecodedResponse>> call, QuotaLane lane) {
+		googleApiQuotaGovernor.acquire(GoogleApiSku.TEXT_SEARCH, lane);
+		try {
+			return googleTextSearchEndpoint.execute(call,
+				() -> googleApiQuotaGovernor.tryAcquire(GoogleApiSku.TEXT_SEARCH, QuotaLane.BACKGROUND));
+		} catch (CustomException e) {
+			// 서킷 브레이커/벌크헤드 거절은 실제 호출이 없었으므로 예산을 되돌림
+			googleApiQuotaGovernor.refund(GoogleApiSku.TEXT_SEARCH, lane);
+			throw e;
+		}
 	}
 
 }
\ No newline at end of file
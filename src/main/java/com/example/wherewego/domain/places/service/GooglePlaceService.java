@@ -1,11 +1,15 @@
 package com.example.wherewego.domain.places.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
 import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 기존 단일 클래스를 여러 특화 서비스로 분리하여 단일 책임 원칙을 적용합니다.
  * PlaceSearchService 인터페이스 구현체로서 검색과 상세 조회 기능을 위임합니다.
+ * 조회된 장소는 주변 장소 질의에 사용할 수 있도록 인메모리 공간 인덱스에 등록하고,
+ * 상세 조회한 장소명은 자동완성 인덱스에 반영합니다 (검색어는 사용자를 아는 PlaceService에서 반영).
  */
 @Slf4j
 @Service("googlePlaceService")
@@ -23,6 +29,8 @@ public class GooglePlaceService implements PlaceSearchService {
 
 	private final GooglePlaceSearchService searchService;
 	private final GooglePlaceDetailService detailService;
+	private final PlaceGeoIndex placeGeoIndex;
+	private final SearchSuggestService searchSuggestService;
 
 	/**
 	 * 장소 검색 기능을 GooglePlaceSearchService에 위임
@@ -32,7 +40,9 @@ public class GooglePlaceService implements PlaceSearchService {
 	 */
 	@Override
 	public List<PlaceDetailResponseDto> searchPlaces(PlaceSearchRequestDto request) {
-		return searchService.searchPlaces(request);
+		List<PlaceDetailResponseDto> results = searchService.searchPlaces(request);
+		placeGeoIndex.indexAll(results);
+		return results;
 	}
 
 	/**
@@ -43,6 +53,37 @@ public class GooglePlaceService implements PlaceSearchService {
 	 */
 	@Override
 	public PlaceDetailResponseDto getPlaceDetail(String placeId) {
-		return detailService.getPlaceDetail(placeId);
+		return getPlaceDetail(placeId, PlaceDetailTier.BASIC);
+	}
+
+	/**
+	 * 필드 등급별 장소 상세 정보 조회를 GooglePlaceDetailService에 위임
+	 *
+	 * @param placeId 조회할 장소의 고유 ID
+	 * @param tier 필요한 필드 등급
+	 * @return 장소의 상세 정보
+	 */
+	@Override
+	public PlaceDetailResponseDto getPlaceDetail(String placeId, PlaceDetailTier tier) {
+		PlaceDetailResponseDto placeDetail = detailService.getPlaceDetail(placeId, tier);
+		placeGeoIndex.index(placeDetail);
+		if (placeDetail != null) {
+			searchSuggestService.recordPlaceViews(List.of(placeDetail));
+		}
+		return placeDetail;
+	}
+
+	/**
+	 * 장소 상세 정보 일괄 조회를 GooglePlaceDetailService에 위임
+	 *
+	 * @param placeIds 조회할 장소 ID 목록
+	 * @return 장소 ID를 키로 하는 장소 상세 정보
+	 */
+	@Override
+	public Map<String, PlaceDetailResponseDto> getPlaceDetails(Collection<String> placeIds) {
+		Map<String, PlaceDetailResponseDto> placeDetails = detailService.getPlaceDetails(placeIds);
+		placeGeoIndex.indexAll(placeDetails.values());
+		searchSuggestService.recordPlaceViews(placeDetails.values());
+		return placeDetails;
 	}
 }
\ No newline at end of file
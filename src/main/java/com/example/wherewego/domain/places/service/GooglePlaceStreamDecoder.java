@@ -0,0 +1,392 @@
+package com.example.wherewego.domain.places.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.domain.places.dto.response.GooglePlaceDetailResponseDto;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Google Places API 응답 스트리밍 디코더
+ *
+ * WebClient 응답 본문(DataBuffer 스트림)을 논블로킹 JSON 파서에 청크 단위로 공급하면서
+ * 토큰을 바로 PlaceDetailResponseDto로 변환합니다.
+ * 응답 전체를 메모리에 모으거나 구글 응답 DTO 객체 그래프를 만들지 않으며,
+ * 사용하지 않는 필드(리뷰, 영업시간 상세 구간, 뷰포트, 두 번째 이후 사진 등)는 문자열로 만들지 않고 건너뜁니다.
+ * FULL 등급으로 조회한 응답의 연락처/분위기 필드(전화번호, 웹사이트, 요일별 영업시간 문구, 평점 수, 가격 수준)도 함께 변환합니다.
+ *
+ * Text Search 응답(results 배열)과 Place Details 응답(result 객체)을 모두 처리합니다.
+ * 변환 규칙(카테고리, 지역, 사진 URL)은 GooglePlaceConverter와 동일합니다.
+ */
+@Component
+public class GooglePlaceStreamDecoder {
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+	private final GooglePlaceConverter googlePlaceConverter;
+
+	public GooglePlaceStreamDecoder(GooglePlaceConverter googlePlaceConverter) {
+		this.googlePlaceConverter = googlePlaceConverter;
+	}
+
+	/**
+	 * 응답 본문 스트림을 디코딩합니다. 공급된 DataBuffer는 처리 직후 해제됩니다.
+	 *
+	 * @param body WebClient 응답 본문
+	 * @return 디코딩 결과 (상태, 다음 페이지 토큰, 변환된 장소 목록)
+	 */
+	public Mono<DecodedResponse> decode(Flux<DataBuffer> body) {
+		return Mono.defer(() -> {
+			DecodingState state = new DecodingState(createParser());
+			return body
+				.doOnNext(buffer -> {
+					try {
+						state.feed(buffer);
+					} finally {
+						DataBufferUtils.release(buffer);
+					}
+				})
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+				.then(Mono.fromCallable(state::finish));
+		});
+	}
+
+	private JsonParser createParser() {
+		try {
+			return jsonFactory.createNonBlockingByteBufferParser();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 디코딩 결과
+	 */
+	@Getter
+	public static class DecodedResponse {
+
+		/**
+		 * API 요청 상태 (OK, ZERO_RESULTS, INVALID_REQUEST 등)
+		 */
+		private final String status;
+
+		/**
+		 * 다음 페이지 조회용 토큰 (Text Search 전용, 없으면 null)
+		 */
+		private final String nextPageToken;
+
+		/**
+		 * 변환된 장소 목록 (Place Details 응답은 최대 1건)
+		 * 그대로 캐시에 저장될 수 있으므로 직렬화 가능한 ArrayList를 사용합니다.
+		 */
+		private final List<PlaceDetailResponseDto> places;
+
+		private DecodedResponse(String status, String nextPageToken, List<PlaceDetailResponseDto> places) {
+			this.status = status;
+			this.nextPageToken = nextPageToken;
+			this.places = places;
+		}
+	}
+
+	/**
+	 * 현재 토큰이 속한 JSON 위치
+	 */
+	private enum Scope {
+		ROOT, RESULTS, PLACE, GEOMETRY, LOCATION, TYPES, PHOTOS, PHOTO, COMPONENTS, COMPONENT, COMPONENT_TYPES,
+		OPENING_HOURS, WEEKDAY_TEXT
+	}
+
+	/**
+	 * 응답 하나에 대한 디코딩 상태 머신
+	 *
+	 * 논블로킹 파서는 청크 경계에서 언제든 NOT_AVAILABLE을 반환할 수 있으므로
+	 * 재귀 하강 대신 위치 스택(scopes)과 현재 필드명만으로 상태를 유지합니다.
+	 * 관심 없는 객체/배열은 깊이(skipDepth)만 세면서 통과합니다.
+	 */
+	private final class DecodingState {
+
+		private static final int MAX_SCOPE_DEPTH = 8;
+
+		private final JsonParser parser;
+		private final ByteBufferFeeder feeder;
+		private final Scope[] scopes = new Scope[MAX_SCOPE_DEPTH];
+		private final List<PlaceDetailResponseDto> places = new ArrayList<>();
+
+		private int depth;
+		private int skipDepth;
+		private String fieldName;
+
+		private String status;
+		private String nextPageToken;
+		private PlaceFields place;
+		private GooglePlaceDetailResponseDto.AddressComponent component;
+
+		private DecodingState(JsonParser parser) {
+			this.parser = parser;
+			this.feeder = (ByteBufferFeeder)parser.getNonBlockingInputFeeder();
+		}
+
+		private void feed(DataBuffer buffer) {
+			try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer byteBuffer = iterator.next();
+					feeder.feedInput(byteBuffer);
+					drain();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private DecodedResponse finish() throws IOException {
+			feeder.endOfInput();
+			drain();
+			parser.close();
+
+			if (depth != 0 || skipDepth != 0) {
+				throw new IOException("구글 API 응답 JSON이 완결되지 않았습니다");
+			}
+			return new DecodedResponse(status, nextPageToken, places);
+		}
+
+		/**
+		 * 공급된 입력으로 만들 수 있는 토큰을 모두 처리합니다.
+		 */
+		private void drain() throws IOException {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				if (skipDepth > 0) {
+					if (token.isStructStart()) {
+						skipDepth++;
+					} else if (token.isStructEnd()) {
+						skipDepth--;
+					}
+					continue;
+				}
+
+				switch (token) {
+					case FIELD_NAME -> fieldName = parser.currentName();
+					case START_OBJECT -> enter(resolveObjectScope());
+					case START_ARRAY -> enter(resolveArrayScope());
+					case END_OBJECT, END_ARRAY -> exit();
+					case VALUE_STRING -> onString();
+					case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> onNumber();
+					default -> {
+						// true/false/null 값은 사용하지 않음
+					}
+				}
+			}
+		}
+
+		private Scope current() {
+			return depth > 0 ? scopes[depth - 1] : null;
+		}
+
+		private Scope resolveObjectScope() {
+			Scope parent = current();
+			if (parent == null) {
+				return Scope.ROOT;
+			}
+
+			return switch (parent) {
+				case ROOT -> "result".equals(fieldName) ? Scope.PLACE : null;
+				case RESULTS -> Scope.PLACE;
+				case PLACE -> {
+					if ("geometry".equals(fieldName)) {
+						yield Scope.GEOMETRY;
+					}
+					yield "opening_hours".equals(fieldName) ? Scope.OPENING_HOURS : null;
+				}
+				case GEOMETRY -> "location".equals(fieldName) ? Scope.LOCATION : null;
+				// 사진은 첫 번째만 사용
+				case PHOTOS -> place.photoReference == null ? Scope.PHOTO : null;
+				case COMPONENTS -> Scope.COMPONENT;
+				default -> null;
+			};
+		}
+
+		private Scope resolveArrayScope() {
+			Scope parent = current();
+			if (parent == null) {
+				return null;
+			}
+
+			return switch (parent) {
+				case ROOT -> "results".equals(fieldName) ? Scope.RESULTS : null;
+				case PLACE -> {
+					if ("types".equals(fieldName)) {
+						yield Scope.TYPES;
+					} else if ("photos".equals(fieldName)) {
+						yield Scope.PHOTOS;
+					}
+					yield "address_components".equals(fieldName) ? Scope.COMPONENTS : null;
+				}
+				case COMPONENT -> "types".equals(fieldName) ? Scope.COMPONENT_TYPES : null;
+				case OPENING_HOURS -> "weekday_text".equals(fieldName) ? Scope.WEEKDAY_TEXT : null;
+				default -> null;
+			};
+		}
+
+		private void enter(Scope scope) {
+			if (scope == null || depth == MAX_SCOPE_DEPTH) {
+				skipDepth = 1;
+				return;
+			}
+
+			if (scope == Scope.PLACE) {
+				place = new PlaceFields();
+			} else if (scope == Scope.COMPONENT) {
+				component = GooglePlaceDetailResponseDto.AddressComponent.builder().types(new ArrayList<>()).build();
+			}
+			scopes[depth++] = scope;
+			fieldName = null;
+		}
+
+		private void exit() {
+			Scope scope = scopes[--depth];
+			if (scope == Scope.PLACE) {
+				places.add(toPlaceDetail(place));
+				place = null;
+			} else if (scope == Scope.COMPONENT) {
+				place.addressComponents.add(component);
+				component = null;
+			}
+			fieldName = null;
+		}
+
+		private void onString() throws IOException {
+			Scope scope = current();
+			if (scope == null) {
+				return;
+			}
+
+			switch (scope) {
+				case ROOT -> {
+					if ("status".equals(fieldName)) {
+						status = parser.getText();
+					} else if ("next_page_token".equals(fieldName)) {
+						nextPageToken = parser.getText();
+					}
+				}
+				case PLACE -> {
+					if ("place_id".equals(fieldName)) {
+						place.placeId = parser.getText();
+					} else if ("name".equals(fieldName)) {
+						place.name = parser.getText();
+					} else if ("formatted_address".equals(fieldName)) {
+						place.formattedAddress = parser.getText();
+					} else if ("formatted_phone_number".equals(fieldName)) {
+						place.phoneNumber = parser.getText();
+					} else if ("website".equals(fieldName)) {
+						place.website = parser.getText();
+					}
+				}
+				case TYPES -> place.types.add(parser.getText());
+				case PHOTO -> {
+					if ("photo_reference".equals(fieldName)) {
+						place.photoReference = parser.getText();
+					}
+				}
+				case COMPONENT -> {
+					if ("long_name".equals(fieldName)) {
+						component.setLongName(parser.getText());
+					}
+				}
+				case COMPONENT_TYPES -> component.getTypes().add(parser.getText());
+				case WEEKDAY_TEXT -> place.openingHours.add(parser.getText());
+				default -> {
+					// 사용하지 않는 문자열 값
+				}
+			}
+		}
+
+		private void onNumber() throws IOException {
+			Scope scope = current();
+			if (scope == Scope.PLACE) {
+				if ("rating".equals(fieldName)) {
+					place.rating = parser.getDoubleValue();
+				} else if ("user_ratings_total".equals(fieldName)) {
+					place.ratingCount = parser.getIntValue();
+				} else if ("price_level".equals(fieldName)) {
+					place.priceLevel = parser.getIntValue();
+				}
+			} else if (scope == Scope.LOCATION) {
+				if ("lat".equals(fieldName)) {
+					place.latitude = parser.getDoubleValue();
+				} else if ("lng".equals(fieldName)) {
+					place.longitude = parser.getDoubleValue();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 디코딩한 장소 필드를 애플리케이션 표준 형식으로 변환합니다.
+	 * 주소 구성 요소가 있으면(Place Details) 이를 사용하고, 없으면(Text Search) formatted_address에서 지역을 추출합니다.
+	 */
+	private PlaceDetailResponseDto toPlaceDetail(PlaceFields fields) {
+		PlaceDetailResponseDto.Region region = fields.addressComponents.isEmpty()
+			? googlePlaceConverter.extractRegionFromAddress(fields.formattedAddress)
+			: googlePlaceConverter.extractRegionFromComponents(fields.addressComponents);
+
+		return PlaceDetailResponseDto.builder()
+			.placeId(fields.placeId)
+			.name(fields.name)
+			.category(googlePlaceConverter.extractMainCategory(fields.types))
+			.regionSummary(googlePlaceConverter.generateRegionSummary(region))
+			.region(region)
+			.address(fields.formattedAddress)
+			.roadAddress(null) // 구글은 roadAddress 구분 없음
+			.latitude(fields.latitude)
+			.longitude(fields.longitude)
+			.averageRating(0.0) // 우리 서비스 평점 (추후 계산)
+			.reviewCount(0) // 우리 서비스 리뷰 수 (추후 계산)
+			.googleRating(fields.rating) // 구글 평점
+			.bookmarkCount(0) // 추후 계산
+			.isBookmarked(false) // 추후 계산
+			.photo(googlePlaceConverter.buildPhotoUrl(fields.photoReference))
+			.fetchedAt(LocalDateTime.now()) // 구글 API 조회 시각
+			.googleRatingCount(fields.ratingCount)
+			.priceLevel(fields.priceLevel)
+			.phoneNumber(fields.phoneNumber)
+			.website(fields.website)
+			.openingHours(fields.openingHours.isEmpty() ? null : fields.openingHours)
+			.build();
+	}
+
+	/**
+	 * 장소 하나를 디코딩하는 동안 사용하는 필드 누적 객체
+	 */
+	private static final class PlaceFields {
+
+		private String placeId;
+		private String name;
+		private String formattedAddress;
+		private Double rating;
+		private Integer ratingCount;
+		private Integer priceLevel;
+		private String phoneNumber;
+		private String website;
+		private Double latitude;
+		private Double longitude;
+		private String photoReference;
+		private final List<String> types = new ArrayList<>(4);
+		private final List<GooglePlaceDetailResponseDto.AddressComponent> addressComponents = new ArrayList<>(0);
+		private final List<String> openingHours = new ArrayList<>(0);
+	}
+}
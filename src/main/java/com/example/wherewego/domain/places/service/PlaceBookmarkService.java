@@ -1,8 +1,8 @@
 package com.example.wherewego.domain.places.service;
 
 import java.util.List;
+import java.util.Map;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +33,8 @@ public class PlaceBookmarkService {
 	private final PlaceBookmarkRepository placeBookmarkRepository;
 	private final UserService userService;
 	private final PlaceService placeService;
+	private final PlaceStatsService placeStatsService;
+	private final PlaceUserFlagCache placeUserFlagCache;
 
 	/**
 	 * PlaceBookmarkService 생성자
@@ -40,12 +42,16 @@ public class PlaceBookmarkService {
 	 * @param placeBookmarkRepository 장소 북마크 관련 데이터베이스 접근 객체
 	 * @param userService 사용자 관련 서비스
 	 * @param placeService 장소 서비스 (통계 정보 포함)
+	 * @param placeStatsService 장소 통계 서비스 (북마크 수 집계 반영)
+	 * @param placeUserFlagCache 사용자별 장소 플래그 캐시 (북마크 여부 반영)
 	 */
 	public PlaceBookmarkService(PlaceBookmarkRepository placeBookmarkRepository, UserService userService,
-		PlaceService placeService) {
+		PlaceService placeService, PlaceStatsService placeStatsService, PlaceUserFlagCache placeUserFlagCache) {
 		this.placeBookmarkRepository = placeBookmarkRepository;
 		this.userService = userService;
 		this.placeService = placeService;
+		this.placeStatsService = placeStatsService;
+		this.placeUserFlagCache = placeUserFlagCache;
 	}
 
 	/**
@@ -58,7 +64,6 @@ public class PlaceBookmarkService {
 	 * @throws CustomException 이미 북마크된 장소이거나 사용자를 찾을 수 없는 경우
 	 */
 	@Transactional
-	@CacheEvict(value = "place-stats", allEntries = true)
 	public BookmarkCreateResponseDto addBookmark(Long userId, String placeId) {
 
 		// 이미 북마크된 장소인지 확인
@@ -76,6 +81,8 @@ public class PlaceBookmarkService {
 			.build();
 
 		PlaceBookmark savedBookmark = placeBookmarkRepository.save(bookmark);
+		placeStatsService.applyBookmarkChange(placeId, 1);
+		placeUserFlagCache.addBookmark(userId, placeId);
 
 		return BookmarkCreateResponseDto.builder()
 			.bookmarkId(savedBookmark.getId())
@@ -100,12 +107,15 @@ public class PlaceBookmarkService {
 		Pageable pageable = PageRequest.of(page, size);
 		Page<PlaceBookmark> bookmarkPage = placeBookmarkRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
-		// 북마크된 장소들의 상세 정보를 통계 정보와 함께 조회
+		// 페이지 내 북마크 장소들의 상세 정보를 통계 정보와 함께 일괄 조회 (병렬 처리, 캐시 활용)
+		List<String> placeIds = bookmarkPage.getContent().stream()
+			.map(PlaceBookmark::getPlaceId)
+			.toList();
+		Map<String, PlaceDetailResponseDto> placeDetails = placeService.getPlaceDetailsWithStats(placeIds, userId);
+
 		List<UserBookmarkListDto.BookmarkItem> bookmarkItems = bookmarkPage.getContent().stream()
 			.map(bookmark -> {
-				// PlaceService를 통해 통계 정보가 포함된 장소 정보 조회 (캐시 활용)
-				PlaceDetailResponseDto place = getPlaceDetailWithStats(bookmark.getPlaceId(), userId, userLatitude,
-					userLongitude);
+				PlaceDetailResponseDto place = toBookmarkedPlace(placeDetails.get(bookmark.getPlaceId()));
 
 				return UserBookmarkListDto.BookmarkItem.builder()
 					.bookmarkId(bookmark.getId())
@@ -125,23 +135,14 @@ public class PlaceBookmarkService {
 	}
 
 	/**
-	 * PlaceService를 통해 북마크된 장소의 상세 정보를 통계와 함께 조회합니다.
-	 * 캐시를 활용하여 성능을 최적화하고, 리뷰수/평점/북마크수 등 통계 정보를 포함합니다.
+	 * 일괄 조회된 북마크 장소 정보에 북마크 상태를 설정합니다.
 	 * 북마크 목록에서 호출되므로 북마크 상태는 항상 true로 설정됩니다.
 	 *
-	 * @param placeId 조회할 장소 ID
-	 * @param userId 사용자 ID
-	 * @param userLatitude 사용자 위치 위도 (거리 계산용, null 가능)
-	 * @param userLongitude 사용자 위치 경도 (거리 계산용, null 가능)
-	 * @return 통계 정보와 북마크 상태가 설정된 장소 상세 정보
+	 * @param place 통계 정보가 포함된 장소 상세 정보 (조회 실패 시 null)
+	 * @return 북마크 상태가 설정된 장소 상세 정보
 	 * @throws CustomException 장소를 찾을 수 없는 경우
 	 */
-	private PlaceDetailResponseDto getPlaceDetailWithStats(String placeId, Long userId, Double userLatitude,
-		Double userLongitude) {
-
-		// PlaceService를 통해 통계 정보가 포함된 장소 정보 조회 (캐시 활용)
-		PlaceDetailResponseDto place = placeService.getPlaceDetailWithStats(placeId, userId);
-
+	private PlaceDetailResponseDto toBookmarkedPlace(PlaceDetailResponseDto place) {
 		if (place == null) {
 			throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
 		}
@@ -161,7 +162,6 @@ public class PlaceBookmarkService {
 	 * @throws CustomException 북마크를 찾을 수 없는 경우
 	 */
 	@Transactional
-	@CacheEvict(value = "place-stats", allEntries = true)
 	public void removeBookmark(Long userId, String placeId) {
 
 		// 북마크 존재 확인 및 조회
@@ -170,6 +170,8 @@ public class PlaceBookmarkService {
 
 		// 북마크 삭제
 		placeBookmarkRepository.delete(bookmark);
+		placeStatsService.applyBookmarkChange(placeId, -1);
+		placeUserFlagCache.removeBookmark(userId, placeId);
 	}
 
 	/**
@@ -0,0 +1,223 @@
+package com.example.wherewego.domain.places.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.entity.Place;
+import com.example.wherewego.domain.places.repository.PlaceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 카탈로그 서비스
+ *
+ * 구글 API에서 조회한 장소 정보를 MySQL에 영구 보관하는 3차 저장소입니다.
+ * Redis 캐시가 비워지거나 새 노드가 기동되어도 구글 API를 다시 호출하지 않고 장소 정보를 복원할 수 있습니다.
+ *
+ * - 조회: Redis 미스 시 구글 API 호출 전에 조회하며, 허용 기간(max-age) 이내의 데이터만 사용
+ * - 대체: 구글 API 호출이 거절되거나 실패하면 허용 기간이 지난 데이터라도 응답에 사용
+ * - 저장: 요청 스레드를 막지 않도록 비동기로 저장하며, 아직 신선한 데이터는 갱신하지 않음
+ * - 기동 시 보관된 장소를 인메모리 공간 인덱스에 적재하여 주변 장소 질의를 바로 처리
+ */
+@Slf4j
+@Service
+public class PlaceCatalogService {
+
+	private static final int WARM_UP_PAGE_SIZE = 1000;
+
+	private final PlaceRepository placeRepository;
+	private final GooglePlaceConverter googlePlaceConverter;
+	private final PlaceGeoIndex placeGeoIndex;
+	private final Duration maxAge;
+
+	public PlaceCatalogService(PlaceRepository placeRepository,
+		GooglePlaceConverter googlePlaceConverter,
+		PlaceGeoIndex placeGeoIndex,
+		@Value("${place.catalog.max-age:P7D}") Duration maxAge) {
+		this.placeRepository = placeRepository;
+		this.googlePlaceConverter = googlePlaceConverter;
+		this.placeGeoIndex = placeGeoIndex;
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * 카탈로그에서 신선한 장소 정보를 조회합니다.
+	 *
+	 * @param placeId 조회할 장소 ID
+	 * @return 허용 기간 이내의 장소 정보, 없거나 오래된 경우 empty
+	 */
+	@Transactional(readOnly = true)
+	public Optional<PlaceDetailResponseDto> findFreshPlace(String placeId) {
+		try {
+			return placeRepository.findById(placeId)
+				.filter(place -> !place.isStale(maxAge))
+				.map(this::toPlaceDetail);
+		} catch (RuntimeException e) {
+			log.warn("장소 카탈로그 조회 실패 - placeId: {}", placeId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 카탈로그에서 허용 기간과 무관하게 마지막으로 저장된 장소 정보를 조회합니다.
+	 * 구글 API를 호출할 수 없을 때 오래된 데이터라도 응답하기 위한 대체 경로입니다.
+	 *
+	 * @param placeId 조회할 장소 ID
+	 * @return 마지막으로 저장된 장소 정보, 없으면 empty
+	 */
+	@Transactional(readOnly = true)
+	public Optional<PlaceDetailResponseDto> findLastKnownPlace(String placeId) {
+		try {
+			return placeRepository.findById(placeId)
+				.map(this::toPlaceDetail);
+		} catch (RuntimeException e) {
+			log.warn("장소 카탈로그 조회 실패 - placeId: {}", placeId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 카탈로그에서 여러 장소의 신선한 정보를 한 번에 조회합니다.
+	 *
+	 * @param placeIds 조회할 장소 ID 목록
+	 * @return 장소 ID를 키로 하는 허용 기간 이내의 장소 정보
+	 */
+	@Transactional(readOnly = true)
+	public Map<String, PlaceDetailResponseDto> findFreshPlaces(Collection<String> placeIds) {
+		if (placeIds == null || placeIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		try {
+			return placeRepository.findAllByPlaceIdIn(placeIds).stream()
+				.filter(place -> !place.isStale(maxAge))
+				.collect(Collectors.toMap(Place::getPlaceId, this::toPlaceDetail, (a, b) -> a, LinkedHashMap::new));
+		} catch (RuntimeException e) {
+			log.warn("장소 카탈로그 일괄 조회 실패 - 요청 수: {}", placeIds.size(), e);
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * 구글 API에서 조회한 장소 정보를 비동기로 카탈로그에 저장합니다.
+	 * 신규 장소는 추가하고, 기존 장소는 허용 기간이 지난 경우에만 갱신합니다.
+	 * 겹치는 장소를 담은 작업이 동시에 실행되어도 장소마다 한 문장으로 저장하므로 중복 키로 배치 전체가 롤백되지 않으며,
+	 * 장소 ID 순으로 저장하여 작업 간에 행 잠금 순서가 엇갈리지 않습니다.
+	 *
+	 * @param places 구글 API에서 변환된 장소 정보 목록
+	 */
+	@Async("placeTaskExecutor")
+	@Transactional
+	public void saveAllAsync(List<PlaceDetailResponseDto> places) {
+		if (places == null || places.isEmpty()) {
+			return;
+		}
+
+		Map<String, Place> fetchedPlaces = places.stream()
+			.filter(Objects::nonNull)
+			.filter(place -> place.getPlaceId() != null && place.getName() != null)
+			.map(this::toEntity)
+			.collect(Collectors.toMap(Place::getPlaceId, Function.identity(), (a, b) -> b, TreeMap::new));
+
+		if (fetchedPlaces.isEmpty()) {
+			return;
+		}
+
+		LocalDateTime staleBefore = LocalDateTime.now().minus(maxAge);
+		fetchedPlaces.values().forEach(place -> placeRepository.upsertPlace(place, staleBefore));
+
+		log.debug("장소 카탈로그 저장 - 요청: {}", fetchedPlaces.size());
+	}
+
+	/**
+	 * 애플리케이션 기동 후 카탈로그의 장소를 공간 인덱스에 적재합니다.
+	 * 좌표만 필요하므로 오래된 장소도 포함하며, 페이지 단위로 읽어 메모리 사용을 제한합니다.
+	 */
+	@Async("placeTaskExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void warmUpGeoIndex() {
+		try {
+			Page<Place> page;
+			int pageNumber = 0;
+			do {
+				page = placeRepository.findAll(PageRequest.of(pageNumber++, WARM_UP_PAGE_SIZE));
+				page.forEach(place -> placeGeoIndex.index(toPlaceDetail(place)));
+			} while (page.hasNext());
+
+			log.info("장소 공간 인덱스 적재 완료 - 장소 수: {}", placeGeoIndex.size());
+		} catch (RuntimeException e) {
+			log.warn("장소 공간 인덱스 적재 실패", e);
+		}
+	}
+
+	/**
+	 * 변환된 장소 정보를 카탈로그 엔티티로 변환합니다.
+	 */
+	private Place toEntity(PlaceDetailResponseDto dto) {
+		PlaceDetailResponseDto.Region region = dto.getRegion();
+
+		return Place.builder()
+			.placeId(dto.getPlaceId())
+			.name(dto.getName())
+			.category(dto.getCategory())
+			.regionSummary(dto.getRegionSummary())
+			.regionDepth1(region != null ? region.getDepth1() : null)
+			.regionDepth2(region != null ? region.getDepth2() : null)
+			.address(dto.getAddress())
+			.roadAddress(dto.getRoadAddress())
+			.latitude(dto.getLatitude())
+			.longitude(dto.getLongitude())
+			.googleRating(dto.getGoogleRating())
+			.photoReference(googlePlaceConverter.extractPhotoReference(dto.getPhoto()))
+			.fetchedAt(dto.getFetchedAt() != null ? dto.getFetchedAt() : LocalDateTime.now())
+			.build();
+	}
+
+	/**
+	 * 카탈로그 엔티티를 구글 API 변환 결과와 동일한 형태의 장소 정보로 변환합니다.
+	 */
+	private PlaceDetailResponseDto toPlaceDetail(Place place) {
+		return PlaceDetailResponseDto.builder()
+			.placeId(place.getPlaceId())
+			.name(place.getName())
+			.category(place.getCategory())
+			.regionSummary(place.getRegionSummary())
+			.region(PlaceDetailResponseDto.Region.builder()
+				.depth1(place.getRegionDepth1())
+				.depth2(place.getRegionDepth2())
+				.build())
+			.address(place.getAddress())
+			.roadAddress(place.getRoadAddress())
+			.latitude(place.getLatitude())
+			.longitude(place.getLongitude())
+			.averageRating(0.0)
+			.reviewCount(0)
+			.googleRating(place.getGoogleRating())
+			.bookmarkCount(0)
+			.isBookmarked(false)
+			.photo(googlePlaceConverter.buildPhotoUrl(place.getPhotoReference()))
+			.fetchedAt(place.getFetchedAt())
+			.build();
+	}
+}
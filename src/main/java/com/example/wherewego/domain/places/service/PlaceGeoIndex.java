@@ -0,0 +1,272 @@
+package com.example.wherewego.domain.places.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.global.util.GeoHash;
+import com.example.wherewego.global.util.GeoKernel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 장소 공간 인덱스
+ *
+ * 검색/상세 조회로 한 번이라도 확인한 장소를 지오해시(6자리, 약 1.2km x 0.6km) 버킷에 보관하여
+ * 외부 API 호출 없이 "주변 장소" 질의에 응답합니다.
+ *
+ * - 버킷은 위도/경도 원시 배열과 장소 배열로 구성된 불변 객체이며, 변경 시 새 버킷으로 교체합니다.
+ *   조회는 잠금 없이 배열만 순회하므로 수 마이크로초 내에 끝납니다.
+ * - 인덱스는 노드별로 독립적이며, 최대 크기에 도달하면 신규 장소는 추가하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PlaceGeoIndex {
+
+	private static final int PRECISION = 6;
+	// 등장방형 근사 오차(도시 내 0.1% 미만)로 경계 장소가 빠지지 않도록 1차 필터 반경에 두는 여유
+	private static final double APPROXIMATION_TOLERANCE = 1.001;
+
+	private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, String> cellByPlaceId = new ConcurrentHashMap<>();
+	private final int maxSize;
+
+	public PlaceGeoIndex(@Value("${place.geo-index.max-size:200000}") int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 장소를 인덱스에 추가하거나 최신 정보로 교체합니다.
+	 * 좌표가 없는 장소는 무시하며, 좌표가 바뀐 장소는 새 버킷으로 이동합니다.
+	 *
+	 * @param place 구글 API 또는 카탈로그에서 변환된 장소 정보
+	 */
+	public void index(PlaceDetailResponseDto place) {
+		if (place == null || place.getPlaceId() == null
+			|| place.getLatitude() == null || place.getLongitude() == null) {
+			return;
+		}
+
+		String placeId = place.getPlaceId();
+		String cell = GeoHash.encode(place.getLatitude(), place.getLongitude(), PRECISION);
+		String previousCell = cellByPlaceId.get(placeId);
+
+		if (previousCell == null && cellByPlaceId.size() >= maxSize) {
+			log.debug("장소 공간 인덱스 최대 크기 도달 - placeId: {}", placeId);
+			return;
+		}
+
+		// 사용자별 값(거리, 북마크 여부)이 섞이지 않도록 장소 자체 정보만 보관
+		PlaceDetailResponseDto stored = place.toBuilder()
+			.distance(null)
+			.isBookmarked(false)
+			.build();
+
+		buckets.compute(cell, (key, bucket) -> bucket == null ? Bucket.of(stored) : bucket.upsert(stored));
+		cellByPlaceId.put(placeId, cell);
+
+		if (previousCell != null && !previousCell.equals(cell)) {
+			buckets.computeIfPresent(previousCell, (key, bucket) -> bucket.remove(placeId));
+		}
+	}
+
+	/**
+	 * 여러 장소를 인덱스에 추가합니다.
+	 *
+	 * @param places 변환된 장소 정보 목록
+	 */
+	public void indexAll(Collection<PlaceDetailResponseDto> places) {
+		if (places == null) {
+			return;
+		}
+		places.forEach(this::index);
+	}
+
+	/**
+	 * 인덱스에 보관된 장소를 조회합니다.
+	 *
+	 * @param placeId 장소 ID
+	 * @return 인덱스에 있는 장소 정보, 없으면 empty
+	 */
+	public Optional<PlaceDetailResponseDto> find(String placeId) {
+		String cell = placeId != null ? cellByPlaceId.get(placeId) : null;
+		Bucket bucket = cell != null ? buckets.get(cell) : null;
+		return bucket != null ? Optional.ofNullable(bucket.get(placeId)) : Optional.empty();
+	}
+
+	/**
+	 * 중심점 반경 내의 장소를 가까운 순으로 조회합니다.
+	 *
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radiusMeters 검색 반경 (미터)
+	 * @param categories 포함할 카테고리 (비어 있으면 전체)
+	 * @param excludedPlaceIds 제외할 장소 ID (비어 있으면 제외 없음)
+	 * @param limit 최대 결과 수
+	 * @return 거리(distance)가 설정된 장소 목록 (가까운 순)
+	 */
+	public List<PlaceDetailResponseDto> findNearby(double latitude, double longitude, int radiusMeters,
+		Set<String> categories, Set<String> excludedPlaceIds, int limit) {
+		if (limit <= 0 || buckets.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		boolean filterCategory = categories != null && !categories.isEmpty();
+		boolean filterExcluded = excludedPlaceIds != null && !excludedPlaceIds.isEmpty();
+
+		// 버킷 단위로 등장방형 근사 거리를 한 번에 계산해 먼저 거르고, 남은 장소만 하버사인으로 확정
+		double approximateRadius = radiusMeters * APPROXIMATION_TOLERANCE;
+		double[] approximateDistances = new double[0];
+
+		List<Candidate> candidates = new ArrayList<>();
+		for (String cell : GeoHash.coveringCells(latitude, longitude, radiusMeters, PRECISION)) {
+			Bucket bucket = buckets.get(cell);
+			if (bucket == null) {
+				continue;
+			}
+
+			if (approximateDistances.length < bucket.places.length) {
+				approximateDistances = new double[bucket.places.length];
+			}
+			GeoKernel.equirectangularFrom(latitude, longitude, bucket.latitudes, bucket.longitudes,
+				approximateDistances);
+
+			for (int i = 0; i < bucket.places.length; i++) {
+				if (approximateDistances[i] > approximateRadius) {
+					continue;
+				}
+
+				PlaceDetailResponseDto place = bucket.places[i];
+				if (filterCategory && !categories.contains(place.getCategory())) {
+					continue;
+				}
+				if (filterExcluded && excludedPlaceIds.contains(place.getPlaceId())) {
+					continue;
+				}
+
+				double distance = GeoKernel.haversineMeters(latitude, longitude, bucket.latitudes[i],
+					bucket.longitudes[i]);
+				if (distance <= radiusMeters) {
+					candidates.add(new Candidate(distance, place));
+				}
+			}
+		}
+
+		candidates.sort(Comparator.comparingDouble(candidate -> candidate.distance));
+
+		return candidates.stream()
+			.limit(limit)
+			.map(candidate -> candidate.place.toBuilder()
+				.distance((int)Math.round(candidate.distance))
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 인덱스에 보관된 장소 수를 반환합니다.
+	 */
+	public int size() {
+		return cellByPlaceId.size();
+	}
+
+	/**
+	 * 거리 계산이 끝난 후보 장소
+	 */
+	private static final class Candidate {
+
+		private final double distance;
+		private final PlaceDetailResponseDto place;
+
+		private Candidate(double distance, PlaceDetailResponseDto place) {
+			this.distance = distance;
+			this.place = place;
+		}
+	}
+
+	/**
+	 * 지오해시 셀 하나에 속한 장소 묶음 (불변)
+	 *
+	 * 좌표는 원시 배열로 보관하여 거리 계산 시 객체 역참조와 언박싱을 피합니다.
+	 */
+	private static final class Bucket {
+
+		private final double[] latitudes;
+		private final double[] longitudes;
+		private final PlaceDetailResponseDto[] places;
+
+		private Bucket(double[] latitudes, double[] longitudes, PlaceDetailResponseDto[] places) {
+			this.latitudes = latitudes;
+			this.longitudes = longitudes;
+			this.places = places;
+		}
+
+		private static Bucket of(PlaceDetailResponseDto place) {
+			return new Bucket(new double[] {place.getLatitude()}, new double[] {place.getLongitude()},
+				new PlaceDetailResponseDto[] {place});
+		}
+
+		private int indexOf(String placeId) {
+			for (int i = 0; i < places.length; i++) {
+				if (places[i].getPlaceId().equals(placeId)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private PlaceDetailResponseDto get(String placeId) {
+			int index = indexOf(placeId);
+			return index >= 0 ? places[index] : null;
+		}
+
+		private Bucket upsert(PlaceDetailResponseDto place) {
+			int index = indexOf(place.getPlaceId());
+			int length = index >= 0 ? places.length : places.length + 1;
+			int target = index >= 0 ? index : places.length;
+
+			double[] newLatitudes = Arrays.copyOf(latitudes, length);
+			double[] newLongitudes = Arrays.copyOf(longitudes, length);
+			PlaceDetailResponseDto[] newPlaces = Arrays.copyOf(places, length);
+			newLatitudes[target] = place.getLatitude();
+			newLongitudes[target] = place.getLongitude();
+			newPlaces[target] = place;
+			return new Bucket(newLatitudes, newLongitudes, newPlaces);
+		}
+
+		/**
+		 * @return 장소를 제외한 새 버킷, 남은 장소가 없으면 null (버킷 제거)
+		 */
+		private Bucket remove(String placeId) {
+			int index = indexOf(placeId);
+			if (index < 0) {
+				return this;
+			}
+			if (places.length == 1) {
+				return null;
+			}
+
+			double[] newLatitudes = new double[places.length - 1];
+			double[] newLongitudes = new double[places.length - 1];
+			PlaceDetailResponseDto[] newPlaces = new PlaceDetailResponseDto[places.length - 1];
+			for (int i = 0, j = 0; i < places.length; i++) {
+				if (i != index) {
+					newLatitudes[j] = latitudes[i];
+					newLongitudes[j] = longitudes[i];
+					newPlaces[j++] = places[i];
+				}
+			}
+			return new Bucket(newLatitudes, newLongitudes, newPlaces);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.wherewego.domain.places.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주변 장소 조회 서비스
+ *
+ * 인메모리 공간 인덱스만 사용하여 외부 API 호출 없이 주변 장소와 코스의 다음 방문지 후보를 제공합니다.
+ * 인덱스에는 이미 검색/상세 조회된 장소만 있으므로 결과는 "알고 있는 장소" 범위로 한정됩니다.
+ */
+@Slf4j
+@Service
+public class PlaceNearbyService {
+
+	private static final int MAX_RADIUS = 5000;
+	private static final int MAX_LIMIT = 50;
+
+	private final PlaceGeoIndex placeGeoIndex;
+	private final PlaceSearchService placeSearchService;
+
+	public PlaceNearbyService(PlaceGeoIndex placeGeoIndex,
+		@Qualifier("googlePlaceService") PlaceSearchService placeSearchService) {
+		this.placeGeoIndex = placeGeoIndex;
+		this.placeSearchService = placeSearchService;
+	}
+
+	/**
+	 * 지정한 위치 주변의 장소를 가까운 순으로 조회합니다.
+	 *
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radius 검색 반경 (미터, 최대 5000)
+	 * @param categories 포함할 카테고리 (null 또는 비어 있으면 전체)
+	 * @param limit 최대 결과 수 (최대 50)
+	 * @return 거리 정보가 포함된 주변 장소 목록
+	 */
+	public List<PlaceDetailResponseDto> findNearbyPlaces(double latitude, double longitude, int radius,
+		List<String> categories, int limit) {
+		validateLocation(latitude, longitude);
+
+		return placeGeoIndex.findNearby(latitude, longitude, normalizeRadius(radius), toSet(categories),
+			Set.of(), normalizeLimit(limit));
+	}
+
+	/**
+	 * 코스 작성 시 현재 장소 다음에 방문할 장소 후보를 가까운 순으로 추천합니다.
+	 * 기준 장소와 이미 코스에 포함된 장소는 결과에서 제외합니다.
+	 *
+	 * @param placeId 기준 장소 ID
+	 * @param radius 검색 반경 (미터, 최대 5000)
+	 * @param categories 포함할 카테고리 (null 또는 비어 있으면 전체)
+	 * @param excludePlaceIds 제외할 장소 ID 목록 (이미 코스에 포함된 장소 등)
+	 * @param limit 최대 결과 수 (최대 50)
+	 * @return 거리 정보가 포함된 다음 방문지 후보 목록
+	 * @throws CustomException 기준 장소의 위치를 확인할 수 없는 경우
+	 */
+	public List<PlaceDetailResponseDto> suggestNextStops(String placeId, int radius, List<String> categories,
+		List<String> excludePlaceIds, int limit) {
+		PlaceDetailResponseDto origin = resolveOrigin(placeId);
+
+		Set<String> excluded = toSet(excludePlaceIds);
+		excluded.add(placeId);
+
+		return placeGeoIndex.findNearby(origin.getLatitude(), origin.getLongitude(), normalizeRadius(radius),
+			toSet(categories), excluded, normalizeLimit(limit));
+	}
+
+	/**
+	 * 기준 장소를 인덱스에서 찾고, 없으면 장소 상세 조회(캐시 우선)로 위치를 확인합니다.
+	 * 상세 조회된 장소는 조회 과정에서 인덱스에 등록됩니다.
+	 */
+	private PlaceDetailResponseDto resolveOrigin(String placeId) {
+		PlaceDetailResponseDto origin = placeGeoIndex.find(placeId)
+			.orElseGet(() -> placeSearchService.getPlaceDetail(placeId));
+
+		if (origin == null || origin.getLatitude() == null || origin.getLongitude() == null) {
+			throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
+		}
+		return origin;
+	}
+
+	private void validateLocation(double latitude, double longitude) {
+		if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+
+	private int normalizeRadius(int radius) {
+		return Math.min(Math.max(radius, 1), MAX_RADIUS);
+	}
+
+	private int normalizeLimit(int limit) {
+		return Math.min(Math.max(limit, 1), MAX_LIMIT);
+	}
+
+	private Set<String> toSet(List<String> values) {
+		return values != null ? new HashSet<>(values) : new HashSet<>();
+	}
+}
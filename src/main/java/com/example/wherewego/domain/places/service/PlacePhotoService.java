@@ -0,0 +1,360 @@
+package com.example.wherewego.domain.places.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.cache.DiskLruCache;
+import com.example.wherewego.global.cache.SingleFlight;
+import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiSku;
+import com.example.wherewego.global.quota.QuotaLane;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 장소 사진 프록시 서비스
+ *
+ * 클라이언트가 구글 사진 API를 직접 호출하면 API 키가 노출되고 사진을 볼 때마다 과금됩니다.
+ * 이 서비스는 사진을 photo reference당 한 번만 구글에서 받아 로컬 디스크 LRU 캐시에 저장하고,
+ * 이후 요청은 캐시된 파일로 응답합니다 (전송은 컨트롤러에서 sendfile로 제로 카피, 미지원 시 버퍼 복사).
+ *
+ * - 원본: 구글에서 최대 너비 800px로 받은 JPEG
+ * - 썸네일: 원본을 받을 때 목록 화면용 200px, 400px JPEG를 함께 생성
+ * - 썸네일만 만료된 경우 캐시된 원본으로 다시 생성하여 구글을 호출하지 않음
+ *
+ * 같은 사진에 대한 동시 캐시 미스는 Single-flight로 병합하여 구글 호출을 한 번만 보냅니다.
+ *
+ * 프록시는 인증 없이 열려 있으므로 구글 호출은 우리가 발급한(서명이 맞는) 사진 URL로만 허용하고,
+ * 서명이 없는 요청은 캐시된 사진으로만 응답합니다. 구글이 4xx로 거절한 photo reference는 일정 시간 기억하여 다시 호출하지 않습니다.
+ */
+@Slf4j
+@Service
+public class PlacePhotoService {
+
+	static final int ORIGINAL_WIDTH = 800;
+	static final int[] THUMBNAIL_WIDTHS = {200, 400};
+
+	private static final String PLACE_PHOTO_ENDPOINT = "/photo";
+	private static final Pattern PHOTO_REFERENCE_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,2048}");
+	private static final int JPEG_MARKER_FIRST = 0xFF;
+	private static final int JPEG_MARKER_SECOND = 0xD8;
+	private static final long MISSING_PHOTO_MAX_SIZE = 10_000;
+	private static final Duration MISSING_PHOTO_TTL = Duration.ofHours(1);
+	// sendfile이 고정된 경로로 파일을 열 때까지 링크를 유지하는 시간
+	private static final Duration PIN_GRACE = Duration.ofSeconds(30);
+
+	private final WebClient googlePhotoWebClient;
+	private final ResilientEndpoint googlePlacePhotoEndpoint;
+	private final GoogleApiQuotaGovernor googleApiQuotaGovernor;
+	private final SingleFlight singleFlight;
+	private final DiskLruCache photoCache;
+	private final PlacePhotoSigner placePhotoSigner;
+	private final String googleApiKey;
+	// 구글이 4xx로 거절한 photo reference (잘못되었거나 만료된 참조를 반복 호출하지 않음)
+	private final Cache<String, Boolean> missingPhotos = Caffeine.newBuilder()
+		.maximumSize(MISSING_PHOTO_MAX_SIZE)
+		.expireAfterWrite(MISSING_PHOTO_TTL)
+		.build();
+
+	@Autowired
+	public PlacePhotoService(@Qualifier("googlePhotoWebClient") WebClient googlePhotoWebClient,
+		@Qualifier("googlePlacePhotoEndpoint") ResilientEndpoint googlePlacePhotoEndpoint,
+		GoogleApiQuotaGovernor googleApiQuotaGovernor,
+		SingleFlight singleFlight,
+		PlacePhotoSigner placePhotoSigner,
+		@Value("${place.photo.cache.directory:${java.io.tmpdir}/wherewego/place-photos}") String cacheDirectory,
+		@Value("${place.photo.cache.max-size:1GB}") DataSize cacheMaxSize,
+		@Value("${google.api.key}") String googleApiKey) {
+		this(googlePhotoWebClient, googlePlacePhotoEndpoint, googleApiQuotaGovernor, singleFlight,
+			new DiskLruCache(Path.of(cacheDirectory), cacheMaxSize.toBytes()), placePhotoSigner, googleApiKey);
+	}
+
+	PlacePhotoService(WebClient googlePhotoWebClient, ResilientEndpoint googlePlacePhotoEndpoint,
+		GoogleApiQuotaGovernor googleApiQuotaGovernor, SingleFlight singleFlight, DiskLruCache photoCache,
+		PlacePhotoSigner placePhotoSigner, String googleApiKey) {
+		this.googlePhotoWebClient = googlePhotoWebClient;
+		this.googlePlacePhotoEndpoint = googlePlacePhotoEndpoint;
+		this.googleApiQuotaGovernor = googleApiQuotaGovernor;
+		this.singleFlight = singleFlight;
+		this.photoCache = photoCache;
+		this.placePhotoSigner = placePhotoSigner;
+		this.googleApiKey = googleApiKey;
+	}
+
+	/**
+	 * 요청한 너비에 맞는 사진 파일을 고정하여 경로를 반환합니다. 캐시에 없으면 구글에서 받아 저장합니다.
+	 * 고정된 경로는 캐시에서 밀려나도 유예 시간 동안 남아 있으므로 sendfile처럼 응답 후 경로로 파일을 여는 전송에 사용합니다.
+	 *
+	 * @param photoReference 구글 photo reference
+	 * @param signature 사진 URL 서명 (없거나 맞지 않으면 캐시된 사진으로만 응답)
+	 * @param width 원하는 너비 (null이면 원본, 썸네일 너비 중 요청 이상인 가장 작은 크기 사용)
+	 * @return 고정된 JPEG 파일 경로
+	 * @throws CustomException photo reference 형식이 잘못되었거나 사진을 받을 수 없는 경우
+	 */
+	public Path pinPhoto(String photoReference, String signature, Integer width) {
+		return getPhoto(photoReference, signature, width, photoCache::pin);
+	}
+
+	/**
+	 * 요청한 너비에 맞는 사진 파일을 엽니다. 캐시에 없으면 구글에서 받아 저장합니다.
+	 * 열린 채널을 반환하므로 전송 중에 파일이 캐시에서 밀려나 삭제되어도 끝까지 전송할 수 있습니다.
+	 *
+	 * @param photoReference 구글 photo reference
+	 * @param signature 사진 URL 서명 (없거나 맞지 않으면 캐시된 사진으로만 응답)
+	 * @param width 원하는 너비 (null이면 원본, 썸네일 너비 중 요청 이상인 가장 작은 크기 사용)
+	 * @return 캐시된 JPEG 파일 채널 (호출하는 쪽에서 닫아야 함)
+	 * @throws CustomException photo reference 형식이 잘못되었거나 사진을 받을 수 없는 경우
+	 */
+	public FileChannel openPhoto(String photoReference, String signature, Integer width) {
+		return getPhoto(photoReference, signature, width, photoCache::open);
+	}
+
+	/**
+	 * 고정한 지 유예 시간이 지난 사진 링크를 해제합니다.
+	 * sendfile은 응답 직후 파일을 열고, 열린 파일은 링크가 삭제되어도 끝까지 전송되므로 유예 시간은 짧게 둡니다.
+	 */
+	@Scheduled(fixedDelayString = "${place.photo.pin-release-interval:PT10S}")
+	public void releasePinnedPhotos() {
+		photoCache.releasePins(PIN_GRACE);
+	}
+
+	/**
+	 * 캐시에서 사진을 읽을 수 있는 형태로 꺼냅니다. 캐시에 없으면 구글에서 받아 저장한 뒤 다시 꺼냅니다.
+	 *
+	 * @param reader 캐시 키로 파일을 꺼내는 함수 (없으면 null 반환)
+	 */
+	private <T> T getPhoto(String photoReference, String signature, Integer width, Function<String, T> reader) {
+		if (photoReference == null || !PHOTO_REFERENCE_PATTERN.matcher(photoReference).matches()) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		if (missingPhotos.getIfPresent(photoReference) != null) {
+			throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+		}
+
+		int targetWidth = resolveWidth(width);
+		T cached = reader.apply(cacheKey(photoReference, targetWidth));
+		if (cached != null) {
+			return cached;
+		}
+
+		boolean signed = placePhotoSigner.verify(photoReference, signature);
+		if (!signed && photoCache.get(cacheKey(photoReference, ORIGINAL_WIDTH)) == null) {
+			log.debug("서명 없는 사진 요청은 캐시로만 응답 - photoReference: {}", photoReference);
+			throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+		}
+
+		singleFlight.execute("place-photo:" + photoReference, () -> {
+			storePhoto(photoReference, signed);
+			return Boolean.TRUE;
+		});
+
+		T stored = reader.apply(cacheKey(photoReference, targetWidth));
+		if (stored == null) {
+			// 저장 직후 용량 초과로 밀려난 경우 원본으로 대체
+			stored = reader.apply(cacheKey(photoReference, ORIGINAL_WIDTH));
+		}
+		if (stored == null) {
+			throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+		}
+		return stored;
+	}
+
+	/**
+	 * 요청 너비를 캐시에 저장하는 너비(썸네일 또는 원본) 중 하나로 맞춥니다.
+	 */
+	static int resolveWidth(Integer width) {
+		if (width == null) {
+			return ORIGINAL_WIDTH;
+		}
+		for (int thumbnailWidth : THUMBNAIL_WIDTHS) {
+			if (width <= thumbnailWidth) {
+				return thumbnailWidth;
+			}
+		}
+		return ORIGINAL_WIDTH;
+	}
+
+	/**
+	 * 원본과 썸네일을 캐시에 저장합니다. 원본이 캐시에 남아 있으면 구글을 호출하지 않습니다.
+	 *
+	 * @param signed 서명이 확인된 요청인지 여부 (아니면 구글을 호출하지 않음)
+	 */
+	private void storePhoto(String photoReference, boolean signed) {
+		Path cachedOriginal = photoCache.get(cacheKey(photoReference, ORIGINAL_WIDTH));
+		byte[] original = cachedOriginal != null ? readFile(cachedOriginal) : null;
+		boolean fetched = original == null;
+		if (fetched) {
+			if (!signed) {
+				throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			}
+			original = fetchFromGoogle(photoReference);
+		}
+
+		BufferedImage image = decode(original);
+		if (fetched) {
+			photoCache.put(cacheKey(photoReference, ORIGINAL_WIDTH), isJpeg(original) ? original : encodeJpeg(image));
+		}
+
+		for (int thumbnailWidth : THUMBNAIL_WIDTHS) {
+			String key = cacheKey(photoReference, thumbnailWidth);
+			if (photoCache.get(key) == null) {
+				photoCache.put(key, encodeJpeg(resize(image, thumbnailWidth)));
+			}
+		}
+	}
+
+	/**
+	 * 구글 Place Photo API에서 원본 사진을 받습니다.
+	 * 사진 응답은 헤지 요청 시 비용이 두 배가 되므로 엔드포인트 정책에서 헤지를 끕니다.
+	 * 구글이 4xx로 거절한 photo reference는 부정 캐시에 기록하여 같은 참조로 다시 과금되지 않게 합니다.
+	 */
+	private byte[] fetchFromGoogle(String photoReference) {
+		googleApiQuotaGovernor.acquire(GoogleApiSku.PLACE_PHOTO, QuotaLane.INTERACTIVE);
+
+		byte[] body;
+		try {
+			body = googlePlacePhotoEndpoint.execute(() -> requestPhoto(photoReference), () -> false);
+		} catch (CustomException e) {
+			// 서킷 브레이커/벌크헤드 거절은 실제 호출이 없었으므로 예산을 되돌림
+			googleApiQuotaGovernor.refund(GoogleApiSku.PLACE_PHOTO, QuotaLane.INTERACTIVE);
+			throw e;
+		} catch (WebClientResponseException e) {
+			log.warn("구글 사진 조회 실패 - status: {}", e.getStatusCode());
+			if (e.getStatusCode().is4xxClientError()) {
+				missingPhotos.put(photoReference, Boolean.TRUE);
+				throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			}
+			throw new CustomException(ErrorCode.PLACE_API_ERROR);
+		} catch (RuntimeException e) {
+			log.error("구글 사진 조회 중 오류", e);
+			throw new CustomException(ErrorCode.PLACE_API_ERROR);
+		}
+
+		if (body == null || body.length == 0) {
+			throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+		}
+		return body;
+	}
+
+	private Mono<byte[]> requestPhoto(String photoReference) {
+		return googlePhotoWebClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PLACE_PHOTO_ENDPOINT)
+				.queryParam("maxwidth", ORIGINAL_WIDTH)
+				.queryParam("photo_reference", photoReference)
+				.queryParam("key", googleApiKey)
+				.build())
+			.retrieve()
+			.bodyToMono(byte[].class);
+	}
+
+	private static BufferedImage decode(byte[] data) {
+		try {
+			BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+			if (image == null) {
+				throw new CustomException(ErrorCode.PLACE_API_ERROR);
+			}
+			return image;
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.PLACE_API_ERROR);
+		}
+	}
+
+	/**
+	 * 너비에 맞춰 비율을 유지하며 축소합니다. 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄입니다.
+	 * 원본이 더 작으면 확대하지 않습니다.
+	 */
+	static BufferedImage resize(BufferedImage image, int width) {
+		BufferedImage current = image;
+		int currentWidth = image.getWidth();
+		int targetWidth = Math.min(width, currentWidth);
+
+		do {
+			int nextWidth = Math.max(targetWidth, currentWidth / 2);
+			int nextHeight = Math.max(1, (int)Math.round((double)image.getHeight() * nextWidth / image.getWidth()));
+			current = draw(current, nextWidth, nextHeight);
+			currentWidth = nextWidth;
+		} while (currentWidth > targetWidth);
+
+		return current;
+	}
+
+	/**
+	 * JPEG로 저장할 수 있도록 투명도 없는 RGB 이미지로 그립니다.
+	 */
+	private static BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private static byte[] encodeJpeg(BufferedImage image) {
+		BufferedImage rgb = image.getType() == BufferedImage.TYPE_INT_RGB
+			? image : draw(image, image.getWidth(), image.getHeight());
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(rgb, "jpg", out);
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static boolean isJpeg(byte[] data) {
+		return data.length > 1 && (data[0] & 0xFF) == JPEG_MARKER_FIRST && (data[1] & 0xFF) == JPEG_MARKER_SECOND;
+	}
+
+	/**
+	 * 캐시 파일을 읽습니다. 읽는 사이 밀려나 삭제되었으면 null을 반환합니다.
+	 */
+	private static byte[] readFile(Path path) {
+		try {
+			return Files.readAllBytes(path);
+		} catch (IOException e) {
+			log.debug("캐시된 원본 사진 읽기 실패, 다시 받음 - file: {}", path);
+			return null;
+		}
+	}
+
+	private static String cacheKey(String photoReference, int width) {
+		return photoReference + ":w" + width;
+	}
+}
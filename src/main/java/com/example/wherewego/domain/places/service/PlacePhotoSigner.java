@@ -0,0 +1,75 @@
+package com.example.wherewego.domain.places.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소 사진 프록시 URL 서명기
+ *
+ * 사진 프록시는 이미지 태그로 요청되어 인증 없이 열려 있으므로, 임의의 photo reference로 구글 호출을 유발할 수 있습니다.
+ * 장소 응답에 담는 사진 URL에 photo reference의 HMAC 서명을 붙이고, 서명이 맞는 요청만 구글에서 사진을 받게 합니다.
+ */
+@Component
+public class PlacePhotoSigner {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int SIGNATURE_BYTES = 16;
+
+	private final SecretKeySpec signingKey;
+
+	/**
+	 * @param signingKey 서명 키 (별도로 설정하지 않으면 구글 API 키 사용)
+	 */
+	public PlacePhotoSigner(@Value("${place.photo.signing-key:${google.api.key}}") String signingKey) {
+		this.signingKey = new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+	}
+
+	/**
+	 * photo reference의 서명을 생성합니다.
+	 *
+	 * @param photoReference 구글 photo reference
+	 * @return URL 경로에 그대로 쓸 수 있는 Base64URL 서명
+	 */
+	public String sign(String photoReference) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest(photoReference));
+	}
+
+	/**
+	 * 서명이 photo reference에 대해 우리가 발급한 것인지 확인합니다.
+	 *
+	 * @param photoReference 구글 photo reference
+	 * @param signature 요청 경로의 서명 (없으면 false)
+	 * @return 서명이 일치하면 true
+	 */
+	public boolean verify(String photoReference, String signature) {
+		if (signature == null) {
+			return false;
+		}
+		byte[] expected;
+		try {
+			expected = Base64.getUrlDecoder().decode(signature);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		return MessageDigest.isEqual(expected, digest(photoReference));
+	}
+
+	private byte[] digest(String photoReference) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(signingKey);
+			return Arrays.copyOf(mac.doFinal(photoReference.getBytes(StandardCharsets.UTF_8)), SIGNATURE_BYTES);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("사진 URL 서명을 생성할 수 없습니다.", e);
+		}
+	}
+}
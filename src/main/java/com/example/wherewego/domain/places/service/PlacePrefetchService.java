@@ -0,0 +1,122 @@
+package com.example.wherewego.domain.places.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.wherewego.domain.places.dto.response.PlacePrefetchStatsDto;
+import com.example.wherewego.global.cache.HeavyHitterSketch;
+import com.example.wherewego.global.config.CacheConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 장소 상세 정보 미리 갱신 서비스
+ *
+ * 장소 상세 조회 빈도를 Count-Min Sketch로 추적하여 자주 조회되는 장소(hot set)를 찾고,
+ * 주기적으로 이 장소들의 캐시 엔트리가 만료되기 전에 Place Details API로 미리 갱신합니다.
+ * 캐시 유지가 요청 타이밍에 의존하지 않으므로 인기 장소는 만료 직후의 동기 API 호출을 겪지 않습니다.
+ *
+ * - 한 번 실행할 때의 API 호출 수는 설정한 예산을 넘지 않으며, BACKGROUND 레인 예산이 부족하면 중단합니다.
+ * - 실행할 때마다 빈도를 절반으로 줄여 최근에 많이 조회된 장소가 우선합니다.
+ * - 빈도는 인스턴스별로 집계하며, 다른 인스턴스가 이미 갱신한 엔트리는 조회 시각을 보고 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class PlacePrefetchService {
+
+	private final GooglePlaceDetailService googlePlaceDetailService;
+	private final HeavyHitterSketch accessSketch;
+	private final int hotSetSize;
+	private final int maxCallsPerRun;
+	private final Duration staleAfter;
+
+	private final AtomicLong totalRefreshed = new AtomicLong();
+	private volatile LocalDateTime lastRunAt;
+	private volatile int lastRefreshed;
+
+	/**
+	 * @param googlePlaceDetailService 장소 상세 정보 서비스
+	 * @param sketchWidth 빈도 추정 카운터 너비 (클수록 추정 오차 감소)
+	 * @param hotSetSize 추적/갱신할 인기 장소 수
+	 * @param maxCallsPerRun 한 번 실행할 때 허용하는 최대 API 호출 수
+	 * @param refreshFraction 갱신 대상으로 보는 엔트리 나이 (캐시 TTL 대비 비율)
+	 */
+	public PlacePrefetchService(GooglePlaceDetailService googlePlaceDetailService,
+		@Value("${place.prefetch.sketch-width:4096}") int sketchWidth,
+		@Value("${place.prefetch.hot-set-size:200}") int hotSetSize,
+		@Value("${place.prefetch.max-calls-per-run:50}") int maxCallsPerRun,
+		@Value("${place.prefetch.refresh-fraction:0.7}") double refreshFraction) {
+		this.googlePlaceDetailService = googlePlaceDetailService;
+		this.accessSketch = new HeavyHitterSketch(sketchWidth, hotSetSize);
+		this.hotSetSize = hotSetSize;
+		this.maxCallsPerRun = maxCallsPerRun;
+		this.staleAfter = Duration.ofMillis((long)(CacheConfig.GOOGLE_PLACE_DETAILS_TTL.toMillis() * refreshFraction));
+	}
+
+	/**
+	 * 장소 상세 조회를 기록합니다.
+	 *
+	 * @param placeId 조회한 장소 ID
+	 */
+	public void recordAccess(String placeId) {
+		if (placeId != null) {
+			accessSketch.record(placeId);
+		}
+	}
+
+	/**
+	 * 여러 장소의 상세 조회를 기록합니다.
+	 *
+	 * @param placeIds 조회한 장소 ID 목록 (중복 제거된 목록)
+	 */
+	public void recordAccesses(Collection<String> placeIds) {
+		placeIds.forEach(this::recordAccess);
+	}
+
+	/**
+	 * 인기 장소 중 캐시에 없거나 오래된 장소의 상세 정보를 호출 예산 안에서 미리 갱신합니다.
+	 * 실행 후에는 빈도를 절반으로 줄입니다.
+	 */
+	@Scheduled(fixedDelayString = "${place.prefetch.interval:PT10M}",
+		initialDelayString = "${place.prefetch.initial-delay:PT5M}")
+	public void prefetchHotPlaces() {
+		List<String> hotPlaceIds = accessSketch.top(hotSetSize).stream()
+			.map(HeavyHitterSketch.HotKey::getKey)
+			.toList();
+
+		try {
+			int refreshed = googlePlaceDetailService.prefetchPlaceDetails(hotPlaceIds, staleAfter, maxCallsPerRun);
+			lastRefreshed = refreshed;
+			totalRefreshed.addAndGet(refreshed);
+		} catch (RuntimeException e) {
+			log.warn("인기 장소 미리 갱신 실패 - 후보: {}", hotPlaceIds.size(), e);
+		} finally {
+			lastRunAt = LocalDateTime.now();
+			accessSketch.decay();
+		}
+	}
+
+	/**
+	 * 현재 인기 장소 목록과 미리 갱신 실행 현황을 조회합니다.
+	 *
+	 * @return 미리 갱신 현황
+	 */
+	public PlacePrefetchStatsDto getStats() {
+		return PlacePrefetchStatsDto.builder()
+			.maxCallsPerRun(maxCallsPerRun)
+			.lastRunAt(lastRunAt)
+			.lastRefreshedCount(lastRefreshed)
+			.totalRefreshedCount(totalRefreshed.get())
+			.hotPlaces(accessSketch.top(hotSetSize).stream()
+				.map(hotKey -> new PlacePrefetchStatsDto.HotPlace(hotKey.getKey(), hotKey.getCount()))
+				.toList())
+			.build();
+	}
+}
@@ -1,8 +1,11 @@
 package com.example.wherewego.domain.places.service;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +42,8 @@ public class PlaceReviewService {
 	private final PlaceReviewRepository placeReviewRepository;
 	private final UserService userService;
 	private final PlaceSearchService placeSearchService;
+	private final PlaceStatsService placeStatsService;
+	private final PlaceUserFlagCache placeUserFlagCache;
 
 	/**
 	 * 장소 리뷰 작성
@@ -50,13 +55,13 @@ public class PlaceReviewService {
 	 * @throws CustomException 이미 리뷰를 작성한 경우, 사용자를 찾을 수 없는 경우
 	 */
 	@Transactional
-	@CacheEvict(value = "place-stats", allEntries = true)
 	public PlaceReviewCreateResponseDto createReview(String placeId, PlaceReviewCreateRequestDto requestDto,
 		Long userId) {
 		log.info("장소 리뷰 작성 요청 - placeId: {}, userId: {}, rating: {}", placeId, userId, requestDto.getRating());
 
 		// 1. 장소 존재 여부 검증
-		if (placeSearchService.getPlaceDetail(placeId) == null) {
+		PlaceDetailResponseDto placeDetail = placeSearchService.getPlaceDetail(placeId);
+		if (placeDetail == null) {
 			log.warn("존재하지 않는 장소에 대한 리뷰 작성 시도 - placeId: {}", placeId);
 			throw new CustomException(ErrorCode.PLACE_NOT_FOUND);
 		}
@@ -74,11 +79,14 @@ public class PlaceReviewService {
 		PlaceReview review = PlaceReview.builder()
 			.user(user)
 			.placeId(placeId)
+			.placeName(placeDetail.getName())
 			.rating(requestDto.getRating())
 			.content(requestDto.getContent())
 			.build();
 
 		PlaceReview savedReview = placeReviewRepository.save(review);
+		placeStatsService.applyReviewChange(placeId, 1, savedReview.getRating());
+		placeUserFlagCache.addReview(userId, placeId);
 		log.info("장소 리뷰 작성 완료 - reviewId: {}", savedReview.getId());
 
 		// 5. 응답 DTO 생성
@@ -111,8 +119,9 @@ public class PlaceReviewService {
 		Pageable pageable = PageRequest.of(page, size);
 		Page<PlaceReview> reviewPage = placeReviewRepository.findByPlaceIdOrderByCreatedAtDesc(placeId, pageable);
 
+		Map<String, String> placeNames = resolvePlaceNames(reviewPage.getContent());
 		List<PlaceReviewResponseDto> reviewDtos = reviewPage.getContent().stream()
-			.map(review -> convertToResponseDto(review, currentUserId))
+			.map(review -> convertToResponseDto(review, currentUserId, placeNames))
 			.toList();
 
 		return new PagedResponse<>(reviewDtos, reviewPage.getTotalElements(),
@@ -129,7 +138,6 @@ public class PlaceReviewService {
 	 * @throws CustomException 리뷰를 찾을 수 없거나 권한이 없는 경우
 	 */
 	@Transactional
-	@CacheEvict(value = "place-stats", allEntries = true)
 	public PlaceReviewResponseDto updateMyReview(String placeId, PlaceReviewUpdateRequestDto requestDto, Long userId) {
 		log.info("리뷰 수정 요청 - placeId: {}, userId: {}", placeId, userId);
 
@@ -137,13 +145,15 @@ public class PlaceReviewService {
 		PlaceReview review = placeReviewRepository.findByUserIdAndPlaceId(userId, placeId)
 			.orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
-		// 2. 리뷰 수정
+		// 2. 리뷰 수정 (평점 변경분만 통계에 반영)
+		int previousRating = review.getRating();
 		review.updateReview(requestDto.getRating(), requestDto.getContent());
 		PlaceReview updatedReview = placeReviewRepository.save(review);
+		placeStatsService.applyReviewChange(placeId, 0, updatedReview.getRating() - previousRating);
 
 		log.info("리뷰 수정 완료 - reviewId: {}", updatedReview.getId());
 
-		return convertToResponseDto(updatedReview, userId);
+		return convertToResponseDto(updatedReview, userId, resolvePlaceNames(List.of(updatedReview)));
 	}
 
 	/**
@@ -154,7 +164,6 @@ public class PlaceReviewService {
 	 * @throws CustomException 리뷰를 찾을 수 없거나 권한이 없는 경우
 	 */
 	@Transactional
-	@CacheEvict(value = "place-stats", allEntries = true)
 	public void deleteMyReview(String placeId, Long userId) {
 		log.info("리뷰 삭제 요청 - placeId: {}, userId: {}", placeId, userId);
 
@@ -162,6 +171,8 @@ public class PlaceReviewService {
 			.orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
 		placeReviewRepository.delete(review);
+		placeStatsService.applyReviewChange(placeId, -1, -review.getRating());
+		placeUserFlagCache.removeReview(userId, placeId);
 		log.info("리뷰 삭제 완료 - reviewId: {}", review.getId());
 	}
 
@@ -179,21 +190,53 @@ public class PlaceReviewService {
 		Pageable pageable = PageRequest.of(page, size);
 		Page<PlaceReview> reviewPage = placeReviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
+		Map<String, String> placeNames = resolvePlaceNames(reviewPage.getContent());
 		List<PlaceReviewResponseDto> reviewDtos = reviewPage.getContent().stream()
-			.map(review -> convertToResponseDto(review, userId))
+			.map(review -> convertToResponseDto(review, userId, placeNames))
 			.toList();
 
 		return new PagedResponse<>(reviewDtos, reviewPage.getTotalElements(),
 			reviewPage.getTotalPages(), reviewPage.getSize(), reviewPage.getNumber());
 	}
 
+	/**
+	 * 리뷰 목록에 표시할 장소 이름을 일괄 조회합니다.
+	 * 작성 시점의 장소 이름이 저장된 리뷰는 조회하지 않고, 나머지 장소만 중복 없이 한 번에 조회합니다.
+	 * 존재하지 않는 장소(삭제되었거나 잘못된 장소 ID)는 결과에서 제외되며,
+	 * 최근 존재하지 않는 것으로 확인된 장소는 외부 API를 다시 호출하지 않습니다.
+	 *
+	 * @param reviews 리뷰 목록
+	 * @return 장소 ID를 키로 하는 장소 이름 맵
+	 */
+	private Map<String, String> resolvePlaceNames(List<PlaceReview> reviews) {
+		Map<String, String> placeNames = new HashMap<>();
+		Set<String> unresolvedPlaceIds = new LinkedHashSet<>();
+		for (PlaceReview review : reviews) {
+			if (review.getPlaceName() != null) {
+				placeNames.putIfAbsent(review.getPlaceId(), review.getPlaceName());
+			} else {
+				unresolvedPlaceIds.add(review.getPlaceId());
+			}
+		}
+		unresolvedPlaceIds.removeAll(placeNames.keySet());
+
+		if (!unresolvedPlaceIds.isEmpty()) {
+			placeSearchService.getPlaceDetails(unresolvedPlaceIds).forEach((placeId, placeDetail) -> {
+				if (placeDetail.getName() != null) {
+					placeNames.put(placeId, placeDetail.getName());
+				}
+			});
+		}
+		return placeNames;
+	}
+
 	/**
 	 * PlaceReview 엔티티를 ResponseDto로 변환
+	 * 장소 이름을 찾지 못한 리뷰는 예외 대신 "알 수 없는 장소"로 표시합니다.
 	 */
-	private PlaceReviewResponseDto convertToResponseDto(PlaceReview review, Long currentUserId) {
-		// 장소 정보 조회
-		PlaceDetailResponseDto placeDetail = placeSearchService.getPlaceDetail(review.getPlaceId());
-		String placeName = placeDetail != null ? placeDetail.getName() : "알 수 없는 장소";
+	private PlaceReviewResponseDto convertToResponseDto(PlaceReview review, Long currentUserId,
+		Map<String, String> placeNames) {
+		String placeName = placeNames.getOrDefault(review.getPlaceId(), "알 수 없는 장소");
 
 		return PlaceReviewResponseDto.builder()
 			.reviewId(review.getId())
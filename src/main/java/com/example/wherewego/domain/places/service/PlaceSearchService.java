@@ -1,7 +1,10 @@
 package com.example.wherewego.domain.places.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
 import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
 
@@ -23,10 +26,27 @@ public interface PlaceSearchService {
 	List<PlaceDetailResponseDto> searchPlaces(PlaceSearchRequestDto request);
 
 	/**
-	 * 특정 장소의 상세 정보 조회
+	 * 특정 장소의 상세 정보 조회 (목록/코스 화면용 기본 필드)
 	 *
 	 * @param placeId 장소 ID (구글 API place_id)
-	 * @return 장소 상세 정보
+	 * @return 장소 상세 정보 (BASIC 등급 이상)
 	 */
 	PlaceDetailResponseDto getPlaceDetail(String placeId);
+
+	/**
+	 * 특정 장소의 상세 정보를 필요한 필드 등급으로 조회
+	 *
+	 * @param placeId 장소 ID (구글 API place_id)
+	 * @param tier 필요한 필드 등급
+	 * @return 장소 상세 정보 (요청한 등급 이상, 상향 조회 실패 시 낮은 등급일 수 있음)
+	 */
+	PlaceDetailResponseDto getPlaceDetail(String placeId, PlaceDetailTier tier);
+
+	/**
+	 * 여러 장소의 상세 정보 일괄 조회
+	 *
+	 * @param placeIds 장소 ID 목록 (구글 API place_id)
+	 * @return 장소 ID를 키로 하는 장소 상세 정보 (조회 실패 장소 제외)
+	 */
+	Map<String, PlaceDetailResponseDto> getPlaceDetails(Collection<String> placeIds);
 }
\ No newline at end of file
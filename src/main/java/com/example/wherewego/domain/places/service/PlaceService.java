@@ -1,8 +1,13 @@
 package com.example.wherewego.domain.places.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
@@ -11,11 +16,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.wherewego.domain.courses.dto.response.CoursePlaceInfo;
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
 import com.example.wherewego.domain.courses.dto.response.CourseRouteSummary;
 import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
 import com.example.wherewego.domain.places.dto.response.PlaceStatsDto;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
 import com.example.wherewego.global.util.CacheKeyUtil;
+import com.example.wherewego.global.util.GeoKernel;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,8 +36,13 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class PlaceService {
 
+	private static final String SORT_BY_DISTANCE = "distance";
+	private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+
 	private final PlaceSearchService placeSearchService;
 	private final PlaceStatsService placeStatsService;
+	private final PlacePrefetchService placePrefetchService;
+	private final SearchSuggestService searchSuggestService;
 	private final CacheManager cacheManager;
 	private final CacheKeyUtil cacheKeyUtil;
 
@@ -38,43 +51,135 @@ public class PlaceService {
 	 *
 	 * @param placeSearchService 장소 검색 서비스 (구글 Places API 사용)
 	 * @param placeStatsService 장소 통계 서비스 (캐시 처리 포함)
+	 * @param placePrefetchService 인기 장소 미리 갱신 서비스 (상세 조회 빈도 기록용)
+	 * @param searchSuggestService 검색어 자동완성 서비스 (검색어와 결과 장소명 기록용)
 	 * @param cacheManager 캐시 관리자 (Search 결과를 Detail 캐시에 저장용)
 	 * @param cacheKeyUtil 캐시 키 생성 유틸리티
 	 */
 	public PlaceService(@Qualifier("googlePlaceService") PlaceSearchService placeSearchService,
-		PlaceStatsService placeStatsService,
-		CacheManager cacheManager, CacheKeyUtil cacheKeyUtil) {
+		PlaceStatsService placeStatsService, PlacePrefetchService placePrefetchService,
+		SearchSuggestService searchSuggestService, CacheManager cacheManager, CacheKeyUtil cacheKeyUtil) {
 		this.placeSearchService = placeSearchService;
 		this.placeStatsService = placeStatsService;
+		this.placePrefetchService = placePrefetchService;
+		this.searchSuggestService = searchSuggestService;
 		this.cacheManager = cacheManager;
 		this.cacheKeyUtil = cacheKeyUtil;
 	}
 
 	/**
 	 * 거리 계산과 북마크 상태를 포함한 장소 검색
-	 * Search 결과를 Detail 캐시에 저장하여 후속 detail API 호출 완전히 생략
+	 * 검색 조건 단위로 캐시된 전체 결과 집합에서 정렬과 페이지 자르기를 서버에서 처리하므로
+	 * 페이지 이동이나 정렬 변경 시 외부 API를 다시 호출하지 않습니다.
+	 * 응답에 포함된 장소만 Detail 캐시에 저장하고 통계 정보를 조회합니다.
 	 *
-	 * @param request 검색 요청 정보
+	 * @param request 검색 요청 정보 (페이지 기본값: 1페이지 20건, 정렬 기본값: relevance)
 	 * @param userId 사용자 ID (null 가능)
-	 * @return 거리 정보와 북마크 상태가 포함된 검색 결과
+	 * @return 거리 정보와 북마크 상태가 포함된 요청 페이지의 검색 결과
 	 */
 	public List<PlaceDetailResponseDto> searchPlacesWithDistance(PlaceSearchRequestDto request, Long userId) {
-		// 외부 API로 검색
+		// 외부 API로 검색 (페이지/정렬과 무관한 전체 결과, 캐시 우선)
 		List<PlaceDetailResponseDto> searchResults = placeSearchService.searchPlaces(request);
+		searchSuggestService.recordSearch(request.getQuery(), userId, searchResults);
+
+		// 거리 계산 후 정렬 및 페이지 자르기
+		List<PlaceDetailResponseDto> pageResults = slicePage(
+			sortSearchResults(applyDistance(searchResults, request), request.getSort()),
+			request.getPagination());
 
 		// Search 결과를 Detail 캐시에 직접 저장 (Detail API 호출 완전 생략)
-		cacheSearchResultsAsDetailCache(searchResults);
+		cacheSearchResultsAsDetailCache(pageResults);
 
-		// 각 장소에 대해 거리 정보와 북마크/통계 정보 추가
-		return searchResults.stream()
-			.map(place -> enrichPlaceWithDistanceAndStats(place, request, userId))
+		// 응답에 포함된 장소에 대해서만 북마크/통계 정보 추가 (캐시 일괄 조회 + 미스만 배치 쿼리)
+		Map<String, PlaceStatsDto> statsByPlaceId = placeStatsService.getCachedPlaceStatsMap(
+			pageResults.stream().map(PlaceDetailResponseDto::getPlaceId).toList(), userId);
+		return pageResults.stream()
+			.map(place -> withStats(place, statsByPlaceId.get(place.getPlaceId())))
 			.toList();
 	}
 
+	/**
+	 * 사용자 위치가 있는 경우 각 장소에 Haversine 직선거리를 설정합니다.
+	 *
+	 * @param places 검색된 장소 목록
+	 * @param request 검색 요청 (사용자 위치 포함)
+	 * @return 거리 정보가 설정된 장소 목록
+	 */
+	private List<PlaceDetailResponseDto> applyDistance(List<PlaceDetailResponseDto> places,
+		PlaceSearchRequestDto request) {
+		PlaceSearchRequestDto.UserLocation location = request.getUserLocation();
+		if (places == null || location == null || location.getLatitude() == null
+			|| location.getLongitude() == null) {
+			return places != null ? places : Collections.emptyList();
+		}
+
+		// 좌표가 없는 장소는 NaN으로 두어 거리 계산 결과도 NaN이 되도록 합니다
+		int size = places.size();
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			PlaceDetailResponseDto place = places.get(i);
+			latitudes[i] = toCoordinate(place.getLatitude());
+			longitudes[i] = toCoordinate(place.getLongitude());
+		}
+
+		double[] distances = new double[size];
+		GeoKernel.haversineFrom(location.getLatitude(), location.getLongitude(), latitudes, longitudes, distances);
+
+		List<PlaceDetailResponseDto> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			PlaceDetailResponseDto place = places.get(i);
+			Integer distance = toMeters(distances[i]);
+			result.add(distance == null ? place : place.toBuilder().distance(distance).build());
+		}
+		return result;
+	}
+
+	/**
+	 * 정렬 조건에 따라 검색 결과를 정렬합니다.
+	 * distance: 가까운 순 (거리 정보가 없는 장소는 뒤로), 그 외(relevance 포함): 구글 연관도순 유지
+	 *
+	 * @param places 거리 정보가 설정된 장소 목록
+	 * @param sort 정렬 방식
+	 * @return 정렬된 장소 목록
+	 */
+	private List<PlaceDetailResponseDto> sortSearchResults(List<PlaceDetailResponseDto> places, String sort) {
+		if (!SORT_BY_DISTANCE.equalsIgnoreCase(sort)) {
+			return places;
+		}
+
+		return places.stream()
+			.sorted(Comparator.comparing(PlaceDetailResponseDto::getDistance,
+				Comparator.nullsLast(Comparator.naturalOrder())))
+			.toList();
+	}
+
+	/**
+	 * 요청한 페이지에 해당하는 구간을 잘라냅니다.
+	 *
+	 * @param places 정렬된 장소 목록
+	 * @param pagination 페이지 정보 (null이면 1페이지 기본 크기)
+	 * @return 요청 페이지의 장소 목록 (범위를 벗어나면 빈 목록)
+	 */
+	private List<PlaceDetailResponseDto> slicePage(List<PlaceDetailResponseDto> places,
+		PlaceSearchRequestDto.Pagination pagination) {
+		int page = pagination != null && pagination.getPage() != null ? Math.max(pagination.getPage(), 1) : 1;
+		int size = pagination != null && pagination.getSize() != null ? Math.max(pagination.getSize(), 1)
+			: DEFAULT_SEARCH_PAGE_SIZE;
+
+		long fromIndex = (long)(page - 1) * size;
+		if (fromIndex >= places.size()) {
+			return Collections.emptyList();
+		}
+		int toIndex = (int)Math.min(fromIndex + size, places.size());
+		return places.subList((int)fromIndex, toIndex);
+	}
+
 	/**
 	 * Search 결과를 Detail 캐시에 저장
 	 * Search와 Detail API 응답이 동일하므로 Detail 캐시 키로 직접 저장
 	 * 이후 detail API 호출 시 캐시된 Search 결과를 그대로 사용
+	 * 이미 FULL 등급 엔트리가 있으면 검색 결과에 없는 FULL 전용 필드를 유지하도록 합쳐서 저장
 	 *
 	 * @param searchResults 검색 결과 목록
 	 */
@@ -92,76 +197,80 @@ public class PlaceService {
 		searchResults.forEach(place -> {
 			if (place.getPlaceId() != null) {
 				String cacheKey = cacheKeyUtil.generateGooglePlaceDetailKey(place.getPlaceId());
-				detailCache.put(cacheKey, place);
+				Cache.ValueWrapper existing = detailCache.putIfAbsent(cacheKey, place);
+				if (existing != null && existing.get() instanceof PlaceDetailResponseDto previous) {
+					detailCache.put(cacheKey, place.mergeWith(previous));
+				}
 				log.debug("Search 결과를 Detail 캐시에 저장: {} → {}", place.getPlaceId(), cacheKey);
 			}
 		});
 	}
 
 	/**
-	 * 검색된 장소에 거리 계산, 북마크 상태, 통계 정보를 추가하여 완전한 응답을 생성합니다.
-	 * 사용자 위치가 제공된 경우 Haversine 공식으로 직선거리를 계산합니다.
+	 * 장소에 북마크 상태와 통계 정보를 추가하여 완전한 응답을 생성합니다.
 	 *
-	 * @param place 기본 장소 정보
-	 * @param request 검색 요청 (사용자 위치 포함)
-	 * @param userId 사용자 ID (북마크 상태 확인용, null 가능)
-	 * @return 거리, 북마크, 통계 정보가 포함된 장소 응답
+	 * @param place 장소 정보
+	 * @param stats 장소 통계 정보 (null이면 통계 없이 그대로 반환)
+	 * @return 북마크, 통계 정보가 포함된 장소 응답
 	 */
-	private PlaceDetailResponseDto enrichPlaceWithDistanceAndStats(PlaceDetailResponseDto place,
-		PlaceSearchRequestDto request,
-		Long userId) {
-		PlaceDetailResponseDto.PlaceDetailResponseDtoBuilder builder = place.toBuilder();
-
-		// 거리 정보 추가 (사용자 위치가 있는 경우)
-		if (request.getUserLocation() != null &&
-			request.getUserLocation().getLatitude() != null &&
-			request.getUserLocation().getLongitude() != null &&
-			place.getLatitude() != null &&
-			place.getLongitude() != null) {
-
-			Double userLat = request.getUserLocation().getLatitude();
-			Double userLon = request.getUserLocation().getLongitude();
-			Integer distance = calculateHaversineDistance(userLat, userLon, place.getLatitude(), place.getLongitude());
-			builder.distance(distance);
+	private PlaceDetailResponseDto withStats(PlaceDetailResponseDto place, PlaceStatsDto stats) {
+		if (stats == null) {
+			return place;
 		}
-
-		// 북마크/통계 정보 추가
-		PlaceStatsDto stats = placeStatsService.getPlaceStats(place.getPlaceId(), userId);
-		builder.averageRating(stats.getAverageRating())
+		return place.toBuilder()
+			.averageRating(stats.getAverageRating())
 			.reviewCount(stats.getReviewCount().intValue())
 			.bookmarkCount(stats.getBookmarkCount().intValue())
-			.isBookmarked(stats.getIsBookmarked());
-
-		return builder.build();
+			.isBookmarked(stats.getIsBookmarked())
+			.build();
 	}
 
 	/**
 	 * 통계 정보가 포함된 장소 상세 조회
-	 * Search 결과가 Detail 캐시에 저장되어 있어 detail API 호출 최적화됨
+	 * 연락처/영업시간 등 FULL 등급 필드까지 조회합니다.
 	 * 장소 상세 정보와 통계 정보를 캐싱하여 성능을 최적화합니다.
+	 * 조회 빈도는 인기 장소 미리 갱신에 사용하도록 기록합니다.
 	 *
 	 * @param placeId 장소 ID
 	 * @param userId 사용자 ID (null 가능)
 	 * @return 통계 정보가 포함된 장소 상세 정보
 	 */
 	public PlaceDetailResponseDto getPlaceDetailWithStats(String placeId, Long userId) {
-		// @Cacheable 덕분에 Search 결과가 캐시되어 있으면 Detail API 호출 생략됨
-		PlaceDetailResponseDto placeDetail = placeSearchService.getPlaceDetail(placeId);
+		placePrefetchService.recordAccess(placeId);
+
+		// 상세 화면은 연락처/영업시간까지 필요하므로 FULL 등급으로 조회 (BASIC 캐시 엔트리는 상향 조회)
+		PlaceDetailResponseDto placeDetail = placeSearchService.getPlaceDetail(placeId, PlaceDetailTier.FULL);
 
 		if (placeDetail == null) {
 			return null;
 		}
 
-		// 통계 정보 조회
-		PlaceStatsDto stats = placeStatsService.getPlaceStats(placeId, userId);
+		// 통계 정보 조회 후 통계 정보를 포함한 응답 생성
+		return withStats(placeDetail, placeStatsService.getPlaceStats(placeId, userId));
+	}
 
-		// 통계 정보를 포함한 응답 생성
-		return placeDetail.toBuilder()
-			.averageRating(stats.getAverageRating())
-			.reviewCount(stats.getReviewCount().intValue())
-			.bookmarkCount(stats.getBookmarkCount().intValue())
-			.isBookmarked(stats.getIsBookmarked())
-			.build();
+	/**
+	 * 여러 장소의 상세 정보를 통계 정보와 함께 일괄 조회합니다.
+	 * 장소 상세 정보는 일괄 조회되며, 조회에 실패한 장소는 결과 맵에서 제외됩니다.
+	 *
+	 * @param placeIds 조회할 장소 ID 목록
+	 * @param userId 사용자 ID (null 가능)
+	 * @return 장소 ID를 키로 하는 통계 정보가 포함된 장소 상세 정보 맵
+	 */
+	public Map<String, PlaceDetailResponseDto> getPlaceDetailsWithStats(List<String> placeIds, Long userId) {
+		if (placeIds == null || placeIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, PlaceDetailResponseDto> placeDetails = hydratePlaceDetails(placeIds.stream().distinct().toList());
+
+		Map<String, PlaceStatsDto> statsByPlaceId = placeStatsService.getCachedPlaceStatsMap(
+			List.copyOf(placeDetails.keySet()), userId);
+
+		Map<String, PlaceDetailResponseDto> result = new HashMap<>();
+		placeDetails.forEach((placeId, placeDetail) ->
+			result.put(placeId, withStats(placeDetail, statsByPlaceId.get(placeId))));
+		return result;
 	}
 
 	// ====================== 코스용 메서드 ==========================
@@ -183,32 +292,142 @@ public class PlaceService {
 		Double userLatitude,
 		Double userLongitude
 	) {
-		// Course용 경로 계산 시작
-
 		if (placeIds == null || placeIds.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		List<CoursePlaceInfo> result = new ArrayList<>();
-		CoursePlaceInfo previousPlace = null;
+		Map<String, PlaceDetailResponseDto> placeDetails = hydratePlaceDetails(placeIds.stream().distinct().toList());
 
-		for (int i = 0; i < placeIds.size(); i++) {
-			String placeId = placeIds.get(i);
-			int visitOrder = i + 1; // 1부터 시작
+		return buildCourseRoute(placeIds, placeDetails, userLatitude, userLongitude);
+	}
+
+	/**
+	 * 여러 코스의 장소 정보를 한 번에 조회하고 코스별 경로를 계산합니다.
+	 *
+	 * 페이지에 포함된 모든 코스의 placeId를 모아 중복을 제거한 뒤 한 번에 조회하고,
+	 * 조회가 끝난 후 코스별 경로 거리를 계산합니다.
+	 * 따라서 목록 페이지의 응답 시간은 장소 조회 시간의 합이 아닌 가장 느린 단일 조회 시간에 수렴합니다.
+	 *
+	 * @param placeIdsByCourse 코스 ID별 방문 순서대로 정렬된 장소 ID 목록
+	 * @param userLatitude 사용자 시작 위치 위도 (null 가능)
+	 * @param userLongitude 사용자 시작 위치 경도 (null 가능)
+	 * @return 코스 ID를 키로 하는 경로 정보가 포함된 장소 목록
+	 */
+	public Map<Long, List<CoursePlaceInfo>> getPlacesForCoursesWithRoute(
+		Map<Long, List<String>> placeIdsByCourse,
+		Double userLatitude,
+		Double userLongitude
+	) {
+		if (placeIdsByCourse == null || placeIdsByCourse.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		// 1. 페이지 내 모든 장소 ID 수집 (중복 제거)
+		List<String> allPlaceIds = placeIdsByCourse.values().stream()
+			.flatMap(List::stream)
+			.distinct()
+			.toList();
 
-			CoursePlaceInfo placeInfo = convertToCoursePlaceInfo(
-				placeId, visitOrder, userLatitude, userLongitude, previousPlace
-			);
+		// 2. 장소 상세 정보 일괄 조회 (캐시 MGET + 미스만 병렬 API 호출)
+		Map<String, PlaceDetailResponseDto> placeDetails = hydratePlaceDetails(allPlaceIds);
 
-			if (placeInfo != null) {
-				result.add(placeInfo);
-				previousPlace = placeInfo;
+		// 3. 코스별 경로 거리 계산 (메모리 기반 처리, 외부 호출 없음)
+		Map<Long, List<CoursePlaceInfo>> result = new LinkedHashMap<>();
+		placeIdsByCourse.forEach((courseId, placeIds) ->
+			result.put(courseId, buildCourseRoute(placeIds, placeDetails, userLatitude, userLongitude)));
+
+		return result;
+	}
+
+	/**
+	 * 조회된 장소 상세 정보를 바탕으로 방문 순서에 따른 코스 경로를 구성합니다.
+	 * 상세 정보를 찾을 수 없는 장소는 건너뛰며, 방문 순서는 원래 목록의 순서를 유지합니다.
+	 * 존재하지 않는 것으로 기록된 장소는 일괄 조회 단계에서 API 호출 없이 제외되어 여기서 건너뜁니다.
+	 * 사용자 위치로부터의 거리와 구간 거리는 좌표 배열 기준으로 한 번에 계산합니다.
+	 *
+	 * @param placeIds 방문 순서대로 정렬된 장소 ID 목록
+	 * @param placeDetails 장소 ID를 키로 하는 장소 상세 정보
+	 * @param userLatitude 사용자 시작 위치 위도 (null 가능)
+	 * @param userLongitude 사용자 시작 위치 경도 (null 가능)
+	 * @return 경로 정보가 포함된 장소 목록
+	 */
+	private List<CoursePlaceInfo> buildCourseRoute(
+		List<String> placeIds,
+		Map<String, PlaceDetailResponseDto> placeDetails,
+		Double userLatitude,
+		Double userLongitude
+	) {
+		if (placeIds == null || placeIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// 1. 상세 정보가 있는 장소만 방문 순서(1부터 시작)와 함께 추림
+		List<PlaceDetailResponseDto> details = new ArrayList<>(placeIds.size());
+		List<Integer> visitOrders = new ArrayList<>(placeIds.size());
+		for (int i = 0; i < placeIds.size(); i++) {
+			PlaceDetailResponseDto placeDetail = placeDetails.get(placeIds.get(i));
+			if (placeDetail == null) {
+				log.debug("{}번째 장소 정보 없음 - placeId: {}", i + 1, placeIds.get(i));
+				continue;
 			}
+			details.add(placeDetail);
+			visitOrders.add(i + 1);
+		}
+
+		// 2. 사용자 위치 → 각 장소, 이전 장소 → 다음 장소 거리를 배열 단위로 계산
+		int size = details.size();
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			latitudes[i] = toCoordinate(details.get(i).getLatitude());
+			longitudes[i] = toCoordinate(details.get(i).getLongitude());
+		}
+
+		double[] distancesFromUser = new double[size];
+		if (userLatitude != null && userLongitude != null) {
+			GeoKernel.haversineFrom(userLatitude, userLongitude, latitudes, longitudes, distancesFromUser);
+		} else {
+			Arrays.fill(distancesFromUser, Double.NaN);
+		}
+
+		double[] distancesFromPrevious = new double[size];
+		GeoKernel.haversineLegs(latitudes, longitudes, distancesFromPrevious);
+
+		// 3. 코스용 장소 정보 생성 (첫 번째 장소는 이전 장소가 없으므로 구간 거리 없음)
+		List<CoursePlaceInfo> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(createCoursePlaceInfoFromDetail(details.get(i), visitOrders.get(i),
+				toMeters(distancesFromUser[i]), i == 0 ? null : toMeters(distancesFromPrevious[i])));
 		}
 
 		return result;
 	}
 
+	/**
+	 * 여러 장소의 상세 정보를 일괄 조회합니다.
+	 * 캐시는 한 번에 조회되고 캐시 미스 장소만 병렬로 외부 API를 호출합니다.
+	 * 일괄 조회 자체가 실패하면 로그만 남기고 빈 결과를 반환하여 페이지 전체가 실패하지 않도록 합니다.
+	 * 조회한 장소는 인기 장소 미리 갱신을 위해 조회 빈도를 기록합니다.
+	 *
+	 * @param placeIds 중복이 제거된 장소 ID 목록
+	 * @return 장소 ID를 키로 하는 장소 상세 정보 (조회 실패 장소 제외)
+	 */
+	private Map<String, PlaceDetailResponseDto> hydratePlaceDetails(List<String> placeIds) {
+		if (placeIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		placePrefetchService.recordAccesses(placeIds);
+		try {
+			Map<String, PlaceDetailResponseDto> result = placeSearchService.getPlaceDetails(placeIds);
+			log.debug("장소 일괄 조회 완료: 요청 {} 개, 성공 {} 개", placeIds.size(), result.size());
+			return result;
+		} catch (Exception e) {
+			log.error("장소 상세 정보 일괄 조회 중 오류 발생 - placeIds: {}", placeIds, e);
+			return Collections.emptyMap();
+		}
+	}
+
 	/**
 	 * 총 경로 거리 계산
 	 *
@@ -265,138 +484,32 @@ public class PlaceService {
 	}
 
 	/**
-	 * 두 지점의 좌표가 모두 유효한 경우에만 거리를 계산합니다.
-	 * 좌표 정보가 누락된 경우 null을 반환하여 안전한 거리 계산을 보장합니다.
-	 *
-	 * @param lat1 첫 번째 지점 위도
-	 * @param lon1 첫 번째 지점 경도
-	 * @param lat2 두 번째 지점 위도
-	 * @param lon2 두 번째 지점 경도
-	 * @return 계산된 거리(미터), 좌표 정보 부족 시 null
-	 */
-	private Integer calculateDistanceWhenCoordinatesAvailable(Double lat1, Double lon1, Double lat2, Double lon2) {
-		// 모든 좌표가 있어야 거리 계산 가능
-		if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) {
-			// 좌표 정보 부족으로 거리 계산 스킵
-			return null;
-		}
-
-		// Haversine 공식을 사용하여 거리 계산
-		return calculateHaversineDistance(lat1, lon1, lat2, lon2);
-	}
-
-	/**
-	 * 두 지점 간 거리 계산 (Haversine 공식)
-	 *
-	 * Haversine 공식은 지구를 완전한 구체로 가정하여 두 지점 간의 최단 거리(직선거리)를 계산합니다.
-	 * GPS 좌표계에서 위도/경도를 이용해 실제 지구상의 거리를 구하는 표준적인 방법입니다.
-	 *
-	 * @param lat1 첫 번째 지점 위도 (도 단위)
-	 * @param lon1 첫 번째 지점 경도 (도 단위)
-	 * @param lat2 두 번째 지점 위도 (도 단위)
-	 * @param lon2 두 번째 지점 경도 (도 단위)
-	 * @return 거리 (미터)
-	 */
-	private Integer calculateHaversineDistance(double lat1, double lon1, double lat2, double lon2) {
-		final int EARTH_RADIUS = 6371000; // 지구 평균 반지름 (미터)
-
-		// 1단계: 도(degree)를 라디안(radian)으로 변환 (삼각함수 계산용)
-		double lat1Rad = Math.toRadians(lat1);
-		double lat2Rad = Math.toRadians(lat2);
-		double deltaLat = Math.toRadians(lat2 - lat1); // 위도 차이
-		double deltaLon = Math.toRadians(lon2 - lon1); // 경도 차이
-
-		// 2단계: Haversine 공식으로 구면상의 각도 관계 계산
-		double haversineValue = computeHaversineFormula(lat1Rad, lat2Rad, deltaLat, deltaLon);
-
-		// 3단계: 각도 관계를 실제 각도(라디안)로 변환
-		double angularDistance = 2 * Math.atan2(Math.sqrt(haversineValue), Math.sqrt(1 - haversineValue));
-
-		// 4단계: 각도에 지구 반지름을 곱해서 실제 거리(미터) 계산
-		return (int)(EARTH_RADIUS * angularDistance);
-	}
-
-	/**
-	 * Haversine 공식의 핵심 계산 부분
-	 *
-	 * 구면 삼각법을 이용해 두 지점 사이의 각도 관계를 계산합니다.
-	 * 공식: a = sin²(Δlat/2) + cos(lat1) × cos(lat2) × sin²(Δlon/2)
-	 * 이 값은 두 지점 사이의 구면상 "반현(半弦)" 값을 나타냅니다.
+	 * 좌표 값을 거리 계산용 원시 값으로 변환합니다. 좌표가 없으면 NaN을 반환합니다.
 	 */
-	private double computeHaversineFormula(double lat1Rad, double lat2Rad, double deltaLat, double deltaLon) {
-		// 위도 차이의 절반에 대한 사인값 제곱
-		double sinHalfDeltaLat = Math.sin(deltaLat / 2);
-		// 경도 차이의 절반에 대한 사인값 제곱  
-		double sinHalfDeltaLon = Math.sin(deltaLon / 2);
-
-		// Haversine 공식: 구면상 두 점 사이의 각도 관계를 수치로 표현
-		return sinHalfDeltaLat * sinHalfDeltaLat +                    // 위도 차이 영향
-			Math.cos(lat1Rad) * Math.cos(lat2Rad) *               // 위도별 경도 보정
-				sinHalfDeltaLon * sinHalfDeltaLon;                    // 경도 차이 영향
+	private static double toCoordinate(Double coordinate) {
+		return coordinate != null ? coordinate : Double.NaN;
 	}
 
 	/**
-	 * 개별 장소 정보를 코스용 데이터 구조로 변환합니다.
-	 * 🚀 Search 결과가 Detail 캐시에 저장되어 있어 detail API 호출 최적화됨
-	 * 방문 순서, 사용자로부터의 거리, 이전 장소로부터의 거리를 포함한 완전한 코스 정보를 생성합니다.
-	 *
-	 * @param placeId 변환할 장소 ID
-	 * @param visitOrder 코스 내 방문 순서 (1부터 시작)
-	 * @param userLatitude 사용자 시작 위치 위도
-	 * @param userLongitude 사용자 시작 위치 경도
-	 * @param previousPlace 이전 방문 장소 (거리 계산용, null 가능)
-	 * @return 코스용 장소 정보, 변환 실패 시 null
+	 * 계산된 거리를 미터 단위 정수로 변환합니다. 좌표 부족으로 계산할 수 없는 경우(NaN) null을 반환합니다.
 	 */
-	private CoursePlaceInfo convertToCoursePlaceInfo(
-		String placeId, int visitOrder, Double userLatitude, Double userLongitude,
-		CoursePlaceInfo previousPlace) {
-
-		try {
-			// 🚀 @Cacheable 덕분에 Search 결과가 캐시되어 있으면 Detail API 호출 생략됨
-			PlaceDetailResponseDto placeDetail = placeSearchService.getPlaceDetail(placeId);
-
-			if (placeDetail == null) {
-				return null;
-			}
-
-			return createCoursePlaceInfoFromDetail(placeDetail, visitOrder, userLatitude, userLongitude, previousPlace);
-
-		} catch (Exception e) {
-			log.error("{}번째 장소 처리 중 오류 발생 - placeId: {}", visitOrder, placeId, e);
-			return null;
-		}
+	private static Integer toMeters(double distance) {
+		return Double.isNaN(distance) ? null : (int)distance;
 	}
 
 	/**
 	 * 장소 상세 정보를 바탕으로 코스용 장소 객체를 생성합니다.
-	 * 거리 계산, 방문 순서 설정 등 코스 특화 정보를 포함한 완전한 객체를 생성합니다.
+	 * 미리 계산된 거리와 방문 순서 등 코스 특화 정보를 포함한 완전한 객체를 생성합니다.
 	 *
 	 * @param placeDetail 장소 상세 정보
 	 * @param visitOrder 코스 내 방문 순서
-	 * @param userLatitude 사용자 시작 위치 위도
-	 * @param userLongitude 사용자 시작 위치 경도
-	 * @param previousPlace 이전 방문 장소 (순차 거리 계산용)
+	 * @param distanceFromUser 사용자 위치로부터의 직선 거리 (null 가능)
+	 * @param distanceFromPrevious 이전 장소로부터의 이동 거리 (null 가능)
 	 * @return 코스용 장소 정보 객체
 	 */
 	private CoursePlaceInfo createCoursePlaceInfoFromDetail(
 		PlaceDetailResponseDto placeDetail, int visitOrder,
-		Double userLatitude, Double userLongitude,
-		CoursePlaceInfo previousPlace) {
-
-		// 사용자 위치로부터의 직선 거리 계산
-		Integer distanceFromUser = calculateDistanceWhenCoordinatesAvailable(
-			userLatitude, userLongitude,
-			placeDetail.getLatitude(), placeDetail.getLongitude()
-		);
-
-		// 이전 장소로부터의 이동 거리 계산
-		Integer distanceFromPrevious = null;
-		if (previousPlace != null) {
-			distanceFromPrevious = calculateDistanceWhenCoordinatesAvailable(
-				previousPlace.getLatitude(), previousPlace.getLongitude(),
-				placeDetail.getLatitude(), placeDetail.getLongitude()
-			);
-		}
+		Integer distanceFromUser, Integer distanceFromPrevious) {
 
 		// Course용 DTO 생성
 		return CoursePlaceInfo.builder()
@@ -1,18 +1,32 @@
 package com.example.wherewego.domain.places.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.wherewego.domain.common.repository.DataBackfillRepository;
 import com.example.wherewego.domain.places.dto.response.PlaceStatsDto;
-import com.example.wherewego.domain.places.entity.PlaceBookmark;
-import com.example.wherewego.domain.places.entity.PlaceReview;
+import com.example.wherewego.domain.places.entity.PlaceStats;
 import com.example.wherewego.domain.places.repository.PlaceBookmarkRepository;
 import com.example.wherewego.domain.places.repository.PlaceReviewRepository;
+import com.example.wherewego.domain.places.repository.PlaceStatsRepository;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.config.CacheConfig;
+import com.example.wherewego.global.util.CacheKeyUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,8 +41,17 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class PlaceStatsService {
 
+	private static final String PLACE_STATS_CACHE = "place-stats";
+	private static final String PLACE_STATS_BACKFILL = "place-stats-backfill";
+
 	private final PlaceReviewRepository placeReviewRepository;
 	private final PlaceBookmarkRepository placeBookmarkRepository;
+	private final PlaceStatsRepository placeStatsRepository;
+	private final DataBackfillRepository dataBackfillRepository;
+	private final PlaceUserFlagCache placeUserFlagCache;
+	private final RedisBatchCache redisBatchCache;
+	private final CacheKeyUtil cacheKeyUtil;
+	private final CacheManager cacheManager;
 
 	/**
 	 * 단일 장소의 통계 정보 조회 (캐시 적용)
@@ -37,19 +60,73 @@ public class PlaceStatsService {
 	 * @param userId 사용자 ID (개인화 정보용, null 가능)
 	 * @return 장소 통계 및 사용자별 상태 정보
 	 */
-	@Cacheable(value = "place-stats", key = "@cacheKeyUtil.generatePlaceStatsKey(#placeId, #userId)")
 	public PlaceStatsDto getPlaceStats(String placeId, Long userId) {
-		log.debug("캐시 미스 - 장소 통계 조회: placeId={}, userId={}", placeId, userId);
+		return getCachedPlaceStatsMap(List.of(placeId), userId).get(placeId);
+	}
+
+	/**
+	 * 여러 장소의 통계 정보를 캐시 우선으로 일괄 조회 (캐시 적용)
+	 * 사용자와 무관한 집계는 장소당 하나의 캐시 키를 모든 사용자가 공유하며, MGET 한 번으로 조회하고
+	 * 미스 장소만 배치 쿼리 한 번으로 계산한 뒤 파이프라인 한 번으로 저장합니다.
+	 * 로그인 사용자의 북마크/리뷰 여부는 사용자별 플래그 집합에서 확인하여 병합합니다.
+	 *
+	 * @param placeIds 장소 ID 목록
+	 * @param userId 사용자 ID (개인화 정보용, null 가능)
+	 * @return 장소 ID를 키로 하는 통계 정보 맵
+	 */
+	public Map<String, PlaceStatsDto> getCachedPlaceStatsMap(List<String> placeIds, Long userId) {
+		if (placeIds == null || placeIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<String> distinctIds = placeIds.stream().distinct().toList();
+		Map<String, String> cacheKeyByPlaceId = new LinkedHashMap<>();
+		distinctIds.forEach(placeId -> cacheKeyByPlaceId.put(placeId, cacheKeyUtil.generatePlaceStatsKey(placeId)));
+
+		// 1. 공유 집계 캐시 일괄 조회
+		Map<String, PlaceStatsDto> cached = redisBatchCache.multiGet(PLACE_STATS_CACHE,
+			List.copyOf(cacheKeyByPlaceId.values()), PlaceStatsDto.class);
+
+		Map<String, PlaceStatsDto> aggregates = new HashMap<>();
+		List<String> missedIds = new ArrayList<>();
+		cacheKeyByPlaceId.forEach((placeId, cacheKey) -> {
+			PlaceStatsDto stats = cached.get(cacheKey);
+			if (stats != null) {
+				aggregates.put(placeId, stats);
+			} else {
+				missedIds.add(placeId);
+			}
+		});
 
-		// 배치 쿼리 재활용으로 N+1 문제 해결
-		// 단일 장소도 기존 배치 쿼리 메서드를 활용하여 효율성 확보
-		Map<String, PlaceStatsDto> statsMap = getPlaceStatsMap(List.of(placeId), userId);
-		return statsMap.get(placeId);
+		// 2. 미스 장소만 배치 쿼리로 계산 후 일괄 저장
+		if (!missedIds.isEmpty()) {
+			log.debug("캐시 미스 - 장소 통계 일괄 조회: 요청 {} 개, 미스 {} 개", distinctIds.size(), missedIds.size());
+			Map<String, PlaceStatsDto> loaded = loadAggregates(missedIds);
+			aggregates.putAll(loaded);
+
+			Map<String, PlaceStatsDto> cacheEntries = new HashMap<>();
+			loaded.forEach((placeId, stats) -> cacheEntries.put(cacheKeyByPlaceId.get(placeId), stats));
+			redisBatchCache.multiPut(PLACE_STATS_CACHE, cacheEntries, CacheConfig.PLACE_STATS_TTL);
+		}
+
+		if (userId == null) {
+			return aggregates;
+		}
+
+		// 3. 사용자별 북마크/리뷰 여부 병합
+		PlaceUserFlagCache.Flags flags = placeUserFlagCache.find(userId, distinctIds);
+		Map<String, PlaceStatsDto> result = new HashMap<>();
+		aggregates.forEach((placeId, stats) -> result.put(placeId, stats.toBuilder()
+			.isBookmarked(flags.isBookmarked(placeId))
+			.hasUserReview(flags.hasReview(placeId))
+			.build()));
+		return result;
 	}
 
 	/**
-	 * 여러 장소의 통계 정보를 배치로 조회
-	 * N+1 쿼리 문제 해결을 위한 최적화된 배치 처리
+	 * 여러 장소의 통계 정보를 배치로 조회 (캐시 미적용)
+	 * 미리 집계된 place_stats 행을 한 번에 읽고, 사용자별 정보는 사용자-장소 인덱스로 존재 여부만 확인하므로
+	 * 리뷰/북마크 수와 관계없이 장소 수에 비례하는 비용으로 조회합니다.
 	 *
 	 * @param placeIds 장소 ID 목록
 	 * @param userId 사용자 ID (개인화 정보용, null 가능)
@@ -60,59 +137,135 @@ public class PlaceStatsService {
 			return Map.of();
 		}
 
+		List<String> distinctIds = placeIds.stream().distinct().toList();
+		Map<String, PlaceStatsDto> aggregates = loadAggregates(distinctIds);
+		if (userId == null) {
+			return aggregates;
+		}
+
+		// 사용자별 개인화 정보 일괄 조회 (인덱스 기반 존재 여부 확인)
+		Set<String> bookmarkedPlaces = new HashSet<>(placeBookmarkRepository.findBookmarkedPlaceIds(userId, distinctIds));
+		Set<String> reviewedPlaces = new HashSet<>(placeReviewRepository.findReviewedPlaceIds(userId, distinctIds));
+
+		Map<String, PlaceStatsDto> result = new HashMap<>();
+		aggregates.forEach((placeId, stats) -> result.put(placeId, stats.toBuilder()
+			.isBookmarked(bookmarkedPlaces.contains(placeId))
+			.hasUserReview(reviewedPlaces.contains(placeId))
+			.build()));
+		return result;
+	}
+
+	/**
+	 * 사용자와 무관한 장소별 집계(리뷰 수, 평균 평점, 북마크 수)를 place_stats에서 일괄 조회합니다.
+	 * 집계 행이 없는 장소는 0으로 채우며, 사용자별 여부 필드는 비워 둡니다.
+	 *
+	 * @param placeIds 장소 ID 목록 (중복 없음)
+	 * @return 장소 ID를 키로 하는 집계 정보 맵
+	 */
+	private Map<String, PlaceStatsDto> loadAggregates(List<String> placeIds) {
 		log.debug("배치 통계 조회 시작: {} 개 장소", placeIds.size());
 
-		// 1. 리뷰 개수 배치 조회
-		List<PlaceReview> placeReviews = placeReviewRepository.findAllByPlaceIdIn(placeIds);
-		Map<String, Long> reviewCountMap = placeReviews.stream()
-			.collect(Collectors.groupingBy(PlaceReview::getPlaceId, Collectors.counting()));
-
-		// 2. 평균 평점 배치 조회
-		Map<String, Double> averageRatingMap = placeReviews.stream()
-			.filter(review -> review.getRating() != null)
-			.collect(Collectors.groupingBy(PlaceReview::getPlaceId, 
-				Collectors.averagingDouble(PlaceReview::getRating)));
-
-		// 3. 북마크 개수 배치 조회
-		List<PlaceBookmark> placeBookmarks = placeBookmarkRepository.findAllByPlaceIdIn(placeIds);
-		Map<String, Long> bookmarkCountMap = placeBookmarks.stream()
-			.collect(Collectors.groupingBy(PlaceBookmark::getPlaceId, Collectors.counting()));
-
-		// 4. 사용자별 개인화 정보 배치 조회
-		List<String> userBookmarkedPlaces = List.of();
-		List<String> userReviewedPlaces = List.of();
-
-		if (userId != null) {
-			// 사용자 북마크 정보를 Stream으로 처리
-			userBookmarkedPlaces = placeBookmarks.stream()
-				.filter(bookmark -> bookmark.getUser().getId().equals(userId))
-				.map(PlaceBookmark::getPlaceId)
-				.toList();
-			
-			// 사용자 리뷰 정보를 Stream으로 처리
-			userReviewedPlaces = placeReviews.stream()
-				.filter(review -> review.getUser().getId().equals(userId))
-				.map(PlaceReview::getPlaceId)
-				.distinct()
-				.toList();
+		Map<String, PlaceStats> statsMap = placeStatsRepository.findAllByPlaceIdIn(placeIds).stream()
+			.collect(Collectors.toMap(PlaceStats::getPlaceId, stats -> stats));
+
+		Map<String, PlaceStatsDto> result = new HashMap<>();
+		for (String placeId : placeIds) {
+			PlaceStats stats = statsMap.get(placeId);
+			result.put(placeId, PlaceStatsDto.builder()
+				.placeId(placeId)
+				.reviewCount(stats != null ? stats.getReviewCount() : 0L)
+				.averageRating(formatRating(stats != null ? stats.getAverageRating() : null))
+				.bookmarkCount(stats != null ? stats.getBookmarkCount() : 0L)
+				.build());
+		}
+		return result;
+	}
+
+	/**
+	 * 리뷰 변경을 장소 통계 집계에 반영하고 해당 장소의 통계 캐시만 삭제합니다.
+	 * 호출한 서비스의 트랜잭션 안에서 실행됩니다.
+	 *
+	 * @param placeId 장소 ID
+	 * @param countDelta 리뷰 수 증감량 (작성 1, 삭제 -1, 수정 0)
+	 * @param ratingDelta 평점 합계 증감량
+	 */
+	@Transactional
+	public void applyReviewChange(String placeId, long countDelta, long ratingDelta) {
+		placeStatsRepository.addReviewStats(placeId, countDelta, ratingDelta);
+		evictPlaceStats(placeId);
+	}
+
+	/**
+	 * 북마크 변경을 장소 통계 집계에 반영하고 해당 장소의 통계 캐시만 삭제합니다.
+	 * 호출한 서비스의 트랜잭션 안에서 실행됩니다.
+	 *
+	 * @param placeId 장소 ID
+	 * @param delta 북마크 수 증감량 (추가 1, 삭제 -1)
+	 */
+	@Transactional
+	public void applyBookmarkChange(String placeId, long delta) {
+		placeStatsRepository.addBookmarkCount(placeId, delta);
+		evictPlaceStats(placeId);
+	}
+
+	/**
+	 * 리뷰/북마크 원본 테이블에서 장소 통계 집계를 다시 계산합니다.
+	 * place_stats 도입 이전 데이터의 백필과 집계 불일치 보정에 사용합니다.
+	 *
+	 * @return 다시 집계된 장소 수
+	 */
+	@Transactional
+	public int rebuildPlaceStats() {
+		int rebuilt = placeStatsRepository.rebuildAll();
+		int reset = placeStatsRepository.resetOrphans();
+		log.info("장소 통계 재집계 완료 - 집계: {} 행, 0으로 보정: {} 행", rebuilt, reset);
+		return rebuilt + reset;
+	}
+
+	/**
+	 * 애플리케이션 기동 시 place_stats 백필 완료 기록이 없으면 기존 리뷰/북마크로 집계를 채우고 완료를 기록합니다.
+	 * 집계 행 수가 아니라 완료 기록으로 판단하므로, 백필 전에 증분 갱신이 먼저 들어와도 건너뛰지 않습니다.
+	 * (재집계는 원본 테이블 기준으로 값을 덮어쓰므로 먼저 반영된 증분도 올바른 값으로 맞춰집니다)
+	 * 작업 큐에서 버려지지 않도록 기동 스레드에서 동기로 실행하며, 실패하면 완료를 기록하지 않아 다음 기동 시 다시 시도합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfillPlaceStats() {
+		try {
+			if (dataBackfillRepository.existsById(PLACE_STATS_BACKFILL)) {
+				return;
+			}
+			rebuildPlaceStats();
+			dataBackfillRepository.markCompleted(PLACE_STATS_BACKFILL);
+		} catch (RuntimeException e) {
+			log.warn("장소 통계 백필 실패", e);
+		}
+	}
+
+	/**
+	 * 한 장소의 통계 캐시 엔트리만 삭제합니다.
+	 * 트랜잭션 안에서 호출되면 커밋 후에 삭제하여, 커밋 전 조회가 이전 집계를 다시 캐싱하지 않도록 합니다.
+	 *
+	 * @param placeId 장소 ID
+	 */
+	private void evictPlaceStats(String placeId) {
+		Cache cache = cacheManager.getCache(PLACE_STATS_CACHE);
+		if (cache == null) {
+			return;
+		}
+
+		String cacheKey = cacheKeyUtil.generatePlaceStatsKey(placeId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			cache.evict(cacheKey);
+			return;
 		}
 
-		final List<String> bookmarkedPlaces = userBookmarkedPlaces;
-		final List<String> reviewedPlaces = userReviewedPlaces;
-
-		// 5. 결과 조합 (메모리 기반 처리, DB 호출 없음)
-		return placeIds.stream()
-			.collect(Collectors.toMap(
-				placeId -> placeId,
-				placeId -> PlaceStatsDto.builder()
-					.placeId(placeId)
-					.reviewCount(reviewCountMap.getOrDefault(placeId, 0L))
-					.averageRating(formatRating(averageRatingMap.get(placeId)))
-					.bookmarkCount(bookmarkCountMap.getOrDefault(placeId, 0L))
-					.isBookmarked(userId != null ? bookmarkedPlaces.contains(placeId) : null)
-					.hasUserReview(userId != null ? reviewedPlaces.contains(placeId) : null)
-					.build()
-			));
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				cache.evict(cacheKey);
+			}
+		});
 	}
 
 	/**
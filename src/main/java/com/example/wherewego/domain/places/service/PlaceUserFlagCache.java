@@ -0,0 +1,279 @@
+package com.example.wherewego.domain.places.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.wherewego.domain.places.repository.PlaceBookmarkRepository;
+import com.example.wherewego.domain.places.repository.PlaceReviewRepository;
+import com.example.wherewego.global.util.CacheKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 장소 플래그 캐시
+ *
+ * 사용자가 북마크한 장소 ID와 리뷰를 작성한 장소 ID를 사용자별 Redis 집합으로 보관합니다.
+ * 장소 통계 캐시는 사용자와 무관한 집계만 공유하고, 개인화 여부는 조회 시 이 집합과 병합합니다.
+ *
+ * - 조회: 북마크/리뷰 집합에 SMISMEMBER를 파이프라인 한 번으로 보내 한 페이지의 여부를 확인
+ * - 적재: 집합이 없거나 만료되면 사용자의 전체 장소 ID를 DB에서 읽어 적재 표식과 함께 집합을 통째로 교체
+ * - 갱신: 북마크/리뷰 작성·삭제 시 SADD/SREM으로 해당 장소만 반영하고 집합의 버전을 올림 (트랜잭션 안이면 커밋 후에 반영)
+ *
+ * DB를 읽는 동안 삭제가 커밋되어 SREM이 먼저 실행되면 읽은 목록에는 삭제된 장소가 남아 있습니다.
+ * 적재 전에 읽은 버전이 그대로일 때만 집합을 교체하므로, 그 사이 갱신이 있었던 목록은 저장하지 않고 다음 조회에서 다시 적재합니다.
+ *
+ * 적재 표식이 없는 집합은 불완전한 것으로 보고 다시 적재하며,
+ * Redis 장애 시에는 요청한 장소만 DB 인덱스로 확인합니다.
+ */
+@Slf4j
+@Component
+public class PlaceUserFlagCache {
+
+	private static final String BOOKMARKS = "bookmarks";
+	private static final String REVIEWS = "reviews";
+	// 집합이 DB에서 적재되었음을 나타내는 표식 (구글 장소 ID에 쓰이지 않는 문자로 시작)
+	private static final String LOADED_MARKER = "#loaded";
+	private static final String VERSION_SUFFIX = ":version";
+	// 버전이 적재 전에 읽은 값과 같을 때만 집합을 교체 (KEYS: 집합, 버전 / ARGV: 기대 버전, TTL(초), 멤버...)
+	private static final RedisScript<Long> STORE_IF_UNCHANGED = RedisScript.of("""
+		if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+		    return 0
+		end
+		redis.call('DEL', KEYS[1])
+		for i = 3, #ARGV do
+		    redis.call('SADD', KEYS[1], ARGV[i])
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final PlaceBookmarkRepository placeBookmarkRepository;
+	private final PlaceReviewRepository placeReviewRepository;
+	private final CacheKeyUtil cacheKeyUtil;
+	private final Duration ttl;
+
+	public PlaceUserFlagCache(StringRedisTemplate stringRedisTemplate,
+		PlaceBookmarkRepository placeBookmarkRepository,
+		PlaceReviewRepository placeReviewRepository,
+		CacheKeyUtil cacheKeyUtil,
+		@Value("${place.user-flags.ttl:PT30M}") Duration ttl) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.placeBookmarkRepository = placeBookmarkRepository;
+		this.placeReviewRepository = placeReviewRepository;
+		this.cacheKeyUtil = cacheKeyUtil;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * 여러 장소에 대한 사용자의 북마크/리뷰 작성 여부를 조회합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param placeIds 확인할 장소 ID 목록 (중복 없음)
+	 * @return 사용자가 북마크/리뷰한 장소 ID 집합
+	 */
+	public Flags find(Long userId, List<String> placeIds) {
+		String bookmarkKey = cacheKeyUtil.generatePlaceUserFlagKey(BOOKMARKS, userId);
+		String reviewKey = cacheKeyUtil.generatePlaceUserFlagKey(REVIEWS, userId);
+
+		// 적재 표식을 첫 번째 멤버로 함께 확인
+		byte[][] members = withLoadedMarker(placeIds);
+
+		List<Object> results;
+		try {
+			results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.setCommands().sMIsMember(raw(bookmarkKey), members);
+				connection.setCommands().sMIsMember(raw(reviewKey), members);
+				connection.stringCommands().get(raw(versionKey(bookmarkKey)));
+				connection.stringCommands().get(raw(versionKey(reviewKey)));
+				return null;
+			});
+		} catch (RuntimeException e) {
+			log.warn("사용자 장소 플래그 조회 실패, DB로 확인 - userId: {}", userId, e);
+			return new Flags(
+				new HashSet<>(placeBookmarkRepository.findBookmarkedPlaceIds(userId, placeIds)),
+				new HashSet<>(placeReviewRepository.findReviewedPlaceIds(userId, placeIds)));
+		}
+
+		Set<String> bookmarked = resolve(bookmarkKey, results.get(0), results.get(2), placeIds,
+			() -> placeBookmarkRepository.findAllPlaceIdsByUserId(userId));
+		Set<String> reviewed = resolve(reviewKey, results.get(1), results.get(3), placeIds,
+			() -> placeReviewRepository.findAllPlaceIdsByUserId(userId));
+		return new Flags(bookmarked, reviewed);
+	}
+
+	/**
+	 * 북마크 추가를 사용자 집합에 반영합니다.
+	 */
+	public void addBookmark(Long userId, String placeId) {
+		update(cacheKeyUtil.generatePlaceUserFlagKey(BOOKMARKS, userId), placeId, true);
+	}
+
+	/**
+	 * 북마크 삭제를 사용자 집합에 반영합니다.
+	 */
+	public void removeBookmark(Long userId, String placeId) {
+		update(cacheKeyUtil.generatePlaceUserFlagKey(BOOKMARKS, userId), placeId, false);
+	}
+
+	/**
+	 * 리뷰 작성을 사용자 집합에 반영합니다.
+	 */
+	public void addReview(Long userId, String placeId) {
+		update(cacheKeyUtil.generatePlaceUserFlagKey(REVIEWS, userId), placeId, true);
+	}
+
+	/**
+	 * 리뷰 삭제를 사용자 집합에 반영합니다.
+	 */
+	public void removeReview(Long userId, String placeId) {
+		update(cacheKeyUtil.generatePlaceUserFlagKey(REVIEWS, userId), placeId, false);
+	}
+
+	/**
+	 * SMISMEMBER 결과를 장소 ID 집합으로 변환하고, 집합이 적재되지 않았으면 DB에서 적재합니다.
+	 *
+	 * @param version DB를 읽기 전에 조회한 집합 버전 (갱신된 적이 없으면 null)
+	 */
+	private Set<String> resolve(String key, Object result, Object version, List<String> placeIds,
+		Supplier<List<String>> loader) {
+		if (result instanceof List<?> membership && membership.size() == placeIds.size() + 1
+			&& Boolean.TRUE.equals(membership.get(0))) {
+			Set<String> matched = new HashSet<>();
+			for (int i = 0; i < placeIds.size(); i++) {
+				if (Boolean.TRUE.equals(membership.get(i + 1))) {
+					matched.add(placeIds.get(i));
+				}
+			}
+			return matched;
+		}
+
+		// 집합이 없거나 만료됨 - 사용자의 전체 목록을 적재
+		List<String> allPlaceIds = loader.get();
+		store(key, version, allPlaceIds);
+
+		Set<String> all = new HashSet<>(allPlaceIds);
+		Set<String> matched = new HashSet<>();
+		for (String placeId : placeIds) {
+			if (all.contains(placeId)) {
+				matched.add(placeId);
+			}
+		}
+		return matched;
+	}
+
+	private void store(String key, Object version, List<String> placeIds) {
+		List<String> args = new ArrayList<>(placeIds.size() + 3);
+		args.add(version != null ? version.toString() : "");
+		args.add(String.valueOf(ttl.toSeconds()));
+		args.add(LOADED_MARKER);
+		args.addAll(placeIds);
+
+		try {
+			Long stored = stringRedisTemplate.execute(STORE_IF_UNCHANGED, List.of(key, versionKey(key)),
+				args.toArray());
+			if (stored == null || stored == 0) {
+				log.debug("적재 중 집합이 갱신되어 적재 생략 - key: {}", key);
+			}
+		} catch (RuntimeException e) {
+			log.warn("사용자 장소 플래그 적재 실패 - key: {}", key, e);
+		}
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되면 커밋 후에 반영하여, 롤백된 북마크/리뷰 변경이 집합에 남지 않도록 합니다.
+	 */
+	private void update(String key, String placeId, boolean add) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(key, placeId, add);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(key, placeId, add);
+			}
+		});
+	}
+
+	/**
+	 * 집합이 없을 때 SADD로 생긴 집합은 적재 표식이 없으므로 다음 조회에서 전체 목록으로 다시 적재됩니다.
+	 * 버전을 함께 올려, 이 갱신 전에 DB를 읽은 적재가 집합을 덮어쓰지 못하게 합니다.
+	 */
+	private void apply(String key, String placeId, boolean add) {
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				if (add) {
+					connection.setCommands().sAdd(raw(key), raw(placeId));
+				} else {
+					connection.setCommands().sRem(raw(key), raw(placeId));
+				}
+				connection.keyCommands().expire(raw(key), ttl.toSeconds());
+				connection.stringCommands().incr(raw(versionKey(key)));
+				connection.keyCommands().expire(raw(versionKey(key)), ttl.toSeconds());
+				return null;
+			});
+		} catch (RuntimeException e) {
+			// 반영하지 못한 집합은 버려 다음 조회에서 DB로 다시 적재
+			log.warn("사용자 장소 플래그 갱신 실패 - key: {}, placeId: {}", key, placeId, e);
+			try {
+				stringRedisTemplate.delete(key);
+			} catch (RuntimeException ignored) {
+				// Redis 장애가 계속되면 TTL 만료에 맡김
+			}
+		}
+	}
+
+	private static String versionKey(String key) {
+		return key + VERSION_SUFFIX;
+	}
+
+	private static byte[][] withLoadedMarker(List<String> placeIds) {
+		byte[][] members = new byte[placeIds.size() + 1][];
+		members[0] = raw(LOADED_MARKER);
+		for (int i = 0; i < placeIds.size(); i++) {
+			members[i + 1] = raw(placeIds.get(i));
+		}
+		return members;
+	}
+
+	private static byte[] raw(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 사용자가 북마크/리뷰한 장소 ID 집합 (요청한 장소 범위 내)
+	 */
+	public static final class Flags {
+
+		private final Set<String> bookmarkedPlaceIds;
+		private final Set<String> reviewedPlaceIds;
+
+		public Flags(Set<String> bookmarkedPlaceIds, Set<String> reviewedPlaceIds) {
+			this.bookmarkedPlaceIds = bookmarkedPlaceIds;
+			this.reviewedPlaceIds = reviewedPlaceIds;
+		}
+
+		public boolean isBookmarked(String placeId) {
+			return bookmarkedPlaceIds.contains(placeId);
+		}
+
+		public boolean hasReview(String placeId) {
+			return reviewedPlaceIds.contains(placeId);
+		}
+	}
+}
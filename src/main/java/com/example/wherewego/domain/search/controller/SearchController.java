@@ -0,0 +1,45 @@
+package com.example.wherewego.domain.search.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.wherewego.domain.search.dto.response.SearchSuggestionResponseDto;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
+import com.example.wherewego.global.response.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 보조 API 컨트롤러
+ *
+ * 장소/코스 검색창의 자동완성을 제공합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+	private final SearchSuggestService searchSuggestService;
+
+	/**
+	 * 검색어 자동완성 API
+	 *
+	 * GET /api/search/suggest?q=강남&limit=10
+	 *
+	 * 입력 중인 검색어로 시작하는 인기 검색어, 장소명, 공개 코스 제목을 인기도 순으로 반환합니다.
+	 * 자음만 입력하면(예: "ㄱㄴ") 초성으로 검색합니다. 외부 API를 호출하지 않고 인메모리 인덱스에서 응답합니다.
+	 *
+	 * @param query 입력 중인 검색어
+	 * @param limit 최대 결과 수 (기본 10)
+	 * @return 추천 목록
+	 */
+	@GetMapping("/api/search/suggest")
+	public ApiResponse<List<SearchSuggestionResponseDto>> suggest(
+		@RequestParam("q") String query,
+		@RequestParam(defaultValue = "10") int limit) {
+
+		return ApiResponse.ok("검색어 자동완성 성공", searchSuggestService.suggest(query, limit));
+	}
+}
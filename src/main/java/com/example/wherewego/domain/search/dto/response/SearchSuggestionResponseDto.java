@@ -0,0 +1,45 @@
+package com.example.wherewego.domain.search.dto.response;
+
+import com.example.wherewego.domain.common.enums.SuggestionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 응답 DTO
+ *
+ * 사용 API: GET /api/search/suggest?q=ㄱㄴ
+ *
+ * 전체 응답 예시:
+ * {
+ *   "success": true,
+ *   "message": "검색어 자동완성 성공",
+ *   "data": [
+ *     { "text": "강남역 카페", "type": "QUERY", "id": null },
+ *     { "text": "스타벅스 강남역점", "type": "PLACE", "id": "ChIJ..." },
+ *     { "text": "강남 데이트 코스", "type": "COURSE", "id": "42" }
+ *   ],
+ *   "timestamp": "2025-07-24T22:04:22.199842"
+ * }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchSuggestionResponseDto {
+
+	/**
+	 * 추천 문구 (검색어, 장소명 또는 코스 제목)
+	 */
+	private String text;
+	/**
+	 * 추천 종류 (QUERY: 인기 검색어, PLACE: 장소, COURSE: 공개 코스)
+	 */
+	private SuggestionType type;
+	/**
+	 * 장소 ID 또는 코스 ID (인기 검색어는 null)
+	 */
+	private String id;
+}
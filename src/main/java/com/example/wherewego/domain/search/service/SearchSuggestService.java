@@ -0,0 +1,268 @@
+package com.example.wherewego.domain.search.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.wherewego.domain.common.enums.SuggestionType;
+import com.example.wherewego.domain.courses.entity.Course;
+import com.example.wherewego.domain.courses.repository.CourseRepository;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.entity.Place;
+import com.example.wherewego.domain.places.entity.PlaceStats;
+import com.example.wherewego.domain.places.repository.PlaceRepository;
+import com.example.wherewego.domain.places.repository.PlaceStatsRepository;
+import com.example.wherewego.domain.search.dto.response.SearchSuggestionResponseDto;
+import com.example.wherewego.global.util.CacheKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 서비스
+ *
+ * 키 입력마다 장소 검색(구글 Text Search)을 호출하지 않도록 인메모리 자동완성 인덱스로 검색어를 추천합니다.
+ *
+ * - 인기 검색어: 결과가 있었던 검색어를 검색한 서로 다른 사용자 수를 Redis 정렬 집합에 누적하고,
+ *   최소 사용자 수(기본 2명) 이상인 검색어만 추천. 같은 사용자가 반복해서 검색해도 한 명으로 세므로
+ *   한 사용자만 입력한 개인적인 검색어는 비로그인 자동완성 API로 다른 사용자에게 노출되지 않음
+ *   (검색어별 사용자는 HyperLogLog로 세며, 마지막 검색 후 보관 기간이 지나면 초기화)
+ * - 장소명: 검색/상세 조회로 확인한 장소를 등록하고, 상세 조회될 때마다 인기도를 올림
+ * - 코스 제목: 공개 코스를 생성/수정 시 등록하고, 비공개 전환/삭제 시 제거 (트랜잭션 커밋 후 반영)
+ *
+ * 기동 시 장소 카탈로그, 공개 코스, Redis의 인기 검색어로 인덱스를 채우고, 이후에는 새로 확인된 항목만 점진적으로 반영합니다.
+ */
+@Slf4j
+@Service
+public class SearchSuggestService {
+
+	private static final int WARM_UP_PAGE_SIZE = 1000;
+	// 정렬 집합 크기 정리 주기 (검색 기록 횟수 기준)
+	private static final int TRIM_INTERVAL = 1000;
+	private static final int MAX_QUERY_LENGTH = 50;
+
+	private final SearchSuggestionIndex searchSuggestionIndex;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final PlaceRepository placeRepository;
+	private final PlaceStatsRepository placeStatsRepository;
+	private final CourseRepository courseRepository;
+	private final CacheKeyUtil cacheKeyUtil;
+	private final long minQueryUsers;
+	private final Duration queryUsersTtl;
+	private final int maxQueries;
+	private final AtomicLong recordedSearches = new AtomicLong();
+
+	public SearchSuggestService(SearchSuggestionIndex searchSuggestionIndex,
+		StringRedisTemplate stringRedisTemplate,
+		PlaceRepository placeRepository,
+		PlaceStatsRepository placeStatsRepository,
+		CourseRepository courseRepository,
+		CacheKeyUtil cacheKeyUtil,
+		@Value("${search.suggest.min-query-users:2}") long minQueryUsers,
+		@Value("${search.suggest.query-users-ttl:P30D}") Duration queryUsersTtl,
+		@Value("${search.suggest.max-queries:10000}") int maxQueries) {
+		this.searchSuggestionIndex = searchSuggestionIndex;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.placeRepository = placeRepository;
+		this.placeStatsRepository = placeStatsRepository;
+		this.courseRepository = courseRepository;
+		this.cacheKeyUtil = cacheKeyUtil;
+		this.minQueryUsers = minQueryUsers;
+		this.queryUsersTtl = queryUsersTtl;
+		this.maxQueries = maxQueries;
+	}
+
+	/**
+	 * 입력 중인 검색어로 시작하는 검색어/장소/코스를 인기도 순으로 추천합니다.
+	 *
+	 * @param query 입력 중인 검색어 (자음만 입력하면 초성 검색)
+	 * @param limit 최대 결과 수
+	 * @return 추천 목록
+	 */
+	public List<SearchSuggestionResponseDto> suggest(String query, int limit) {
+		return searchSuggestionIndex.suggest(query, limit);
+	}
+
+	/**
+	 * 결과가 있었던 검색어와 결과 장소명을 인덱스에 반영합니다.
+	 * 검색어는 처음 검색한 사용자일 때만 인기도를 올리고, 최소 사용자 수에 도달한 뒤에야 추천에 노출합니다.
+	 * 검색 응답을 지연시키지 않도록 비동기로 처리합니다.
+	 *
+	 * @param query 사용자가 입력한 검색어
+	 * @param userId 검색한 사용자 ID (null이면 검색어는 기록하지 않음)
+	 * @param results 검색 결과 장소 목록
+	 */
+	@Async("placeTaskExecutor")
+	public void recordSearch(String query, Long userId, List<PlaceDetailResponseDto> results) {
+		if (results == null || results.isEmpty()) {
+			return;
+		}
+		indexPlaces(results, 0);
+
+		String normalized = query != null ? query.strip().replaceAll("\\s+", " ") : "";
+		if (userId == null || normalized.isEmpty() || normalized.length() > MAX_QUERY_LENGTH) {
+			return;
+		}
+
+		try {
+			String usersKey = cacheKeyUtil.generateSearchQueryUsersKey(normalized);
+			Long added = stringRedisTemplate.opsForHyperLogLog().add(usersKey, String.valueOf(userId));
+			stringRedisTemplate.expire(usersKey, queryUsersTtl);
+			if (added == null || added == 0) {
+				// 이미 이 검색어를 검색한 사용자
+				return;
+			}
+
+			String key = cacheKeyUtil.generateSearchQueryRankingKey();
+			Double users = stringRedisTemplate.opsForZSet().incrementScore(key, normalized, 1);
+			if (users != null && users >= minQueryUsers) {
+				// 처음 기준을 넘긴 검색어는 누적 사용자 수만큼, 이후에는 1씩 인기도를 올림
+				searchSuggestionIndex.add(SuggestionType.QUERY, normalized, null,
+					users.longValue() == minQueryUsers ? minQueryUsers : 1);
+			}
+			if (recordedSearches.incrementAndGet() % TRIM_INTERVAL == 0) {
+				stringRedisTemplate.opsForZSet().removeRange(key, 0, -(maxQueries + 1L));
+			}
+		} catch (RuntimeException e) {
+			log.warn("검색어 인기도 기록 실패 - query: {}", normalized, e);
+		}
+	}
+
+	/**
+	 * 상세 조회한 장소를 인덱스에 등록하고 인기도를 올립니다.
+	 *
+	 * @param places 상세 조회한 장소 목록
+	 */
+	@Async("placeTaskExecutor")
+	public void recordPlaceViews(Collection<PlaceDetailResponseDto> places) {
+		indexPlaces(places, 1);
+	}
+
+	/**
+	 * 코스 제목을 인덱스에 반영합니다. 공개 코스만 등록하고, 비공개이거나 삭제된 코스는 제거합니다.
+	 * 트랜잭션 안에서 호출되면 커밋 후에 반영하여, 롤백된 생성/수정이 인덱스에 남지 않도록 합니다.
+	 *
+	 * @param course 생성/수정된 코스
+	 */
+	public void indexCourse(Course course) {
+		Long courseId = course.getId();
+		if (Boolean.TRUE.equals(course.getIsPublic()) && !Boolean.TRUE.equals(course.getIsDeleted())) {
+			String title = course.getTitle();
+			afterCommit(() -> searchSuggestionIndex.add(SuggestionType.COURSE, title, String.valueOf(courseId), 0));
+		} else {
+			removeCourse(courseId);
+		}
+	}
+
+	/**
+	 * 삭제된 코스를 인덱스에서 제거합니다. 트랜잭션 안에서 호출되면 커밋 후에 반영합니다.
+	 *
+	 * @param courseId 코스 ID
+	 */
+	public void removeCourse(Long courseId) {
+		afterCommit(() -> searchSuggestionIndex.remove(SuggestionType.COURSE, null, String.valueOf(courseId)));
+	}
+
+	/**
+	 * 애플리케이션 기동 후 장소 카탈로그, 공개 코스, 인기 검색어로 자동완성 인덱스를 채웁니다.
+	 * 장소는 리뷰 수 + 북마크 수, 코스는 좋아요 수 + 북마크 수, 검색어는 검색한 사용자 수를 인기도로 사용합니다.
+	 * placeTaskExecutor는 큐가 차면 작업을 버리므로, 기동 직후 몰리는 작업에 밀려 인덱스가 빈 채로 남지 않도록 기동 스레드에서 적재합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void warmUp() {
+		try {
+			Page<Place> places;
+			int pageNumber = 0;
+			do {
+				places = placeRepository.findAll(PageRequest.of(pageNumber++, WARM_UP_PAGE_SIZE));
+				Map<String, PlaceStats> stats = placeStatsRepository.findAllByPlaceIdIn(
+						places.stream().map(Place::getPlaceId).toList()).stream()
+					.collect(Collectors.toMap(PlaceStats::getPlaceId, Function.identity()));
+				places.forEach(place -> {
+					PlaceStats placeStats = stats.get(place.getPlaceId());
+					long popularity = placeStats != null
+						? placeStats.getReviewCount() + placeStats.getBookmarkCount() : 0;
+					searchSuggestionIndex.add(SuggestionType.PLACE, place.getName(), place.getPlaceId(), popularity);
+				});
+			} while (places.hasNext());
+
+			Page<Course> courses;
+			pageNumber = 0;
+			do {
+				courses = courseRepository.findByIsPublicTrueAndIsDeletedFalse(
+					PageRequest.of(pageNumber++, WARM_UP_PAGE_SIZE));
+				courses.forEach(course -> searchSuggestionIndex.add(SuggestionType.COURSE, course.getTitle(),
+					String.valueOf(course.getId()), (long)course.getLikeCount() + course.getBookmarkCount()));
+			} while (courses.hasNext());
+
+			loadPopularQueries();
+			log.info("검색어 자동완성 인덱스 적재 완료 - 항목 수: {}", searchSuggestionIndex.size());
+		} catch (RuntimeException e) {
+			log.warn("검색어 자동완성 인덱스 적재 실패", e);
+		}
+	}
+
+	private void loadPopularQueries() {
+		Set<ZSetOperations.TypedTuple<String>> queries;
+		try {
+			queries = stringRedisTemplate.opsForZSet()
+				.reverseRangeByScoreWithScores(cacheKeyUtil.generateSearchQueryRankingKey(), minQueryUsers,
+					Double.POSITIVE_INFINITY, 0, maxQueries);
+		} catch (RuntimeException e) {
+			log.warn("인기 검색어 조회 실패 - 장소/코스만 적재", e);
+			return;
+		}
+		if (queries == null) {
+			return;
+		}
+		for (ZSetOperations.TypedTuple<String> query : queries) {
+			if (query.getValue() != null && query.getScore() != null) {
+				searchSuggestionIndex.add(SuggestionType.QUERY, query.getValue(), null, query.getScore().longValue());
+			}
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private void indexPlaces(Collection<PlaceDetailResponseDto> places, long weight) {
+		if (places == null) {
+			return;
+		}
+		places.stream()
+			.filter(Objects::nonNull)
+			.filter(place -> place.getPlaceId() != null && place.getName() != null)
+			.forEach(place -> searchSuggestionIndex.add(SuggestionType.PLACE, place.getName(), place.getPlaceId(),
+				weight));
+	}
+}
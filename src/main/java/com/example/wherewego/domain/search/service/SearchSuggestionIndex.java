@@ -0,0 +1,460 @@
+package com.example.wherewego.domain.search.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.domain.common.enums.SuggestionType;
+import com.example.wherewego.domain.search.dto.response.SearchSuggestionResponseDto;
+import com.example.wherewego.global.util.HangulJamo;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 검색어 자동완성 인덱스
+ *
+ * 인기 검색어, 장소명, 공개 코스 제목을 접두사 트라이에 보관하여 외부 API 호출 없이 입력 중인 검색어를 완성합니다.
+ *
+ * - 자모 트라이: 한글을 자모로 풀어 쓴 키로 저장하므로 입력 중인 글자("강나")도 "강남..."과 일치
+ * - 초성 트라이: 초성만으로 입력한 경우("ㄱㄴ") 초성 키로 검색
+ * - 인기도: 항목마다 점수를 두고, 얕은 노드(자모 9자 이내)는 점수 상위 K개 목록을 미리 계산해 두어
+ *   짧은 접두사도 하위 트리를 순회하지 않고 바로 응답하며, 더 깊은 노드는 하위 트리가 작아 직접 모읍니다.
+ *
+ * 항목은 점수 증가/추가 시 경로상의 상위 K개 목록만 갱신하므로 전체 재구성 없이 점진적으로 반영됩니다.
+ * 최대 항목 수에 도달하면 점수가 가장 낮은(같으면 가장 먼저 등록된) 항목을 내보내고 새 항목을 받습니다.
+ * 단, 검색 결과로만 확인된 점수 없는 장소는 같은 점수의 항목을 밀어내지 않아 새 검색어와 코스가 들어올 자리를 남깁니다.
+ * 조회는 읽기 잠금, 변경은 쓰기 잠금으로 보호하며, 인덱스는 노드별로 독립적입니다.
+ */
+@Slf4j
+@Component
+public class SearchSuggestionIndex {
+
+	// 상위 K개 목록을 미리 계산해 두는 최대 깊이 (자모 기준, 한글 약 3글자)
+	private static final int TOP_K_DEPTH = 9;
+	private static final int MAX_TEXT_LENGTH = 100;
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+	private static final char[] NO_KEYS = new char[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+
+	// 점수 내림차순, 같으면 짧은 문구 우선
+	private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry entry) -> entry.score)
+		.reversed()
+		.thenComparingInt(entry -> entry.text.length())
+		.thenComparing(entry -> entry.text);
+	// 내보낼 순서: 점수 오름차순, 같으면 먼저 등록된 항목부터
+	private static final Comparator<Entry> EVICTION = Comparator.comparingLong((Entry entry) -> entry.score)
+		.thenComparingLong(entry -> entry.sequence);
+
+	private final int topK;
+	private final int maxEntries;
+	private final Map<String, Entry> entries = new HashMap<>();
+	// 점수가 바뀌는 항목은 빼고 점수를 바꾼 뒤 다시 넣음
+	private final NavigableSet<Entry> evictionOrder = new TreeSet<>(EVICTION);
+	private final Node jamoRoot = new Node();
+	private final Node chosungRoot = new Node();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private long sequence;
+
+	public SearchSuggestionIndex(@Value("${search.suggest.top-k:10}") int topK,
+		@Value("${search.suggest.max-entries:50000}") int maxEntries) {
+		this.topK = topK;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * 항목을 추가하거나 기존 항목의 인기도 점수를 올립니다.
+	 * 검색어/장소명은 자모 키가 같으면 하나의 항목으로 합치며(장소가 검색어보다 우선), 코스는 코스 ID별로 관리합니다.
+	 * 코스 제목이 바뀐 경우 기존 점수를 유지한 채 새 제목으로 교체합니다.
+	 *
+	 * @param type 항목 종류
+	 * @param text 표시할 문구
+	 * @param refId 장소 ID 또는 코스 ID (검색어는 null)
+	 * @param weight 더할 점수
+	 */
+	public void add(SuggestionType type, String text, String refId, long weight) {
+		if (text == null || text.isBlank() || text.length() > MAX_TEXT_LENGTH) {
+			return;
+		}
+		String displayText = text.strip();
+		String jamo = HangulJamo.decompose(displayText);
+		if (jamo.isEmpty()) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			String key = key(type, jamo, refId);
+			Entry entry = entries.get(key);
+
+			if (entry != null && !entry.jamo.equals(jamo)) {
+				// 코스 제목 변경 - 기존 경로에서 빼고 새 제목으로 다시 넣음
+				evict(key, entry);
+				store(key, new Entry(displayText, type, refId, jamo, HangulJamo.chosung(displayText),
+					entry.score + weight, sequence++));
+				return;
+			}
+
+			if (entry == null) {
+				if (entries.size() >= maxEntries && !makeRoom(type, weight)) {
+					log.debug("자동완성 인덱스 최대 크기 도달 - text: {}", displayText);
+					return;
+				}
+				store(key, new Entry(displayText, type, refId, jamo, HangulJamo.chosung(displayText), weight,
+					sequence++));
+				return;
+			}
+
+			if (type == SuggestionType.PLACE && entry.type == SuggestionType.QUERY) {
+				entry.type = SuggestionType.PLACE;
+				entry.refId = refId;
+				entry.text = displayText;
+			}
+			if (weight > 0) {
+				evictionOrder.remove(entry);
+				entry.score += weight;
+				evictionOrder.add(entry);
+				promote(jamoRoot, entry.jamo, entry);
+				promote(chosungRoot, entry.chosung, entry);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 항목을 제거합니다 (비공개 전환/삭제된 코스 등).
+	 *
+	 * @param type 항목 종류
+	 * @param text 등록할 때의 문구 (코스는 무시)
+	 * @param refId 장소 ID 또는 코스 ID
+	 */
+	public void remove(SuggestionType type, String text, String refId) {
+		String jamo = text != null ? HangulJamo.decompose(text.strip()) : "";
+
+		lock.writeLock().lock();
+		try {
+			String key = key(type, jamo, refId);
+			Entry entry = entries.get(key);
+			if (entry != null) {
+				evict(key, entry);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 입력 중인 검색어로 시작하는 항목을 인기도 순으로 조회합니다.
+	 * 자음만 입력한 경우 초성으로 검색합니다.
+	 *
+	 * @param query 입력 중인 검색어
+	 * @param limit 최대 결과 수 (상위 K개를 넘을 수 없음)
+	 * @return 인기도 순 추천 목록
+	 */
+	public List<SearchSuggestionResponseDto> suggest(String query, int limit) {
+		if (query == null || query.isBlank() || limit <= 0) {
+			return List.of();
+		}
+		boolean chosungOnly = HangulJamo.isChosungOnly(query);
+		String path = chosungOnly ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+		int size = Math.min(limit, topK);
+
+		lock.readLock().lock();
+		try {
+			Node node = chosungOnly ? chosungRoot : jamoRoot;
+			for (int i = 0; i < path.length() && node != null; i++) {
+				node = node.child(path.charAt(i));
+			}
+			if (node == null) {
+				return List.of();
+			}
+
+			Entry[] ranked = path.length() <= TOP_K_DEPTH ? node.top : collectTop(node);
+			List<SearchSuggestionResponseDto> suggestions = new ArrayList<>(Math.min(size, ranked.length));
+			for (int i = 0; i < ranked.length && suggestions.size() < size; i++) {
+				Entry entry = ranked[i];
+				suggestions.add(SearchSuggestionResponseDto.builder()
+					.text(entry.text)
+					.type(entry.type)
+					.id(entry.refId)
+					.build());
+			}
+			return suggestions;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 인덱스에 등록된 항목 수
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static String key(SuggestionType type, String jamo, String refId) {
+		return type == SuggestionType.COURSE ? "course:" + refId : "text:" + jamo;
+	}
+
+	/**
+	 * 최대 크기일 때 점수가 가장 낮은 항목을 내보냅니다.
+	 * 새 항목의 점수가 더 높거나, 같은 점수라도 장소가 아니면(검색어, 코스) 자리를 내줍니다.
+	 *
+	 * @return 자리를 만들었으면 true
+	 */
+	private boolean makeRoom(SuggestionType type, long weight) {
+		if (evictionOrder.isEmpty()) {
+			return false;
+		}
+		Entry lowest = evictionOrder.first();
+		boolean admit = weight > lowest.score || (weight == lowest.score && type != SuggestionType.PLACE);
+		if (!admit) {
+			return false;
+		}
+		evict(key(lowest.type, lowest.jamo, lowest.refId), lowest);
+		return true;
+	}
+
+	private void store(String key, Entry entry) {
+		entries.put(key, entry);
+		evictionOrder.add(entry);
+		link(entry);
+	}
+
+	private void evict(String key, Entry entry) {
+		entries.remove(key);
+		evictionOrder.remove(entry);
+		unlink(entry);
+	}
+
+	private void link(Entry entry) {
+		insert(jamoRoot, entry.jamo, entry);
+		insert(chosungRoot, entry.chosung, entry);
+	}
+
+	private void unlink(Entry entry) {
+		delete(jamoRoot, entry.jamo, entry);
+		delete(chosungRoot, entry.chosung, entry);
+	}
+
+	private void insert(Node root, String path, Entry entry) {
+		Node node = root;
+		offer(node, entry);
+		for (int i = 0; i < path.length(); i++) {
+			node = node.childOrCreate(path.charAt(i));
+			if (i + 1 <= TOP_K_DEPTH) {
+				offer(node, entry);
+			}
+		}
+		node.terminals = append(node.terminals, entry);
+	}
+
+	/**
+	 * 점수가 오른 항목을 경로상의 상위 K개 목록에 반영합니다.
+	 */
+	private void promote(Node root, String path, Entry entry) {
+		Node node = root;
+		offer(node, entry);
+		for (int i = 0; i < path.length() && i + 1 <= TOP_K_DEPTH; i++) {
+			node = node.child(path.charAt(i));
+			if (node == null) {
+				return;
+			}
+			offer(node, entry);
+		}
+	}
+
+	/**
+	 * 항목을 경로에서 제거하고, 항목이 들어 있던 상위 K개 목록은 하위 트리에서 다시 계산합니다.
+	 * 빈 노드는 부모에서 떼어냅니다.
+	 */
+	private void delete(Node root, String path, Entry entry) {
+		Node[] nodes = new Node[path.length() + 1];
+		nodes[0] = root;
+		for (int i = 0; i < path.length(); i++) {
+			nodes[i + 1] = nodes[i].child(path.charAt(i));
+			if (nodes[i + 1] == null) {
+				return;
+			}
+		}
+
+		Node terminal = nodes[path.length()];
+		terminal.terminals = without(terminal.terminals, entry);
+
+		for (int depth = path.length(); depth >= 0; depth--) {
+			Node node = nodes[depth];
+			if (depth > 0 && node.isEmpty()) {
+				nodes[depth - 1].removeChild(path.charAt(depth - 1));
+				continue;
+			}
+			if (depth <= TOP_K_DEPTH && indexOf(node.top, entry) >= 0) {
+				node.top = collectTop(node);
+			}
+		}
+	}
+
+	private void offer(Node node, Entry entry) {
+		Entry[] top = node.top;
+		if (indexOf(top, entry) < 0) {
+			if (top.length < topK) {
+				top = append(top, entry);
+			} else if (RANKING.compare(entry, top[top.length - 1]) < 0) {
+				top[top.length - 1] = entry;
+			} else {
+				return;
+			}
+		}
+		Arrays.sort(top, RANKING);
+		node.top = top;
+	}
+
+	/**
+	 * 하위 트리의 모든 항목 중 점수 상위 K개를 모읍니다.
+	 */
+	private Entry[] collectTop(Node start) {
+		PriorityQueue<Entry> heap = new PriorityQueue<>(topK + 1, RANKING.reversed());
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(start);
+		while (!stack.isEmpty()) {
+			Node node = stack.pop();
+			for (Entry entry : node.terminals) {
+				heap.offer(entry);
+				if (heap.size() > topK) {
+					heap.poll();
+				}
+			}
+			for (Node child : node.children) {
+				stack.push(child);
+			}
+		}
+
+		Entry[] top = heap.toArray(NO_ENTRIES);
+		Arrays.sort(top, RANKING);
+		return top;
+	}
+
+	private static int indexOf(Entry[] array, Entry entry) {
+		for (int i = 0; i < array.length; i++) {
+			if (array[i] == entry) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static Entry[] append(Entry[] array, Entry entry) {
+		Entry[] result = Arrays.copyOf(array, array.length + 1);
+		result[array.length] = entry;
+		return result;
+	}
+
+	private static Entry[] without(Entry[] array, Entry entry) {
+		int index = indexOf(array, entry);
+		if (index < 0) {
+			return array;
+		}
+		Entry[] result = new Entry[array.length - 1];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	/**
+	 * 자동완성 항목 (점수와 표시 정보는 쓰기 잠금 안에서만 변경)
+	 */
+	private static final class Entry {
+
+		private final String jamo;
+		private final String chosung;
+		private final long sequence;
+		private String text;
+		private SuggestionType type;
+		private String refId;
+		private long score;
+
+		private Entry(String text, SuggestionType type, String refId, String jamo, String chosung, long score,
+			long sequence) {
+			this.text = text;
+			this.type = type;
+			this.refId = refId;
+			this.jamo = jamo;
+			this.chosung = chosung;
+			this.score = score;
+			this.sequence = sequence;
+		}
+	}
+
+	/**
+	 * 트라이 노드. 자식은 문자 순으로 정렬된 배열에 두어 이진 탐색합니다.
+	 */
+	private static final class Node {
+
+		private char[] keys = NO_KEYS;
+		private Node[] children = NO_CHILDREN;
+		// 하위 트리 점수 상위 K개 (TOP_K_DEPTH 이내 노드만 유지)
+		private Entry[] top = NO_ENTRIES;
+		// 이 노드에서 끝나는 항목
+		private Entry[] terminals = NO_ENTRIES;
+
+		private Node child(char key) {
+			int index = Arrays.binarySearch(keys, key);
+			return index >= 0 ? children[index] : null;
+		}
+
+		private Node childOrCreate(char key) {
+			int index = Arrays.binarySearch(keys, key);
+			if (index >= 0) {
+				return children[index];
+			}
+
+			int insertAt = -index - 1;
+			char[] newKeys = new char[keys.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, insertAt);
+			System.arraycopy(children, 0, newChildren, 0, insertAt);
+			newKeys[insertAt] = key;
+			newChildren[insertAt] = new Node();
+			System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+			System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+			keys = newKeys;
+			children = newChildren;
+			return newChildren[insertAt];
+		}
+
+		private void removeChild(char key) {
+			int index = Arrays.binarySearch(keys, key);
+			if (index < 0) {
+				return;
+			}
+			char[] newKeys = new char[keys.length - 1];
+			Node[] newChildren = new Node[children.length - 1];
+			System.arraycopy(keys, 0, newKeys, 0, index);
+			System.arraycopy(children, 0, newChildren, 0, index);
+			System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+			System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+			keys = newKeys;
+			children = newChildren;
+		}
+
+		private boolean isEmpty() {
+			return keys.length == 0 && terminals.length == 0;
+		}
+	}
+}
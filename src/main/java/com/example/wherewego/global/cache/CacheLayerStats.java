@@ -0,0 +1,77 @@
+package com.example.wherewego.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캐시 계층별 히트 통계
+ *
+ * 응답 예시:
+ * {
+ *   "cacheName": "google-place-details",
+ *   "localHits": 9120,
+ *   "remoteHits": 640,
+ *   "misses": 240,
+ *   "localHitRatio": 0.912,
+ *   "remoteHitRatio": 0.064,
+ *   "localSize": 3150
+ * }
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class CacheLayerStats {
+
+	/**
+	 * 캐시 이름
+	 */
+	private String cacheName;
+
+	/**
+	 * L1(인메모리) 히트 수
+	 */
+	private long localHits;
+
+	/**
+	 * L2(Redis) 히트 수
+	 */
+	private long remoteHits;
+
+	/**
+	 * 양쪽 계층 모두 미스된 수
+	 */
+	private long misses;
+
+	/**
+	 * 전체 조회 대비 L1 히트 비율
+	 */
+	private double localHitRatio;
+
+	/**
+	 * 전체 조회 대비 L2 히트 비율
+	 */
+	private double remoteHitRatio;
+
+	/**
+	 * 현재 L1 엔트리 수 (추정치)
+	 */
+	private long localSize;
+
+	/**
+	 * 누적 카운터로부터 통계를 생성합니다.
+	 */
+	public static CacheLayerStats of(String cacheName, long localHits, long remoteHits, long misses,
+		long localSize) {
+		long total = localHits + remoteHits + misses;
+		return CacheLayerStats.builder()
+			.cacheName(cacheName)
+			.localHits(localHits)
+			.remoteHits(remoteHits)
+			.misses(misses)
+			.localHitRatio(total == 0 ? 0.0 : (double)localHits / total)
+			.remoteHitRatio(total == 0 ? 0.0 : (double)remoteHits / total)
+			.localSize(localSize)
+			.build();
+	}
+}
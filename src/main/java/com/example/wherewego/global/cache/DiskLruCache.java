@@ -0,0 +1,308 @@
+package com.example.wherewego.global.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크기 제한 디스크 LRU 캐시
+ *
+ * 키마다 파일 하나를 디렉터리에 저장하고, 전체 크기가 상한을 넘으면 가장 오래 사용하지 않은 파일부터 삭제합니다.
+ * 파일 이름은 키의 SHA-256 해시이므로 키에 어떤 문자가 들어가도 안전하며 길이도 일정합니다.
+ *
+ * - 저장: 임시 파일에 쓴 뒤 원자적으로 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않음
+ * - 조회: 메모리의 접근 순서 인덱스만 갱신하고 파일 경로를 반환
+ * - 열기: 인덱스 확인과 파일 열기를 삭제와 같은 잠금 안에서 수행하여, 반환된 채널은 이후 밀려나도 끝까지 읽을 수 있음
+ * - 고정: 파일을 고정 디렉터리에 하드 링크로 걸어, 밀려나 삭제되어도 링크 경로로는 유예 시간 동안 읽을 수 있음
+ *   (sendfile처럼 나중에 경로로 파일을 여는 전송용, 고정된 파일의 디스크 공간은 링크가 해제될 때 반환)
+ * - 재시작: 디렉터리를 스캔하여 수정 시각 순으로 인덱스를 복원하고 남은 임시 파일과 고정 링크는 삭제
+ *
+ * 삭제된 파일을 이미 열어 전송 중인 요청은 열린 파일 핸들로 끝까지 전송됩니다.
+ */
+@Slf4j
+public class DiskLruCache {
+
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final String PIN_DIRECTORY = "pinned";
+
+	private final Path directory;
+	private final Path pinDirectory;
+	private final long maxBytes;
+	// 고정 순서대로 쌓이므로 앞에서부터 유예 시간이 지난 링크를 해제
+	private final Queue<Pin> pins = new ConcurrentLinkedQueue<>();
+	// 파일 이름 → 파일 크기 (접근 순서)
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes;
+
+	public DiskLruCache(Path directory, long maxBytes) {
+		this.directory = directory;
+		this.pinDirectory = directory.resolve(PIN_DIRECTORY);
+		this.maxBytes = maxBytes;
+		try {
+			Files.createDirectories(pinDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException("디스크 캐시 디렉터리 생성 실패: " + directory, e);
+		}
+		restore();
+	}
+
+	/**
+	 * 캐시된 파일 경로를 조회합니다.
+	 *
+	 * @param key 캐시 키
+	 * @return 파일 경로 (없으면 null)
+	 */
+	public Path get(String key) {
+		String fileName = fileName(key);
+		synchronized (this) {
+			if (entries.get(fileName) == null) {
+				return null;
+			}
+		}
+
+		Path path = directory.resolve(fileName);
+		if (Files.exists(path)) {
+			return path;
+		}
+
+		// 외부에서 삭제된 파일은 인덱스에서도 제거
+		synchronized (this) {
+			Long size = entries.remove(fileName);
+			if (size != null) {
+				totalBytes -= size;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 캐시된 파일을 읽기 전용으로 엽니다.
+	 * 경로만 받아 나중에 열면 그 사이 밀려나 삭제될 수 있으므로, 응답 전송처럼 시차가 있는 읽기는 이 메서드를 사용합니다.
+	 *
+	 * @param key 캐시 키
+	 * @return 열린 파일 채널 (없으면 null, 호출하는 쪽에서 닫아야 함)
+	 */
+	public FileChannel open(String key) {
+		String fileName = fileName(key);
+		Path path = directory.resolve(fileName);
+		synchronized (this) {
+			if (entries.get(fileName) == null) {
+				return null;
+			}
+			try {
+				return FileChannel.open(path, StandardOpenOption.READ);
+			} catch (NoSuchFileException e) {
+				// 외부에서 삭제된 파일은 인덱스에서도 제거
+				totalBytes -= entries.remove(fileName);
+				return null;
+			} catch (IOException e) {
+				throw new UncheckedIOException("디스크 캐시 파일 열기 실패: " + path, e);
+			}
+		}
+	}
+
+	/**
+	 * 캐시된 파일을 고정하여, 캐시에서 밀려나도 유예 시간 동안 읽을 수 있는 경로를 반환합니다.
+	 * 인덱스 확인과 링크 생성을 삭제와 같은 잠금 안에서 수행하므로 반환된 경로는 항상 온전한 파일을 가리킵니다.
+	 *
+	 * @param key 캐시 키
+	 * @return 고정된 파일 경로 (없으면 null, {@link #releasePins(Duration)}가 해제)
+	 */
+	public Path pin(String key) {
+		String fileName = fileName(key);
+		Path pinned = pinDirectory.resolve(UUID.randomUUID().toString());
+		synchronized (this) {
+			if (entries.get(fileName) == null) {
+				return null;
+			}
+			try {
+				Files.createLink(pinned, directory.resolve(fileName));
+			} catch (NoSuchFileException e) {
+				// 외부에서 삭제된 파일은 인덱스에서도 제거
+				totalBytes -= entries.remove(fileName);
+				return null;
+			} catch (IOException e) {
+				throw new UncheckedIOException("디스크 캐시 파일 고정 실패: " + pinned, e);
+			}
+		}
+		pins.add(new Pin(pinned, System.currentTimeMillis()));
+		return pinned;
+	}
+
+	/**
+	 * 고정한 지 유예 시간이 지난 링크를 해제합니다.
+	 *
+	 * @param grace 고정 후 링크를 유지하는 최소 시간
+	 * @return 해제한 링크 수
+	 */
+	public int releasePins(Duration grace) {
+		long releaseBefore = System.currentTimeMillis() - grace.toMillis();
+		int released = 0;
+		Pin oldest;
+		while ((oldest = pins.peek()) != null && oldest.pinnedAtMillis() <= releaseBefore) {
+			if (pins.remove(oldest)) {
+				deleteQuietly(oldest.path());
+				released++;
+			}
+		}
+		return released;
+	}
+
+	/**
+	 * 데이터를 캐시에 저장하고, 상한을 넘으면 오래된 파일을 삭제합니다.
+	 *
+	 * @param key 캐시 키
+	 * @param data 저장할 데이터
+	 * @return 저장된 파일 경로
+	 */
+	public Path put(String key, byte[] data) {
+		String fileName = fileName(key);
+		Path path = directory.resolve(fileName);
+		try {
+			Path temp = Files.createTempFile(directory, fileName, TEMP_SUFFIX);
+			Files.write(temp, data);
+			move(temp, path);
+		} catch (IOException e) {
+			throw new UncheckedIOException("디스크 캐시 저장 실패: " + path, e);
+		}
+
+		synchronized (this) {
+			Long previous = entries.put(fileName, (long)data.length);
+			totalBytes += data.length - (previous != null ? previous : 0);
+			evictOverflow(fileName);
+		}
+		return path;
+	}
+
+	/**
+	 * 현재 캐시된 전체 크기 (바이트)
+	 */
+	public synchronized long totalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * 현재 캐시된 파일 수
+	 */
+	public synchronized int entryCount() {
+		return entries.size();
+	}
+
+	/**
+	 * 가장 오래 사용하지 않은 파일부터 삭제합니다. 방금 저장한 파일은 삭제하지 않습니다.
+	 */
+	private void evictOverflow(String justStored) {
+		Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+		while (totalBytes > maxBytes && iterator.hasNext()) {
+			Map.Entry<String, Long> eldest = iterator.next();
+			if (eldest.getKey().equals(justStored)) {
+				continue;
+			}
+			iterator.remove();
+			totalBytes -= eldest.getValue();
+			try {
+				Files.deleteIfExists(directory.resolve(eldest.getKey()));
+			} catch (IOException e) {
+				log.warn("디스크 캐시 파일 삭제 실패 - file: {}", eldest.getKey(), e);
+			}
+		}
+	}
+
+	/**
+	 * 디렉터리의 기존 파일로 인덱스를 복원합니다 (수정 시각이 오래된 파일이 먼저 삭제 대상).
+	 */
+	private void restore() {
+		record CachedFile(Path path, long size, long modifiedMillis) {
+		}
+
+		List<CachedFile> files;
+		try (Stream<Path> paths = Files.list(directory)) {
+			files = paths.filter(Files::isRegularFile).map(path -> {
+					try {
+						BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+						return new CachedFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+					} catch (IOException e) {
+						return null;
+					}
+				})
+				.filter(file -> file != null)
+				.sorted(Comparator.comparingLong(CachedFile::modifiedMillis))
+				.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException("디스크 캐시 디렉터리 조회 실패: " + directory, e);
+		}
+
+		// 이전 실행에서 해제하지 못한 고정 링크 삭제
+		try (Stream<Path> pinned = Files.list(pinDirectory)) {
+			pinned.forEach(DiskLruCache::deleteQuietly);
+		} catch (IOException e) {
+			log.warn("디스크 캐시 고정 링크 정리 실패 - directory: {}", pinDirectory, e);
+		}
+
+		synchronized (this) {
+			for (CachedFile file : files) {
+				String fileName = file.path().getFileName().toString();
+				if (fileName.endsWith(TEMP_SUFFIX)) {
+					deleteQuietly(file.path());
+					continue;
+				}
+				entries.put(fileName, file.size());
+				totalBytes += file.size();
+			}
+			evictOverflow(null);
+		}
+		log.info("디스크 캐시 복원 완료 - directory: {}, 파일 수: {}, 크기: {} bytes", directory, entries.size(),
+			totalBytes);
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("디스크 캐시 파일 삭제 실패 - file: {}", path, e);
+		}
+	}
+
+	private record Pin(Path path, long pinnedAtMillis) {
+	}
+
+	private static String fileName(String key) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+}
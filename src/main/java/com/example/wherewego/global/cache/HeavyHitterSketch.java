@@ -0,0 +1,171 @@
+package com.example.wherewego.global.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 접근 빈도 상위 키 추적기 (Count-Min Sketch + Top-K)
+ *
+ * 모든 키의 접근 횟수를 정확히 세지 않고, 고정 크기의 Count-Min Sketch로 빈도를 근사하면서
+ * 추정 빈도가 높은 키 K개만 후보 목록으로 유지합니다. 키 종류가 아무리 많아도 메모리 사용량은 일정합니다.
+ *
+ * - 보수적 갱신(conservative update): 최솟값 카운터만 올려 해시 충돌로 인한 과대 추정을 줄임
+ * - 감쇠(decay): 주기적으로 모든 카운터를 절반으로 줄여 최근 접근이 많은 키가 상위에 오도록 함
+ *
+ * 추정 빈도는 실제보다 작지 않으며, 너비가 넓을수록 과대 추정 오차가 줄어듭니다.
+ */
+public class HeavyHitterSketch {
+
+	private static final int DEPTH = 4;
+
+	private final int[] counters;
+	private final int mask;
+	private final int capacity;
+	private final Map<String, Long> candidates;
+
+	// 후보 목록 중 가장 작은 추정 빈도 (후보가 가득 찼을 때 교체 여부 판단용)
+	private long minCandidateCount;
+
+	/**
+	 * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+	 * @param capacity 유지할 상위 키 수
+	 */
+	public HeavyHitterSketch(int width, int capacity) {
+		int rowWidth = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+		this.counters = new int[DEPTH * rowWidth];
+		this.mask = rowWidth - 1;
+		this.capacity = capacity;
+		this.candidates = new HashMap<>(capacity * 2);
+	}
+
+	/**
+	 * 키 접근을 한 번 기록합니다.
+	 *
+	 * @param key 접근한 키
+	 * @return 기록 후 추정 빈도
+	 */
+	public synchronized long record(String key) {
+		int hash = spread(key.hashCode());
+		int step = spread(hash ^ 0x5bd1e995) | 1;
+
+		int min = Integer.MAX_VALUE;
+		for (int row = 0; row < DEPTH; row++) {
+			min = Math.min(min, counters[index(row, hash, step)]);
+		}
+		if (min < Integer.MAX_VALUE) {
+			for (int row = 0; row < DEPTH; row++) {
+				int index = index(row, hash, step);
+				if (counters[index] == min) {
+					counters[index] = min + 1;
+				}
+			}
+			min++;
+		}
+
+		offerCandidate(key, min);
+		return min;
+	}
+
+	/**
+	 * 추정 빈도가 높은 순으로 상위 키를 반환합니다.
+	 *
+	 * @param limit 최대 개수
+	 * @return 추정 빈도 내림차순 키 목록
+	 */
+	public synchronized List<HotKey> top(int limit) {
+		List<HotKey> result = new ArrayList<>(candidates.size());
+		candidates.forEach((key, count) -> result.add(new HotKey(key, count)));
+		result.sort(Comparator.comparingLong(HotKey::getCount).reversed());
+		return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	/**
+	 * 모든 카운터와 후보 빈도를 절반으로 줄입니다. 빈도가 0이 된 후보는 제거합니다.
+	 */
+	public synchronized void decay() {
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] >>>= 1;
+		}
+		candidates.replaceAll((key, count) -> count >>> 1);
+		candidates.values().removeIf(count -> count == 0);
+		minCandidateCount = candidates.values().stream().mapToLong(Long::longValue).min().orElse(0);
+	}
+
+	/**
+	 * 현재 추적 중인 상위 키 수를 반환합니다.
+	 */
+	public synchronized int size() {
+		return candidates.size();
+	}
+
+	private void offerCandidate(String key, long count) {
+		Long previous = candidates.get(key);
+		if (previous != null) {
+			candidates.put(key, count);
+			if (previous == minCandidateCount) {
+				refreshMinCandidateCount();
+			}
+			return;
+		}
+
+		if (candidates.size() < capacity) {
+			candidates.put(key, count);
+			minCandidateCount = candidates.size() == 1 ? count : Math.min(minCandidateCount, count);
+			return;
+		}
+
+		if (count <= minCandidateCount) {
+			return;
+		}
+
+		// 가장 빈도가 낮은 후보를 새 키로 교체
+		String evicted = null;
+		for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+			if (entry.getValue() == minCandidateCount) {
+				evicted = entry.getKey();
+				break;
+			}
+		}
+		candidates.remove(evicted);
+		candidates.put(key, count);
+		refreshMinCandidateCount();
+	}
+
+	private void refreshMinCandidateCount() {
+		long min = Long.MAX_VALUE;
+		for (long count : candidates.values()) {
+			min = Math.min(min, count);
+		}
+		minCandidateCount = min;
+	}
+
+	private int index(int row, int hash, int step) {
+		return row * (mask + 1) + ((hash + row * step) & mask);
+	}
+
+	private static int spread(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * 상위 키와 추정 빈도
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class HotKey {
+
+		private final String key;
+
+		private final long count;
+	}
+}
@@ -0,0 +1,182 @@
+package com.example.wherewego.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.global.util.CacheKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 캐시 일괄 조회/저장 컴포넌트
+ *
+ * @Cacheable은 한 번에 하나의 키만 조회하므로 목록 화면처럼 여러 엔트리가 필요한 경우
+ * 엔트리 수만큼 Redis 왕복이 발생합니다.
+ * 이 컴포넌트는 캐시 매니저와 동일한 키 규칙과 직렬화기를 사용하여
+ * 여러 엔트리를 MGET 한 번으로 조회하고, 파이프라인 한 번으로 저장합니다.
+ * 2단계 캐시가 적용된 캐시는 L1을 먼저 확인하고 L1 미스 키만 Redis에서 조회합니다.
+ *
+ * Redis 장애는 캐시 미스로 간주하여 서비스 흐름을 중단하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisBatchCache {
+
+	private final RedisTemplate<String, Object> batchRedisTemplate;
+	private final StringRedisSerializer keySerializer = new StringRedisSerializer();
+	private final RedisSerializer<Object> valueSerializer;
+	private final CacheKeyUtil cacheKeyUtil;
+	private final CacheManager cacheManager;
+
+	public RedisBatchCache(RedisConnectionFactory redisConnectionFactory,
+		RedisSerializer<Object> cacheValueSerializer,
+		CacheKeyUtil cacheKeyUtil,
+		CacheManager cacheManager) {
+		this.valueSerializer = cacheValueSerializer;
+		this.cacheKeyUtil = cacheKeyUtil;
+		this.cacheManager = cacheManager;
+
+		// 캐시 매니저와 동일한 직렬화 설정의 전용 템플릿 (빈으로 등록하지 않음)
+		RedisTemplate<String, Object> template = new RedisTemplate<>();
+		template.setConnectionFactory(redisConnectionFactory);
+		template.setKeySerializer(keySerializer);
+		template.setValueSerializer(cacheValueSerializer);
+		template.afterPropertiesSet();
+		this.batchRedisTemplate = template;
+	}
+
+	/**
+	 * 여러 캐시 엔트리를 MGET 한 번으로 조회합니다.
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param keys 조회할 캐시 키 목록
+	 * @param type 기대하는 값 타입 (타입이 다른 값은 미스로 처리)
+	 * @return 캐시 키를 키로 하는 조회 성공 엔트리 (미스는 포함되지 않음)
+	 */
+	public <T> Map<String, T> multiGet(String cacheName, List<String> keys, Class<T> type) {
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, T> result = new HashMap<>();
+		TwoTierCache twoTierCache = resolveTwoTierCache(cacheName);
+
+		// 1. L1 조회 (2단계 캐시인 경우)
+		List<String> remoteKeys = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			Object localValue = twoTierCache != null ? twoTierCache.getLocal(key) : null;
+			if (type.isInstance(localValue)) {
+				result.put(key, type.cast(localValue));
+			} else {
+				remoteKeys.add(key);
+			}
+		}
+
+		if (remoteKeys.isEmpty()) {
+			return result;
+		}
+
+		// 2. L1 미스 키만 Redis MGET
+		List<String> redisKeys = remoteKeys.stream()
+			.map(key -> cacheKeyUtil.generateRedisCacheKey(cacheName, key))
+			.toList();
+
+		List<Object> values;
+		try {
+			values = batchRedisTemplate.opsForValue().multiGet(redisKeys);
+		} catch (RuntimeException e) {
+			log.warn("캐시 일괄 조회 실패 - cache: {}, keys: {}", cacheName, remoteKeys.size(), e);
+			return result;
+		}
+
+		int remoteHits = 0;
+		for (int i = 0; values != null && i < remoteKeys.size() && i < values.size(); i++) {
+			Object value = values.get(i);
+			if (type.isInstance(value)) {
+				result.put(remoteKeys.get(i), type.cast(value));
+				remoteHits++;
+				if (twoTierCache != null) {
+					twoTierCache.putLocal(remoteKeys.get(i), value);
+				}
+			}
+		}
+
+		if (twoTierCache != null) {
+			twoTierCache.recordRemoteLookups(remoteHits, remoteKeys.size() - remoteHits);
+		}
+
+		log.debug("캐시 일괄 조회 - cache: {}, 요청: {}, 히트: {}", cacheName, keys.size(), result.size());
+		return result;
+	}
+
+	/**
+	 * 여러 캐시 엔트리를 파이프라인 한 번으로 저장합니다.
+	 *
+	 * @param cacheName 캐시 이름
+	 * @param entries 캐시 키를 키로 하는 저장할 값 (null 값은 저장하지 않음)
+	 * @param ttl 엔트리 만료 시간
+	 */
+	public void multiPut(String cacheName, Map<String, ?> entries, Duration ttl) {
+		if (entries == null || entries.isEmpty()) {
+			return;
+		}
+
+		List<byte[]> rawKeys = new ArrayList<>(entries.size());
+		List<byte[]> rawValues = new ArrayList<>(entries.size());
+		entries.forEach((key, value) -> {
+			if (value != null) {
+				rawKeys.add(keySerializer.serialize(cacheKeyUtil.generateRedisCacheKey(cacheName, key)));
+				rawValues.add(valueSerializer.serialize(value));
+			}
+		});
+
+		if (rawKeys.isEmpty()) {
+			return;
+		}
+
+		Expiration expiration = Expiration.from(ttl);
+		try {
+			batchRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (int i = 0; i < rawKeys.size(); i++) {
+					connection.stringCommands().set(rawKeys.get(i), rawValues.get(i), expiration,
+						RedisStringCommands.SetOption.upsert());
+				}
+				return null;
+			});
+		} catch (RuntimeException e) {
+			log.warn("캐시 일괄 저장 실패 - cache: {}, entries: {}", cacheName, rawKeys.size(), e);
+			return;
+		}
+
+		TwoTierCache twoTierCache = resolveTwoTierCache(cacheName);
+		if (twoTierCache != null) {
+			entries.forEach(twoTierCache::putLocal);
+		}
+	}
+
+	/**
+	 * 캐시 이름에 해당하는 2단계 캐시를 조회합니다.
+	 *
+	 * @param cacheName 캐시 이름
+	 * @return 2단계 캐시, L1이 적용되지 않은 캐시인 경우 null
+	 */
+	private TwoTierCache resolveTwoTierCache(String cacheName) {
+		Cache cache = cacheManager.getCache(cacheName);
+		return cache instanceof TwoTierCache twoTierCache ? twoTierCache : null;
+	}
+}
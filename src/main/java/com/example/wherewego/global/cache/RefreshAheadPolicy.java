@@ -0,0 +1,70 @@
+package com.example.wherewego.global.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 확률적 조기 갱신(Refresh-ahead) 정책
+ *
+ * 캐시 엔트리가 만료된 뒤 첫 요청이 외부 API 지연을 그대로 겪지 않도록, 엔트리 나이가 TTL의 일정 비율을 넘으면
+ * 만료 전에 백그라운드 갱신을 시작할지 판단합니다. 판단은 XFetch(확률적 조기 만료) 방식을 따르며,
+ * 만료 시점에 가까울수록 갱신 확률이 높아지므로 여러 노드/요청이 같은 엔트리를 동시에 갱신하는 일을 줄입니다.
+ *
+ * 엔트리 나이는 캐시에 저장된 시각이 아니라 데이터를 외부에서 조회한 시각(fetchedAt) 기준입니다.
+ */
+public class RefreshAheadPolicy {
+
+	private final long ttlMillis;
+	private final long refreshStartMillis;
+	private final double beta;
+	private final Clock clock;
+	private final DoubleSupplier random;
+
+	/**
+	 * @param ttl 데이터 유효 기간
+	 * @param startFraction 갱신을 고려하기 시작하는 나이 (TTL 대비 비율, 0~1)
+	 * @param beta 조기 갱신 강도 (클수록 더 일찍 갱신, 1.0이 XFetch 기본값)
+	 */
+	public RefreshAheadPolicy(Duration ttl, double startFraction, double beta) {
+		this(ttl, startFraction, beta, Clock.systemDefaultZone(), () -> ThreadLocalRandom.current().nextDouble());
+	}
+
+	RefreshAheadPolicy(Duration ttl, double startFraction, double beta, Clock clock, DoubleSupplier random) {
+		this.ttlMillis = ttl.toMillis();
+		this.refreshStartMillis = (long)(ttlMillis * Math.max(0.0, Math.min(1.0, startFraction)));
+		this.beta = beta;
+		this.clock = clock;
+		this.random = random;
+	}
+
+	/**
+	 * 엔트리를 지금 백그라운드에서 갱신해야 하는지 판단합니다.
+	 *
+	 * - 갱신 시작 나이 이전: 갱신하지 않음
+	 * - 갱신 시작 나이 이후: 남은 구간을 XFetch의 재계산 비용(delta)으로 보고 확률적으로 갱신
+	 * - TTL 경과: 항상 갱신
+	 *
+	 * @param fetchedAt 데이터 조회 시각 (없으면 갱신하지 않고 자연 만료에 맡김)
+	 * @return 갱신해야 하면 true
+	 */
+	public boolean shouldRefresh(LocalDateTime fetchedAt) {
+		if (fetchedAt == null) {
+			return false;
+		}
+
+		long ageMillis = Duration.between(fetchedAt, LocalDateTime.now(clock)).toMillis();
+		if (ageMillis < refreshStartMillis) {
+			return false;
+		}
+		if (ageMillis >= ttlMillis) {
+			return true;
+		}
+
+		// XFetch: age - delta * beta * ln(rand) >= ttl 이면 갱신 (ln(rand) <= 0)
+		double delta = ttlMillis - refreshStartMillis;
+		return ageMillis - delta * beta * Math.log(random.getAsDouble()) >= ttlMillis;
+	}
+}
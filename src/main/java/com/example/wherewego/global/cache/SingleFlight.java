@@ -0,0 +1,109 @@
+package com.example.wherewego.global.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키 단위 중복 호출 병합(Single-flight) 유틸리티
+ *
+ * 캐시가 만료된 직후 같은 키에 대한 요청이 동시에 몰리면 모든 요청이 캐시 미스로 외부 API를 호출합니다.
+ * 이 컴포넌트는 키별로 진행 중인 호출을 하나만 허용하고, 같은 키로 들어온 나머지 요청은
+ * 진행 중인 호출의 결과(또는 예외)를 그대로 공유하도록 합니다.
+ *
+ * 호출이 끝나면 키가 즉시 제거되므로 결과를 보관하지 않으며, 결과 보관은 캐시가 담당합니다.
+ * 대기 중인 요청은 최대 대기 시간이 지나면 진행 중인 호출을 기다리지 않고 예외로 응답합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+	private static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofSeconds(30);
+
+	private final ConcurrentMap<String, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+	private final long awaitTimeoutMillis;
+
+	public SingleFlight() {
+		this(DEFAULT_AWAIT_TIMEOUT);
+	}
+
+	/**
+	 * @param awaitTimeout 진행 중인 호출 결과를 기다리는 최대 시간
+	 */
+	@Autowired
+	public SingleFlight(@Value("${cache.single-flight.await-timeout:PT30S}") Duration awaitTimeout) {
+		this.awaitTimeoutMillis = awaitTimeout.toMillis();
+	}
+
+	/**
+	 * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 호출합니다.
+	 *
+	 * @param key 중복 판단 키 (캐시 키와 동일한 규칙 권장)
+	 * @param loader 실제 호출 로직
+	 * @return 호출 결과 (진행 중인 호출과 공유될 수 있음)
+	 * @throws CustomException 진행 중인 호출을 최대 대기 시간 안에 받지 못한 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Supplier<T> loader) {
+		CompletableFuture<Object> call = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = inFlightCalls.putIfAbsent(key, call);
+
+		if (inFlight != null) {
+			log.debug("진행 중인 호출 결과 공유 - key: {}", key);
+			return (T)awaitResult(key, inFlight);
+		}
+
+		try {
+			T result = loader.get();
+			call.complete(result);
+			return result;
+		} catch (Throwable e) {
+			// Error나 검사 예외가 새어 나와도 대기 중인 요청이 영원히 블록되지 않도록 항상 완료
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightCalls.remove(key, call);
+		}
+	}
+
+	/**
+	 * 진행 중인 호출의 결과를 기다립니다. 호출이 실패한 경우 원래 예외를 그대로 전파합니다.
+	 *
+	 * @param key 중복 판단 키
+	 * @param inFlight 진행 중인 호출
+	 * @return 호출 결과
+	 */
+	private Object awaitResult(String key, CompletableFuture<Object> inFlight) {
+		try {
+			return inFlight.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			log.warn("진행 중인 호출 대기 시간 초과 - key: {}, timeout: {}ms", key, awaitTimeoutMillis);
+			throw new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+		}
+	}
+}
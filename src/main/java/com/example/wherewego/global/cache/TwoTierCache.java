@@ -0,0 +1,199 @@
+package com.example.wherewego.global.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 2단계(인메모리 L1 + Redis L2) 캐시
+ *
+ * 조회 시 L1(Caffeine)을 먼저 확인하고, 없으면 L2(Redis)를 조회한 뒤 L1을 채웁니다.
+ * 저장/삭제는 L2에 먼저 반영한 후 L1에 반영합니다.
+ *
+ * L1은 인스턴스별로 존재하므로 다른 인스턴스에서 발생한 삭제는 L1 TTL이 지나야 반영됩니다.
+ * 따라서 변경이 잦은 캐시일수록 L1 TTL을 짧게 설정해야 합니다.
+ */
+public class TwoTierCache implements Cache {
+
+	private final String name;
+	private final Cache remoteCache;
+	private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param remoteCache L2 캐시 (Redis)
+	 * @param localMaximumSize L1 최대 엔트리 수
+	 * @param localTtl L1 엔트리 만료 시간 (쓰기 기준)
+	 */
+	public TwoTierCache(Cache remoteCache, long localMaximumSize, Duration localTtl) {
+		this.name = remoteCache.getName();
+		this.remoteCache = remoteCache;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterWrite(localTtl)
+			.build();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return remoteCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		Object localValue = localCache.getIfPresent(key);
+		if (localValue != null) {
+			localHits.increment();
+			return new SimpleValueWrapper(localValue);
+		}
+
+		ValueWrapper remoteValue = remoteCache.get(key);
+		if (remoteValue != null && remoteValue.get() != null) {
+			remoteHits.increment();
+			localCache.put(key, remoteValue.get());
+			return remoteValue;
+		}
+
+		misses.increment();
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper == null) {
+			return null;
+		}
+
+		Object value = wrapper.get();
+		if (type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+				"캐시 값의 타입이 일치하지 않습니다. 기대 타입: " + type.getName() + ", 실제 값: " + value);
+		}
+		return (T)value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null) {
+			return (T)wrapper.get();
+		}
+
+		// L2의 동기화된 로딩을 사용하여 값을 적재한 뒤 L1에 반영
+		T value = remoteCache.get(key, valueLoader);
+		if (value != null) {
+			localCache.put(key, value);
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remoteCache.put(key, value);
+		if (value != null) {
+			localCache.put(key, value);
+		} else {
+			localCache.invalidate(key);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+		if (existing != null && existing.get() != null) {
+			localCache.put(key, existing.get());
+		} else if (value != null) {
+			localCache.put(key, value);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		remoteCache.evict(key);
+		localCache.invalidate(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean evicted = remoteCache.evictIfPresent(key);
+		localCache.invalidate(key);
+		return evicted;
+	}
+
+	@Override
+	public void clear() {
+		remoteCache.clear();
+		localCache.invalidateAll();
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean invalidated = remoteCache.invalidate();
+		localCache.invalidateAll();
+		return invalidated;
+	}
+
+	/**
+	 * L1에서만 값을 조회합니다. 일괄 조회 경로에서 Redis 조회 전에 사용합니다.
+	 *
+	 * @param key 캐시 키
+	 * @return L1에 있는 값, 없으면 null
+	 */
+	public Object getLocal(Object key) {
+		Object value = localCache.getIfPresent(key);
+		if (value != null) {
+			localHits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * L1에만 값을 저장합니다. 일괄 조회/저장 경로에서 Redis 반영 후 사용합니다.
+	 *
+	 * @param key 캐시 키
+	 * @param value 저장할 값
+	 */
+	public void putLocal(Object key, Object value) {
+		if (value != null) {
+			localCache.put(key, value);
+		}
+	}
+
+	/**
+	 * 일괄 조회 경로의 L2 조회 결과를 통계에 반영합니다.
+	 *
+	 * @param hits L2 히트 수
+	 * @param missCount L2 미스 수
+	 */
+	public void recordRemoteLookups(int hits, int missCount) {
+		remoteHits.add(hits);
+		misses.add(missCount);
+	}
+
+	/**
+	 * 계층별 히트 통계를 조회합니다.
+	 *
+	 * @return 캐시 계층별 통계
+	 */
+	public CacheLayerStats getStats() {
+		return CacheLayerStats.of(name, localHits.sum(), remoteHits.sum(), misses.sum(),
+			localCache.estimatedSize());
+	}
+}
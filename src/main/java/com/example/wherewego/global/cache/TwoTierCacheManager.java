@@ -0,0 +1,83 @@
+package com.example.wherewego.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 2단계 캐시 매니저
+ *
+ * L1 설정이 등록된 캐시 이름은 TwoTierCache(인메모리 L1 + Redis L2)로 감싸서 제공하고,
+ * 그 외 캐시는 Redis 캐시를 그대로 제공합니다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+	private final CacheManager remoteCacheManager;
+	private final Map<String, LocalCacheSpec> localCacheSpecs;
+	private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * @param remoteCacheManager L2 캐시 매니저 (Redis)
+	 * @param localCacheSpecs 캐시 이름별 L1 설정
+	 */
+	public TwoTierCacheManager(CacheManager remoteCacheManager, Map<String, LocalCacheSpec> localCacheSpecs) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.localCacheSpecs = Map.copyOf(localCacheSpecs);
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		LocalCacheSpec spec = localCacheSpecs.get(name);
+		if (spec == null) {
+			return remoteCacheManager.getCache(name);
+		}
+
+		return twoTierCaches.computeIfAbsent(name, cacheName -> {
+			Cache remoteCache = remoteCacheManager.getCache(cacheName);
+			return new TwoTierCache(remoteCache, spec.getMaximumSize(), spec.getTtl());
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remoteCacheManager.getCacheNames();
+	}
+
+	/**
+	 * L1이 적용된 캐시들의 계층별 히트 통계를 조회합니다.
+	 *
+	 * @return 캐시 이름순으로 정렬된 계층 통계
+	 */
+	public List<CacheLayerStats> getStats() {
+		return localCacheSpecs.keySet().stream()
+			.sorted()
+			.map(name -> ((TwoTierCache)getCache(name)).getStats())
+			.toList();
+	}
+
+	/**
+	 * 캐시 이름별 L1 설정
+	 */
+	@Getter
+	@AllArgsConstructor(staticName = "of")
+	public static class LocalCacheSpec {
+
+		/**
+		 * L1 최대 엔트리 수
+		 */
+		private final long maximumSize;
+
+		/**
+		 * L1 엔트리 만료 시간
+		 */
+		private final Duration ttl;
+	}
+}
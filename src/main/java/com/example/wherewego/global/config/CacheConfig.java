@@ -1,19 +1,23 @@
 package com.example.wherewego.global.config;
 
 import java.time.Duration;
+import java.util.Map;
 
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.wherewego.global.cache.RefreshAheadPolicy;
+import com.example.wherewego.global.cache.TwoTierCacheManager;
+import com.example.wherewego.global.cache.TwoTierCacheManager.LocalCacheSpec;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -25,6 +29,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  *
  * Place 시스템의 Google Places API 호출 최적화를 위한 캐싱 설정을 제공합니다.
  * 각 캐시별로 다른 TTL을 적용하여 데이터 특성에 맞는 캐싱 전략을 구현합니다.
+ * 자주 조회되는 캐시는 인메모리 L1을 Redis(L2) 앞에 두어 네트워크 왕복과 역직렬화를 줄입니다.
  */
 @Configuration
 @EnableCaching
@@ -32,13 +37,63 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class CacheConfig {
 
 	/**
-	 * Redis 기반 캐시 매니저 설정
+	 * Google Place 상세정보 캐시 TTL (Google 약관 준수)
+	 * 캐시 매니저와 일괄 캐시 저장(RedisBatchCache)에서 동일한 값을 사용합니다.
+	 */
+	public static final Duration GOOGLE_PLACE_DETAILS_TTL = Duration.ofDays(7);
+
+	/**
+	 * 존재하지 않는 장소 부정 캐시 TTL
+	 * 잘못 기록되었더라도 곧 다시 조회되도록 짧게 유지합니다.
+	 */
+	public static final Duration GOOGLE_PLACE_NOT_FOUND_TTL = Duration.ofHours(1);
+
+	/**
+	 * 장소 통계 캐시 TTL (DB 부하 감소)
+	 */
+	public static final Duration PLACE_STATS_TTL = Duration.ofMinutes(10);
+
+	// L1(인메모리) 캐시 설정 - 캐시별 최대 엔트리 수와 TTL
+	@Value("${cache.local.place-details.max-size:10000}")
+	private long placeDetailsLocalMaxSize;
+
+	@Value("${cache.local.place-details.ttl:PT1H}")
+	private Duration placeDetailsLocalTtl;
+
+	@Value("${cache.local.place-not-found.max-size:10000}")
+	private long placeNotFoundLocalMaxSize;
+
+	@Value("${cache.local.place-not-found.ttl:PT10M}")
+	private Duration placeNotFoundLocalTtl;
+
+	@Value("${cache.local.place-search.max-size:1000}")
+	private long placeSearchLocalMaxSize;
+
+	@Value("${cache.local.place-search.ttl:PT5M}")
+	private Duration placeSearchLocalTtl;
+
+	@Value("${cache.local.place-stats.max-size:5000}")
+	private long placeStatsLocalMaxSize;
+
+	@Value("${cache.local.place-stats.ttl:PT30S}")
+	private Duration placeStatsLocalTtl;
+
+	// 장소 상세정보 조기 갱신 설정 - TTL 대비 갱신 시작 비율과 조기 갱신 강도
+	@Value("${cache.refresh-ahead.place-details.start-fraction:0.8}")
+	private double placeDetailsRefreshStartFraction;
+
+	@Value("${cache.refresh-ahead.place-details.beta:1.0}")
+	private double placeDetailsRefreshBeta;
+
+	/**
+	 * 캐시 값 직렬화기
 	 *
-	 * @param redisConnectionFactory Redis 연결 팩토리
-	 * @return RedisCacheManager 인스턴스
+	 * 캐시 매니저와 일괄 캐시 조회/저장이 동일한 형식으로 값을 읽고 쓰도록 공유합니다.
+	 *
+	 * @return 타입 정보를 포함하는 JSON 직렬화기
 	 */
 	@Bean
-	public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+	public RedisSerializer<Object> cacheValueSerializer() {
 		// LocalDateTime 변환을 포함한 ObjectMapper 설정
 		ObjectMapper objectMapper = new ObjectMapper();
 		objectMapper.registerModule(new JavaTimeModule()); // JavaTimeModule 등록
@@ -49,26 +104,69 @@ public class CacheConfig {
 			JsonTypeInfo.As.PROPERTY
 		);
 
+		return new GenericJackson2JsonRedisSerializer(objectMapper);
+	}
+
+	/**
+	 * 2단계(인메모리 L1 + Redis L2) 캐시 매니저 설정
+	 *
+	 * 장소 상세정보는 7일간 사실상 변하지 않으므로 L1을 길게 유지하고,
+	 * 장소 통계는 다른 인스턴스의 삭제가 L1에 반영되지 않으므로 L1 TTL을 짧게 유지합니다.
+	 * 존재하지 않는 장소 기록은 목록 화면마다 반복 확인되므로 L1에 두어 Redis 왕복 없이 건너뜁니다.
+	 *
+	 * @param redisConnectionFactory Redis 연결 팩토리
+	 * @param cacheValueSerializer 캐시 값 직렬화기
+	 * @return TwoTierCacheManager 인스턴스
+	 */
+	@Bean
+	public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+		RedisSerializer<Object> cacheValueSerializer) {
 		// 기본 캐시 설정
 		RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
 			.entryTtl(Duration.ofMinutes(30)) // 기본 TTL: 30분
 			.serializeKeysWith(RedisSerializationContext.SerializationPair
 				.fromSerializer(new StringRedisSerializer()))
 			.serializeValuesWith(RedisSerializationContext.SerializationPair
-				.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)))
+				.fromSerializer(cacheValueSerializer))
 			.disableCachingNullValues(); // null 값 캐싱 비활성화
 
-		return RedisCacheManager.builder(redisConnectionFactory)
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
 			.cacheDefaults(defaultConfig)
 			// Google Places API 캐시 설정
 			.withCacheConfiguration("google-place-details",
-				defaultConfig.entryTtl(Duration.ofDays(7))) // Google API 상세정보: 7일 (Google 약관 준수)
+				defaultConfig.entryTtl(GOOGLE_PLACE_DETAILS_TTL)) // Google API 상세정보: 7일 (Google 약관 준수)
+			.withCacheConfiguration("google-place-not-found",
+				defaultConfig.entryTtl(GOOGLE_PLACE_NOT_FOUND_TTL)) // 존재하지 않는 장소: 1시간 (반복 API 호출 방지)
 			.withCacheConfiguration("google-place-search",
 				defaultConfig.entryTtl(Duration.ofHours(1))) // Google API 검색: 1시간 (빈번한 변경 고려)
+			.withCacheConfiguration("google-place-search-stale",
+				defaultConfig.entryTtl(Duration.ofDays(1))) // Google API 검색 예비본: 1일 (API 장애 시 대체 응답용)
 			// Place 통계 캐시 설정
 			.withCacheConfiguration("place-stats",
-				defaultConfig.entryTtl(Duration.ofMinutes(10))) // 장소 통계: 10분 (DB 부하 감소)
+				defaultConfig.entryTtl(PLACE_STATS_TTL)) // 장소 통계: 10분 (DB 부하 감소)
 			.build();
+		redisCacheManager.initializeCaches();
+
+		return new TwoTierCacheManager(redisCacheManager, Map.of(
+			"google-place-details", LocalCacheSpec.of(placeDetailsLocalMaxSize, placeDetailsLocalTtl),
+			"google-place-not-found", LocalCacheSpec.of(placeNotFoundLocalMaxSize, placeNotFoundLocalTtl),
+			"google-place-search", LocalCacheSpec.of(placeSearchLocalMaxSize, placeSearchLocalTtl),
+			"place-stats", LocalCacheSpec.of(placeStatsLocalMaxSize, placeStatsLocalTtl)
+		));
+	}
+
+	/**
+	 * 장소 상세정보 조기 갱신 정책
+	 *
+	 * 조회 시각 기준으로 TTL의 일정 비율을 넘긴 엔트리는 기존 값을 바로 응답하면서 백그라운드에서 갱신하여,
+	 * 자주 조회되는 장소가 만료 직후 구글 API를 동기 호출하지 않도록 합니다.
+	 *
+	 * @return 장소 상세정보 캐시용 조기 갱신 정책
+	 */
+	@Bean
+	public RefreshAheadPolicy placeDetailsRefreshPolicy() {
+		return new RefreshAheadPolicy(GOOGLE_PLACE_DETAILS_TTL, placeDetailsRefreshStartFraction,
+			placeDetailsRefreshBeta);
 	}
 
 }
\ No newline at end of file
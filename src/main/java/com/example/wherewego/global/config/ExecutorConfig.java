@@ -0,0 +1,70 @@
+package com.example.wherewego.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 애플리케이션 내부 작업용 스레드 풀 설정
+ *
+ * 외부 API 호출처럼 I/O 대기 시간이 긴 작업을 요청 스레드와 분리하여 병렬로 처리합니다.
+ * 풀 크기와 대기열을 제한하여 트래픽 급증 시에도 스레드 수가 무한히 늘어나지 않도록 합니다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+	@Value("${place.hydration.pool-size:16}")
+	private int hydrationPoolSize;
+
+	@Value("${place.hydration.queue-capacity:256}")
+	private int hydrationQueueCapacity;
+
+	@Value("${place.task.pool-size:2}")
+	private int taskPoolSize;
+
+	@Value("${place.task.queue-capacity:1000}")
+	private int taskQueueCapacity;
+
+	/**
+	 * 장소 상세 정보 병렬 조회(하이드레이션)용 스레드 풀
+	 *
+	 * 대기열이 가득 차면 호출 스레드에서 직접 실행(CallerRunsPolicy)하여
+	 * 요청이 버려지지 않으면서도 동시 외부 호출 수가 풀 크기로 제한되도록 합니다.
+	 *
+	 * @return 장소 하이드레이션 전용 Executor
+	 */
+	@Bean(name = "placeHydrationExecutor")
+	public ThreadPoolTaskExecutor placeHydrationExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(hydrationPoolSize);
+		executor.setMaxPoolSize(hydrationPoolSize);
+		executor.setQueueCapacity(hydrationQueueCapacity);
+		executor.setThreadNamePrefix("place-hydration-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * 장소 관련 백그라운드 작업(@Async)용 스레드 풀
+	 *
+	 * 장소 카탈로그 저장처럼 응답에 영향을 주지 않는 후속 작업을 처리합니다.
+	 * 대기열이 가득 차면 작업을 버려서(DiscardPolicy) 요청 스레드가 백그라운드 작업에 막히지 않도록 합니다.
+	 *
+	 * @return 장소 백그라운드 작업 전용 Executor
+	 */
+	@Bean(name = "placeTaskExecutor")
+	public ThreadPoolTaskExecutor placeTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(taskPoolSize);
+		executor.setMaxPoolSize(taskPoolSize);
+		executor.setQueueCapacity(taskQueueCapacity);
+		executor.setThreadNamePrefix("place-task-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.wherewego.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.wherewego.global.resilience.EndpointPolicy;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+
+/**
+ * Google Places API 장애 대응 설정
+ *
+ * Text Search, Place Details, Place Photo는 응답 크기와 지연 특성이 달라 엔드포인트별로 따로 보호합니다.
+ * 한쪽 엔드포인트가 느려지거나 회로가 열려도 다른 엔드포인트 호출에는 영향을 주지 않습니다.
+ */
+@Configuration
+public class GoogleApiResilienceConfig {
+
+	@Value("${google.resilience.text-search.max-concurrent-calls:16}")
+	private int textSearchMaxConcurrentCalls;
+
+	@Value("${google.resilience.text-search.max-timeout:PT10S}")
+	private Duration textSearchMaxTimeout;
+
+	@Value("${google.resilience.details.max-concurrent-calls:32}")
+	private int detailsMaxConcurrentCalls;
+
+	@Value("${google.resilience.details.max-timeout:PT10S}")
+	private Duration detailsMaxTimeout;
+
+	@Value("${google.resilience.photo.max-concurrent-calls:16}")
+	private int photoMaxConcurrentCalls;
+
+	@Value("${google.resilience.photo.max-timeout:PT15S}")
+	private Duration photoMaxTimeout;
+
+	@Value("${google.resilience.min-timeout:PT1S}")
+	private Duration minTimeout;
+
+	@Value("${google.resilience.hedge-max-ratio:0.1}")
+	private double hedgeMaxRatio;
+
+	@Value("${google.resilience.failure-rate-threshold:0.5}")
+	private double failureRateThreshold;
+
+	@Value("${google.resilience.open-duration:PT30S}")
+	private Duration openDuration;
+
+	/**
+	 * Text Search API 호출 보호
+	 *
+	 * @return Text Search 엔드포인트 전용 호출기
+	 */
+	@Bean(name = "googleTextSearchEndpoint")
+	public ResilientEndpoint googleTextSearchEndpoint() {
+		return new ResilientEndpoint("google-text-search",
+			policy(textSearchMaxConcurrentCalls, textSearchMaxTimeout, true));
+	}
+
+	/**
+	 * Place Details API 호출 보호
+	 * 일괄 조회 시 하이드레이션 스레드 풀에서 병렬 호출되므로 동시 호출 수를 더 크게 둡니다.
+	 *
+	 * @return Place Details 엔드포인트 전용 호출기
+	 */
+	@Bean(name = "googlePlaceDetailsEndpoint")
+	public ResilientEndpoint googlePlaceDetailsEndpoint() {
+		return new ResilientEndpoint("google-place-details",
+			policy(detailsMaxConcurrentCalls, detailsMaxTimeout, true));
+	}
+
+	/**
+	 * Place Photo API 호출 보호
+	 * 이미지 응답은 JSON보다 크고 느리므로 타임아웃 상한을 더 길게 둡니다.
+	 * 사진은 헤지하면 비용이 그대로 두 배가 되므로 헤지 요청을 사용하지 않습니다.
+	 *
+	 * @return Place Photo 엔드포인트 전용 호출기
+	 */
+	@Bean(name = "googlePlacePhotoEndpoint")
+	public ResilientEndpoint googlePlacePhotoEndpoint() {
+		return new ResilientEndpoint("google-place-photo",
+			policy(photoMaxConcurrentCalls, photoMaxTimeout, false));
+	}
+
+	private EndpointPolicy policy(int maxConcurrentCalls, Duration maxTimeout, boolean hedgeEnabled) {
+		return EndpointPolicy.builder()
+			.maxConcurrentCalls(maxConcurrentCalls)
+			.minTimeout(minTimeout)
+			.maxTimeout(maxTimeout)
+			.hedgeEnabled(hedgeEnabled)
+			.hedgeMaxRatio(hedgeMaxRatio)
+			.failureRateThreshold(failureRateThreshold)
+			.openDuration(openDuration)
+			.build();
+	}
+}
@@ -65,6 +65,12 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.GET, "/api/courses/*/comments").permitAll()
 				.requestMatchers(HttpMethod.GET, "/api/courses/popular").permitAll()
 
+				// 장소 사진 프록시 (이미지 태그로 요청되므로 인증 헤더 없음)
+				.requestMatchers(HttpMethod.GET, "/api/places/photos/*", "/api/places/photos/*/*").permitAll()
+
+				// 검색어 자동완성 (비로그인 사용자도 검색창 사용)
+				.requestMatchers(HttpMethod.GET, "/api/search/suggest").permitAll()
+
 				// 나머지 모든 요청은 인증 필요
 				.anyRequest().authenticated()
 			)
@@ -5,12 +5,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.example.wherewego.domain.common.enums.ErrorCode;
 import com.example.wherewego.global.exception.CustomException;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
 
 @Slf4j
 @Configuration
@@ -52,6 +54,23 @@ public class WebClientConfig {
 			.build();
 	}
 
+	/**
+	 * 구글 Places Photo API 호출을 위한 WebClient Bean을 생성합니다.
+	 * 사진 API는 실제 이미지 주소로 리다이렉트하므로 리다이렉트를 따라가며, 이미지 크기를 고려해 버퍼 상한을 늘립니다.
+	 *
+	 * @return 구글 사진 API 전용 WebClient 인스턴스
+	 */
+	@Bean(name = "googlePhotoWebClient")
+	public WebClient googlePhotoWebClient() {
+		return WebClient.builder()
+			.baseUrl("https://maps.googleapis.com/maps/api/place")
+			.clientConnector(new ReactorClientHttpConnector(HttpClient.create().followRedirect(true)))
+			.codecs(configurer -> configurer
+				.defaultCodecs()
+				.maxInMemorySize(10 * 1024 * 1024))
+			.build();
+	}
+
 	/**
 	 * 토스로 내용 바꾸기
 	 * 구글 Maps Places API 호출을 위한 WebClient Bean을 생성합니다.
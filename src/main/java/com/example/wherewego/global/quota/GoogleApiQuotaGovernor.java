@@ -0,0 +1,143 @@
+package com.example.wherewego.global.quota;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google API 할당량(예산) 관리자
+ *
+ * 일일 예산을 초당 비용으로 환산한 토큰 버킷으로 Google API 호출 속도를 제한합니다.
+ * 호출마다 SKU 비용만큼 예산을 차감하고, SKU/레인별 호출 수와 비용을 누적하여 운영 지표로 제공합니다.
+ *
+ * - INTERACTIVE: 예산이 남아 있는 한 허용
+ * - BACKGROUND: 잔여 예산이 예약 비율 아래로 내려가면 먼저 차단 (사용자 요청에 예산 양보)
+ *
+ * 예산 부족으로 거절된 사용자 요청은 EXTERNAL_API_QUOTA_EXCEEDED 예외가 되며,
+ * 호출하는 쪽에서 오래된 캐시/카탈로그 데이터로 대체 응답합니다.
+ */
+@Slf4j
+@Component
+public class GoogleApiQuotaGovernor {
+
+	private final TokenBucket bucket;
+	private final long backgroundReserve;
+	private final Map<GoogleApiSku, Map<QuotaLane, Usage>> usages = new EnumMap<>(GoogleApiSku.class);
+
+	@Autowired
+	public GoogleApiQuotaGovernor(@Value("${google.quota.daily-budget-usd:200}") double dailyBudgetUsd,
+		@Value("${google.quota.burst:PT10M}") Duration burst,
+		@Value("${google.quota.background-reserve-fraction:0.5}") double backgroundReserveFraction) {
+		this(budgetBucket(dailyBudgetUsd, burst), backgroundReserveFraction);
+	}
+
+	GoogleApiQuotaGovernor(TokenBucket bucket, double backgroundReserveFraction) {
+		this.bucket = bucket;
+		this.backgroundReserve = (long)(bucket.capacity() * backgroundReserveFraction);
+		for (GoogleApiSku sku : GoogleApiSku.values()) {
+			Map<QuotaLane, Usage> laneUsages = new EnumMap<>(QuotaLane.class);
+			for (QuotaLane lane : QuotaLane.values()) {
+				laneUsages.put(lane, new Usage());
+			}
+			usages.put(sku, laneUsages);
+		}
+	}
+
+	/**
+	 * 호출 비용만큼 예산을 차감합니다.
+	 *
+	 * @param sku 호출할 API SKU
+	 * @param lane 우선순위 레인
+	 * @throws CustomException 예산이 부족한 경우 (EXTERNAL_API_QUOTA_EXCEEDED)
+	 */
+	public void acquire(GoogleApiSku sku, QuotaLane lane) {
+		if (!tryAcquire(sku, lane)) {
+			log.warn("Google API 예산 부족으로 호출 거절 - sku: {}, lane: {}", sku, lane);
+			throw new CustomException(ErrorCode.EXTERNAL_API_QUOTA_EXCEEDED);
+		}
+	}
+
+	/**
+	 * 예산이 충분하면 호출 비용만큼 차감합니다.
+	 *
+	 * @param sku 호출할 API SKU
+	 * @param lane 우선순위 레인
+	 * @return 차감했으면 true
+	 */
+	public boolean tryAcquire(GoogleApiSku sku, QuotaLane lane) {
+		long floor = lane == QuotaLane.BACKGROUND ? backgroundReserve : 0;
+		Usage usage = usages.get(sku).get(lane);
+
+		if (bucket.tryConsume(sku.getCostMicros(), floor)) {
+			usage.granted.increment();
+			usage.costMicros.add(sku.getCostMicros());
+			return true;
+		}
+		usage.denied.increment();
+		return false;
+	}
+
+	/**
+	 * 예산을 차감했지만 실제로 호출하지 않은 경우(서킷 브레이커/벌크헤드 거절 등) 예산과 비용 집계를 되돌립니다.
+	 *
+	 * @param sku 호출하려던 API SKU
+	 * @param lane 우선순위 레인
+	 */
+	public void refund(GoogleApiSku sku, QuotaLane lane) {
+		bucket.refund(sku.getCostMicros());
+		Usage usage = usages.get(sku).get(lane);
+		usage.granted.decrement();
+		usage.costMicros.add(-sku.getCostMicros());
+	}
+
+	/**
+	 * 예산 잔량과 SKU/레인별 누적 사용량을 조회합니다.
+	 */
+	public GoogleApiQuotaStats getStats() {
+		List<GoogleApiQuotaStats.SkuUsage> skuUsages = new ArrayList<>();
+		usages.forEach((sku, laneUsages) -> laneUsages.forEach((lane, usage) ->
+			skuUsages.add(GoogleApiQuotaStats.SkuUsage.builder()
+				.sku(sku)
+				.lane(lane)
+				.grantedCalls(usage.granted.sum())
+				.deniedCalls(usage.denied.sum())
+				.costMicros(usage.costMicros.sum())
+				.build())));
+
+		long available = bucket.available();
+		return GoogleApiQuotaStats.builder()
+			.capacityMicros(bucket.capacity())
+			.availableMicros(available)
+			.backgroundReserveMicros(backgroundReserve)
+			.backgroundThrottled(available < backgroundReserve)
+			.usages(skuUsages)
+			.build();
+	}
+
+	/**
+	 * 일일 예산을 초당 충전량으로 환산하고, burst 기간만큼의 예산을 한 번에 쓸 수 있는 버킷을 만듭니다.
+	 */
+	private static TokenBucket budgetBucket(double dailyBudgetUsd, Duration burst) {
+		double refillPerSecond = dailyBudgetUsd * 1_000_000 / Duration.ofDays(1).toSeconds();
+		return new TokenBucket((long)(refillPerSecond * burst.toSeconds()), refillPerSecond, System::nanoTime);
+	}
+
+	private static final class Usage {
+
+		private final LongAdder granted = new LongAdder();
+		private final LongAdder denied = new LongAdder();
+		private final LongAdder costMicros = new LongAdder();
+	}
+}
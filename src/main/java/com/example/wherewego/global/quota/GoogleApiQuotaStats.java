@@ -0,0 +1,77 @@
+package com.example.wherewego.global.quota;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Google API 할당량 사용 현황
+ *
+ * 응답 예시:
+ * {
+ *   "capacityMicros": 69444444,
+ *   "availableMicros": 51200000,
+ *   "backgroundReserveMicros": 34722222,
+ *   "backgroundThrottled": false,
+ *   "usages": [
+ *     {"sku": "PLACE_DETAILS", "lane": "INTERACTIVE", "grantedCalls": 1200, "deniedCalls": 0, "costMicros": 30000000}
+ *   ]
+ * }
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class GoogleApiQuotaStats {
+
+	/**
+	 * 버킷 최대 용량 (마이크로 달러)
+	 */
+	private long capacityMicros;
+
+	/**
+	 * 현재 사용 가능한 예산 (마이크로 달러)
+	 */
+	private long availableMicros;
+
+	/**
+	 * BACKGROUND 레인이 차단되는 잔여 예산 기준 (마이크로 달러)
+	 */
+	private long backgroundReserveMicros;
+
+	/**
+	 * 현재 BACKGROUND 레인이 차단된 상태인지 여부
+	 */
+	private boolean backgroundThrottled;
+
+	/**
+	 * SKU/레인별 누적 사용량
+	 */
+	private List<SkuUsage> usages;
+
+	@Builder
+	@Getter
+	@AllArgsConstructor
+	public static class SkuUsage {
+
+		private GoogleApiSku sku;
+
+		private QuotaLane lane;
+
+		/**
+		 * 허용된 호출 수
+		 */
+		private long grantedCalls;
+
+		/**
+		 * 예산 부족으로 거절된 호출 수
+		 */
+		private long deniedCalls;
+
+		/**
+		 * 허용된 호출의 누적 비용 (마이크로 달러)
+		 */
+		private long costMicros;
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.wherewego.global.quota;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Google Places API 과금 단위(SKU)별 호출 비용
+ *
+ * 비용은 호출 1건당 마이크로 달러(1 USD = 1,000,000) 단위이며, Places API(legacy) 1,000건당 요금을 기준으로 합니다.
+ * Place Details는 기본 필드만 요청하면 Basic 요금만, 연락처/분위기 필드까지 요청하면 해당 추가 요금을 합산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum GoogleApiSku {
+
+	TEXT_SEARCH("Text Search", 32_000),
+	PLACE_DETAILS_BASIC("Place Details (Basic)", 17_000),
+	PLACE_DETAILS("Place Details (Basic + Contact + Atmosphere)", 25_000),
+	PLACE_PHOTO("Place Photo", 7_000);
+
+	private final String description;
+	private final long costMicros;
+}
@@ -0,0 +1,19 @@
+package com.example.wherewego.global.quota;
+
+/**
+ * 외부 API 할당량 우선순위 레인
+ *
+ * 예산이 부족해지면 BACKGROUND 레인이 먼저 차단되어, 사용자가 기다리는 요청에 남은 예산을 양보합니다.
+ */
+public enum QuotaLane {
+
+	/**
+	 * 사용자 요청 처리 중 발생한 호출 (검색, 상세 조회, 목록 화면의 장소 조회)
+	 */
+	INTERACTIVE,
+
+	/**
+	 * 응답과 무관한 백그라운드 호출 (다음 페이지 미리 조회, 조기 갱신, 헤지 요청)
+	 */
+	BACKGROUND
+}
@@ -0,0 +1,66 @@
+package com.example.wherewego.global.quota;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 비용 단위 토큰 버킷
+ *
+ * 초당 일정 비용만큼 토큰이 채워지고, 호출 비용만큼 토큰을 차감합니다.
+ * 레인별 하한(floor)을 두어 하한 아래로 내려가는 차감은 거절하므로,
+ * 하한이 높은 레인(BACKGROUND)이 예산 부족 시 먼저 차단됩니다.
+ */
+class TokenBucket {
+
+	private final long capacity;
+	private final double refillPerNano;
+	private final LongSupplier nanoClock;
+
+	private double tokens;
+	private long lastRefillNanos;
+
+	TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoClock) {
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+		this.nanoClock = nanoClock;
+		this.tokens = capacity;
+		this.lastRefillNanos = nanoClock.getAsLong();
+	}
+
+	/**
+	 * 차감 후 잔량이 하한 이상이면 토큰을 차감합니다.
+	 *
+	 * @param cost 차감할 토큰
+	 * @param floor 차감 후 남아 있어야 하는 최소 토큰
+	 * @return 차감했으면 true
+	 */
+	synchronized boolean tryConsume(long cost, long floor) {
+		refill();
+		if (tokens - cost < floor) {
+			return false;
+		}
+		tokens -= cost;
+		return true;
+	}
+
+	/**
+	 * 실제로 사용하지 않은 토큰을 되돌립니다.
+	 */
+	synchronized void refund(long cost) {
+		tokens = Math.min(capacity, tokens + cost);
+	}
+
+	synchronized long available() {
+		refill();
+		return (long)tokens;
+	}
+
+	long capacity() {
+		return capacity;
+	}
+
+	private void refill() {
+		long now = nanoClock.getAsLong();
+		tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+		lastRefillNanos = now;
+	}
+}
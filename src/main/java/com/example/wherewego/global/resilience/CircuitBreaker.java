@@ -0,0 +1,151 @@
+package com.example.wherewego.global.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커
+ *
+ * 최근 N번 호출 중 실패 비율이 임계치를 넘으면 회로를 열어(OPEN) 외부 호출을 즉시 거절합니다.
+ * 열린 상태로 일정 시간이 지나면 반열림(HALF_OPEN) 상태에서 시험 호출 하나만 허용하고,
+ * 시험 호출이 성공하면 닫고(CLOSED) 실패하면 다시 엽니다.
+ *
+ * 상태 변경은 외부 호출 1건당 한 번뿐이므로 단순 동기화로 처리합니다.
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final double failureRateThreshold;
+	private final int minimumCalls;
+	private final long openDurationNanos;
+	private final LongSupplier nanoClock;
+
+	// 최근 호출 결과 링 버퍼 (true = 실패)
+	private final boolean[] outcomes;
+	private int nextIndex;
+	private int recordedCalls;
+	private int failedCalls;
+
+	private State state = State.CLOSED;
+	private long openedAtNanos;
+	private boolean trialCallInFlight;
+
+	public CircuitBreaker(int slidingWindowSize, int minimumCalls, double failureRateThreshold,
+		Duration openDuration) {
+		this(slidingWindowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+	}
+
+	CircuitBreaker(int slidingWindowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+		LongSupplier nanoClock) {
+		this.outcomes = new boolean[slidingWindowSize];
+		this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = openDuration.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 외부 호출 허용 여부를 확인합니다.
+	 * 허용된 호출은 반드시 onSuccess / onFailure / releasePermission 중 하나로 결과를 알려야 합니다.
+	 *
+	 * @return 호출 가능하면 true
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			trialCallInFlight = false;
+		}
+
+		if (state == State.HALF_OPEN) {
+			if (trialCallInFlight) {
+				return false;
+			}
+			trialCallInFlight = true;
+		}
+		return true;
+	}
+
+	/**
+	 * 허용받았지만 실제로 호출하지 않은 경우 허용을 반납합니다. (벌크헤드 거절 등)
+	 */
+	public synchronized void releasePermission() {
+		if (state == State.HALF_OPEN) {
+			trialCallInFlight = false;
+		}
+	}
+
+	/**
+	 * 호출 성공을 기록합니다.
+	 */
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			transitionToClosed();
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	/**
+	 * 호출 실패를 기록합니다.
+	 */
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			transitionToOpen();
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(true);
+			if (recordedCalls >= minimumCalls && (double)failedCalls / recordedCalls >= failureRateThreshold) {
+				transitionToOpen();
+			}
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * 최근 호출 구간의 실패 비율을 반환합니다.
+	 */
+	public synchronized double getFailureRate() {
+		return recordedCalls == 0 ? 0.0 : (double)failedCalls / recordedCalls;
+	}
+
+	private void record(boolean failed) {
+		if (recordedCalls == outcomes.length) {
+			if (outcomes[nextIndex]) {
+				failedCalls--;
+			}
+		} else {
+			recordedCalls++;
+		}
+		outcomes[nextIndex] = failed;
+		if (failed) {
+			failedCalls++;
+		}
+		nextIndex = (nextIndex + 1) % outcomes.length;
+	}
+
+	private void transitionToOpen() {
+		state = State.OPEN;
+		openedAtNanos = nanoClock.getAsLong();
+		trialCallInFlight = false;
+	}
+
+	private void transitionToClosed() {
+		state = State.CLOSED;
+		trialCallInFlight = false;
+		nextIndex = 0;
+		recordedCalls = 0;
+		failedCalls = 0;
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.wherewego.global.resilience;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 API 엔드포인트별 장애 대응 정책
+ *
+ * 벌크헤드(동시 호출 수), 적응형 타임아웃, 헤지 요청, 서킷 브레이커 설정을 한 곳에 모읍니다.
+ */
+@Getter
+@Builder
+public class EndpointPolicy {
+
+	/**
+	 * 동시에 진행할 수 있는 최대 외부 호출 수
+	 */
+	@Builder.Default
+	private int maxConcurrentCalls = 16;
+
+	/**
+	 * 호출 슬롯이 없을 때 기다리는 최대 시간 (초과 시 즉시 거절)
+	 */
+	@Builder.Default
+	private Duration maxWaitForPermit = Duration.ofMillis(200);
+
+	/**
+	 * 적응형 타임아웃 하한
+	 */
+	@Builder.Default
+	private Duration minTimeout = Duration.ofSeconds(1);
+
+	/**
+	 * 적응형 타임아웃 상한 (지연 통계가 부족할 때의 타임아웃)
+	 */
+	@Builder.Default
+	private Duration maxTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * p99 지연 시간에 곱하여 타임아웃을 정하는 배수
+	 */
+	@Builder.Default
+	private double timeoutMultiplier = 2.0;
+
+	/**
+	 * 지연 통계를 신뢰하기 위한 최소 샘플 수 (미만이면 최대 타임아웃 사용, 헤지 없음)
+	 */
+	@Builder.Default
+	private int minLatencySamples = 20;
+
+	/**
+	 * 지연 통계 윈도우 길이
+	 */
+	@Builder.Default
+	private Duration latencyWindow = Duration.ofMinutes(1);
+
+	/**
+	 * 헤지 요청 사용 여부
+	 */
+	@Builder.Default
+	private boolean hedgeEnabled = true;
+
+	/**
+	 * 전체 호출 대비 헤지 요청 최대 비율 (API 비용 증가 상한)
+	 */
+	@Builder.Default
+	private double hedgeMaxRatio = 0.1;
+
+	/**
+	 * 서킷 브레이커가 실패율을 계산하는 최근 호출 수
+	 */
+	@Builder.Default
+	private int slidingWindowSize = 20;
+
+	/**
+	 * 실패율을 판단하기 위한 최소 호출 수
+	 */
+	@Builder.Default
+	private int minimumCalls = 10;
+
+	/**
+	 * 회로를 여는 실패율 임계치 (0~1)
+	 */
+	@Builder.Default
+	private double failureRateThreshold = 0.5;
+
+	/**
+	 * 회로가 열린 뒤 시험 호출을 허용하기까지의 시간
+	 */
+	@Builder.Default
+	private Duration openDuration = Duration.ofSeconds(30);
+}
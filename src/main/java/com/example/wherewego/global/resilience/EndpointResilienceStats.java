@@ -0,0 +1,84 @@
+package com.example.wherewego.global.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 API 엔드포인트별 장애 대응 상태
+ *
+ * 응답 예시:
+ * {
+ *   "endpoint": "google-place-details",
+ *   "circuitState": "CLOSED",
+ *   "failureRate": 0.05,
+ *   "p50Millis": 150,
+ *   "p95Millis": 400,
+ *   "p99Millis": 750,
+ *   "timeoutMillis": 1500,
+ *   "hedgeDelayMillis": 400,
+ *   "totalCalls": 12000,
+ *   "rejectedCalls": 3,
+ *   "hedgedCalls": 410,
+ *   "availablePermits": 30
+ * }
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class EndpointResilienceStats {
+
+	/**
+	 * 엔드포인트 이름
+	 */
+	private String endpoint;
+
+	/**
+	 * 서킷 브레이커 상태
+	 */
+	private CircuitBreaker.State circuitState;
+
+	/**
+	 * 최근 호출 구간의 실패 비율
+	 */
+	private double failureRate;
+
+	/**
+	 * 최근 지연 시간 백분위수(ms), 샘플이 없으면 -1
+	 */
+	private long p50Millis;
+
+	private long p95Millis;
+
+	private long p99Millis;
+
+	/**
+	 * 현재 적용 중인 타임아웃(ms)
+	 */
+	private long timeoutMillis;
+
+	/**
+	 * 현재 헤지 요청 지연(ms), 헤지를 하지 않으면 -1
+	 */
+	private long hedgeDelayMillis;
+
+	/**
+	 * 누적 호출 수 (거절 포함)
+	 */
+	private long totalCalls;
+
+	/**
+	 * 서킷 브레이커 또는 벌크헤드에 의해 거절된 호출 수
+	 */
+	private long rejectedCalls;
+
+	/**
+	 * 헤지 요청을 보낸 호출 수
+	 */
+	private long hedgedCalls;
+
+	/**
+	 * 남은 동시 호출 슬롯 수
+	 */
+	private int availablePermits;
+}
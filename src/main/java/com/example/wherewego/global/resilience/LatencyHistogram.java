@@ -0,0 +1,137 @@
+package com.example.wherewego.global.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 윈도우 지연 시간 히스토그램
+ *
+ * 외부 API 응답 시간을 고정 구간(버킷)에 누적하여 백분위수(p50/p95/p99)를 근사합니다.
+ * 현재 윈도우와 직전 윈도우 두 개만 유지하므로 최근 1~2 윈도우 구간의 지연 시간만 반영되고,
+ * 기록은 원자적 카운터 증가 한 번이라 요청 경로에 잠금이 없습니다.
+ *
+ * 백분위수는 해당 샘플이 속한 버킷의 상한값으로 반환하므로 실제 값보다 약간 보수적(길게)입니다.
+ */
+public class LatencyHistogram {
+
+	/**
+	 * 버킷 상한값(ms). 마지막 버킷보다 긴 지연은 마지막 버킷에 포함됩니다.
+	 */
+	private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {
+		10, 20, 30, 50, 75, 100, 150, 200, 300, 400, 500, 750,
+		1000, 1500, 2000, 3000, 4000, 5000, 7500, 10000, 15000, 30000
+	};
+
+	private final long windowNanos;
+	private final LongSupplier nanoClock;
+
+	private volatile Window current;
+	private volatile Window previous;
+
+	public LatencyHistogram(Duration window) {
+		this(window, System::nanoTime);
+	}
+
+	LatencyHistogram(Duration window, LongSupplier nanoClock) {
+		this.windowNanos = window.toNanos();
+		this.nanoClock = nanoClock;
+		this.current = new Window(nanoClock.getAsLong());
+		this.previous = new Window(current.startNanos - windowNanos);
+	}
+
+	/**
+	 * 지연 시간 샘플을 기록합니다.
+	 *
+	 * @param latencyMillis 지연 시간(ms)
+	 */
+	public void record(long latencyMillis) {
+		currentWindow().counts.incrementAndGet(bucketIndex(latencyMillis));
+	}
+
+	/**
+	 * 최근 윈도우의 샘플 수를 반환합니다.
+	 */
+	public long sampleCount() {
+		Window window = currentWindow();
+		Window before = previous;
+		long count = 0;
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+			count += window.counts.get(i) + before.counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * 최근 윈도우의 백분위수를 반환합니다.
+	 *
+	 * @param quantile 0~1 사이의 분위 (예: 0.95)
+	 * @return 백분위수 지연 시간(ms), 샘플이 없으면 -1
+	 */
+	public long percentile(double quantile) {
+		Window window = currentWindow();
+		Window before = previous;
+
+		long[] counts = new long[BUCKET_UPPER_BOUNDS_MILLIS.length];
+		long total = 0;
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = window.counts.get(i) + before.counts.get(i);
+			total += counts[i];
+		}
+		if (total == 0) {
+			return -1;
+		}
+
+		long rank = Math.max(1, (long)Math.ceil(quantile * total));
+		long cumulative = 0;
+		for (int i = 0; i < counts.length; i++) {
+			cumulative += counts[i];
+			if (cumulative >= rank) {
+				return BUCKET_UPPER_BOUNDS_MILLIS[i];
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_MILLIS[BUCKET_UPPER_BOUNDS_MILLIS.length - 1];
+	}
+
+	/**
+	 * 윈도우 기간이 지났으면 윈도우를 교체한 뒤 현재 윈도우를 반환합니다.
+	 * 교체는 윈도우당 한 번만 일어나므로 동기화 비용은 무시할 수 있습니다.
+	 */
+	private Window currentWindow() {
+		Window window = current;
+		long now = nanoClock.getAsLong();
+		if (now - window.startNanos < windowNanos) {
+			return window;
+		}
+
+		synchronized (this) {
+			window = current;
+			long elapsed = now - window.startNanos;
+			if (elapsed >= windowNanos) {
+				// 두 윈도우 이상 기록이 없었으면 직전 윈도우도 비워서 오래된 샘플을 버림
+				previous = elapsed >= 2 * windowNanos ? new Window(now - windowNanos) : window;
+				current = new Window(now);
+			}
+			return current;
+		}
+	}
+
+	private static int bucketIndex(long latencyMillis) {
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+			if (latencyMillis <= BUCKET_UPPER_BOUNDS_MILLIS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_MILLIS.length - 1;
+	}
+
+	private static final class Window {
+
+		private final long startNanos;
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length);
+
+		private Window(long startNanos) {
+			this.startNanos = startNanos;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.example.wherewego.global.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 API 엔드포인트 단위 장애 대응 호출기
+ *
+ * 느리거나 장애가 난 외부 API가 요청 스레드를 오래 붙잡아 노드 전체가 멈추는 것을 막기 위해
+ * 하나의 엔드포인트에 대한 모든 호출을 다음 순서로 보호합니다.
+ *
+ * 1. 서킷 브레이커: 최근 실패율이 높으면 호출하지 않고 즉시 거절 (호출하는 쪽에서 오래된 데이터로 대체)
+ * 2. 벌크헤드: 동시 외부 호출 수를 제한하고, 슬롯을 짧게 기다려도 없으면 즉시 거절
+ * 3. 헤지 요청: 응답이 최근 p95보다 늦어지면 같은 요청을 한 번 더 보내 먼저 도착한 응답을 사용
+ * 4. 적응형 타임아웃: 고정값 대신 최근 p99 지연 시간의 배수를 상한/하한 사이로 적용
+ *
+ * 엔드포인트마다 지연 특성이 다르므로(검색 vs 상세 조회) 인스턴스를 엔드포인트별로 따로 둡니다.
+ * 헤지 요청은 멱등한 조회 요청에만 사용해야 하며, API 비용을 고려하여 전체 호출 대비 비율을 제한합니다.
+ */
+@Slf4j
+public class ResilientEndpoint {
+
+	@Getter
+	private final String name;
+	private final EndpointPolicy policy;
+	private final Semaphore bulkhead;
+	private final LatencyHistogram latencyHistogram;
+	private final CircuitBreaker circuitBreaker;
+
+	private final AtomicLong totalCalls = new AtomicLong();
+	private final AtomicLong rejectedCalls = new AtomicLong();
+	private final AtomicLong hedgedCalls = new AtomicLong();
+
+	public ResilientEndpoint(String name, EndpointPolicy policy) {
+		this(name, policy, new LatencyHistogram(policy.getLatencyWindow()),
+			new CircuitBreaker(policy.getSlidingWindowSize(), policy.getMinimumCalls(),
+				policy.getFailureRateThreshold(), policy.getOpenDuration()));
+	}
+
+	ResilientEndpoint(String name, EndpointPolicy policy, LatencyHistogram latencyHistogram,
+		CircuitBreaker circuitBreaker) {
+		this.name = name;
+		this.policy = policy;
+		this.bulkhead = new Semaphore(policy.getMaxConcurrentCalls());
+		this.latencyHistogram = latencyHistogram;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * 외부 호출을 장애 대응 정책을 적용하여 실행하고 결과를 기다립니다.
+	 *
+	 * @param call 외부 호출 Mono 생성 함수 (헤지 요청 시 한 번 더 호출될 수 있음)
+	 * @return 호출 결과
+	 * @throws CustomException 회로가 열려 있거나 동시 호출 수가 가득 찬 경우 (EXTERNAL_API_UNAVAILABLE)
+	 */
+	public <T> T execute(Supplier<Mono<T>> call) {
+		return execute(call, () -> true);
+	}
+
+	/**
+	 * 외부 호출을 장애 대응 정책을 적용하여 실행하고 결과를 기다립니다.
+	 * 헤지 요청은 추가 비용이 드는 선택적 호출이므로, 보내기 직전에 허용 여부를 한 번 더 확인합니다.
+	 *
+	 * @param call 외부 호출 Mono 생성 함수 (헤지 요청 시 한 번 더 호출될 수 있음)
+	 * @param hedgeAdmission 헤지 요청 허용 여부 (예: 할당량 확인)
+	 * @return 호출 결과
+	 * @throws CustomException 회로가 열려 있거나 동시 호출 수가 가득 찬 경우 (EXTERNAL_API_UNAVAILABLE)
+	 */
+	public <T> T execute(Supplier<Mono<T>> call, BooleanSupplier hedgeAdmission) {
+		totalCalls.incrementAndGet();
+
+		if (!circuitBreaker.tryAcquirePermission()) {
+			rejectedCalls.incrementAndGet();
+			log.debug("서킷 브레이커 열림으로 외부 호출 거절 - endpoint: {}", name);
+			throw new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+		}
+
+		if (!acquirePermit()) {
+			circuitBreaker.releasePermission();
+			rejectedCalls.incrementAndGet();
+			log.warn("동시 외부 호출 수 초과로 호출 거절 - endpoint: {}, 최대: {}", name,
+				policy.getMaxConcurrentCalls());
+			throw new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+		}
+
+		try {
+			T result = withHedge(call, hedgeAdmission)
+				.timeout(currentTimeout())
+				.block();
+			circuitBreaker.onSuccess();
+			return result;
+		} catch (RuntimeException e) {
+			if (isRemoteFailure(e)) {
+				circuitBreaker.onFailure();
+			} else {
+				circuitBreaker.onSuccess();
+			}
+			throw e;
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * 현재 적용할 타임아웃을 계산합니다.
+	 * 지연 통계가 충분하면 p99 × 배수를 [최소, 최대] 범위로 제한하고, 부족하면 최대 타임아웃을 사용합니다.
+	 */
+	public Duration currentTimeout() {
+		if (latencyHistogram.sampleCount() < policy.getMinLatencySamples()) {
+			return policy.getMaxTimeout();
+		}
+
+		long timeoutMillis = (long)(latencyHistogram.percentile(0.99) * policy.getTimeoutMultiplier());
+		long clamped = Math.max(policy.getMinTimeout().toMillis(), Math.min(policy.getMaxTimeout().toMillis(),
+			timeoutMillis));
+		return Duration.ofMillis(clamped);
+	}
+
+	/**
+	 * 엔드포인트의 현재 장애 대응 상태를 조회합니다.
+	 */
+	public EndpointResilienceStats getStats() {
+		return EndpointResilienceStats.builder()
+			.endpoint(name)
+			.circuitState(circuitBreaker.getState())
+			.failureRate(circuitBreaker.getFailureRate())
+			.p50Millis(latencyHistogram.percentile(0.5))
+			.p95Millis(latencyHistogram.percentile(0.95))
+			.p99Millis(latencyHistogram.percentile(0.99))
+			.timeoutMillis(currentTimeout().toMillis())
+			.hedgeDelayMillis(hedgeDelayMillis())
+			.totalCalls(totalCalls.get())
+			.rejectedCalls(rejectedCalls.get())
+			.hedgedCalls(hedgedCalls.get())
+			.availablePermits(bulkhead.availablePermits())
+			.build();
+	}
+
+	/**
+	 * 응답이 헤지 지연보다 늦어지면 같은 요청을 한 번 더 보내고 먼저 값을 낸 응답을 사용합니다.
+	 * 원 요청이 먼저 끝나면(성공/실패 모두) 헤지 요청은 시작 전이면 보내지 않고, 진행 중이면 취소됩니다.
+	 * 헤지 요청이 실패하거나 허용되지 않으면 원 요청의 결과를 그대로 기다리므로,
+	 * 원 요청의 실패(4xx 등)는 감싸지지 않고 호출하는 쪽과 서킷 브레이커에 그대로 전달됩니다.
+	 */
+	private <T> Mono<T> withHedge(Supplier<Mono<T>> call, BooleanSupplier hedgeAdmission) {
+		Mono<T> primary = timed(call);
+		long hedgeDelayMillis = hedgeDelayMillis();
+		if (hedgeDelayMillis < 0) {
+			return primary;
+		}
+
+		Mono<T> hedge = Mono.delay(Duration.ofMillis(hedgeDelayMillis))
+			.flatMap(tick -> startHedge(call, hedgeAdmission))
+			.onErrorResume(e -> {
+				log.debug("헤지 요청 실패로 원 요청 응답 대기 - endpoint: {}", name, e);
+				return Mono.never();
+			})
+			.switchIfEmpty(Mono.never());
+		return Mono.firstWithSignal(primary, hedge);
+	}
+
+	/**
+	 * 헤지 요청을 시작합니다. 헤지 비율 한도를 넘었거나 남은 호출 슬롯이 없거나 허용되지 않으면 보내지 않습니다.
+	 */
+	private <T> Mono<T> startHedge(Supplier<Mono<T>> call, BooleanSupplier hedgeAdmission) {
+		if (hedgedCalls.get() >= totalCalls.get() * policy.getHedgeMaxRatio() || !bulkhead.tryAcquire()) {
+			return Mono.empty();
+		}
+		if (!hedgeAdmission.getAsBoolean()) {
+			bulkhead.release();
+			return Mono.empty();
+		}
+
+		hedgedCalls.incrementAndGet();
+		log.debug("응답 지연으로 헤지 요청 전송 - endpoint: {}", name);
+		return timed(call).doFinally(signal -> bulkhead.release());
+	}
+
+	/**
+	 * 성공한 호출의 지연 시간을 히스토그램에 기록합니다.
+	 */
+	private <T> Mono<T> timed(Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			long startNanos = System.nanoTime();
+			return call.get()
+				.doOnSuccess(value -> latencyHistogram.record(
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+		});
+	}
+
+	/**
+	 * 헤지 요청 지연(p95)을 계산합니다. 통계가 부족하거나 타임아웃보다 길면 헤지하지 않습니다(-1).
+	 */
+	private long hedgeDelayMillis() {
+		if (!policy.isHedgeEnabled() || latencyHistogram.sampleCount() < policy.getMinLatencySamples()) {
+			return -1;
+		}
+
+		long p95 = latencyHistogram.percentile(0.95);
+		return p95 < currentTimeout().toMillis() ? p95 : -1;
+	}
+
+	private boolean acquirePermit() {
+		try {
+			return bulkhead.tryAcquire(policy.getMaxWaitForPermit().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 외부 API 장애로 볼 수 있는 실패인지 판단합니다.
+	 * 4xx 응답은 요청 자체의 문제이므로 서킷 브레이커 실패율에 포함하지 않습니다.
+	 */
+	private boolean isRemoteFailure(Throwable error) {
+		Throwable cause = Exceptions.unwrap(error);
+		if (cause instanceof WebClientResponseException responseException) {
+			return !responseException.getStatusCode().is4xxClientError();
+		}
+		return true;
+	}
+}
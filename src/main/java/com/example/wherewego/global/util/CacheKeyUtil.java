@@ -1,5 +1,13 @@
 package com.example.wherewego.global.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
 import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
@@ -13,56 +21,61 @@ import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 public class CacheKeyUtil {
 
     private static final String DELIMITER = ":";
-    
-    
+    // 검색 키 해시 길이 (128비트, Base64 22자)
+    private static final int SEARCH_KEY_HASH_BYTES = 16;
+
+    private final SearchQueryCanonicalizer searchQueryCanonicalizer;
+
+    public CacheKeyUtil(SearchQueryCanonicalizer searchQueryCanonicalizer) {
+        this.searchQueryCanonicalizer = searchQueryCanonicalizer;
+    }
+
     /**
      * Google Places API 검색용 캐시 키 생성 (성능 최적화)
      * 
-     * 위치 기반 캐싱을 그리드 단위로 최적화하여 캐시 효율성을 향상시킵니다.
-     * 근접한 위치의 검색 결과를 재사용하여 API 호출을 최소화합니다.
+     * 위치 기반 검색은 사용자 위치가 속한 지오해시 타일과 표준화된 반경 단위로 캐싱합니다.
+     * 같은 타일 안에서 조금 이동한 검색은 같은 키를 사용하며, 타일 크기는 반경에 비례합니다.
+     * 페이지와 정렬 조건이 달라도 같은 검색 조건이면 같은 키를 사용합니다.
+     * 검색어는 정규화기로 대표 형태로 바꾸어 단어 순서/띄어쓰기/별칭 차이를 없애고,
+     * 긴 한글 검색어가 Redis 키 메모리를 차지하지 않도록 전체 조건을 고정 길이 해시로 만듭니다.
      * 
      * @param request 검색 요청 정보
-     * @return 캐시 키
+     * @return 캐시 키 ("search:" + 22자 해시)
      */
     public String generateGoogleSearchKey(PlaceSearchRequestDto request) {
-        StringBuilder keyBuilder = new StringBuilder();
-        
-        keyBuilder.append(sanitizeForKey(request.getQuery()));
-        
-        if (request.getUserLocation() != null) {
-            // 위치를 그리드 단위로 반올림하여 근접 위치의 캐시 재사용
-            Double lat = request.getUserLocation().getLatitude();
-            Double lng = request.getUserLocation().getLongitude();
-            
-            if (lat != null && lng != null) {
-                // 약 100m 그리드 단위로 반올림 (도시 지역 기준)
-                double gridLat = Math.round(lat * 1000.0) / 1000.0;
-                double gridLng = Math.round(lng * 1000.0) / 1000.0;
-                
-                keyBuilder.append(DELIMITER)
-                    .append("lat").append(gridLat)
-                    .append("lng").append(gridLng);
-            }
-            
-            // 반경을 표준화된 단위로 그룹화
-            if (request.getUserLocation().getRadius() != null) {
-                int radius = request.getUserLocation().getRadius();
-                int standardRadius = standardizeRadius(radius);
-                keyBuilder.append("r").append(standardRadius);
-            }
-        }
-        
-        // 페이징 정보는 첫 페이지만 캐싱 (성능 최적화)
-        if (request.getPagination() != null && request.getPagination().getPage() <= 1) {
-            keyBuilder.append(DELIMITER).append("page1")
-                .append("size").append(request.getPagination().getSize());
+        return generateGoogleSearchTileKeys(request).get(0);
+    }
+
+    /**
+     * 위치 기반 검색의 사용자 타일과 주변 8개 타일의 검색 캐시 키 생성
+     * 
+     * 인접 타일에서 같은 검색어/반경으로 캐싱된 결과를 재사용하기 위해 사용합니다.
+     * 사용자 위치가 없는 검색은 검색어 키 하나만 반환합니다.
+     * 
+     * @param request 검색 요청 정보
+     * @return 사용자 타일 키가 첫 번째인 캐시 키 목록 (최대 9개)
+     */
+    public List<String> generateGoogleSearchTileKeys(PlaceSearchRequestDto request) {
+        String canonicalQuery = searchQueryCanonicalizer.canonicalize(request.getQuery());
+        PlaceSearchRequestDto.UserLocation location = request.getUserLocation();
+        if (location == null || location.getLatitude() == null || location.getLongitude() == null) {
+            // 페이징/정렬 정보는 키에 포함하지 않음 (전체 결과 집합을 캐싱하고 서버에서 잘라서 사용)
+            return List.of(searchKey(canonicalQuery));
         }
-        
-        if (request.getSort() != null) {
-            keyBuilder.append(DELIMITER).append("sort").append(request.getSort());
+
+        // 반경을 표준화된 단위로 그룹화하고, 반경에 맞는 크기의 타일로 위치를 묶음
+        Integer standardRadius = location.getRadius() != null ? standardizeRadius(location.getRadius()) : null;
+        String tile = GeoHash.encode(location.getLatitude(), location.getLongitude(),
+            searchTilePrecision(standardRadius));
+
+        List<String> keys = new ArrayList<>(9);
+        keys.add(searchTileKey(canonicalQuery, tile, standardRadius));
+        for (String cell : GeoHash.neighborsWithSelf(tile)) {
+            if (!cell.equals(tile)) {
+                keys.add(searchTileKey(canonicalQuery, cell, standardRadius));
+            }
         }
-        
-        return keyBuilder.toString();
+        return keys;
     }
     
     /**
@@ -75,23 +88,64 @@ public class CacheKeyUtil {
         return "google" + DELIMITER + placeId;
     }
     
+    /**
+     * 캐시 매니저가 Redis에 저장하는 실제 키 생성
+     * 
+     * RedisCacheManager 기본 접두사 규칙(캐시이름::키)을 따르므로
+     * 일괄 조회/저장 시에도 @Cacheable과 동일한 엔트리를 공유합니다.
+     * 
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키
+     * @return Redis 키
+     */
+    public String generateRedisCacheKey(String cacheName, String key) {
+        return cacheName + "::" + key;
+    }
+    
     /**
      * 장소 통계용 캐시 키 생성
      * 
+     * 리뷰 수/평점/북마크 수는 사용자와 무관하므로 장소당 하나의 키를 모든 사용자가 공유합니다.
+     * 사용자별 북마크/리뷰 여부는 generatePlaceUserFlagKey의 사용자별 집합에 따로 보관합니다.
+     * 
      * @param placeId 장소 ID
-     * @param userId 사용자 ID (null 가능)
      * @return 캐시 키
      */
-    public String generatePlaceStatsKey(String placeId, Long userId) {
-        StringBuilder keyBuilder = new StringBuilder("stats").append(DELIMITER).append(placeId);
-        
-        if (userId != null) {
-            keyBuilder.append(DELIMITER).append("user").append(userId);
-        } else {
-            keyBuilder.append(DELIMITER).append("guest");
-        }
-        
-        return keyBuilder.toString();
+    public String generatePlaceStatsKey(String placeId) {
+        return "stats" + DELIMITER + placeId;
+    }
+    
+    /**
+     * 사용자별 장소 플래그(북마크/리뷰한 장소 ID 집합) Redis 키 생성
+     * 
+     * @param flag 플래그 종류 (bookmarks, reviews)
+     * @param userId 사용자 ID
+     * @return Redis 키
+     */
+    public String generatePlaceUserFlagKey(String flag, Long userId) {
+        return "place-user-flags" + DELIMITER + flag + DELIMITER + userId;
+    }
+    
+    /**
+     * 검색어 인기도(검색한 서로 다른 사용자 수) Redis 정렬 집합 키 생성
+     * 
+     * 모든 노드가 같은 집합에 사용자 수를 누적하며, 자동완성 인덱스가 기동 시 상위 검색어를 읽어 적재합니다.
+     * 검색 횟수를 누적하던 기존 집합은 한 사용자의 반복 검색이 섞여 있으므로 다른 키를 사용합니다.
+     * 
+     * @return Redis 키
+     */
+    public String generateSearchQueryRankingKey() {
+        return "search-suggest" + DELIMITER + "query-ranking";
+    }
+    
+    /**
+     * 검색어별 검색한 사용자 HyperLogLog 키 생성
+     * 
+     * @param query 정규화된 검색어
+     * @return Redis 키
+     */
+    public String generateSearchQueryUsersKey(String query) {
+        return "search-suggest" + DELIMITER + "query-users" + DELIMITER + query;
     }
     
     /**
@@ -111,21 +165,49 @@ public class CacheKeyUtil {
     }
     
     /**
-     * 캐시 키에 안전한 문자열로 변환
+     * 표준 반경에 맞는 검색 타일 지오해시 정밀도
+     * 
+     * 반경이 작을수록 작은 타일을 사용하여, 인접 타일 결과를 재사용해도 거리 차이가 반경에 비해 작도록 합니다.
+     * 
+     * @param standardRadius 표준화된 반경 (null이면 기본값)
+     * @return 지오해시 길이
+     */
+    private int searchTilePrecision(Integer standardRadius) {
+        if (standardRadius == null) return 6;      // 약 1.2km x 0.6km
+        if (standardRadius <= 500) return 7;       // 약 150m x 150m
+        if (standardRadius <= 2000) return 6;      // 약 1.2km x 0.6km
+        if (standardRadius <= 10000) return 5;     // 약 4.9km x 4.9km
+        return 4;                                  // 약 39km x 20km
+    }
+
+    private String searchTileKey(String canonicalQuery, String tile, Integer standardRadius) {
+        StringBuilder keyBuilder = new StringBuilder(canonicalQuery)
+            .append(DELIMITER).append("tile").append(tile);
+        if (standardRadius != null) {
+            keyBuilder.append("r").append(standardRadius);
+        }
+        return searchKey(keyBuilder.toString());
+    }
+
+    private String searchKey(String searchCondition) {
+        return "search" + DELIMITER + hashForKey(searchCondition);
+    }
+
+    /**
+     * 캐시 키용 고정 길이 해시 생성 (SHA-256 앞 128비트, URL 안전 Base64)
      * 
      * @param input 입력 문자열
-     * @return 정제된 문자열
+     * @return 22자 해시 문자열
      */
-    private String sanitizeForKey(String input) {
-        if (input == null) {
-            return "null";
+    private String hashForKey(String input) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(digest, SEARCH_KEY_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
-        
-        // 특수문자를 언더스코어로 대체하고 소문자로 변환
-        return input.toLowerCase()
-            .replaceAll("[^a-zA-Z0-9가-힣]", "_")
-            .replaceAll("_+", "_") // 연속된 언더스코어를 하나로
-            .replaceAll("^_|_$", ""); // 시작과 끝의 언더스코어 제거
     }
 
     /**
@@ -0,0 +1,216 @@
+package com.example.wherewego.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지오해시(Geohash) 유틸리티
+ *
+ * 위도/경도를 base32 문자열 격자 셀로 변환합니다.
+ * 같은 접두사를 가진 지오해시는 인접한 영역을 나타내므로
+ * 인메모리 공간 인덱스의 버킷 키나 위치 기반 캐시 키로 사용합니다.
+ *
+ * 정밀도별 셀 크기 (위도 37도 기준, 대략)
+ * - 5자리: 약 4.9km x 4.9km
+ * - 6자리: 약 1.2km x 0.6km
+ * - 7자리: 약 150m x 150m
+ */
+public final class GeoHash {
+
+	private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+	private static final int[] BASE32_INDEX = new int[128];
+	private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+	static {
+		java.util.Arrays.fill(BASE32_INDEX, -1);
+		for (int i = 0; i < BASE32.length; i++) {
+			BASE32_INDEX[BASE32[i]] = i;
+		}
+	}
+
+	private GeoHash() {
+	}
+
+	/**
+	 * 위도/경도를 지오해시 문자열로 변환합니다.
+	 *
+	 * @param latitude 위도 (-90 ~ 90)
+	 * @param longitude 경도 (-180 ~ 180)
+	 * @param precision 지오해시 길이 (1 ~ 12)
+	 * @return 지오해시 문자열
+	 */
+	public static String encode(double latitude, double longitude, int precision) {
+		double minLat = -90.0;
+		double maxLat = 90.0;
+		double minLng = -180.0;
+		double maxLng = 180.0;
+
+		char[] hash = new char[precision];
+		boolean evenBit = true;
+		int bit = 0;
+		int charIndex = 0;
+
+		for (int i = 0; i < precision; ) {
+			if (evenBit) {
+				double mid = (minLng + maxLng) / 2;
+				if (longitude >= mid) {
+					charIndex = (charIndex << 1) | 1;
+					minLng = mid;
+				} else {
+					charIndex = charIndex << 1;
+					maxLng = mid;
+				}
+			} else {
+				double mid = (minLat + maxLat) / 2;
+				if (latitude >= mid) {
+					charIndex = (charIndex << 1) | 1;
+					minLat = mid;
+				} else {
+					charIndex = charIndex << 1;
+					maxLat = mid;
+				}
+			}
+			evenBit = !evenBit;
+
+			if (++bit == 5) {
+				hash[i++] = BASE32[charIndex];
+				bit = 0;
+				charIndex = 0;
+			}
+		}
+
+		return new String(hash);
+	}
+
+	/**
+	 * 지오해시 셀의 경계를 계산합니다.
+	 *
+	 * @param geohash 지오해시 문자열
+	 * @return {최소 위도, 최소 경도, 최대 위도, 최대 경도}
+	 * @throws IllegalArgumentException 지오해시 문자가 올바르지 않은 경우
+	 */
+	public static double[] decodeBounds(String geohash) {
+		double minLat = -90.0;
+		double maxLat = 90.0;
+		double minLng = -180.0;
+		double maxLng = 180.0;
+		boolean evenBit = true;
+
+		for (int i = 0; i < geohash.length(); i++) {
+			char c = geohash.charAt(i);
+			int value = c < 128 ? BASE32_INDEX[c] : -1;
+			if (value < 0) {
+				throw new IllegalArgumentException("올바르지 않은 지오해시 문자입니다: " + c);
+			}
+
+			for (int mask = 16; mask > 0; mask >>= 1) {
+				if (evenBit) {
+					double mid = (minLng + maxLng) / 2;
+					if ((value & mask) != 0) {
+						minLng = mid;
+					} else {
+						maxLng = mid;
+					}
+				} else {
+					double mid = (minLat + maxLat) / 2;
+					if ((value & mask) != 0) {
+						minLat = mid;
+					} else {
+						maxLat = mid;
+					}
+				}
+				evenBit = !evenBit;
+			}
+		}
+
+		return new double[] {minLat, minLng, maxLat, maxLng};
+	}
+
+	/**
+	 * 지정한 정밀도의 셀 높이(위도 방향, 도 단위)를 계산합니다.
+	 */
+	public static double cellHeight(int precision) {
+		int latBits = (precision * 5) / 2;
+		return 180.0 / (1L << latBits);
+	}
+
+	/**
+	 * 지정한 정밀도의 셀 너비(경도 방향, 도 단위)를 계산합니다.
+	 */
+	public static double cellWidth(int precision) {
+		int lngBits = (precision * 5 + 1) / 2;
+		return 360.0 / (1L << lngBits);
+	}
+
+	/**
+	 * 중심점과 반경으로 만든 사각 영역에 걸치는 모든 셀을 계산합니다.
+	 *
+	 * @param latitude 중심 위도
+	 * @param longitude 중심 경도
+	 * @param radiusMeters 반경 (미터)
+	 * @param precision 지오해시 길이
+	 * @return 영역과 겹치는 지오해시 목록 (중복 없음)
+	 */
+	public static List<String> coveringCells(double latitude, double longitude, double radiusMeters,
+		int precision) {
+		double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+		double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+		double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * cosLat);
+
+		double minLat = Math.max(latitude - latDelta, -90.0);
+		double maxLat = Math.min(latitude + latDelta, 90.0);
+		double minLng = Math.max(longitude - lngDelta, -180.0);
+		double maxLng = Math.min(longitude + lngDelta, 180.0);
+
+		double height = cellHeight(precision);
+		double width = cellWidth(precision);
+
+		// 셀 경계에 맞춰 시작점을 정렬한 뒤 셀 중심점을 순회
+		double startLat = Math.floor((minLat + 90.0) / height) * height - 90.0 + height / 2;
+		double startLng = Math.floor((minLng + 180.0) / width) * width - 180.0 + width / 2;
+
+		List<String> cells = new ArrayList<>();
+		for (double lat = startLat; lat - height / 2 <= maxLat; lat += height) {
+			for (double lng = startLng; lng - width / 2 <= maxLng; lng += width) {
+				cells.add(encode(Math.min(lat, 90.0), Math.min(lng, 180.0), precision));
+			}
+		}
+		return cells;
+	}
+
+	/**
+	 * 지오해시 셀과 주변 8개 셀을 계산합니다.
+	 *
+	 * @param geohash 중심 지오해시
+	 * @return 중심 셀을 포함한 최대 9개의 지오해시 (중복 없음)
+	 */
+	public static List<String> neighborsWithSelf(String geohash) {
+		double[] bounds = decodeBounds(geohash);
+		double height = bounds[2] - bounds[0];
+		double width = bounds[3] - bounds[1];
+		double centerLat = (bounds[0] + bounds[2]) / 2;
+		double centerLng = (bounds[1] + bounds[3]) / 2;
+
+		List<String> cells = new ArrayList<>(9);
+		for (int dLat = -1; dLat <= 1; dLat++) {
+			for (int dLng = -1; dLng <= 1; dLng++) {
+				double lat = centerLat + dLat * height;
+				double lng = centerLng + dLng * width;
+				if (lat < -90.0 || lat > 90.0) {
+					continue;
+				}
+				// 날짜변경선을 넘는 경우 경도를 반대편으로 보정
+				if (lng > 180.0) {
+					lng -= 360.0;
+				} else if (lng < -180.0) {
+					lng += 360.0;
+				}
+				String cell = encode(lat, lng, geohash.length());
+				if (!cells.contains(cell)) {
+					cells.add(cell);
+				}
+			}
+		}
+		return cells;
+	}
+}
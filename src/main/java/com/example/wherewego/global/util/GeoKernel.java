@@ -0,0 +1,129 @@
+package com.example.wherewego.global.util;
+
+/**
+ * 원시 배열 기반 거리 계산 커널
+ *
+ * 위도/경도를 double[] 배열로 받아 한 지점에서 여러 지점까지의 거리, 또는 연속한 지점 간 구간 거리를
+ * 한 번의 순회로 계산합니다. 박싱된 좌표와 쌍 단위 호출 대신 배열을 사용하여 객체 역참조와 언박싱을 없애고,
+ * 기준 지점의 cos(위도)는 한 번만, 각 지점의 cos(위도)는 순회 중 한 번만 계산합니다.
+ *
+ * - Haversine: 구면 거리 (정확한 값이 필요한 응답용 거리)
+ * - 등장방형(equirectangular) 근사: 삼각함수 없이 곱셈만으로 계산하며,
+ *   도시 내 거리(수십 km 이하)에서는 Haversine과의 차이가 0.1% 미만이므로 반경 필터/정렬에 사용합니다.
+ *
+ * 좌표가 없는 지점은 NaN으로 전달하며, 해당 지점의 거리는 NaN이 됩니다.
+ */
+public final class GeoKernel {
+
+	/**
+	 * 지구 평균 반지름 (미터)
+	 */
+	public static final double EARTH_RADIUS_METERS = 6_371_000;
+
+	private static final double RADIANS_PER_DEGREE = Math.PI / 180.0;
+
+	private GeoKernel() {
+	}
+
+	/**
+	 * 두 지점 사이의 Haversine 거리를 계산합니다.
+	 *
+	 * @return 거리 (미터)
+	 */
+	public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+		return haversine(lat1 * RADIANS_PER_DEGREE, Math.cos(lat1 * RADIANS_PER_DEGREE), lng1,
+			lat2 * RADIANS_PER_DEGREE, Math.cos(lat2 * RADIANS_PER_DEGREE), lng2);
+	}
+
+	/**
+	 * 두 지점 사이의 등장방형 근사 거리를 계산합니다.
+	 *
+	 * @return 거리 (미터)
+	 */
+	public static double equirectangularMeters(double lat1, double lng1, double lat2, double lng2) {
+		double x = (lng2 - lng1) * Math.cos((lat1 + lat2) / 2 * RADIANS_PER_DEGREE);
+		double y = lat2 - lat1;
+		return EARTH_RADIUS_METERS * RADIANS_PER_DEGREE * Math.sqrt(x * x + y * y);
+	}
+
+	/**
+	 * 기준 지점에서 각 지점까지의 Haversine 거리를 계산합니다.
+	 *
+	 * @param latitude 기준 위도
+	 * @param longitude 기준 경도
+	 * @param latitudes 대상 위도 배열
+	 * @param longitudes 대상 경도 배열 (위도 배열과 같은 길이)
+	 * @param out 결과를 담을 배열 (위도 배열 길이 이상)
+	 */
+	public static void haversineFrom(double latitude, double longitude, double[] latitudes, double[] longitudes,
+		double[] out) {
+		double originLat = latitude * RADIANS_PER_DEGREE;
+		double originCos = Math.cos(originLat);
+		for (int i = 0; i < latitudes.length; i++) {
+			double lat = latitudes[i] * RADIANS_PER_DEGREE;
+			out[i] = haversine(originLat, originCos, longitude, lat, Math.cos(lat), longitudes[i]);
+		}
+	}
+
+	/**
+	 * 기준 지점에서 각 지점까지의 등장방형 근사 거리를 계산합니다.
+	 * 기준 위도의 cos 값 하나로 경도 차이를 보정하므로 지점별 삼각함수 호출이 없습니다.
+	 *
+	 * @param latitude 기준 위도
+	 * @param longitude 기준 경도
+	 * @param latitudes 대상 위도 배열
+	 * @param longitudes 대상 경도 배열 (위도 배열과 같은 길이)
+	 * @param out 결과를 담을 배열 (위도 배열 길이 이상)
+	 */
+	public static void equirectangularFrom(double latitude, double longitude, double[] latitudes,
+		double[] longitudes, double[] out) {
+		double lngScale = Math.cos(latitude * RADIANS_PER_DEGREE);
+		double metersPerDegree = EARTH_RADIUS_METERS * RADIANS_PER_DEGREE;
+		for (int i = 0; i < latitudes.length; i++) {
+			double x = (longitudes[i] - longitude) * lngScale;
+			double y = latitudes[i] - latitude;
+			out[i] = metersPerDegree * Math.sqrt(x * x + y * y);
+		}
+	}
+
+	/**
+	 * 연속한 지점 간 구간 Haversine 거리를 계산합니다. 각 지점의 cos(위도)는 한 번만 계산합니다.
+	 *
+	 * @param latitudes 방문 순서대로 정렬된 위도 배열
+	 * @param longitudes 방문 순서대로 정렬된 경도 배열 (위도 배열과 같은 길이)
+	 * @param out 결과를 담을 배열 (out[i] = i-1번 지점에서 i번 지점까지의 거리, out[0] = 0)
+	 */
+	public static void haversineLegs(double[] latitudes, double[] longitudes, double[] out) {
+		if (latitudes.length == 0) {
+			return;
+		}
+
+		out[0] = 0;
+		double previousLat = latitudes[0] * RADIANS_PER_DEGREE;
+		double previousCos = Math.cos(previousLat);
+		for (int i = 1; i < latitudes.length; i++) {
+			double lat = latitudes[i] * RADIANS_PER_DEGREE;
+			double cos = Math.cos(lat);
+			out[i] = haversine(previousLat, previousCos, longitudes[i - 1], lat, cos, longitudes[i]);
+			previousLat = lat;
+			previousCos = cos;
+		}
+	}
+
+	/**
+	 * cos(위도)가 계산된 두 지점의 Haversine 거리
+	 *
+	 * @param lat1 첫 번째 지점 위도 (라디안)
+	 * @param cos1 첫 번째 지점 cos(위도)
+	 * @param lng1 첫 번째 지점 경도 (도)
+	 * @param lat2 두 번째 지점 위도 (라디안)
+	 * @param cos2 두 번째 지점 cos(위도)
+	 * @param lng2 두 번째 지점 경도 (도)
+	 */
+	private static double haversine(double lat1, double cos1, double lng1, double lat2, double cos2, double lng2) {
+		double sinHalfDeltaLat = Math.sin((lat2 - lat1) / 2);
+		double sinHalfDeltaLng = Math.sin((lng2 - lng1) * RADIANS_PER_DEGREE / 2);
+		double a = sinHalfDeltaLat * sinHalfDeltaLat + cos1 * cos2 * sinHalfDeltaLng * sinHalfDeltaLng;
+		return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+	}
+}
@@ -0,0 +1,127 @@
+package com.example.wherewego.global.util;
+
+/**
+ * 한글 자모 분해 유틸리티
+ *
+ * 자동완성 접두사 매칭을 위해 문자열을 정규화하고 한글 음절을 자모 단위로 풀어 씁니다.
+ * 자모는 키보드 입력기가 내보내는 호환 자모(ㄱ, ㅏ 등)로 통일하므로 입력 중인 글자와도 그대로 비교할 수 있습니다.
+ *
+ * - 자모 분해: "강남" → "ㄱㅏㅇㄴㅏㅁ" (입력 중인 "강나"도 접두사로 일치)
+ * - 겹받침/이중모음은 구성 자모로 풀어 씀: "닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ"
+ * - 초성 추출: "강남역" → "ㄱㄴㅇ"
+ *
+ * 한글이 아닌 문자는 소문자로 바꾸어 그대로 두고, 공백은 제거합니다 ("강남 카페"와 "강남카페"를 같게 취급).
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BASE = '가';
+	private static final char SYLLABLE_LAST = '힣';
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private static final String[] CHOSEONG = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+	private static final String[] JUNGSEONG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+	private static final String[] JONGSEONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+		"ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+	// 호환 자모 중 겹자음/이중모음을 입력한 경우의 분해 (ㄳ ~ ㅢ)
+	private static final char COMPATIBILITY_FIRST = 'ㄱ';
+	private static final char COMPATIBILITY_CONSONANT_LAST = 'ㅎ';
+	private static final char COMPATIBILITY_LAST = 'ㅣ';
+	private static final String[] COMPATIBILITY_DECOMPOSITION = new String[COMPATIBILITY_LAST - COMPATIBILITY_FIRST + 1];
+
+	static {
+		String[][] compounds = {
+			{"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"},
+			{"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"},
+			{"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}};
+		for (String[] compound : compounds) {
+			COMPATIBILITY_DECOMPOSITION[compound[0].charAt(0) - COMPATIBILITY_FIRST] = compound[1];
+		}
+	}
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 문자열을 자모 단위로 분해합니다.
+	 *
+	 * @param text 원본 문자열
+	 * @return 공백을 제거하고 한글 음절을 호환 자모로 분해한 소문자 문자열
+	 */
+	public static String decompose(String text) {
+		StringBuilder result = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if (Character.isWhitespace(ch)) {
+				continue;
+			}
+			if (isSyllable(ch)) {
+				int offset = ch - SYLLABLE_BASE;
+				result.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+					.append(JUNGSEONG[offset / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+					.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+			} else if (isCompatibilityJamo(ch) && COMPATIBILITY_DECOMPOSITION[ch - COMPATIBILITY_FIRST] != null) {
+				result.append(COMPATIBILITY_DECOMPOSITION[ch - COMPATIBILITY_FIRST]);
+			} else {
+				result.append(Character.toLowerCase(ch));
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 문자열의 초성만 추출합니다. 한글이 아닌 문자는 소문자로 그대로 둡니다.
+	 *
+	 * @param text 원본 문자열
+	 * @return 공백을 제거한 초성 문자열
+	 */
+	public static String chosung(String text) {
+		StringBuilder result = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if (Character.isWhitespace(ch)) {
+				continue;
+			}
+			if (isSyllable(ch)) {
+				result.append(CHOSEONG[(ch - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+			} else {
+				result.append(Character.toLowerCase(ch));
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 공백을 제외한 모든 문자가 한글 자음(호환 자모)인지 확인합니다. 초성 검색 여부 판단에 사용합니다.
+	 *
+	 * @param text 검사할 문자열
+	 * @return 자음으로만 이루어져 있으면 true (빈 문자열은 false)
+	 */
+	public static boolean isChosungOnly(String text) {
+		boolean hasConsonant = false;
+		for (int i = 0; i < text.length(); i++) {
+			char ch = text.charAt(i);
+			if (Character.isWhitespace(ch)) {
+				continue;
+			}
+			if (ch < COMPATIBILITY_FIRST || ch > COMPATIBILITY_CONSONANT_LAST) {
+				return false;
+			}
+			hasConsonant = true;
+		}
+		return hasConsonant;
+	}
+
+	private static boolean isSyllable(char ch) {
+		return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+	}
+
+	private static boolean isCompatibilityJamo(char ch) {
+		return ch >= COMPATIBILITY_FIRST && ch <= COMPATIBILITY_LAST;
+	}
+}
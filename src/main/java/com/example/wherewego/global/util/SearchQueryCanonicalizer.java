@@ -0,0 +1,201 @@
+package com.example.wherewego.global.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 정규화기
+ *
+ * 같은 의미의 검색어("강남 스타벅스", "스타벅스 강남", "스타벅스강남역")가 서로 다른 캐시 엔트리와
+ * 유료 API 호출로 이어지지 않도록 검색 캐시 키용 대표 형태로 변환합니다.
+ *
+ * 1. 유니코드 NFC 정규화 및 소문자 변환
+ * 2. 문자/숫자 외 문자를 공백으로 바꾸어 토큰 분리
+ * 3. 붙여 쓴 토큰을 별칭 사전의 단어 기준으로 분리 (가장 긴 단어 우선)
+ * 4. 별칭을 대표어로 치환 (예: 스벅 → 스타벅스, 강남역 → 강남)
+ * 5. 불용어 제거 (모든 토큰이 불용어이면 그대로 유지)
+ * 6. 중복 제거 후 정렬하여 단어 순서 차이 제거
+ *
+ * 정규화 결과는 캐시 키에만 사용하며, 실제 API 요청에는 사용자가 입력한 검색어를 그대로 보냅니다.
+ */
+@Slf4j
+@Component
+public class SearchQueryCanonicalizer {
+
+	private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	// 별칭/대표어 → 대표어
+	private final Map<String, String> aliases = new HashMap<>();
+	private final Set<String> stopWords = new HashSet<>();
+	// 붙여 쓴 토큰 분리에 사용하는 사전 단어의 최대 길이
+	private final int maxTermLength;
+
+	@Autowired
+	public SearchQueryCanonicalizer(
+		@Value("${search.query.alias-file:classpath:search/query-aliases.txt}") Resource aliasFile,
+		@Value("${search.query.stop-words:근처,주변,부근,인근,가까운}") List<String> stopWords) {
+		this(loadAliases(aliasFile), new HashSet<>(stopWords));
+	}
+
+	/**
+	 * @param aliases 별칭을 키로 하는 대표어
+	 * @param stopWords 캐시 키에서 제외할 단어
+	 */
+	public SearchQueryCanonicalizer(Map<String, String> aliases, Set<String> stopWords) {
+		aliases.forEach((alias, canonical) -> {
+			String normalizedCanonical = normalize(canonical);
+			this.aliases.put(normalize(alias), normalizedCanonical);
+			this.aliases.putIfAbsent(normalizedCanonical, normalizedCanonical);
+		});
+		stopWords.forEach(stopWord -> this.stopWords.add(normalize(stopWord)));
+
+		int maxLength = 0;
+		for (String term : this.aliases.keySet()) {
+			maxLength = Math.max(maxLength, term.length());
+		}
+		for (String stopWord : this.stopWords) {
+			maxLength = Math.max(maxLength, stopWord.length());
+		}
+		this.maxTermLength = maxLength;
+	}
+
+	/**
+	 * 검색어를 캐시 키용 대표 형태로 변환합니다.
+	 *
+	 * @param query 사용자가 입력한 검색어
+	 * @return 공백으로 구분된 정렬된 대표어 목록 (검색어가 없으면 빈 문자열)
+	 */
+	public String canonicalize(String query) {
+		if (query == null || query.isBlank()) {
+			return "";
+		}
+
+		List<String> tokens = new ArrayList<>();
+		for (String token : NON_WORD.split(normalize(query))) {
+			if (!token.isEmpty()) {
+				segment(token, tokens);
+			}
+		}
+
+		Set<String> terms = new TreeSet<>();
+		Set<String> meaningfulTerms = new TreeSet<>();
+		for (String token : tokens) {
+			String term = aliases.getOrDefault(token, token);
+			terms.add(term);
+			if (!stopWords.contains(term)) {
+				meaningfulTerms.add(term);
+			}
+		}
+
+		return String.join(" ", meaningfulTerms.isEmpty() ? terms : meaningfulTerms);
+	}
+
+	/**
+	 * 붙여 쓴 토큰을 사전 단어 기준으로 분리합니다.
+	 * 각 위치에서 가장 긴 사전 단어를 먼저 찾고, 사전에 없는 구간은 하나의 토큰으로 묶습니다.
+	 */
+	private void segment(String token, List<String> out) {
+		if (maxTermLength == 0 || isDictionaryTerm(token)) {
+			out.add(token);
+			return;
+		}
+
+		StringBuilder unknown = new StringBuilder();
+		int index = 0;
+		while (index < token.length()) {
+			String match = longestTermAt(token, index);
+			if (match == null) {
+				unknown.append(token.charAt(index++));
+				continue;
+			}
+
+			if (!unknown.isEmpty()) {
+				out.add(unknown.toString());
+				unknown.setLength(0);
+			}
+			out.add(match);
+			index += match.length();
+		}
+
+		if (!unknown.isEmpty()) {
+			out.add(unknown.toString());
+		}
+	}
+
+	private String longestTermAt(String token, int start) {
+		int maxEnd = Math.min(token.length(), start + maxTermLength);
+		for (int end = maxEnd; end > start; end--) {
+			String candidate = token.substring(start, end);
+			if (isDictionaryTerm(candidate)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	private boolean isDictionaryTerm(String term) {
+		return aliases.containsKey(term) || stopWords.contains(term);
+	}
+
+	private static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+	}
+
+	/**
+	 * 별칭 사전 파일을 읽습니다. 한 줄에 "대표어 = 별칭1, 별칭2" 형식이며 '#'으로 시작하는 줄은 무시합니다.
+	 * 파일을 읽을 수 없으면 별칭 치환 없이 동작합니다.
+	 */
+	private static Map<String, String> loadAliases(Resource aliasFile) {
+		if (aliasFile == null || !aliasFile.exists()) {
+			log.warn("검색어 별칭 사전 파일 없음 - 별칭 치환 없이 동작");
+			return Collections.emptyMap();
+		}
+
+		Map<String, String> aliases = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(
+			new InputStreamReader(aliasFile.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				int separator = line.indexOf('=');
+				if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+					continue;
+				}
+
+				String canonical = line.substring(0, separator).trim();
+				for (String alias : line.substring(separator + 1).split(",")) {
+					if (!alias.isBlank()) {
+						aliases.put(alias.trim(), canonical);
+					}
+				}
+				aliases.putIfAbsent(canonical, canonical);
+			}
+		} catch (IOException e) {
+			log.warn("검색어 별칭 사전 로드 실패 - 별칭 치환 없이 동작", e);
+			return Collections.emptyMap();
+		}
+
+		log.info("검색어 별칭 사전 로드 완료 - 단어 수: {}", aliases.size());
+		return aliases;
+	}
+}
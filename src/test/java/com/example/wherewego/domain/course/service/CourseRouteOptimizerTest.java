@@ -0,0 +1,118 @@
+package com.example.wherewego.domain.course.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.courses.service.CourseRouteOptimizer;
+import com.example.wherewego.global.util.GeoKernel;
+
+@DisplayName("CourseRouteOptimizer 테스트")
+class CourseRouteOptimizerTest {
+
+	private final CourseRouteOptimizer optimizer = new CourseRouteOptimizer();
+
+	private double routeDistance(int[] order, double[] latitudes, double[] longitudes, Double startLatitude,
+		Double startLongitude) {
+		double total = startLatitude != null
+			? GeoKernel.haversineMeters(startLatitude, startLongitude, latitudes[order[0]], longitudes[order[0]])
+			: 0;
+		for (int i = 1; i < order.length; i++) {
+			total += GeoKernel.haversineMeters(latitudes[order[i - 1]], longitudes[order[i - 1]],
+				latitudes[order[i]], longitudes[order[i]]);
+		}
+		return total;
+	}
+
+	@Nested
+	@DisplayName("방문 순서 최적화")
+	class Optimize {
+
+		@Test
+		@DisplayName("한 줄로 놓인 장소를 뒤섞어 보내도 출발 위치에서 가까운 순서대로 방문한다")
+		void shouldVisitInLineOrderFromStart() {
+			// given - 경도 방향으로 약 900m 간격, 요청 순서는 뒤섞임
+			double[] latitudes = {37.5, 37.5, 37.5, 37.5, 37.5};
+			double[] longitudes = {127.03, 127.01, 127.04, 127.00, 127.02};
+
+			// when
+			int[] order = optimizer.optimize(latitudes, longitudes, 37.5, 126.99);
+
+			// then
+			assertThat(order).containsExactly(3, 1, 4, 0, 2);
+		}
+
+		@Test
+		@DisplayName("출발 위치가 없으면 출발 장소도 함께 골라 한쪽 끝에서 시작한다")
+		void shouldChooseEndpointWithoutStart() {
+			// given
+			double[] latitudes = {37.5, 37.5, 37.5, 37.5};
+			double[] longitudes = {127.02, 127.00, 127.03, 127.01};
+
+			// when
+			int[] order = optimizer.optimize(latitudes, longitudes, null, null);
+
+			// then
+			assertThat(order).satisfiesAnyOf(
+				result -> assertThat(result).containsExactly(1, 3, 0, 2),
+				result -> assertThat(result).containsExactly(2, 0, 3, 1));
+		}
+
+		@Test
+		@DisplayName("좌표가 없는 장소는 원래 순서대로 경로 끝에 둔다")
+		void shouldKeepUnlocatedPlacesAtEnd() {
+			// given
+			double[] latitudes = {Double.NaN, 37.5, Double.NaN, 37.5};
+			double[] longitudes = {Double.NaN, 127.02, Double.NaN, 127.00};
+
+			// when
+			int[] order = optimizer.optimize(latitudes, longitudes, 37.5, 126.99);
+
+			// then
+			assertThat(order).containsExactly(3, 1, 0, 2);
+		}
+
+		@Test
+		@DisplayName("30개 장소도 모든 장소를 한 번씩 포함하며 원래 순서보다 짧은 경로를 만든다")
+		void shouldShortenLargeRoute() {
+			// given - 서울 도심 약 10km 범위의 무작위 장소
+			Random random = new Random(7);
+			double[] latitudes = new double[30];
+			double[] longitudes = new double[30];
+			for (int i = 0; i < 30; i++) {
+				latitudes[i] = 37.45 + random.nextDouble() * 0.1;
+				longitudes[i] = 126.95 + random.nextDouble() * 0.12;
+			}
+			int[] original = new int[30];
+			for (int i = 0; i < 30; i++) {
+				original[i] = i;
+			}
+
+			// when
+			int[] order = optimizer.optimize(latitudes, longitudes, 37.5, 127.0);
+
+			// then
+			assertThat(order).hasSize(30).doesNotHaveDuplicates();
+			assertThat(routeDistance(order, latitudes, longitudes, 37.5, 127.0))
+				.isLessThan(routeDistance(original, latitudes, longitudes, 37.5, 127.0) / 2);
+		}
+
+		@Test
+		@DisplayName("이미 최적인 순서는 그대로 유지한다")
+		void shouldKeepAlreadyOptimalOrder() {
+			// given
+			double[] latitudes = {37.5, 37.5, 37.5};
+			double[] longitudes = {127.00, 127.01, 127.02};
+
+			// when
+			int[] order = optimizer.optimize(latitudes, longitudes, 37.5, 126.99);
+
+			// then
+			assertThat(order).containsExactly(0, 1, 2);
+		}
+	}
+}
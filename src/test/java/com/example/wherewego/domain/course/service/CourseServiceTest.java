@@ -31,6 +31,7 @@ import com.example.wherewego.domain.courses.repository.CourseRepository;
 import com.example.wherewego.domain.courses.repository.PlacesOrderRepository;
 import com.example.wherewego.domain.courses.service.CourseService;
 import com.example.wherewego.domain.places.service.PlaceService;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
 import com.example.wherewego.domain.user.entity.User;
 import com.example.wherewego.domain.user.service.UserService;
 import com.example.wherewego.global.exception.CustomException;
@@ -56,6 +57,9 @@ class CourseServiceTest {
 	@Mock
 	private PlacesOrderRepository placesOrderRepository;
 
+	@Mock
+	private SearchSuggestService searchSuggestService;
+
 	@InjectMocks
 	private CourseService courseService;
 
@@ -0,0 +1,558 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.domain.common.enums.PlaceDetailTier;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.service.GooglePlaceStreamDecoder.DecodedResponse;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.cache.RefreshAheadPolicy;
+import com.example.wherewego.global.cache.SingleFlight;
+import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiSku;
+import com.example.wherewego.global.quota.QuotaLane;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+import com.example.wherewego.global.util.CacheKeyUtil;
+import com.example.wherewego.global.util.SearchQueryCanonicalizer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GooglePlaceDetailService 테스트")
+class GooglePlaceDetailServiceTest {
+
+	@Mock
+	private WebClient googleWebClient;
+
+	@Mock
+	private GooglePlaceStreamDecoder googlePlaceStreamDecoder;
+
+	@Mock
+	private RedisBatchCache redisBatchCache;
+
+	@Spy
+	private CacheKeyUtil cacheKeyUtil = new CacheKeyUtil(new SearchQueryCanonicalizer(Map.of(), Set.of()));
+
+	// 하이드레이션/백그라운드 작업 Executor 모두 이 mock이 주입됨
+	@Mock
+	private Executor placeHydrationExecutor;
+
+	@Spy
+	private SingleFlight singleFlight = new SingleFlight();
+
+	@Mock
+	private PlaceCatalogService placeCatalogService;
+
+	@Mock
+	private ResilientEndpoint googlePlaceDetailsEndpoint;
+
+	@Mock
+	private RefreshAheadPolicy placeDetailsRefreshPolicy;
+
+	@Mock
+	private GoogleApiQuotaGovernor googleApiQuotaGovernor;
+
+	@InjectMocks
+	private GooglePlaceDetailService googlePlaceDetailService;
+
+	@Nested
+	@DisplayName("장소 상세 정보 일괄 조회")
+	class GetPlaceDetails {
+
+		@Test
+		@DisplayName("모든 장소가 캐시에 있으면 한 번의 일괄 조회로 반환하고 API를 호출하지 않는다")
+		void shouldReturnCachedPlacesWithoutApiCall() {
+			// given
+			PlaceDetailResponseDto place1 = PlaceDetailResponseDto.builder().placeId("place1").name("장소1").build();
+			PlaceDetailResponseDto place2 = PlaceDetailResponseDto.builder().placeId("place2").name("장소2").build();
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1", "google:place2"),
+				PlaceDetailResponseDto.class))
+				.willReturn(Map.of("google:place1", place1, "google:place2", place2));
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(
+				List.of("place1", "place2", "place1"));
+
+			// then
+			assertThat(result).containsOnlyKeys("place1", "place2");
+			assertThat(result.get("place2").getName()).isEqualTo("장소2");
+			verify(redisBatchCache, times(1)).multiGet(anyString(), anyList(), eq(PlaceDetailResponseDto.class));
+			verify(redisBatchCache, never()).multiPut(anyString(), anyMap(), any());
+			verifyNoInteractions(googleWebClient, placeHydrationExecutor, placeCatalogService);
+		}
+
+		@Test
+		@DisplayName("캐시 미스 장소는 카탈로그에서 복원하고 API 호출 없이 캐시에 다시 저장한다")
+		void shouldRestoreMissedPlacesFromCatalog() {
+			// given
+			PlaceDetailResponseDto place1 = PlaceDetailResponseDto.builder().placeId("place1").name("장소1").build();
+			PlaceDetailResponseDto place2 = PlaceDetailResponseDto.builder().placeId("place2").name("장소2").build();
+
+			given(redisBatchCache.multiGet(eq("google-place-details"), anyList(), eq(PlaceDetailResponseDto.class)))
+				.willReturn(Map.of("google:place1", place1));
+			given(placeCatalogService.findFreshPlaces(List.of("place2"))).willReturn(Map.of("place2", place2));
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(
+				List.of("place1", "place2"));
+
+			// then
+			assertThat(result).containsOnlyKeys("place1", "place2");
+			verify(redisBatchCache).multiPut(eq("google-place-details"), eq(Map.of("google:place2", place2)), any());
+			verifyNoInteractions(googleWebClient, placeHydrationExecutor);
+		}
+
+		@Test
+		@DisplayName("API 호출이 거절되면 허용 기간이 지난 카탈로그 데이터로 대신 응답한다")
+		void shouldFallbackToLastKnownCatalogPlaceWhenApiUnavailable() {
+			// given
+			PlaceDetailResponseDto stalePlace = PlaceDetailResponseDto.builder().placeId("place3").name("장소3").build();
+
+			given(googlePlaceDetailsEndpoint.execute(any(), any()))
+				.willThrow(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+			given(placeCatalogService.findLastKnownPlace("place3")).willReturn(Optional.of(stalePlace));
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(List.of("place3"));
+
+			// then
+			assertThat(result).containsEntry("place3", stalePlace);
+			verify(googleApiQuotaGovernor).refund(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.INTERACTIVE);
+			verify(placeCatalogService, never()).saveAllAsync(anyList());
+			verifyNoInteractions(googleWebClient);
+		}
+
+		@Test
+		@DisplayName("빈 목록이면 캐시를 조회하지 않고 빈 결과를 반환한다")
+		void shouldReturnEmptyMapForEmptyInput() {
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(List.of());
+
+			// then
+			assertThat(result).isEmpty();
+			verifyNoInteractions(redisBatchCache, googleWebClient);
+		}
+	}
+
+	@Nested
+	@DisplayName("존재하지 않는 장소 부정 캐시")
+	class NegativeCache {
+
+		@Test
+		@DisplayName("존재하지 않는 것으로 기록된 장소는 API를 호출하지 않고 바로 예외를 던진다")
+		void shouldThrowWithoutApiCallForKnownNotFound() {
+			// given
+			given(redisBatchCache.multiGet("google-place-not-found", List.of("google:bad"), Boolean.class))
+				.willReturn(Map.of("google:bad", Boolean.TRUE));
+
+			// when & then
+			assertThatThrownBy(() -> googlePlaceDetailService.getPlaceDetail("bad"))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_NOT_FOUND);
+			verifyNoInteractions(placeCatalogService, googlePlaceDetailsEndpoint, googleApiQuotaGovernor);
+		}
+
+		@Test
+		@DisplayName("일괄 조회 시 존재하지 않는 것으로 기록된 장소는 카탈로그와 API 조회 대상에서 제외한다")
+		void shouldSkipKnownNotFoundInBatch() {
+			// given
+			PlaceDetailResponseDto place1 = PlaceDetailResponseDto.builder().placeId("place1").name("장소1").build();
+
+			given(redisBatchCache.multiGet(eq("google-place-details"), anyList(), eq(PlaceDetailResponseDto.class)))
+				.willReturn(Map.of("google:place1", place1));
+			given(redisBatchCache.multiGet("google-place-not-found", List.of("google:bad"), Boolean.class))
+				.willReturn(Map.of("google:bad", Boolean.TRUE));
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(
+				List.of("place1", "bad"));
+
+			// then
+			assertThat(result).containsOnlyKeys("place1");
+			verifyNoInteractions(placeCatalogService, googlePlaceDetailsEndpoint);
+			verify(redisBatchCache, never()).multiPut(anyString(), anyMap(), any());
+		}
+
+		@Test
+		@DisplayName("구글이 NOT_FOUND로 응답하면 부정 캐시에 기록하고 카탈로그로 대체하지 않는다")
+		void shouldRememberNotFoundResponse() {
+			// given
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+			given(decodedResponse.getStatus()).willReturn("NOT_FOUND");
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(List.of("bad"));
+
+			// then
+			assertThat(result).isEmpty();
+			verify(redisBatchCache).multiPut(eq("google-place-not-found"), eq(Map.of("google:bad", Boolean.TRUE)),
+				any());
+			verify(placeCatalogService, never()).findLastKnownPlace(anyString());
+		}
+
+		@Test
+		@DisplayName("쿼터 초과 등 일시적 오류 응답은 부정 캐시에 기록하지 않고 카탈로그 데이터로 대체한다")
+		void shouldNotRememberTransientFailure() {
+			// given
+			PlaceDetailResponseDto stalePlace = PlaceDetailResponseDto.builder().placeId("place1").name("장소1").build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+			given(decodedResponse.getStatus()).willReturn("OVER_QUERY_LIMIT");
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+			given(placeCatalogService.findLastKnownPlace("place1")).willReturn(Optional.of(stalePlace));
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(List.of("place1"));
+
+			// then
+			assertThat(result).containsEntry("place1", stalePlace);
+			verify(redisBatchCache, never()).multiPut(eq("google-place-not-found"), anyMap(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("장소 상세 정보 조기 갱신")
+	class RefreshAhead {
+
+		@Test
+		@DisplayName("오래된 캐시 엔트리는 기존 값으로 바로 응답하고 백그라운드에서 갱신하여 캐시에 다시 저장한다")
+		void shouldServeStaleValueAndRefreshInBackground() {
+			// given
+			LocalDateTime oldFetchedAt = LocalDateTime.now().minusDays(6);
+			PlaceDetailResponseDto stalePlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").name("예전 이름").fetchedAt(oldFetchedAt).build();
+			PlaceDetailResponseDto freshPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").name("새 이름").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1"),
+				PlaceDetailResponseDto.class)).willReturn(Map.of("google:place1", stalePlace));
+			given(placeDetailsRefreshPolicy.shouldRefresh(oldFetchedAt)).willReturn(true);
+			willAnswer(invocation -> {
+				((Runnable)invocation.getArgument(0)).run();
+				return null;
+			}).given(placeHydrationExecutor).execute(any(Runnable.class));
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(freshPlace));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			PlaceDetailResponseDto result = googlePlaceDetailService.getPlaceDetail("place1");
+
+			// then
+			assertThat(result.getName()).isEqualTo("예전 이름");
+			verify(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+			verify(redisBatchCache).multiPut(eq("google-place-details"), argThat(entries -> entries.size() == 1
+				&& isStamped(entries.get("google:place1"), freshPlace, PlaceDetailTier.BASIC)), any());
+			verify(placeCatalogService).saveAllAsync(argThat(places -> places.size() == 1
+				&& isStamped(places.get(0), freshPlace, PlaceDetailTier.BASIC)));
+		}
+
+		@Test
+		@DisplayName("갱신을 예약한 뒤 FULL로 올라간 엔트리는 BASIC 갱신 결과로 덮어쓰지 않는다")
+		void shouldNotDowngradeEntryUpgradedBeforeRefresh() {
+			// given - 조회 시점에는 오래된 BASIC, 갱신 결과 저장 직전에는 FULL
+			LocalDateTime oldFetchedAt = LocalDateTime.now().minusDays(6);
+			PlaceDetailResponseDto stalePlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(oldFetchedAt).build();
+			PlaceDetailResponseDto upgradedPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").phoneNumber("02-123-4567").fetchedAt(LocalDateTime.now().minusMinutes(1))
+				.detailTier(PlaceDetailTier.FULL).build();
+			PlaceDetailResponseDto freshPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1"),
+				PlaceDetailResponseDto.class))
+				.willReturn(Map.of("google:place1", stalePlace), Map.of("google:place1", upgradedPlace));
+			given(placeDetailsRefreshPolicy.shouldRefresh(oldFetchedAt)).willReturn(true);
+			willAnswer(invocation -> {
+				((Runnable)invocation.getArgument(0)).run();
+				return null;
+			}).given(placeHydrationExecutor).execute(any(Runnable.class));
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(freshPlace));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			googlePlaceDetailService.getPlaceDetail("place1");
+
+			// then
+			verify(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+			verify(redisBatchCache).multiPut(eq("google-place-details"), argThat(entries -> {
+				PlaceDetailResponseDto stored = (PlaceDetailResponseDto)entries.get("google:place1");
+				return stored.holdsTier(PlaceDetailTier.FULL) && "02-123-4567".equals(stored.getPhoneNumber());
+			}), any());
+		}
+
+		@Test
+		@DisplayName("갱신 시점이 아닌 캐시 엔트리는 백그라운드 갱신을 예약하지 않는다")
+		void shouldNotRefreshFreshEntry() {
+			// given
+			PlaceDetailResponseDto place = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build();
+
+			given(redisBatchCache.multiGet(eq("google-place-details"), anyList(), eq(PlaceDetailResponseDto.class)))
+				.willReturn(Map.of("google:place1", place));
+			given(placeDetailsRefreshPolicy.shouldRefresh(any())).willReturn(false);
+
+			// when
+			Map<String, PlaceDetailResponseDto> result = googlePlaceDetailService.getPlaceDetails(List.of("place1"));
+
+			// then
+			assertThat(result).containsEntry("place1", place);
+			verifyNoInteractions(placeHydrationExecutor, googlePlaceDetailsEndpoint);
+		}
+	}
+
+	@Nested
+	@DisplayName("인기 장소 미리 갱신")
+	class Prefetch {
+
+		private final Duration staleAfter = Duration.ofDays(5);
+
+		@Test
+		@DisplayName("캐시에 없거나 오래된 장소만 BACKGROUND 레인으로 갱신하고 신선한 장소는 건너뛴다")
+		void shouldRefreshOnlyMissingOrStalePlaces() {
+			// given
+			PlaceDetailResponseDto fresh = PlaceDetailResponseDto.builder()
+				.placeId("fresh").fetchedAt(LocalDateTime.now().minusDays(1)).build();
+			PlaceDetailResponseDto stale = PlaceDetailResponseDto.builder()
+				.placeId("stale").fetchedAt(LocalDateTime.now().minusDays(6)).build();
+			PlaceDetailResponseDto refreshedStale = PlaceDetailResponseDto.builder()
+				.placeId("stale").fetchedAt(LocalDateTime.now()).build();
+			PlaceDetailResponseDto refreshedMissing = PlaceDetailResponseDto.builder()
+				.placeId("missing").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse staleResponse = mock(DecodedResponse.class);
+			DecodedResponse missingResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet(eq("google-place-details"), anyList(), eq(PlaceDetailResponseDto.class)))
+				.willReturn(Map.of("google:fresh", fresh, "google:stale", stale));
+			given(staleResponse.getStatus()).willReturn("OK");
+			given(staleResponse.getPlaces()).willReturn(List.of(refreshedStale));
+			given(missingResponse.getStatus()).willReturn("OK");
+			given(missingResponse.getPlaces()).willReturn(List.of(refreshedMissing));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(staleResponse, missingResponse);
+
+			// when
+			int refreshed = googlePlaceDetailService.prefetchPlaceDetails(
+				List.of("fresh", "stale", "missing"), staleAfter, 10);
+
+			// then
+			assertThat(refreshed).isEqualTo(2);
+			verify(googleApiQuotaGovernor, times(2)).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+			verify(redisBatchCache).multiPut(eq("google-place-details"), argThat(entries -> entries.size() == 2
+				&& isStamped(entries.get("google:stale"), refreshedStale, PlaceDetailTier.BASIC)
+				&& isStamped(entries.get("google:missing"), refreshedMissing, PlaceDetailTier.BASIC)), any());
+		}
+
+		@Test
+		@DisplayName("BACKGROUND 갱신은 사용자 요청과 다른 키로 병합하여 예산 부족 실패를 사용자 요청에 넘기지 않는다")
+		void shouldUseBackgroundFlightKey() {
+			// given
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build()));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			googlePlaceDetailService.prefetchPlaceDetails(List.of("place1"), staleAfter, 10);
+
+			// then
+			verify(singleFlight).execute(endsWith("google:place1:BACKGROUND"), any());
+		}
+
+		@Test
+		@DisplayName("갱신하는 사이 FULL로 올라간 엔트리는 BASIC 결과로 덮어쓰지 않고 FULL 필드와 등급을 유지한다")
+		void shouldNotDowngradeEntryUpgradedDuringPrefetch() {
+			// given - 조회 시점에는 오래된 BASIC, 저장 직전에는 FULL
+			PlaceDetailResponseDto stale = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now().minusDays(6)).build();
+			PlaceDetailResponseDto upgraded = PlaceDetailResponseDto.builder()
+				.placeId("place1").phoneNumber("02-123-4567").fetchedAt(LocalDateTime.now().minusMinutes(1))
+				.detailTier(PlaceDetailTier.FULL).build();
+			PlaceDetailResponseDto refreshedBasic = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet(eq("google-place-details"), anyList(), eq(PlaceDetailResponseDto.class)))
+				.willReturn(Map.of("google:place1", stale), Map.of("google:place1", upgraded));
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(refreshedBasic));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			googlePlaceDetailService.prefetchPlaceDetails(List.of("place1"), staleAfter, 10);
+
+			// then
+			verify(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+			verify(redisBatchCache).multiPut(eq("google-place-details"), argThat(entries -> {
+				PlaceDetailResponseDto stored = (PlaceDetailResponseDto)entries.get("google:place1");
+				return stored.holdsTier(PlaceDetailTier.FULL) && "02-123-4567".equals(stored.getPhoneNumber());
+			}), any());
+		}
+
+		@Test
+		@DisplayName("실행당 호출 예산을 넘기지 않는다")
+		void shouldStayWithinCallBudget() {
+			// given
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(PlaceDetailResponseDto.builder().build()));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			googlePlaceDetailService.prefetchPlaceDetails(List.of("place1", "place2", "place3"), staleAfter, 2);
+
+			// then
+			verify(googlePlaceDetailsEndpoint, times(2)).execute(any(), any());
+		}
+
+		@Test
+		@DisplayName("BACKGROUND 예산이 부족하면 남은 장소는 다음 실행으로 미룬다")
+		void shouldStopWhenBackgroundQuotaExhausted() {
+			// given
+			willThrow(new CustomException(ErrorCode.EXTERNAL_API_QUOTA_EXCEEDED))
+				.given(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+
+			// when
+			int refreshed = googlePlaceDetailService.prefetchPlaceDetails(
+				List.of("place1", "place2", "place3"), staleAfter, 10);
+
+			// then
+			assertThat(refreshed).isZero();
+			verify(googleApiQuotaGovernor, times(1)).acquire(GoogleApiSku.PLACE_DETAILS_BASIC, QuotaLane.BACKGROUND);
+			verifyNoInteractions(googlePlaceDetailsEndpoint);
+			verify(redisBatchCache, never()).multiPut(anyString(), anyMap(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("필드 등급별 조회")
+	class DetailTier {
+
+		@Test
+		@DisplayName("BASIC 캐시 엔트리에 FULL 요청이 오면 FULL 요금으로 다시 조회하여 캐시와 카탈로그를 올린다")
+		void shouldUpgradeBasicEntryForFullRequest() {
+			// given
+			PlaceDetailResponseDto basicPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").name("장소1").fetchedAt(LocalDateTime.now().minusDays(1)).build();
+			PlaceDetailResponseDto fullPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").name("장소1").phoneNumber("02-123-4567").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1"),
+				PlaceDetailResponseDto.class)).willReturn(Map.of("google:place1", basicPlace));
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(fullPlace));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			PlaceDetailResponseDto result = googlePlaceDetailService.getPlaceDetail("place1", PlaceDetailTier.FULL);
+
+			// then
+			assertThat(result.getPhoneNumber()).isEqualTo("02-123-4567");
+			assertThat(result.getDetailTier()).isEqualTo(PlaceDetailTier.FULL);
+			verify(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+			verify(redisBatchCache).multiPut(eq("google-place-details"), argThat(entries -> entries.size() == 1
+				&& isStamped(entries.get("google:place1"), fullPlace, PlaceDetailTier.FULL)), any());
+			verify(placeCatalogService).saveAllAsync(argThat(places -> places.size() == 1
+				&& isStamped(places.get(0), fullPlace, PlaceDetailTier.FULL)));
+		}
+
+		@Test
+		@DisplayName("FULL 캐시 엔트리는 BASIC/FULL 요청 모두 API 호출 없이 응답한다")
+		void shouldServeFullEntryForAnyTier() {
+			// given
+			PlaceDetailResponseDto fullPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).detailTier(PlaceDetailTier.FULL).build();
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1"),
+				PlaceDetailResponseDto.class)).willReturn(Map.of("google:place1", fullPlace));
+
+			// when
+			PlaceDetailResponseDto fullResult = googlePlaceDetailService.getPlaceDetail("place1", PlaceDetailTier.FULL);
+			PlaceDetailResponseDto basicResult = googlePlaceDetailService.getPlaceDetail("place1");
+
+			// then
+			assertThat(fullResult).isSameAs(fullPlace);
+			assertThat(basicResult).isSameAs(fullPlace);
+			verifyNoInteractions(googlePlaceDetailsEndpoint, googleApiQuotaGovernor, placeCatalogService);
+		}
+
+		@Test
+		@DisplayName("등급 상향 조회가 거절되면 예산을 되돌리고 캐시된 BASIC 정보로 응답한다")
+		void shouldFallbackToCachedEntryWhenUpgradeFails() {
+			// given
+			PlaceDetailResponseDto basicPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build();
+
+			given(redisBatchCache.multiGet("google-place-details", List.of("google:place1"),
+				PlaceDetailResponseDto.class)).willReturn(Map.of("google:place1", basicPlace));
+			given(googlePlaceDetailsEndpoint.execute(any(), any()))
+				.willThrow(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+
+			// when
+			PlaceDetailResponseDto result = googlePlaceDetailService.getPlaceDetail("place1", PlaceDetailTier.FULL);
+
+			// then
+			assertThat(result).isSameAs(basicPlace);
+			verify(googleApiQuotaGovernor).refund(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+			verify(redisBatchCache, never()).multiPut(anyString(), anyMap(), any());
+		}
+
+		@Test
+		@DisplayName("FULL 요청의 캐시 미스는 BASIC 필드만 가진 카탈로그를 건너뛰고 API를 호출한다")
+		void shouldSkipCatalogForFullRequest() {
+			// given
+			PlaceDetailResponseDto fullPlace = PlaceDetailResponseDto.builder()
+				.placeId("place1").fetchedAt(LocalDateTime.now()).build();
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(decodedResponse.getStatus()).willReturn("OK");
+			given(decodedResponse.getPlaces()).willReturn(List.of(fullPlace));
+			given(googlePlaceDetailsEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			PlaceDetailResponseDto result = googlePlaceDetailService.getPlaceDetail("place1", PlaceDetailTier.FULL);
+
+			// then
+			assertThat(result.getDetailTier()).isEqualTo(PlaceDetailTier.FULL);
+			verify(placeCatalogService, never()).findFreshPlace(anyString());
+			verify(googleApiQuotaGovernor).acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+		}
+	}
+
+	/**
+	 * 조회 결과가 기대한 장소에 필드 등급이 기록된 사본인지 확인
+	 */
+	private static boolean isStamped(Object actual, PlaceDetailResponseDto expected, PlaceDetailTier tier) {
+		return actual instanceof PlaceDetailResponseDto place
+			&& Objects.equals(place.getPlaceId(), expected.getPlaceId())
+			&& Objects.equals(place.getFetchedAt(), expected.getFetchedAt())
+			&& place.getDetailTier() == tier;
+	}
+}
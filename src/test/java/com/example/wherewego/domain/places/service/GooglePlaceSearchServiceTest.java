@@ -0,0 +1,171 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.service.GooglePlaceStreamDecoder.DecodedResponse;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.cache.SingleFlight;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+import com.example.wherewego.global.util.CacheKeyUtil;
+import com.example.wherewego.global.util.SearchQueryCanonicalizer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GooglePlaceSearchService 테스트")
+class GooglePlaceSearchServiceTest {
+
+	private static final double USER_LAT = 37.4979;
+	private static final double USER_LNG = 127.0276;
+
+	@Mock
+	private WebClient googleWebClient;
+
+	@Mock
+	private GooglePlaceStreamDecoder googlePlaceStreamDecoder;
+
+	@Spy
+	private CacheKeyUtil cacheKeyUtil = new CacheKeyUtil(new SearchQueryCanonicalizer(Map.of(), Set.of()));
+
+	@Mock
+	private RedisBatchCache redisBatchCache;
+
+	@Spy
+	private SingleFlight singleFlight = new SingleFlight();
+
+	@Mock
+	private PlaceCatalogService placeCatalogService;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private Executor placeTaskExecutor;
+
+	@Mock
+	private ResilientEndpoint googleTextSearchEndpoint;
+
+	@Mock
+	private GoogleApiQuotaGovernor googleApiQuotaGovernor;
+
+	@InjectMocks
+	private GooglePlaceSearchService googlePlaceSearchService;
+
+	private PlaceSearchRequestDto nearMeRequest() {
+		return PlaceSearchRequestDto.builder()
+			.query("카페")
+			.userLocation(PlaceSearchRequestDto.UserLocation.builder()
+				.latitude(USER_LAT)
+				.longitude(USER_LNG)
+				.radius(1000)
+				.build())
+			.build();
+	}
+
+	private PlaceDetailResponseDto place(String placeId, double latOffset) {
+		return PlaceDetailResponseDto.builder()
+			.placeId(placeId)
+			.latitude(USER_LAT + latOffset)
+			.longitude(USER_LNG)
+			.build();
+	}
+
+	@Nested
+	@DisplayName("지오해시 타일 검색 캐시")
+	class TileCache {
+
+		@Test
+		@DisplayName("주변 타일에 반경 안 장소가 충분하면 API를 호출하지 않고 저장된 순서 그대로 재사용한다")
+		void shouldReuseNeighborTilesInStoredOrder() {
+			// given
+			PlaceSearchRequestDto request = nearMeRequest();
+			List<String> tileKeys = cacheKeyUtil.generateGoogleSearchTileKeys(request);
+
+			List<PlaceDetailResponseDto> neighborResults = new ArrayList<>();
+			for (int i = 10; i >= 1; i--) {
+				neighborResults.add(place("place" + i, i * 0.0005));
+			}
+			neighborResults.add(place("far", 0.05));
+
+			given(redisBatchCache.multiGet("google-place-search", tileKeys, List.class))
+				.willReturn(Map.<String, List>of(tileKeys.get(1), neighborResults));
+
+			// when
+			List<PlaceDetailResponseDto> result = googlePlaceSearchService.searchPlaces(request);
+
+			// then
+			assertThat(result).hasSize(10);
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId)
+				.startsWith("place10", "place9", "place8")
+				.doesNotContain("far");
+			verifyNoInteractions(googleTextSearchEndpoint, googleApiQuotaGovernor);
+		}
+
+		@Test
+		@DisplayName("사용자 타일 결과가 있으면 반경 밖 장소도 저장된 순서대로 유지하고 주변 타일 결과는 뒤에 붙인다")
+		void shouldMergeOwnTileWithNeighbors() {
+			// given
+			PlaceSearchRequestDto request = nearMeRequest();
+			List<String> tileKeys = cacheKeyUtil.generateGoogleSearchTileKeys(request);
+
+			List<PlaceDetailResponseDto> ownResults = new ArrayList<>(List.of(place("own-far", 0.02),
+				place("own-near", 0.001)));
+			List<PlaceDetailResponseDto> neighborResults = new ArrayList<>(List.of(place("neighbor", 0.0005),
+				place("own-near", 0.001)));
+
+			given(redisBatchCache.multiGet("google-place-search", tileKeys, List.class))
+				.willReturn(Map.<String, List>of(tileKeys.get(0), ownResults, tileKeys.get(2), neighborResults));
+
+			// when
+			List<PlaceDetailResponseDto> result = googlePlaceSearchService.searchPlaces(request);
+
+			// then
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId)
+				.containsExactly("own-far", "own-near", "neighbor");
+			verifyNoInteractions(googleTextSearchEndpoint);
+		}
+
+		@Test
+		@DisplayName("주변 타일 결과가 부족하면 API를 호출하고 사용자 타일 키로 저장한다")
+		void shouldCallApiWhenNeighborResultsInsufficient() {
+			// given
+			PlaceSearchRequestDto request = nearMeRequest();
+			List<String> tileKeys = cacheKeyUtil.generateGoogleSearchTileKeys(request);
+			List<PlaceDetailResponseDto> apiResults = List.of(place("api", 0.001));
+			DecodedResponse decodedResponse = mock(DecodedResponse.class);
+
+			given(redisBatchCache.multiGet("google-place-search", tileKeys, List.class))
+				.willReturn(Map.<String, List>of(tileKeys.get(1), new ArrayList<>(List.of(place("neighbor", 0.001)))));
+			given(decodedResponse.getPlaces()).willReturn(apiResults);
+			given(googleTextSearchEndpoint.execute(any(), any())).willReturn(decodedResponse);
+
+			// when
+			List<PlaceDetailResponseDto> result = googlePlaceSearchService.searchPlaces(request);
+
+			// then
+			assertThat(result).isEqualTo(apiResults);
+			verify(cacheManager).getCache("google-place-search");
+			verify(placeCatalogService).saveAllAsync(apiResults);
+		}
+	}
+}
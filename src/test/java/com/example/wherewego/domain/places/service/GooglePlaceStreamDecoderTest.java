@@ -0,0 +1,186 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.service.GooglePlaceStreamDecoder.DecodedResponse;
+
+import reactor.core.publisher.Flux;
+
+@DisplayName("GooglePlaceStreamDecoder 테스트")
+class GooglePlaceStreamDecoderTest {
+
+	private static final String TEXT_SEARCH_RESPONSE = """
+		{
+		  "html_attributions": [],
+		  "next_page_token": "NEXT_TOKEN",
+		  "results": [
+		    {
+		      "formatted_address": "서울특별시 강남구 학동로 419",
+		      "geometry": {
+		        "location": {"lat": 37.5182675, "lng": 127.0459628},
+		        "viewport": {"northeast": {"lat": 37.52, "lng": 127.05}, "southwest": {"lat": 37.51, "lng": 127.04}}
+		      },
+		      "name": "스타벅스 강남구청정문점",
+		      "opening_hours": {"open_now": true},
+		      "photos": [
+		        {"height": 3024, "html_attributions": ["<a href=\\"x\\">작성자</a>"], "photo_reference": "FIRST_REF", "width": 4032},
+		        {"height": 100, "photo_reference": "SECOND_REF", "width": 100}
+		      ],
+		      "place_id": "place1",
+		      "rating": 4.3,
+		      "types": ["cafe", "food", "establishment"],
+		      "user_ratings_total": 156
+		    },
+		    {"name": "두번째 장소", "place_id": "place2", "rating": 4, "types": []}
+		  ],
+		  "status": "OK"
+		}
+		""";
+
+	private static final String PLACE_DETAILS_RESPONSE = """
+		{
+		  "html_attributions": [],
+		  "result": {
+		    "address_components": [
+		      {"long_name": "서울특별시", "short_name": "서울특별시", "types": ["administrative_area_level_1", "political"]},
+		      {"long_name": "강남구", "short_name": "강남구", "types": ["sublocality_level_1", "sublocality", "political"]}
+		    ],
+		    "formatted_address": "대한민국 서울특별시 강남구 학동로 419",
+		    "geometry": {"location": {"lat": 37.5182675, "lng": 127.0459628}},
+		    "name": "스타벅스 강남구청정문점",
+		    "place_id": "place1",
+		    "reviews": [{"author_name": "리뷰어", "rating": 5, "text": "{\\"not\\": [\\"a\\", \\"place\\"]}"}],
+		    "types": ["cafe", "establishment"]
+		  },
+		  "status": "OK"
+		}
+		""";
+
+	private static final String FULL_PLACE_DETAILS_RESPONSE = """
+		{
+		  "result": {
+		    "formatted_phone_number": "02-1522-3232",
+		    "name": "스타벅스 강남구청정문점",
+		    "opening_hours": {
+		      "open_now": true,
+		      "periods": [{"open": {"day": 1, "time": "0700"}, "close": {"day": 1, "time": "2200"}}],
+		      "weekday_text": ["월요일: 오전 7:00 ~ 오후 10:00", "화요일: 오전 7:00 ~ 오후 10:00"]
+		    },
+		    "place_id": "place1",
+		    "price_level": 2,
+		    "rating": 4.3,
+		    "user_ratings_total": 1520,
+		    "website": "https://www.starbucks.co.kr/"
+		  },
+		  "status": "OK"
+		}
+		""";
+
+	private final GooglePlaceStreamDecoder decoder = new GooglePlaceStreamDecoder(
+		new GooglePlaceConverter(new PlacePhotoSigner("test-key")));
+	private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+	/**
+	 * 응답을 지정한 크기로 잘라 DataBuffer 스트림으로 만듭니다. (멀티바이트 문자 중간에서도 잘림)
+	 */
+	private Flux<DataBuffer> chunked(String json, int chunkSize) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		List<DataBuffer> buffers = new ArrayList<>();
+		for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+			buffers.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + chunkSize))));
+		}
+		return Flux.fromIterable(buffers);
+	}
+
+	@Nested
+	@DisplayName("Text Search 응답 디코딩")
+	class TextSearch {
+
+		@Test
+		@DisplayName("청크 크기와 무관하게 모든 결과를 표준 장소 정보로 변환하고 다음 페이지 토큰을 읽는다")
+		void shouldDecodeResultsRegardlessOfChunkBoundaries() {
+			for (int chunkSize : new int[] {1, 7, 64, 8192}) {
+				// when
+				DecodedResponse response = decoder.decode(chunked(TEXT_SEARCH_RESPONSE, chunkSize)).block();
+
+				// then
+				assertThat(response.getStatus()).isEqualTo("OK");
+				assertThat(response.getNextPageToken()).isEqualTo("NEXT_TOKEN");
+				assertThat(response.getPlaces()).extracting(PlaceDetailResponseDto::getPlaceId)
+					.containsExactly("place1", "place2");
+
+				PlaceDetailResponseDto place = response.getPlaces().get(0);
+				assertThat(place.getName()).isEqualTo("스타벅스 강남구청정문점");
+				assertThat(place.getCategory()).isEqualTo("카페");
+				assertThat(place.getRegionSummary()).isEqualTo("서울 강남구");
+				assertThat(place.getLatitude()).isEqualTo(37.5182675);
+				assertThat(place.getLongitude()).isEqualTo(127.0459628);
+				assertThat(place.getGoogleRating()).isEqualTo(4.3);
+				assertThat(place.getPhoto()).startsWith("/api/places/photos/FIRST_REF/");
+				assertThat(response.getPlaces().get(1).getGoogleRating()).isEqualTo(4.0);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("Place Details 응답 디코딩")
+	class PlaceDetails {
+
+		@Test
+		@DisplayName("주소 구성 요소로 지역을 만들고 리뷰 등 사용하지 않는 필드는 건너뛴다")
+		void shouldUseAddressComponentsAndSkipUnusedFields() {
+			// when
+			DecodedResponse response = decoder.decode(chunked(PLACE_DETAILS_RESPONSE, 5)).block();
+
+			// then
+			assertThat(response.getStatus()).isEqualTo("OK");
+			assertThat(response.getPlaces()).hasSize(1);
+
+			PlaceDetailResponseDto place = response.getPlaces().get(0);
+			assertThat(place.getPlaceId()).isEqualTo("place1");
+			assertThat(place.getRegion().getDepth1()).isEqualTo("서울특별시");
+			assertThat(place.getRegion().getDepth2()).isEqualTo("강남구");
+			assertThat(place.getPhoto()).isNull();
+		}
+
+		@Test
+		@DisplayName("FULL 등급 응답의 연락처/분위기 필드를 읽고 영업시간 상세 구간은 건너뛴다")
+		void shouldDecodeFullTierFields() {
+			// when
+			DecodedResponse response = decoder.decode(chunked(FULL_PLACE_DETAILS_RESPONSE, 3)).block();
+
+			// then
+			PlaceDetailResponseDto place = response.getPlaces().get(0);
+			assertThat(place.getPhoneNumber()).isEqualTo("02-1522-3232");
+			assertThat(place.getWebsite()).isEqualTo("https://www.starbucks.co.kr/");
+			assertThat(place.getGoogleRating()).isEqualTo(4.3);
+			assertThat(place.getGoogleRatingCount()).isEqualTo(1520);
+			assertThat(place.getPriceLevel()).isEqualTo(2);
+			assertThat(place.getOpeningHours())
+				.containsExactly("월요일: 오전 7:00 ~ 오후 10:00", "화요일: 오전 7:00 ~ 오후 10:00");
+		}
+
+		@Test
+		@DisplayName("응답이 중간에 끊기면 예외가 발생한다")
+		void shouldFailOnTruncatedResponse() {
+			// given
+			String truncated = PLACE_DETAILS_RESPONSE.substring(0, PLACE_DETAILS_RESPONSE.indexOf("\"types\""));
+
+			// when & then
+			assertThatThrownBy(() -> decoder.decode(chunked(truncated, 16)).block())
+				.isInstanceOf(Exception.class);
+		}
+	}
+}
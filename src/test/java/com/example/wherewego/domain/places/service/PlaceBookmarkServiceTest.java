@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +48,12 @@ class PlaceBookmarkServiceTest {
 	@Mock
 	private PlaceService placeService;
 
+	@Mock
+	private PlaceStatsService placeStatsService;
+
+	@Mock
+	private PlaceUserFlagCache placeUserFlagCache;
+
 	@InjectMocks
 	private PlaceBookmarkService placeBookmarkService;
 
@@ -90,6 +97,8 @@ class PlaceBookmarkServiceTest {
 			assertThat(result.getIsBookmarked()).isTrue();
 
 			verify(placeBookmarkRepository, times(1)).save(any(PlaceBookmark.class));
+			verify(placeStatsService).applyBookmarkChange(placeId, 1);
+			verify(placeUserFlagCache).addBookmark(userId, placeId);
 		}
 
 		@Test
@@ -169,8 +178,8 @@ class PlaceBookmarkServiceTest {
 				.isBookmarked(true)
 				.build();
 
-			given(placeService.getPlaceDetailWithStats("place2", userId)).willReturn(place1);
-			given(placeService.getPlaceDetailWithStats("place1", userId)).willReturn(place2);
+			given(placeService.getPlaceDetailsWithStats(List.of("place2", "place1"), userId))
+				.willReturn(Map.of("place2", place1, "place1", place2));
 
 			// when
 			UserBookmarkListDto result = placeBookmarkService.getUserBookmarks(userId, page, size, userLat, userLng);
@@ -232,7 +241,7 @@ class PlaceBookmarkServiceTest {
 
 			given(placeBookmarkRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
 				.willReturn(bookmarkPage);
-			given(placeService.getPlaceDetailWithStats("invalid-place", userId)).willReturn(null);
+			given(placeService.getPlaceDetailsWithStats(List.of("invalid-place"), userId)).willReturn(Map.of());
 
 			// when & then
 			assertThatThrownBy(() -> placeBookmarkService.getUserBookmarks(userId, page, size, userLat, userLng))
@@ -256,7 +265,7 @@ class PlaceBookmarkServiceTest {
 
 			given(placeBookmarkRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
 				.willReturn(bookmarkPage);
-			given(placeService.getPlaceDetailWithStats("place1", userId))
+			given(placeService.getPlaceDetailsWithStats(List.of("place1"), userId))
 				.willThrow(new RuntimeException("API 오류"));
 
 			// when & then
@@ -288,6 +297,8 @@ class PlaceBookmarkServiceTest {
 
 			// then
 			verify(placeBookmarkRepository, times(1)).delete(bookmark);
+			verify(placeStatsService).applyBookmarkChange(placeId, -1);
+			verify(placeUserFlagCache).removeBookmark(userId, placeId);
 		}
 
 		@Test
@@ -0,0 +1,91 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.entity.Place;
+import com.example.wherewego.domain.places.repository.PlaceRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceCatalogService 테스트")
+class PlaceCatalogServiceTest {
+
+	private static final Duration MAX_AGE = Duration.ofDays(7);
+
+	@Mock
+	private PlaceRepository placeRepository;
+
+	@Mock
+	private GooglePlaceConverter googlePlaceConverter;
+
+	@Mock
+	private PlaceGeoIndex placeGeoIndex;
+
+	private PlaceCatalogService placeCatalogService;
+
+	@BeforeEach
+	void setUp() {
+		placeCatalogService = new PlaceCatalogService(placeRepository, googlePlaceConverter, placeGeoIndex, MAX_AGE);
+	}
+
+	@Nested
+	@DisplayName("카탈로그 저장")
+	class SaveAllAsync {
+
+		@Test
+		@DisplayName("조회 후 삽입하지 않고 장소 ID 순으로 한 문장씩 저장하며, 허용 기간이 지난 장소만 갱신하도록 기준 시각을 넘긴다")
+		void shouldUpsertInPlaceIdOrder() {
+			// given
+			List<PlaceDetailResponseDto> places = List.of(place("place-b"), place("place-a"),
+				PlaceDetailResponseDto.builder().placeId("place-c").build());
+
+			// when
+			LocalDateTime before = LocalDateTime.now().minus(MAX_AGE);
+			placeCatalogService.saveAllAsync(places);
+			LocalDateTime after = LocalDateTime.now().minus(MAX_AGE);
+
+			// then - 이름이 없는 장소는 저장하지 않음
+			ArgumentCaptor<Place> saved = ArgumentCaptor.forClass(Place.class);
+			ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+			verify(placeRepository, times(2)).upsertPlace(saved.capture(), staleBefore.capture());
+			assertThat(saved.getAllValues()).extracting(Place::getPlaceId).containsExactly("place-a", "place-b");
+			assertThat(staleBefore.getValue()).isBetween(before, after);
+			verify(placeRepository, never()).save(any());
+			verify(placeRepository, never()).findAllByPlaceIdIn(any());
+		}
+
+		@Test
+		@DisplayName("저장할 장소가 없으면 카탈로그를 호출하지 않는다")
+		void shouldSkipEmptyBatch() {
+			// when
+			placeCatalogService.saveAllAsync(List.of());
+
+			// then
+			verifyNoInteractions(placeRepository);
+		}
+	}
+
+	private static PlaceDetailResponseDto place(String placeId) {
+		return PlaceDetailResponseDto.builder()
+			.placeId(placeId)
+			.name(placeId + " 이름")
+			.latitude(37.5)
+			.longitude(127.0)
+			.build();
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+
+@DisplayName("PlaceGeoIndex 테스트")
+class PlaceGeoIndexTest {
+
+	private final PlaceGeoIndex placeGeoIndex = new PlaceGeoIndex(1000);
+
+	private PlaceDetailResponseDto place(String placeId, String category, double latitude, double longitude) {
+		return PlaceDetailResponseDto.builder()
+			.placeId(placeId)
+			.name(placeId)
+			.category(category)
+			.latitude(latitude)
+			.longitude(longitude)
+			.build();
+	}
+
+	@Nested
+	@DisplayName("주변 장소 조회")
+	class FindNearby {
+
+		@Test
+		@DisplayName("반경 내 장소만 가까운 순으로 거리와 함께 반환한다")
+		void shouldReturnPlacesWithinRadiusSortedByDistance() {
+			// given - 서울시청 기준
+			placeGeoIndex.index(place("near", "카페", 37.5670, 126.9785));
+			placeGeoIndex.index(place("middle", "음식점", 37.5700, 126.9800));
+			placeGeoIndex.index(place("far", "카페", 37.6000, 127.0500));
+
+			// when
+			List<PlaceDetailResponseDto> result = placeGeoIndex.findNearby(37.5665, 126.9780, 1000,
+				Set.of(), Set.of(), 10);
+
+			// then
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("near", "middle");
+			assertThat(result.get(0).getDistance()).isLessThan(result.get(1).getDistance());
+		}
+
+		@Test
+		@DisplayName("셀 경계를 넘는 인접 셀의 장소도 반환한다")
+		void shouldIncludePlacesInNeighborCells() {
+			// given - 약 900m 떨어진 서로 다른 지오해시 셀
+			placeGeoIndex.index(place("neighbor", "카페", 37.5745, 126.9780));
+
+			// when
+			List<PlaceDetailResponseDto> result = placeGeoIndex.findNearby(37.5665, 126.9780, 1000,
+				Set.of(), Set.of(), 10);
+
+			// then
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("neighbor");
+		}
+
+		@Test
+		@DisplayName("카테고리와 제외 목록으로 결과를 필터링한다")
+		void shouldFilterByCategoryAndExcludedIds() {
+			// given
+			placeGeoIndex.index(place("cafe1", "카페", 37.5670, 126.9785));
+			placeGeoIndex.index(place("cafe2", "카페", 37.5675, 126.9790));
+			placeGeoIndex.index(place("restaurant", "음식점", 37.5668, 126.9782));
+
+			// when
+			List<PlaceDetailResponseDto> result = placeGeoIndex.findNearby(37.5665, 126.9780, 1000,
+				Set.of("카페"), Set.of("cafe1"), 10);
+
+			// then
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("cafe2");
+		}
+	}
+
+	@Nested
+	@DisplayName("장소 등록")
+	class Index {
+
+		@Test
+		@DisplayName("좌표가 바뀐 장소는 이전 위치에서 제거되고 새 위치에서 조회된다")
+		void shouldMovePlaceWhenLocationChanges() {
+			// given
+			placeGeoIndex.index(place("place1", "카페", 37.5670, 126.9785));
+
+			// when
+			placeGeoIndex.index(place("place1", "카페", 35.1796, 129.0756));
+
+			// then
+			assertThat(placeGeoIndex.size()).isEqualTo(1);
+			assertThat(placeGeoIndex.findNearby(37.5665, 126.9780, 1000, Set.of(), Set.of(), 10)).isEmpty();
+			assertThat(placeGeoIndex.findNearby(35.1796, 129.0756, 100, Set.of(), Set.of(), 10))
+				.extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("place1");
+		}
+
+		@Test
+		@DisplayName("좌표가 없는 장소와 최대 크기를 넘는 신규 장소는 등록하지 않는다")
+		void shouldSkipPlacesWithoutCoordinatesOrOverCapacity() {
+			// given
+			PlaceGeoIndex smallIndex = new PlaceGeoIndex(1);
+			PlaceDetailResponseDto noCoordinates = PlaceDetailResponseDto.builder().placeId("none").build();
+
+			// when
+			smallIndex.index(noCoordinates);
+			smallIndex.index(place("place1", "카페", 37.5670, 126.9785));
+			smallIndex.index(place("place2", "카페", 37.5671, 126.9786));
+
+			// then
+			assertThat(smallIndex.size()).isEqualTo(1);
+			assertThat(smallIndex.find("place1")).isPresent();
+			assertThat(smallIndex.find("place2")).isEmpty();
+		}
+	}
+}
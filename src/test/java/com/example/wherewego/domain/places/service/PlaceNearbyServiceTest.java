@@ -0,0 +1,106 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.global.exception.CustomException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceNearbyService 테스트")
+class PlaceNearbyServiceTest {
+
+	@Mock
+	private PlaceGeoIndex placeGeoIndex;
+
+	@Mock
+	private PlaceSearchService placeSearchService;
+
+	@InjectMocks
+	private PlaceNearbyService placeNearbyService;
+
+	@Nested
+	@DisplayName("주변 장소 조회")
+	class FindNearbyPlaces {
+
+		@Test
+		@DisplayName("반경과 결과 수를 최대값으로 제한하여 인덱스를 조회한다")
+		void shouldClampRadiusAndLimit() {
+			// given
+			given(placeGeoIndex.findNearby(37.5665, 126.9780, 5000, Set.of("카페"), Set.of(), 50))
+				.willReturn(List.of());
+
+			// when
+			placeNearbyService.findNearbyPlaces(37.5665, 126.9780, 100000, List.of("카페"), 1000);
+
+			// then
+			verify(placeGeoIndex).findNearby(37.5665, 126.9780, 5000, Set.of("카페"), Set.of(), 50);
+		}
+
+		@Test
+		@DisplayName("위도/경도 범위를 벗어나면 예외가 발생한다")
+		void shouldThrowWhenLocationIsInvalid() {
+			// when & then
+			assertThatThrownBy(() -> placeNearbyService.findNearbyPlaces(91.0, 126.9780, 1000, null, 20))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+			verifyNoInteractions(placeGeoIndex);
+		}
+	}
+
+	@Nested
+	@DisplayName("다음 방문지 추천")
+	class SuggestNextStops {
+
+		@Test
+		@DisplayName("기준 장소 위치에서 기준 장소와 제외 목록을 뺀 후보를 조회한다")
+		void shouldSearchAroundOriginExcludingOriginAndExcludedPlaces() {
+			// given
+			PlaceDetailResponseDto origin = PlaceDetailResponseDto.builder()
+				.placeId("origin").latitude(37.5665).longitude(126.9780).build();
+			PlaceDetailResponseDto candidate = PlaceDetailResponseDto.builder()
+				.placeId("candidate").distance(120).build();
+
+			given(placeGeoIndex.find("origin")).willReturn(Optional.of(origin));
+			given(placeGeoIndex.findNearby(37.5665, 126.9780, 1000, Set.of(), Set.of("origin", "visited"), 10))
+				.willReturn(List.of(candidate));
+
+			// when
+			List<PlaceDetailResponseDto> result = placeNearbyService.suggestNextStops("origin", 1000, null,
+				List.of("visited"), 10);
+
+			// then
+			assertThat(result).containsExactly(candidate);
+			verifyNoInteractions(placeSearchService);
+		}
+
+		@Test
+		@DisplayName("인덱스에 없는 기준 장소는 상세 조회로 위치를 확인하고, 위치가 없으면 예외가 발생한다")
+		void shouldFallbackToPlaceDetailAndThrowWhenLocationUnknown() {
+			// given
+			given(placeGeoIndex.find("unknown")).willReturn(Optional.empty());
+			given(placeSearchService.getPlaceDetail("unknown"))
+				.willReturn(PlaceDetailResponseDto.builder().placeId("unknown").build());
+
+			// when & then
+			assertThatThrownBy(() -> placeNearbyService.suggestNextStops("unknown", 1000, null, null, 10))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_NOT_FOUND);
+			verify(placeGeoIndex, never()).findNearby(anyDouble(), anyDouble(), anyInt(), any(), any(), anyInt());
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.cache.DiskLruCache;
+import com.example.wherewego.global.cache.SingleFlight;
+import com.example.wherewego.global.exception.CustomException;
+import com.example.wherewego.global.quota.GoogleApiQuotaGovernor;
+import com.example.wherewego.global.quota.GoogleApiSku;
+import com.example.wherewego.global.quota.QuotaLane;
+import com.example.wherewego.global.resilience.ResilientEndpoint;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlacePhotoService 테스트")
+class PlacePhotoServiceTest {
+
+	private static final String PHOTO_REFERENCE = "AUjq9jm_PHOTO-REF";
+	private static final PlacePhotoSigner SIGNER = new PlacePhotoSigner("test-key");
+	private static final String SIGNATURE = SIGNER.sign(PHOTO_REFERENCE);
+
+	@Mock
+	private WebClient googlePhotoWebClient;
+
+	@Mock
+	private ResilientEndpoint googlePlacePhotoEndpoint;
+
+	@Mock
+	private GoogleApiQuotaGovernor googleApiQuotaGovernor;
+
+	@TempDir
+	Path cacheDirectory;
+
+	private DiskLruCache photoCache;
+	private PlacePhotoService placePhotoService;
+
+	@BeforeEach
+	void setUp() {
+		photoCache = new DiskLruCache(cacheDirectory, 10 * 1024 * 1024);
+		placePhotoService = new PlacePhotoService(googlePhotoWebClient, googlePlacePhotoEndpoint,
+			googleApiQuotaGovernor, new SingleFlight(), photoCache, SIGNER, "test-key");
+	}
+
+	@Nested
+	@DisplayName("사진 조회")
+	class GetPhoto {
+
+		@Test
+		@DisplayName("캐시 미스 시 구글에서 한 번 받아 원본과 썸네일을 모두 저장한다")
+		void shouldFetchOnceAndStoreThumbnails() throws Exception {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willReturn(jpeg(800, 600));
+
+			// when
+			int thumbnail = width(placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, 150));
+			int original = width(placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, null));
+			int medium = width(placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, 400));
+
+			// then
+			assertThat(thumbnail).isEqualTo(200);
+			assertThat(medium).isEqualTo(400);
+			assertThat(original).isEqualTo(800);
+			verify(googleApiQuotaGovernor, times(1)).acquire(GoogleApiSku.PLACE_PHOTO, QuotaLane.INTERACTIVE);
+			verify(googlePlacePhotoEndpoint, times(1)).execute(any(Supplier.class), any(BooleanSupplier.class));
+		}
+
+		@Test
+		@DisplayName("썸네일만 없어졌으면 캐시된 원본으로 다시 생성하고 구글을 호출하지 않는다")
+		void shouldRegenerateThumbnailFromCachedOriginal() throws Exception {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willReturn(jpeg(800, 600));
+			width(placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, 200));
+			Files.delete(photoCache.get(PHOTO_REFERENCE + ":w200"));
+
+			// when - 서명 없는 요청도 캐시된 원본으로는 썸네일을 만들 수 있음
+			int regenerated = width(placePhotoService.openPhoto(PHOTO_REFERENCE, null, 200));
+
+			// then
+			assertThat(regenerated).isEqualTo(200);
+			verify(googlePlacePhotoEndpoint, times(1)).execute(any(Supplier.class), any(BooleanSupplier.class));
+		}
+
+		@Test
+		@DisplayName("원본보다 큰 썸네일은 확대하지 않는다")
+		void shouldNotUpscaleSmallPhoto() throws Exception {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willReturn(jpeg(300, 200));
+
+			// when
+			int medium = width(placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, 400));
+
+			// then
+			assertThat(medium).isEqualTo(300);
+		}
+
+		@Test
+		@DisplayName("sendfile용으로 고정한 경로는 캐시 파일이 삭제돼도 해제 전까지 읽을 수 있다")
+		void shouldKeepPinnedPhotoUntilReleased() throws Exception {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willReturn(jpeg(800, 600));
+			Path pinned = placePhotoService.pinPhoto(PHOTO_REFERENCE, SIGNATURE, 200);
+
+			// when - 전송 전에 캐시에서 밀려나 파일이 지워져도
+			Files.delete(photoCache.get(PHOTO_REFERENCE + ":w200"));
+
+			// then
+			assertThat(ImageIO.read(pinned.toFile()).getWidth()).isEqualTo(200);
+			assertThat(photoCache.releasePins(Duration.ZERO)).isEqualTo(1);
+			assertThat(pinned).doesNotExist();
+		}
+
+		@Test
+		@DisplayName("서킷 브레이커가 호출을 거절하면 차감한 예산을 되돌린다")
+		void shouldRefundQuotaWhenCallRejected() {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willThrow(new CustomException(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+
+			// when & then
+			assertThatThrownBy(() -> placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, null))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_UNAVAILABLE);
+			verify(googleApiQuotaGovernor).refund(GoogleApiSku.PLACE_PHOTO, QuotaLane.INTERACTIVE);
+		}
+
+		@Test
+		@DisplayName("구글이 4xx로 거절한 photo reference는 기억해 두고 다시 호출하지 않는다")
+		void shouldNegativeCacheRejectedReference() {
+			// given
+			given(googlePlacePhotoEndpoint.execute(any(Supplier.class), any(BooleanSupplier.class)))
+				.willThrow(WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request",
+					HttpHeaders.EMPTY, new byte[0], null));
+
+			// when & then
+			assertThatThrownBy(() -> placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, null))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			assertThatThrownBy(() -> placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNATURE, 200))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			verify(googlePlacePhotoEndpoint, times(1)).execute(any(Supplier.class), any(BooleanSupplier.class));
+		}
+
+		@Test
+		@DisplayName("서명이 없거나 맞지 않는 요청은 캐시에 없으면 구글을 호출하지 않고 예외가 발생한다")
+		void shouldNotFetchWithoutValidSignature() {
+			// when & then
+			assertThatThrownBy(() -> placePhotoService.openPhoto(PHOTO_REFERENCE, null, null))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			assertThatThrownBy(() -> placePhotoService.openPhoto(PHOTO_REFERENCE, SIGNER.sign("OTHER_REF"), null))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.PLACE_PHOTO_NOT_FOUND);
+			verifyNoInteractions(googlePlacePhotoEndpoint, googleApiQuotaGovernor);
+		}
+
+		@Test
+		@DisplayName("photo reference 형식이 잘못되면 구글을 호출하지 않고 예외가 발생한다")
+		void shouldRejectInvalidReference() {
+			// when & then
+			assertThatThrownBy(() -> placePhotoService.openPhoto("../etc/passwd", SIGNATURE, null))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+			verifyNoInteractions(googlePlacePhotoEndpoint, googleApiQuotaGovernor);
+		}
+	}
+
+	@Nested
+	@DisplayName("요청 너비 맞춤")
+	class ResolveWidth {
+
+		@Test
+		@DisplayName("요청 너비 이상인 가장 작은 썸네일을 고르고, 없으면 원본을 사용한다")
+		void shouldPickSmallestSufficientWidth() {
+			assertThat(PlacePhotoService.resolveWidth(null)).isEqualTo(800);
+			assertThat(PlacePhotoService.resolveWidth(120)).isEqualTo(200);
+			assertThat(PlacePhotoService.resolveWidth(201)).isEqualTo(400);
+			assertThat(PlacePhotoService.resolveWidth(1200)).isEqualTo(800);
+		}
+	}
+
+	private static int width(FileChannel photo) throws Exception {
+		try (photo) {
+			return ImageIO.read(Channels.newInputStream(photo)).getWidth();
+		}
+	}
+
+	private static byte[] jpeg(int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+		return out.toByteArray();
+	}
+}
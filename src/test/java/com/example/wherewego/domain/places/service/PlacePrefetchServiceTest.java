@@ -0,0 +1,86 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.wherewego.domain.places.dto.response.PlacePrefetchStatsDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlacePrefetchService 테스트")
+class PlacePrefetchServiceTest {
+
+	@Mock
+	private GooglePlaceDetailService googlePlaceDetailService;
+
+	private PlacePrefetchService placePrefetchService;
+
+	@BeforeEach
+	void setUp() {
+		placePrefetchService = new PlacePrefetchService(googlePlaceDetailService, 1024, 2, 5, 0.5);
+	}
+
+	@Test
+	@DisplayName("조회 빈도 상위 장소를 빈도 순으로 호출 예산과 함께 갱신 요청한다")
+	void shouldPrefetchHotPlacesWithinBudget() {
+		// given
+		placePrefetchService.recordAccesses(List.of("place1", "place2", "place3"));
+		placePrefetchService.recordAccesses(List.of("place1", "place2"));
+		placePrefetchService.recordAccess("place1");
+		given(googlePlaceDetailService.prefetchPlaceDetails(anyList(), any(Duration.class), anyInt())).willReturn(2);
+
+		// when
+		placePrefetchService.prefetchHotPlaces();
+
+		// then
+		verify(googlePlaceDetailService).prefetchPlaceDetails(List.of("place1", "place2"), Duration.ofMillis(
+			Duration.ofDays(7).toMillis() / 2), 5);
+		PlacePrefetchStatsDto stats = placePrefetchService.getStats();
+		assertThat(stats.getLastRefreshedCount()).isEqualTo(2);
+		assertThat(stats.getTotalRefreshedCount()).isEqualTo(2);
+		assertThat(stats.getLastRunAt()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("실행 후에는 조회 빈도를 절반으로 줄인다")
+	void shouldDecayAfterRun() {
+		// given
+		for (int i = 0; i < 4; i++) {
+			placePrefetchService.recordAccess("place1");
+		}
+
+		// when
+		placePrefetchService.prefetchHotPlaces();
+
+		// then
+		assertThat(placePrefetchService.getStats().getHotPlaces())
+			.extracting(PlacePrefetchStatsDto.HotPlace::getEstimatedHits)
+			.containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("갱신 중 예외가 발생해도 스케줄러로 전파하지 않는다")
+	void shouldSwallowPrefetchFailure() {
+		// given
+		placePrefetchService.recordAccess("place1");
+		given(googlePlaceDetailService.prefetchPlaceDetails(anyList(), any(Duration.class), anyInt()))
+			.willThrow(new IllegalStateException("redis down"));
+
+		// when
+		placePrefetchService.prefetchHotPlaces();
+
+		// then
+		assertThat(placePrefetchService.getStats().getLastRefreshedCount()).isZero();
+		assertThat(placePrefetchService.getStats().getLastRunAt()).isNotNull();
+	}
+}
@@ -6,7 +6,9 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +49,12 @@ class PlaceReviewServiceTest {
 	@Mock
 	private UserService userService;
 
+	@Mock
+	private PlaceStatsService placeStatsService;
+
+	@Mock
+	private PlaceUserFlagCache placeUserFlagCache;
+
 	@InjectMocks
 	private PlaceReviewService placeReviewService;
 
@@ -111,7 +119,9 @@ class PlaceReviewServiceTest {
 			assertThat(result.getUser().getUserId()).isEqualTo(userId);
 			assertThat(result.getUser().getNickname()).isEqualTo("테스트유저");
 
-			verify(placeReviewRepository, times(1)).save(any(PlaceReview.class));
+			verify(placeReviewRepository, times(1)).save(argThat(review -> "테스트 장소".equals(review.getPlaceName())));
+			verify(placeStatsService).applyReviewChange(placeId, 1, 5);
+			verify(placeUserFlagCache).addReview(userId, placeId);
 		}
 
 		@Test
@@ -316,6 +326,7 @@ class PlaceReviewServiceTest {
 			assertThat(result.getIsMyReview()).isTrue();
 
 			verify(placeReviewRepository, times(1)).save(existingReview);
+			verify(placeStatsService).applyReviewChange(placeId, 0, 1);
 		}
 
 		@Test
@@ -356,6 +367,8 @@ class PlaceReviewServiceTest {
 
 			// then
 			verify(placeReviewRepository, times(1)).delete(existingReview);
+			verify(placeStatsService).applyReviewChange(placeId, -1, -4);
+			verify(placeUserFlagCache).removeReview(userId, placeId);
 		}
 
 		@Test
@@ -421,6 +434,54 @@ class PlaceReviewServiceTest {
 			});
 		}
 
+		@Test
+		@DisplayName("장소 이름이 저장되지 않은 리뷰의 장소만 중복 없이 한 번에 조회한다")
+		void shouldResolvePlaceNamesInOneBatch() {
+			// given
+			PlaceReview snapshotReview = PlaceReview.builder()
+				.id(1L).user(testUser).placeId("place1").placeName("저장된 장소").rating(5).build();
+			PlaceReview legacyReview1 = PlaceReview.builder()
+				.id(2L).user(testUser).placeId("place2").rating(4).build();
+			PlaceReview legacyReview2 = PlaceReview.builder()
+				.id(3L).user(testUser).placeId("place2").rating(3).build();
+			PlaceReview missingPlaceReview = PlaceReview.builder()
+				.id(4L).user(testUser).placeId("place3").rating(2).build();
+
+			Pageable pageable = PageRequest.of(page, size);
+			given(placeReviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
+				.willReturn(new PageImpl<>(List.of(snapshotReview, legacyReview1, legacyReview2, missingPlaceReview),
+					pageable, 4));
+			given(placeSearchService.getPlaceDetails(Set.of("place2", "place3"))).willReturn(Map.of(
+				"place2", PlaceDetailResponseDto.builder().placeId("place2").name("조회한 장소").build()));
+
+			// when
+			PagedResponse<PlaceReviewResponseDto> result = placeReviewService.getMyReviews(userId, page, size);
+
+			// then
+			assertThat(result.getContent()).extracting(PlaceReviewResponseDto::getPlaceName)
+				.containsExactly("저장된 장소", "조회한 장소", "조회한 장소", "알 수 없는 장소");
+			verify(placeSearchService, times(1)).getPlaceDetails(anyCollection());
+		}
+
+		@Test
+		@DisplayName("모든 리뷰에 장소 이름이 저장되어 있으면 장소를 조회하지 않는다")
+		void shouldSkipLookupWhenAllNamesStored() {
+			// given
+			PlaceReview review = PlaceReview.builder()
+				.id(1L).user(testUser).placeId("place1").placeName("저장된 장소").rating(5).build();
+
+			Pageable pageable = PageRequest.of(page, size);
+			given(placeReviewRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable))
+				.willReturn(new PageImpl<>(List.of(review), pageable, 1));
+
+			// when
+			PagedResponse<PlaceReviewResponseDto> result = placeReviewService.getMyReviews(userId, page, size);
+
+			// then
+			assertThat(result.getContent().get(0).getPlaceName()).isEqualTo("저장된 장소");
+			verifyNoInteractions(placeSearchService);
+		}
+
 		@Test
 		@DisplayName("내 리뷰가 없는 경우 빈 목록을 반환한다")
 		void shouldReturnEmptyListWhenNoMyReviews() {
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,9 +20,12 @@ import org.springframework.cache.CacheManager;
 
 import com.example.wherewego.domain.courses.dto.response.CoursePlaceInfo;
 import com.example.wherewego.domain.courses.dto.response.CourseRouteSummary;
+import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
 import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.dto.response.PlaceStatsDto;
 import com.example.wherewego.domain.places.repository.PlaceBookmarkRepository;
 import com.example.wherewego.domain.places.repository.PlaceReviewRepository;
+import com.example.wherewego.domain.search.service.SearchSuggestService;
 import com.example.wherewego.global.util.CacheKeyUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +45,12 @@ class PlaceServiceTest {
 	@Mock
 	private PlaceStatsService placeStatsService;
 
+	@Mock
+	private PlacePrefetchService placePrefetchService;
+
+	@Mock
+	private SearchSuggestService searchSuggestService;
+
 	@Mock
 	private CacheManager cacheManager;
 
@@ -50,6 +60,79 @@ class PlaceServiceTest {
 	@InjectMocks
 	private PlaceService placeService;
 
+	@Nested
+	@DisplayName("장소 검색")
+	class SearchPlaces {
+
+		private PlaceDetailResponseDto place(String placeId, double latitude, double longitude) {
+			return PlaceDetailResponseDto.builder()
+				.placeId(placeId)
+				.latitude(latitude)
+				.longitude(longitude)
+				.build();
+		}
+
+		private PlaceSearchRequestDto request(String sort, int page, int size) {
+			return PlaceSearchRequestDto.builder()
+				.query("카페")
+				.userLocation(PlaceSearchRequestDto.UserLocation.builder()
+					.latitude(37.5665)
+					.longitude(126.9780)
+					.build())
+				.pagination(PlaceSearchRequestDto.Pagination.builder().page(page).size(size).build())
+				.sort(sort)
+				.build();
+		}
+
+		@Test
+		@DisplayName("캐시된 전체 결과를 거리순으로 정렬한 뒤 요청 페이지만 잘라서 통계를 조회한다")
+		void shouldSortByDistanceAndSliceRequestedPage() {
+			// given - 연관도순: far, near, middle
+			given(placeSearchService.searchPlaces(any(PlaceSearchRequestDto.class))).willReturn(List.of(
+				place("far", 37.6000, 127.0500),
+				place("near", 37.5670, 126.9785),
+				place("middle", 37.5700, 126.9800)));
+			given(placeStatsService.getCachedPlaceStatsMap(List.of("middle"), 1L)).willReturn(Map.of("middle",
+				PlaceStatsDto.builder()
+					.placeId("middle").reviewCount(3L).averageRating(4.0).bookmarkCount(1L).isBookmarked(true).build()));
+
+			// when
+			List<PlaceDetailResponseDto> result = placeService.searchPlacesWithDistance(request("distance", 2, 1), 1L);
+
+			// then
+			assertThat(result).extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("middle");
+			assertThat(result.get(0).getDistance()).isNotNull();
+			assertThat(result.get(0).getIsBookmarked()).isTrue();
+			verify(placeStatsService, times(1)).getCachedPlaceStatsMap(anyList(), any());
+			verify(placeStatsService, never()).getPlaceStats(anyString(), any());
+			verify(searchSuggestService).recordSearch(eq("카페"), eq(1L), anyList());
+		}
+
+		@Test
+		@DisplayName("연관도순은 구글 순서를 유지하고 범위를 벗어난 페이지는 빈 목록을 반환한다")
+		void shouldKeepRelevanceOrderAndReturnEmptyForOutOfRangePage() {
+			// given
+			given(placeSearchService.searchPlaces(any(PlaceSearchRequestDto.class))).willReturn(List.of(
+				place("far", 37.6000, 127.0500),
+				place("near", 37.5670, 126.9785)));
+			PlaceStatsDto emptyStats = PlaceStatsDto.builder()
+				.reviewCount(0L).averageRating(0.0).bookmarkCount(0L).isBookmarked(false).build();
+			given(placeStatsService.getCachedPlaceStatsMap(anyList(), any()))
+				.willReturn(Map.of("far", emptyStats, "near", emptyStats));
+
+			// when
+			List<PlaceDetailResponseDto> firstPage = placeService.searchPlacesWithDistance(
+				request("relevance", 1, 20), null);
+			List<PlaceDetailResponseDto> outOfRange = placeService.searchPlacesWithDistance(
+				request("relevance", 2, 20), null);
+
+			// then
+			assertThat(firstPage).extracting(PlaceDetailResponseDto::getPlaceId).containsExactly("far", "near");
+			assertThat(outOfRange).isEmpty();
+			verify(placeSearchService, times(2)).searchPlaces(any(PlaceSearchRequestDto.class));
+		}
+	}
+
 	@Nested
 	@DisplayName("코스용 장소 정보 조회")
 	class GetPlacesForCourse {
@@ -76,8 +159,8 @@ class PlaceServiceTest {
 				.longitude(126.9850)
 				.build();
 
-			given(placeSearchService.getPlaceDetail("place1")).willReturn(place1);
-			given(placeSearchService.getPlaceDetail("place2")).willReturn(place2);
+			given(placeSearchService.getPlaceDetails(List.of("place1", "place2")))
+				.willReturn(Map.of("place1", place1, "place2", place2));
 
 			// when
 			List<CoursePlaceInfo> result = placeService.getPlacesForCourseWithRoute(
@@ -104,7 +187,7 @@ class PlaceServiceTest {
 				.name("장소1")
 				.build();
 
-			given(placeSearchService.getPlaceDetail("place1")).willReturn(place1);
+			given(placeSearchService.getPlaceDetails(List.of("place1"))).willReturn(Map.of("place1", place1));
 
 			// when
 			List<CoursePlaceInfo> result = placeService.getPlacesForCourseWithRoute(
@@ -114,6 +197,46 @@ class PlaceServiceTest {
 			assertThat(result).hasSize(1);
 			assertThat(result.get(0).getDistanceFromUser()).isNull();
 		}
+
+		@Test
+		@DisplayName("여러 코스의 장소를 중복 없이 한 번에 일괄 조회하고 코스별로 경로를 구성한다")
+		void shouldHydrateSharedPlacesOnceForMultipleCourses() {
+			// given
+			PlaceDetailResponseDto place1 = PlaceDetailResponseDto.builder()
+				.placeId("place1")
+				.name("장소1")
+				.latitude(37.5700)
+				.longitude(126.9800)
+				.build();
+
+			PlaceDetailResponseDto place2 = PlaceDetailResponseDto.builder()
+				.placeId("place2")
+				.name("장소2")
+				.latitude(37.5750)
+				.longitude(126.9850)
+				.build();
+
+			// 조회에 실패한 장소(invalid)는 결과 맵에서 제외된다
+			given(placeSearchService.getPlaceDetails(anyCollection()))
+				.willReturn(Map.of("place1", place1, "place2", place2));
+
+			Map<Long, List<String>> placeIdsByCourse = Map.of(
+				1L, List.of("place1", "place2"),
+				2L, List.of("place2", "invalid", "place1")
+			);
+
+			// when
+			Map<Long, List<CoursePlaceInfo>> result = placeService.getPlacesForCoursesWithRoute(
+				placeIdsByCourse, null, null);
+
+			// then
+			assertThat(result.get(1L)).extracting(CoursePlaceInfo::getName).containsExactly("장소1", "장소2");
+			assertThat(result.get(2L)).extracting(CoursePlaceInfo::getName).containsExactly("장소2", "장소1");
+			assertThat(result.get(2L).get(1).getDistanceFromPrevious()).isNotNull();
+			verify(placeSearchService, times(1)).getPlaceDetails(argThat(ids ->
+				ids.size() == 3 && ids.containsAll(List.of("place1", "place2", "invalid"))));
+			verify(placeSearchService, never()).getPlaceDetail(anyString());
+		}
 	}
 
 	@Nested
@@ -7,21 +7,31 @@ import static org.mockito.BDDMockito.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.wherewego.domain.common.repository.DataBackfillRepository;
 import com.example.wherewego.domain.places.dto.response.PlaceStatsDto;
-import com.example.wherewego.domain.places.entity.PlaceBookmark;
-import com.example.wherewego.domain.places.entity.PlaceReview;
+import com.example.wherewego.domain.places.entity.PlaceStats;
 import com.example.wherewego.domain.places.repository.PlaceBookmarkRepository;
 import com.example.wherewego.domain.places.repository.PlaceReviewRepository;
-import com.example.wherewego.domain.user.entity.User;
+import com.example.wherewego.domain.places.repository.PlaceStatsRepository;
+import com.example.wherewego.global.cache.RedisBatchCache;
+import com.example.wherewego.global.config.CacheConfig;
 import com.example.wherewego.global.util.CacheKeyUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,9 +44,24 @@ class PlaceStatsServiceTest {
 	@Mock
 	private PlaceBookmarkRepository placeBookmarkRepository;
 
+	@Mock
+	private PlaceStatsRepository placeStatsRepository;
+
+	@Mock
+	private DataBackfillRepository dataBackfillRepository;
+
+	@Mock
+	private RedisBatchCache redisBatchCache;
+
 	@Mock
 	private CacheKeyUtil cacheKeyUtil;
 
+	@Mock
+	private PlaceUserFlagCache placeUserFlagCache;
+
+	@Spy
+	private CacheManager cacheManager = new ConcurrentMapCacheManager("place-stats");
+
 	@InjectMocks
 	private PlaceStatsService placeStatsService;
 
@@ -44,48 +69,24 @@ class PlaceStatsServiceTest {
 	@DisplayName("단일 장소 통계 조회")
 	class GetPlaceStatsTest {
 
+		@BeforeEach
+		void setUp() {
+			given(cacheKeyUtil.generatePlaceStatsKey(anyString()))
+				.willAnswer(invocation -> "stats:" + invocation.getArgument(0));
+		}
+
 		@Test
 		@DisplayName("로그인 사용자 - 장소 통계를 성공적으로 조회한다")
 		void getPlaceStats_WithUserId_Success() {
 			// given
 			String placeId = "test-place-id";
 			Long userId = 1L;
-			
-			User user = User.builder()
-				.id(userId)
-				.email("test@example.com")
-				.build();
-			
-			User otherUser = User.builder()
-				.id(2L)
-				.email("other@example.com")
-				.build();
-
-			// 리뷰 엔티티 생성 (총 5개, 평균 4.6점)
-			List<PlaceReview> mockReviews = Arrays.asList(
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(4).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(5).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(4).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(5).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(5).build()
-			);
-
-			// 북마크 엔티티 생성 (총 10개, 그 중 userId=1인 북마크 1개 포함)
-			List<PlaceBookmark> mockBookmarks = Arrays.asList(
-				PlaceBookmark.builder().placeId(placeId).user(user).build(), // userId 북마크
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build()
-			);
-
-			given(placeReviewRepository.findAllByPlaceIdIn(anyList())).willReturn(mockReviews);
-			given(placeBookmarkRepository.findAllByPlaceIdIn(anyList())).willReturn(mockBookmarks);
+
+			// 리뷰 5개 (평점 합계 23, 평균 4.6점), 북마크 10개, 그 중 userId 북마크 1개 포함
+			given(placeStatsRepository.findAllByPlaceIdIn(anyCollection()))
+				.willReturn(List.of(placeStats(placeId, 5, 23, 10)));
+			given(placeUserFlagCache.find(userId, List.of(placeId)))
+				.willReturn(new PlaceUserFlagCache.Flags(Set.of(placeId), Set.of()));
 
 			// when
 			PlaceStatsDto result = placeStatsService.getPlaceStats(placeId, userId);
@@ -105,34 +106,10 @@ class PlaceStatsServiceTest {
 		void getPlaceStats_WithoutUserId_Success() {
 			// given
 			String placeId = "test-place-id";
-			
-			User otherUser = User.builder().id(2L).email("other@example.com").build();
-
-			// 리뷰 엔티티 생성
-			List<PlaceReview> mockReviews = Arrays.asList(
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(5).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(5).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(4).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(4).build(),
-				PlaceReview.builder().placeId(placeId).user(otherUser).rating(4).build()
-			);
-
-			// 북마크 엔티티 생성
-			List<PlaceBookmark> mockBookmarks = Arrays.asList(
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build(),
-				PlaceBookmark.builder().placeId(placeId).user(otherUser).build()
-			);
-
-			given(placeReviewRepository.findAllByPlaceIdIn(anyList())).willReturn(mockReviews);
-			given(placeBookmarkRepository.findAllByPlaceIdIn(anyList())).willReturn(mockBookmarks);
+
+			// 리뷰 5개 (평점 합계 22, 평균 4.4점), 북마크 10개
+			given(placeStatsRepository.findAllByPlaceIdIn(anyCollection()))
+				.willReturn(List.of(placeStats(placeId, 5, 22, 10)));
 
 			// when
 			PlaceStatsDto result = placeStatsService.getPlaceStats(placeId, null);
@@ -145,6 +122,7 @@ class PlaceStatsServiceTest {
 			assertThat(result.getBookmarkCount()).isEqualTo(10L);
 			assertThat(result.getIsBookmarked()).isNull();
 			assertThat(result.getHasUserReview()).isNull();
+			verifyNoInteractions(placeUserFlagCache);
 		}
 
 		@Test
@@ -153,9 +131,8 @@ class PlaceStatsServiceTest {
 			// given
 			String placeId = "test-place-id";
 
-			// 빈 리스트 반환 (리뷰 없음)
-			given(placeReviewRepository.findAllByPlaceIdIn(anyList())).willReturn(List.of());
-			given(placeBookmarkRepository.findAllByPlaceIdIn(anyList())).willReturn(List.of());
+			// 집계 행 없음 (리뷰/북마크 없음)
+			given(placeStatsRepository.findAllByPlaceIdIn(anyCollection())).willReturn(List.of());
 
 			// when
 			PlaceStatsDto result = placeStatsService.getPlaceStats(placeId, null);
@@ -171,17 +148,10 @@ class PlaceStatsServiceTest {
 		void getPlaceStats_DecimalRating_RoundsToTwoDecimalPlaces() {
 			// given
 			String placeId = "test-place-id";
-			User user = User.builder().id(1L).email("test@example.com").build();
 
-			// 평점 평균이 4.6666666666이 되도록 설정
-			List<PlaceReview> mockReviews = Arrays.asList(
-				PlaceReview.builder().placeId(placeId).user(user).rating(5).build(),
-				PlaceReview.builder().placeId(placeId).user(user).rating(4).build(),
-				PlaceReview.builder().placeId(placeId).user(user).rating(5).build()
-			);
-
-			given(placeReviewRepository.findAllByPlaceIdIn(anyList())).willReturn(mockReviews);
-			given(placeBookmarkRepository.findAllByPlaceIdIn(anyList())).willReturn(List.of());
+			// 평점 평균이 4.6666666666이 되도록 설정 (5 + 4 + 5)
+			given(placeStatsRepository.findAllByPlaceIdIn(anyCollection()))
+				.willReturn(List.of(placeStats(placeId, 3, 14, 0)));
 
 			// when
 			PlaceStatsDto result = placeStatsService.getPlaceStats(placeId, null);
@@ -201,49 +171,27 @@ class PlaceStatsServiceTest {
 			// given
 			List<String> placeIds = Arrays.asList("place1", "place2", "place3");
 			Long userId = 1L;
-			
-			User user = User.builder().id(userId).email("test@example.com").build();
-			User otherUser = User.builder().id(2L).email("other@example.com").build();
-
-			// 리뷰 데이터
-			List<PlaceReview> mockReviews = Arrays.asList(
-				// place1: 2개 리뷰, 평균 4.5점, userId 리뷰 없음
-				PlaceReview.builder().placeId("place1").user(otherUser).rating(4).build(),
-				PlaceReview.builder().placeId("place1").user(otherUser).rating(5).build(),
-				
-				// place2: 1개 리뷰, 평균 4점, userId 리뷰 있음
-				PlaceReview.builder().placeId("place2").user(user).rating(4).build(),
-				
-				// place3: 1개 리뷰, 평균 5점, userId 리뷰 없음
-				PlaceReview.builder().placeId("place3").user(otherUser).rating(5).build()
-			);
-
-			// 북마크 데이터
-			List<PlaceBookmark> mockBookmarks = Arrays.asList(
-				// place1: userId 북마크 있음
-				PlaceBookmark.builder().placeId("place1").user(user).build(),
-				PlaceBookmark.builder().placeId("place1").user(otherUser).build(),
-				
-				// place2: userId 북마크 없음
-				PlaceBookmark.builder().placeId("place2").user(otherUser).build(),
-				
-				// place3: userId 북마크 없음
-				PlaceBookmark.builder().placeId("place3").user(otherUser).build()
-			);
-
-			given(placeReviewRepository.findAllByPlaceIdIn(placeIds)).willReturn(mockReviews);
-			given(placeBookmarkRepository.findAllByPlaceIdIn(placeIds)).willReturn(mockBookmarks);
+
+			// place1: 리뷰 2개 (평균 4.5점), 북마크 2개 / place2: 리뷰 1개, 북마크 1개 / place3: 리뷰 1개, 북마크 1개
+			given(placeStatsRepository.findAllByPlaceIdIn(placeIds)).willReturn(List.of(
+				placeStats("place1", 2, 9, 2),
+				placeStats("place2", 1, 4, 1),
+				placeStats("place3", 1, 5, 1)));
+			// userId는 place1을 북마크했고 place2에 리뷰를 작성함
+			given(placeBookmarkRepository.findBookmarkedPlaceIds(userId, placeIds)).willReturn(List.of("place1"));
+			given(placeReviewRepository.findReviewedPlaceIds(userId, placeIds)).willReturn(List.of("place2"));
 
 			// when
 			Map<String, PlaceStatsDto> result = placeStatsService.getPlaceStatsMap(placeIds, userId);
 
 			// then
 			assertThat(result).hasSize(3);
-			
+
 			PlaceStatsDto place1Stats = result.get("place1");
+			assertThat(place1Stats.getAverageRating()).isEqualTo(4.5);
 			assertThat(place1Stats.getIsBookmarked()).isTrue();
 			assertThat(place1Stats.getHasUserReview()).isFalse();
-			
+
 			PlaceStatsDto place2Stats = result.get("place2");
 			assertThat(place2Stats.getIsBookmarked()).isFalse();
 			assertThat(place2Stats.getHasUserReview()).isTrue();
@@ -254,10 +202,9 @@ class PlaceStatsServiceTest {
 		void getPlaceStatsMap_WithoutUserId_Success() {
 			// given
 			List<String> placeIds = Arrays.asList("place1", "place2", "place3");
-			
+
 			// 간단한 mock 데이터
-			given(placeReviewRepository.findAllByPlaceIdIn(placeIds)).willReturn(List.of());
-			given(placeBookmarkRepository.findAllByPlaceIdIn(placeIds)).willReturn(List.of());
+			given(placeStatsRepository.findAllByPlaceIdIn(placeIds)).willReturn(List.of());
 
 			// when
 			Map<String, PlaceStatsDto> result = placeStatsService.getPlaceStatsMap(placeIds, null);
@@ -288,4 +235,233 @@ class PlaceStatsServiceTest {
 			assertThat(result).isEmpty();
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("여러 장소 통계 캐시 일괄 조회")
+	class GetCachedPlaceStatsMapTest {
+
+		@Test
+		@DisplayName("공유 집계 캐시 히트는 그대로 사용하고 미스 장소만 한 번의 배치 쿼리로 계산해 함께 저장한다")
+		void getCachedPlaceStatsMap_LoadsOnlyMisses() {
+			// given
+			PlaceStatsDto cachedStats = PlaceStatsDto.builder()
+				.placeId("place1").reviewCount(7L).averageRating(4.5).bookmarkCount(2L).build();
+
+			given(cacheKeyUtil.generatePlaceStatsKey(anyString()))
+				.willAnswer(invocation -> "stats:" + invocation.getArgument(0));
+			given(redisBatchCache.multiGet("place-stats",
+				List.of("stats:place1", "stats:place2", "stats:place3"), PlaceStatsDto.class))
+				.willReturn(Map.of("stats:place1", cachedStats));
+			given(placeStatsRepository.findAllByPlaceIdIn(List.of("place2", "place3")))
+				.willReturn(List.of(placeStats("place2", 1, 4, 0)));
+			given(placeUserFlagCache.find(1L, List.of("place1", "place2", "place3")))
+				.willReturn(new PlaceUserFlagCache.Flags(Set.of("place1"), Set.of("place2")));
+
+			// when
+			Map<String, PlaceStatsDto> result = placeStatsService.getCachedPlaceStatsMap(
+				List.of("place1", "place2", "place3", "place1"), 1L);
+
+			// then
+			assertThat(result).hasSize(3);
+			assertThat(result.get("place1").getReviewCount()).isEqualTo(7L);
+			assertThat(result.get("place1").getIsBookmarked()).isTrue();
+			assertThat(result.get("place1").getHasUserReview()).isFalse();
+			assertThat(result.get("place2").getReviewCount()).isEqualTo(1L);
+			assertThat(result.get("place2").getHasUserReview()).isTrue();
+			assertThat(result.get("place3").getReviewCount()).isEqualTo(0L);
+			verify(placeStatsRepository, times(1)).findAllByPlaceIdIn(anyCollection());
+			verifyNoInteractions(placeReviewRepository, placeBookmarkRepository);
+
+			// 공유 캐시에는 사용자별 여부가 포함되지 않은 집계만 저장
+			verify(redisBatchCache).multiPut(eq("place-stats"), argThat(entries -> entries.size() == 2
+				&& entries.containsKey("stats:place2") && entries.containsKey("stats:place3")
+				&& entries.values().stream().allMatch(value -> ((PlaceStatsDto)value).getIsBookmarked() == null
+				&& ((PlaceStatsDto)value).getHasUserReview() == null)),
+				eq(CacheConfig.PLACE_STATS_TTL));
+		}
+
+		@Test
+		@DisplayName("다른 사용자도 같은 집계 캐시 엔트리를 사용하고 여부만 각자 병합한다")
+		void getCachedPlaceStatsMap_SharesAggregatesAcrossUsers() {
+			// given
+			PlaceStatsDto cachedStats = PlaceStatsDto.builder()
+				.placeId("place1").reviewCount(3L).averageRating(4.0).bookmarkCount(5L).build();
+			given(cacheKeyUtil.generatePlaceStatsKey("place1")).willReturn("stats:place1");
+			given(redisBatchCache.multiGet("place-stats", List.of("stats:place1"), PlaceStatsDto.class))
+				.willReturn(Map.of("stats:place1", cachedStats));
+			given(placeUserFlagCache.find(1L, List.of("place1")))
+				.willReturn(new PlaceUserFlagCache.Flags(Set.of("place1"), Set.of()));
+			given(placeUserFlagCache.find(2L, List.of("place1")))
+				.willReturn(new PlaceUserFlagCache.Flags(Set.of(), Set.of("place1")));
+
+			// when
+			PlaceStatsDto user1Stats = placeStatsService.getPlaceStats("place1", 1L);
+			PlaceStatsDto user2Stats = placeStatsService.getPlaceStats("place1", 2L);
+
+			// then
+			assertThat(user1Stats.getBookmarkCount()).isEqualTo(5L);
+			assertThat(user1Stats.getIsBookmarked()).isTrue();
+			assertThat(user1Stats.getHasUserReview()).isFalse();
+			assertThat(user2Stats.getBookmarkCount()).isEqualTo(5L);
+			assertThat(user2Stats.getIsBookmarked()).isFalse();
+			assertThat(user2Stats.getHasUserReview()).isTrue();
+			assertThat(cachedStats.getIsBookmarked()).isNull();
+			verifyNoInteractions(placeStatsRepository);
+		}
+
+		@Test
+		@DisplayName("모두 캐시 히트이면 DB를 조회하지 않는다")
+		void getCachedPlaceStatsMap_AllHits_SkipsQuery() {
+			// given
+			PlaceStatsDto cachedStats = PlaceStatsDto.builder().placeId("place1").reviewCount(1L).build();
+			given(cacheKeyUtil.generatePlaceStatsKey("place1")).willReturn("stats:place1");
+			given(redisBatchCache.multiGet("place-stats", List.of("stats:place1"), PlaceStatsDto.class))
+				.willReturn(Map.of("stats:place1", cachedStats));
+
+			// when
+			Map<String, PlaceStatsDto> result = placeStatsService.getCachedPlaceStatsMap(List.of("place1"), null);
+
+			// then
+			assertThat(result).containsEntry("place1", cachedStats);
+			verifyNoInteractions(placeStatsRepository, placeUserFlagCache);
+			verify(redisBatchCache, never()).multiPut(anyString(), anyMap(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("장소 통계 캐시 삭제")
+	class EvictPlaceStatsTest {
+
+		private Cache placeStatsCache;
+
+		@BeforeEach
+		void setUp() {
+			given(cacheKeyUtil.generatePlaceStatsKey(anyString()))
+				.willAnswer(invocation -> "stats:" + invocation.getArgument(0));
+			placeStatsCache = cacheManager.getCache("place-stats");
+			placeStatsCache.put("stats:place1", PlaceStatsDto.builder().placeId("place1").reviewCount(1L).build());
+			placeStatsCache.put("stats:place2", PlaceStatsDto.builder().placeId("place2").reviewCount(2L).build());
+			placeStatsCache.put("stats:place3", PlaceStatsDto.builder().placeId("place3").reviewCount(3L).build());
+		}
+
+		@Test
+		@DisplayName("한 장소의 북마크 변경은 그 장소의 캐시만 삭제하고 다른 장소의 캐시는 유지한다")
+		void applyBookmarkChange_EvictsOnlyAffectedPlace() {
+			// when
+			placeStatsService.applyBookmarkChange("place1", 1);
+
+			// then
+			assertThat(placeStatsCache.get("stats:place1")).isNull();
+			assertThat(placeStatsCache.get("stats:place2")).isNotNull();
+			assertThat(placeStatsCache.get("stats:place3")).isNotNull();
+		}
+
+		@Test
+		@DisplayName("한 장소의 리뷰 변경은 그 장소의 캐시만 삭제하고 다른 장소의 캐시는 유지한다")
+		void applyReviewChange_EvictsOnlyAffectedPlace() {
+			// when
+			placeStatsService.applyReviewChange("place2", -1, -4);
+
+			// then
+			assertThat(placeStatsCache.get("stats:place2")).isNull();
+			assertThat(placeStatsCache.get("stats:place1")).isNotNull();
+			assertThat(placeStatsCache.get("stats:place3")).isNotNull();
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서는 커밋 후에 캐시를 삭제한다")
+		void applyBookmarkChange_InTransaction_EvictsAfterCommit() {
+			// given
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				placeStatsService.applyBookmarkChange("place1", -1);
+
+				// then
+				assertThat(placeStatsCache.get("stats:place1")).isNotNull();
+
+				// when - 커밋
+				TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+				// then
+				assertThat(placeStatsCache.get("stats:place1")).isNull();
+				assertThat(placeStatsCache.get("stats:place2")).isNotNull();
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("장소 통계 집계 갱신")
+	class UpdatePlaceStatsTest {
+
+		@Test
+		@DisplayName("리뷰/북마크 변경분을 집계 upsert로 반영한다")
+		void applyChanges_DelegatesToUpsert() {
+			// given
+			given(cacheKeyUtil.generatePlaceStatsKey("place1")).willReturn("stats:place1");
+
+			// when
+			placeStatsService.applyReviewChange("place1", 1, 5);
+			placeStatsService.applyBookmarkChange("place1", -1);
+
+			// then
+			verify(placeStatsRepository).addReviewStats("place1", 1, 5);
+			verify(placeStatsRepository).addBookmarkCount("place1", -1);
+		}
+
+		@Test
+		@DisplayName("백필 완료 기록이 없으면 기동 시 원본 데이터로 다시 집계하고 완료를 기록한다")
+		void backfillPlaceStats_NotCompleted_RebuildsAndMarks() {
+			// given
+			given(dataBackfillRepository.existsById("place-stats-backfill")).willReturn(false);
+			given(placeStatsRepository.rebuildAll()).willReturn(3);
+
+			// when
+			placeStatsService.backfillPlaceStats();
+
+			// then
+			verify(placeStatsRepository).rebuildAll();
+			verify(placeStatsRepository).resetOrphans();
+			verify(dataBackfillRepository).markCompleted("place-stats-backfill");
+			verify(placeStatsRepository, never()).count();
+		}
+
+		@Test
+		@DisplayName("백필 완료 기록이 있으면 기동 시 다시 집계하지 않는다")
+		void backfillPlaceStats_Completed_Skips() {
+			// given
+			given(dataBackfillRepository.existsById("place-stats-backfill")).willReturn(true);
+
+			// when
+			placeStatsService.backfillPlaceStats();
+
+			// then
+			verify(placeStatsRepository, never()).rebuildAll();
+		}
+
+		@Test
+		@DisplayName("재집계가 실패하면 완료를 기록하지 않아 다음 기동 시 다시 시도한다")
+		void backfillPlaceStats_Failure_DoesNotMark() {
+			// given
+			given(dataBackfillRepository.existsById("place-stats-backfill")).willReturn(false);
+			given(placeStatsRepository.rebuildAll()).willThrow(new IllegalStateException("db down"));
+
+			// when
+			placeStatsService.backfillPlaceStats();
+
+			// then
+			verify(dataBackfillRepository, never()).markCompleted(anyString());
+		}
+	}
+
+	private PlaceStats placeStats(String placeId, long reviewCount, long ratingSum, long bookmarkCount) {
+		return PlaceStats.builder()
+			.placeId(placeId)
+			.reviewCount(reviewCount)
+			.ratingSum(ratingSum)
+			.bookmarkCount(bookmarkCount)
+			.build();
+	}
+}
@@ -0,0 +1,186 @@
+package com.example.wherewego.domain.places.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.wherewego.domain.places.repository.PlaceBookmarkRepository;
+import com.example.wherewego.domain.places.repository.PlaceReviewRepository;
+import com.example.wherewego.global.util.CacheKeyUtil;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlaceUserFlagCache 테스트")
+class PlaceUserFlagCacheTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private PlaceBookmarkRepository placeBookmarkRepository;
+
+	@Mock
+	private PlaceReviewRepository placeReviewRepository;
+
+	@Mock
+	private CacheKeyUtil cacheKeyUtil;
+
+	private PlaceUserFlagCache placeUserFlagCache;
+
+	private final List<String> placeIds = List.of("place1", "place2");
+
+	@BeforeEach
+	void setUp() {
+		placeUserFlagCache = new PlaceUserFlagCache(stringRedisTemplate, placeBookmarkRepository,
+			placeReviewRepository, cacheKeyUtil, Duration.ofMinutes(30));
+		given(cacheKeyUtil.generatePlaceUserFlagKey(anyString(), eq(1L)))
+			.willAnswer(invocation -> "place-user-flags:" + invocation.getArgument(0) + ":1");
+	}
+
+	@Nested
+	@DisplayName("사용자 플래그 조회")
+	class Find {
+
+		@Test
+		@DisplayName("적재된 집합이면 SMISMEMBER 결과만으로 여부를 판단하고 DB를 조회하지 않는다")
+		void shouldAnswerFromLoadedSets() {
+			// given - 첫 번째 값은 적재 표식, 뒤의 두 값은 집합 버전
+			given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.willReturn(Arrays.asList(List.of(true, true, false), List.of(true, false, true), null, "3"));
+
+			// when
+			PlaceUserFlagCache.Flags flags = placeUserFlagCache.find(1L, placeIds);
+
+			// then
+			assertThat(flags.isBookmarked("place1")).isTrue();
+			assertThat(flags.isBookmarked("place2")).isFalse();
+			assertThat(flags.hasReview("place1")).isFalse();
+			assertThat(flags.hasReview("place2")).isTrue();
+			verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+			verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+			verifyNoInteractions(placeBookmarkRepository, placeReviewRepository);
+		}
+
+		@Test
+		@DisplayName("적재 표식이 없는 집합은 사용자의 전체 목록을 DB에서 읽어 다시 적재한다")
+		void shouldLoadMissingSetFromDatabase() {
+			// given - 북마크 집합은 없고 리뷰 집합은 적재됨
+			given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.willReturn(Arrays.asList(List.of(false, false, false), List.of(true, false, false), "5", null));
+			given(placeBookmarkRepository.findAllPlaceIdsByUserId(1L)).willReturn(List.of("place2", "place9"));
+
+			// when
+			PlaceUserFlagCache.Flags flags = placeUserFlagCache.find(1L, placeIds);
+
+			// then - DB를 읽기 전에 조회한 버전이 그대로일 때만 집합을 교체
+			assertThat(flags.isBookmarked("place1")).isFalse();
+			assertThat(flags.isBookmarked("place2")).isTrue();
+			assertThat(flags.hasReview("place2")).isFalse();
+			verify(stringRedisTemplate).execute(any(RedisScript.class),
+				eq(List.of("place-user-flags:bookmarks:1", "place-user-flags:bookmarks:1:version")),
+				eq("5"), eq("1800"), eq("#loaded"), eq("place2"), eq("place9"));
+			verify(placeReviewRepository, never()).findAllPlaceIdsByUserId(any());
+		}
+
+		@Test
+		@DisplayName("한 번도 갱신되지 않은 집합은 빈 버전을 기대값으로 적재한다")
+		void shouldLoadWithEmptyVersionWhenNeverUpdated() {
+			// given
+			given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.willReturn(Arrays.asList(List.of(true, false, false), List.of(false, false, false), null, null));
+			given(placeReviewRepository.findAllPlaceIdsByUserId(1L)).willReturn(List.of("place1"));
+
+			// when
+			PlaceUserFlagCache.Flags flags = placeUserFlagCache.find(1L, placeIds);
+
+			// then
+			assertThat(flags.hasReview("place1")).isTrue();
+			verify(stringRedisTemplate).execute(any(RedisScript.class),
+				eq(List.of("place-user-flags:reviews:1", "place-user-flags:reviews:1:version")),
+				eq(""), eq("1800"), eq("#loaded"), eq("place1"));
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 요청한 장소만 DB 인덱스로 확인한다")
+		void shouldFallBackToDatabaseOnRedisFailure() {
+			// given
+			given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+			given(placeBookmarkRepository.findBookmarkedPlaceIds(1L, placeIds)).willReturn(List.of("place1"));
+			given(placeReviewRepository.findReviewedPlaceIds(1L, placeIds)).willReturn(List.of());
+
+			// when
+			PlaceUserFlagCache.Flags flags = placeUserFlagCache.find(1L, placeIds);
+
+			// then
+			assertThat(flags.isBookmarked("place1")).isTrue();
+			assertThat(flags.hasReview("place1")).isFalse();
+			verify(placeBookmarkRepository, never()).findAllPlaceIdsByUserId(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("사용자 플래그 갱신")
+	class Update {
+
+		@Test
+		@DisplayName("갱신에 실패한 집합은 삭제하여 다음 조회에서 다시 적재되게 한다")
+		void shouldDropSetWhenUpdateFails() {
+			// given
+			given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+
+			// when
+			placeUserFlagCache.addBookmark(1L, "place1");
+
+			// then
+			verify(stringRedisTemplate).delete("place-user-flags:bookmarks:1");
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서는 커밋 후에 반영하고 롤백되면 반영하지 않는다")
+		void shouldApplyOnlyAfterCommit() {
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				placeUserFlagCache.addBookmark(1L, "place1");
+				placeUserFlagCache.removeReview(1L, "place2");
+
+				// then
+				verifyNoInteractions(stringRedisTemplate);
+
+				// when - 롤백
+				TransactionSynchronizationManager.getSynchronizations()
+					.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+				// then
+				verifyNoInteractions(stringRedisTemplate);
+
+				// when - 커밋
+				TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+				// then
+				verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package com.example.wherewego.domain.search.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.wherewego.domain.common.enums.SuggestionType;
+import com.example.wherewego.domain.courses.entity.Course;
+import com.example.wherewego.domain.courses.repository.CourseRepository;
+import com.example.wherewego.domain.places.dto.response.PlaceDetailResponseDto;
+import com.example.wherewego.domain.places.repository.PlaceRepository;
+import com.example.wherewego.domain.places.repository.PlaceStatsRepository;
+import com.example.wherewego.global.util.CacheKeyUtil;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchSuggestService 테스트")
+class SearchSuggestServiceTest {
+
+	private static final String RANKING_KEY = "search-suggest:query-ranking";
+	private static final String USERS_KEY = "search-suggest:query-users:강남 카페";
+
+	@Mock
+	private SearchSuggestionIndex searchSuggestionIndex;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+	@Mock
+	private PlaceRepository placeRepository;
+
+	@Mock
+	private PlaceStatsRepository placeStatsRepository;
+
+	@Mock
+	private CourseRepository courseRepository;
+
+	@Mock
+	private CacheKeyUtil cacheKeyUtil;
+
+	private SearchSuggestService searchSuggestService;
+
+	private final List<PlaceDetailResponseDto> results = List.of(
+		PlaceDetailResponseDto.builder().placeId("place1").name("강남 스타벅스").build());
+
+	@BeforeEach
+	void setUp() {
+		searchSuggestService = new SearchSuggestService(searchSuggestionIndex, stringRedisTemplate, placeRepository,
+			placeStatsRepository, courseRepository, cacheKeyUtil, 2, Duration.ofDays(30), 10000);
+	}
+
+	@Nested
+	@DisplayName("검색어 기록")
+	class RecordSearch {
+
+		@Test
+		@DisplayName("최소 사용자 수에 못 미친 검색어는 추천에 노출하지 않고 결과 장소명만 등록한다")
+		void shouldNotIndexRareQuery() {
+			// given
+			given(cacheKeyUtil.generateSearchQueryUsersKey("강남 카페")).willReturn(USERS_KEY);
+			given(cacheKeyUtil.generateSearchQueryRankingKey()).willReturn(RANKING_KEY);
+			given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+			given(hyperLogLogOperations.add(USERS_KEY, "1")).willReturn(1L);
+			given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+			given(zSetOperations.incrementScore(RANKING_KEY, "강남 카페", 1)).willReturn(1.0);
+
+			// when
+			searchSuggestService.recordSearch("  강남   카페 ", 1L, results);
+
+			// then
+			verify(searchSuggestionIndex).add(SuggestionType.PLACE, "강남 스타벅스", "place1", 0);
+			verify(searchSuggestionIndex, never()).add(eq(SuggestionType.QUERY), any(), any(), anyLong());
+		}
+
+		@Test
+		@DisplayName("같은 사용자가 반복해서 검색해도 사용자 수를 올리지 않아 추천에 노출되지 않는다")
+		void shouldNotCountRepeatedSearchesBySameUser() {
+			// given - 두 번째 검색은 HyperLogLog가 바뀌지 않음
+			given(cacheKeyUtil.generateSearchQueryUsersKey("강남 카페")).willReturn(USERS_KEY);
+			given(cacheKeyUtil.generateSearchQueryRankingKey()).willReturn(RANKING_KEY);
+			given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+			given(hyperLogLogOperations.add(USERS_KEY, "1")).willReturn(1L, 0L);
+			given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+			given(zSetOperations.incrementScore(RANKING_KEY, "강남 카페", 1)).willReturn(1.0);
+
+			// when
+			searchSuggestService.recordSearch("강남 카페", 1L, results);
+			searchSuggestService.recordSearch("강남 카페", 1L, results);
+
+			// then
+			verify(zSetOperations, times(1)).incrementScore(RANKING_KEY, "강남 카페", 1);
+			verify(stringRedisTemplate, times(2)).expire(USERS_KEY, Duration.ofDays(30));
+			verify(searchSuggestionIndex, never()).add(eq(SuggestionType.QUERY), any(), any(), anyLong());
+		}
+
+		@Test
+		@DisplayName("최소 사용자 수에 처음 도달하면 누적 사용자 수만큼, 이후에는 1씩 인기도를 올린다")
+		void shouldIndexQueryAfterThreshold() {
+			// given
+			given(cacheKeyUtil.generateSearchQueryUsersKey("강남 카페")).willReturn(USERS_KEY);
+			given(cacheKeyUtil.generateSearchQueryRankingKey()).willReturn(RANKING_KEY);
+			given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+			given(hyperLogLogOperations.add(eq(USERS_KEY), anyString())).willReturn(1L);
+			given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+			given(zSetOperations.incrementScore(RANKING_KEY, "강남 카페", 1)).willReturn(2.0, 3.0);
+
+			// when
+			searchSuggestService.recordSearch("강남 카페", 2L, results);
+			searchSuggestService.recordSearch("강남 카페", 3L, results);
+
+			// then
+			verify(searchSuggestionIndex).add(SuggestionType.QUERY, "강남 카페", null, 2);
+			verify(searchSuggestionIndex).add(SuggestionType.QUERY, "강남 카페", null, 1);
+		}
+
+		@Test
+		@DisplayName("사용자를 알 수 없는 검색은 검색어를 기록하지 않고 결과 장소명만 등록한다")
+		void shouldNotRecordAnonymousQuery() {
+			// when
+			searchSuggestService.recordSearch("강남 카페", null, results);
+
+			// then
+			verify(searchSuggestionIndex).add(SuggestionType.PLACE, "강남 스타벅스", "place1", 0);
+			verifyNoInteractions(stringRedisTemplate);
+		}
+
+		@Test
+		@DisplayName("결과가 없었던 검색어는 기록하지 않는다")
+		void shouldIgnoreSearchWithoutResults() {
+			// when
+			searchSuggestService.recordSearch("강남 카페", 1L, List.of());
+
+			// then
+			verifyNoInteractions(stringRedisTemplate, searchSuggestionIndex);
+		}
+
+		@Test
+		@DisplayName("Redis 오류가 발생해도 예외를 전파하지 않는다")
+		void shouldSwallowRedisFailure() {
+			// given
+			given(cacheKeyUtil.generateSearchQueryUsersKey("강남 카페")).willReturn(USERS_KEY);
+			given(stringRedisTemplate.opsForHyperLogLog()).willThrow(new IllegalStateException("redis down"));
+
+			// when
+			searchSuggestService.recordSearch("강남 카페", 1L, results);
+
+			// then
+			verify(searchSuggestionIndex, never()).add(eq(SuggestionType.QUERY), any(), any(), anyLong());
+		}
+	}
+
+	@Nested
+	@DisplayName("코스 색인")
+	class IndexCourse {
+
+		@Test
+		@DisplayName("공개 코스는 제목을 등록한다")
+		void shouldIndexPublicCourse() {
+			// given
+			Course course = Course.builder().id(7L).title("강남 데이트 코스").isPublic(true).build();
+
+			// when
+			searchSuggestService.indexCourse(course);
+
+			// then
+			verify(searchSuggestionIndex).add(SuggestionType.COURSE, "강남 데이트 코스", "7", 0);
+		}
+
+		@Test
+		@DisplayName("비공개로 바뀐 코스는 인덱스에서 제거한다")
+		void shouldRemovePrivateCourse() {
+			// given
+			Course course = Course.builder().id(7L).title("강남 데이트 코스").isPublic(false).build();
+
+			// when
+			searchSuggestService.indexCourse(course);
+
+			// then
+			verify(searchSuggestionIndex).remove(SuggestionType.COURSE, null, "7");
+			verify(searchSuggestionIndex, never()).add(any(), any(), any(), anyLong());
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서는 커밋 후에 반영하고 롤백되면 반영하지 않는다")
+		void shouldIndexOnlyAfterCommit() {
+			// given
+			Course course = Course.builder().id(7L).title("강남 데이트 코스").isPublic(true).build();
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				searchSuggestService.indexCourse(course);
+				searchSuggestService.removeCourse(8L);
+
+				// then
+				verifyNoInteractions(searchSuggestionIndex);
+
+				// when - 롤백
+				TransactionSynchronizationManager.getSynchronizations()
+					.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+				// then
+				verifyNoInteractions(searchSuggestionIndex);
+
+				// when - 커밋
+				TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+				// then
+				verify(searchSuggestionIndex).add(SuggestionType.COURSE, "강남 데이트 코스", "7", 0);
+				verify(searchSuggestionIndex).remove(SuggestionType.COURSE, null, "8");
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.wherewego.domain.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.common.enums.SuggestionType;
+import com.example.wherewego.domain.search.dto.response.SearchSuggestionResponseDto;
+
+@DisplayName("SearchSuggestionIndex 테스트")
+class SearchSuggestionIndexTest {
+
+	private SearchSuggestionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SearchSuggestionIndex(3, 1000);
+		index.add(SuggestionType.QUERY, "강남역 카페", null, 5);
+		index.add(SuggestionType.PLACE, "강남 스타벅스", "place1", 2);
+		index.add(SuggestionType.PLACE, "강릉 바다", "place2", 1);
+		index.add(SuggestionType.COURSE, "강남 데이트 코스", "7", 3);
+	}
+
+	@Nested
+	@DisplayName("접두사 조회")
+	class Suggest {
+
+		@Test
+		@DisplayName("입력 중인 글자로 시작하는 항목을 인기도 순으로 상위 K개만 반환한다")
+		void shouldReturnTopKByPopularity() {
+			// when & then
+			assertThat(index.suggest("강", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강남역 카페", "강남 데이트 코스", "강남 스타벅스");
+			assertThat(index.suggest("강나", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강남역 카페", "강남 데이트 코스", "강남 스타벅스");
+			assertThat(index.suggest("강남역카", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강남역 카페");
+		}
+
+		@Test
+		@DisplayName("자음만 입력하면 초성으로 검색한다")
+		void shouldMatchChosung() {
+			// when & then
+			assertThat(index.suggest("ㄱㄹ", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강릉 바다");
+		}
+
+		@Test
+		@DisplayName("일치하는 항목이 없으면 빈 목록을 반환한다")
+		void shouldReturnEmptyWhenNoMatch() {
+			// when & then
+			assertThat(index.suggest("부산", 10)).isEmpty();
+			assertThat(index.suggest(" ", 10)).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("점진적 갱신")
+	class Update {
+
+		@Test
+		@DisplayName("인기도가 오른 항목은 짧은 접두사의 상위 목록에 새로 들어간다")
+		void shouldPromoteEntryWhenScoreIncreases() {
+			// when
+			index.add(SuggestionType.PLACE, "강릉 바다", "place2", 10);
+
+			// then
+			assertThat(index.suggest("ㄱ", 1)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강릉 바다");
+		}
+
+		@Test
+		@DisplayName("같은 문구의 검색어와 장소는 하나로 합치고 장소 정보를 유지한다")
+		void shouldMergeQueryIntoPlace() {
+			// when
+			index.add(SuggestionType.QUERY, "강남  스타벅스", null, 4);
+
+			// then
+			SearchSuggestionResponseDto top = index.suggest("강남스", 10).get(0);
+			assertThat(top.getType()).isEqualTo(SuggestionType.PLACE);
+			assertThat(top.getId()).isEqualTo("place1");
+			assertThat(index.size()).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("코스 제목이 바뀌면 새 제목으로만 검색되고, 제거하면 더 이상 검색되지 않는다")
+		void shouldRenameAndRemoveCourse() {
+			// when
+			index.add(SuggestionType.COURSE, "부산 여행", "7", 0);
+
+			// then
+			assertThat(index.suggest("강남", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.doesNotContain("강남 데이트 코스");
+			assertThat(index.suggest("ㅂㅅ", 10)).extracting(SearchSuggestionResponseDto::getId)
+				.containsExactly("7");
+
+			// when
+			index.remove(SuggestionType.COURSE, null, "7");
+
+			// then
+			assertThat(index.suggest("부산", 10)).isEmpty();
+			assertThat(index.suggest("강", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("강남역 카페", "강남 스타벅스", "강릉 바다");
+		}
+	}
+
+	@Nested
+	@DisplayName("최대 크기")
+	class Capacity {
+
+		@Test
+		@DisplayName("검색 결과 장소로 가득 차도 새 코스와 검색어는 점수가 가장 낮은 장소를 내보내고 들어온다")
+		void shouldEvictLowestEntryWhenFull() {
+			// given - 점수 없는 검색 결과 장소로 가득 찬 인덱스
+			SearchSuggestionIndex full = new SearchSuggestionIndex(3, 3);
+			full.add(SuggestionType.PLACE, "서울숲", "place1", 0);
+			full.add(SuggestionType.PLACE, "서울역", "place2", 0);
+			full.add(SuggestionType.PLACE, "서촌 골목", "place3", 0);
+
+			// when - 점수 없는 장소는 더 들어오지 못함
+			full.add(SuggestionType.PLACE, "서대문", "place4", 0);
+
+			// then
+			assertThat(full.suggest("서대문", 10)).isEmpty();
+
+			// when - 새 공개 코스와 기준을 넘긴 검색어는 먼저 등록된 장소부터 내보냄
+			full.add(SuggestionType.COURSE, "서울 야경 코스", "9", 0);
+			full.add(SuggestionType.QUERY, "서울 맛집", null, 2);
+
+			// then
+			assertThat(full.size()).isEqualTo(3);
+			assertThat(full.suggest("ㅅ", 10)).extracting(SearchSuggestionResponseDto::getText)
+				.containsExactly("서울 맛집", "서촌 골목", "서울 야경 코스");
+		}
+	}
+}
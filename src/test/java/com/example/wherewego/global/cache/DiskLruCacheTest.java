@@ -0,0 +1,115 @@
+package com.example.wherewego.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DiskLruCache 테스트")
+class DiskLruCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("저장한 데이터는 파일 경로로 조회된다")
+	void shouldReturnStoredFile() throws Exception {
+		// given
+		DiskLruCache cache = new DiskLruCache(directory, 1024);
+
+		// when
+		cache.put("photo:w200", new byte[] {1, 2, 3});
+
+		// then
+		Path path = cache.get("photo:w200");
+		assertThat(path).isNotNull();
+		assertThat(Files.readAllBytes(path)).containsExactly(1, 2, 3);
+		assertThat(cache.get("photo:w400")).isNull();
+	}
+
+	@Test
+	@DisplayName("상한을 넘으면 가장 오래 사용하지 않은 파일부터 삭제한다")
+	void shouldEvictLeastRecentlyUsed() {
+		// given
+		DiskLruCache cache = new DiskLruCache(directory, 250);
+		cache.put("a", new byte[100]);
+		cache.put("b", new byte[100]);
+		cache.get("a");
+
+		// when
+		cache.put("c", new byte[100]);
+
+		// then
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.totalBytes()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("열어 둔 파일은 이후 밀려나 삭제되어도 끝까지 읽을 수 있다")
+	void shouldKeepOpenedFileReadableAfterEviction() throws Exception {
+		// given
+		DiskLruCache cache = new DiskLruCache(directory, 150);
+		cache.put("a", new byte[] {1, 2, 3});
+
+		try (FileChannel channel = cache.open("a")) {
+			// when
+			cache.put("b", new byte[148]);
+
+			// then
+			assertThat(cache.get("a")).isNull();
+			ByteBuffer buffer = ByteBuffer.allocate(3);
+			channel.read(buffer, 0);
+			assertThat(buffer.array()).containsExactly(1, 2, 3);
+		}
+		assertThat(cache.open("missing")).isNull();
+	}
+
+	@Test
+	@DisplayName("고정한 경로는 밀려난 뒤에도 읽을 수 있고 유예 시간이 지나 해제하면 삭제된다")
+	void shouldKeepPinnedFileUntilReleased() throws Exception {
+		// given
+		DiskLruCache cache = new DiskLruCache(directory, 150);
+		cache.put("a", new byte[] {1, 2, 3});
+		Path pinned = cache.pin("a");
+
+		// when
+		cache.put("b", new byte[148]);
+
+		// then
+		assertThat(cache.get("a")).isNull();
+		assertThat(Files.readAllBytes(pinned)).containsExactly(1, 2, 3);
+		assertThat(cache.releasePins(Duration.ofMinutes(1))).isZero();
+		assertThat(cache.releasePins(Duration.ZERO)).isEqualTo(1);
+		assertThat(pinned).doesNotExist();
+		assertThat(cache.pin("missing")).isNull();
+	}
+
+	@Test
+	@DisplayName("재시작하면 디렉터리의 파일로 인덱스를 복원하고 남은 임시 파일과 고정 링크는 삭제한다")
+	void shouldRestoreIndexFromDirectory() throws Exception {
+		// given
+		DiskLruCache previous = new DiskLruCache(directory, 1024);
+		previous.put("a", new byte[100]);
+		Path leftover = Files.createTempFile(directory, "partial", ".tmp");
+		Path pinned = previous.pin("a");
+
+		// when
+		DiskLruCache restored = new DiskLruCache(directory, 1024);
+
+		// then
+		assertThat(restored.get("a")).isNotNull();
+		assertThat(restored.entryCount()).isEqualTo(1);
+		assertThat(restored.totalBytes()).isEqualTo(100);
+		assertThat(leftover).doesNotExist();
+		assertThat(pinned).doesNotExist();
+	}
+}
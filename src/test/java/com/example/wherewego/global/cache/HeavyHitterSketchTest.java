@@ -0,0 +1,73 @@
+package com.example.wherewego.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HeavyHitterSketch 테스트")
+class HeavyHitterSketchTest {
+
+	@Test
+	@DisplayName("많은 키 사이에서도 자주 접근한 키를 빈도 순으로 찾는다")
+	void shouldFindHeavyHittersAmongNoise() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 3);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			sketch.record("hot");
+			if (i % 2 == 0) {
+				sketch.record("warm");
+			}
+			if (i % 4 == 0) {
+				sketch.record("mild");
+			}
+		}
+		for (int i = 0; i < 5000; i++) {
+			sketch.record("noise-" + i);
+		}
+
+		// then
+		assertThat(sketch.top(10)).extracting(HeavyHitterSketch.HotKey::getKey)
+			.containsExactly("hot", "warm", "mild");
+		assertThat(sketch.top(1).get(0).getCount()).isGreaterThanOrEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("후보가 가득 차면 가장 빈도가 낮은 키를 더 자주 접근한 키로 교체한다")
+	void shouldReplaceLeastFrequentCandidate() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 2);
+		sketch.record("a");
+		sketch.record("b");
+		sketch.record("b");
+
+		// when
+		sketch.record("c");
+		sketch.record("c");
+
+		// then
+		assertThat(sketch.top(10)).extracting(HeavyHitterSketch.HotKey::getKey)
+			.containsExactlyInAnyOrder("b", "c");
+	}
+
+	@Test
+	@DisplayName("감쇠하면 빈도가 절반이 되고 0이 된 후보는 제거된다")
+	void shouldHalveCountsOnDecay() {
+		// given
+		HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 10);
+		for (int i = 0; i < 8; i++) {
+			sketch.record("hot");
+		}
+		sketch.record("once");
+
+		// when
+		sketch.decay();
+
+		// then
+		assertThat(sketch.top(10)).extracting(HeavyHitterSketch.HotKey::getKey).containsExactly("hot");
+		assertThat(sketch.top(1).get(0).getCount()).isEqualTo(4);
+		assertThat(sketch.record("hot")).isEqualTo(5);
+	}
+}
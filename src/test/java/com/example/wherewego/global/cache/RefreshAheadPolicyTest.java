@@ -0,0 +1,56 @@
+package com.example.wherewego.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RefreshAheadPolicy 테스트")
+class RefreshAheadPolicyTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private final Clock clock = Clock.fixed(Instant.parse("2025-01-10T00:00:00Z"), ZONE);
+	private final LocalDateTime now = LocalDateTime.now(clock);
+
+	private RefreshAheadPolicy policyWithRandom(double random) {
+		return new RefreshAheadPolicy(Duration.ofDays(10), 0.8, 1.0, clock, () -> random);
+	}
+
+	@Test
+	@DisplayName("갱신 시작 나이 이전에는 난수와 관계없이 갱신하지 않는다")
+	void shouldNotRefreshBeforeStartFraction() {
+		// when & then
+		assertThat(policyWithRandom(0.0001).shouldRefresh(now.minusDays(7))).isFalse();
+	}
+
+	@Test
+	@DisplayName("TTL이 지난 엔트리는 항상 갱신한다")
+	void shouldAlwaysRefreshExpiredEntry() {
+		// when & then
+		assertThat(policyWithRandom(0.9999).shouldRefresh(now.minusDays(11))).isTrue();
+	}
+
+	@Test
+	@DisplayName("갱신 구간에서는 만료에 가까울수록 갱신 확률이 높아진다")
+	void shouldRefreshProbabilisticallyWithinWindow() {
+		// given - 남은 구간 비율 r에 대해 난수가 exp(-r / beta) 이하이면 갱신
+		RefreshAheadPolicy policy = policyWithRandom(0.5);
+
+		// when & then
+		assertThat(policy.shouldRefresh(now.minusDays(8))).isFalse(); // exp(-1) ≈ 0.37 < 0.5
+		assertThat(policy.shouldRefresh(now.minusDays(9))).isTrue(); // exp(-0.5) ≈ 0.61 >= 0.5
+	}
+
+	@Test
+	@DisplayName("조회 시각이 없는 엔트리는 자연 만료에 맡긴다")
+	void shouldNotRefreshWithoutFetchedAt() {
+		// when & then
+		assertThat(policyWithRandom(0.0).shouldRefresh(null)).isFalse();
+	}
+}
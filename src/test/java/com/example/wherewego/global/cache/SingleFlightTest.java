@@ -0,0 +1,150 @@
+package com.example.wherewego.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+	private final SingleFlight singleFlight = new SingleFlight();
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키의 동시 호출은 한 번만 실행되고 결과를 공유한다")
+	void shouldCoalesceConcurrentCallsForSameKey() throws Exception {
+		// given
+		AtomicInteger callCount = new AtomicInteger();
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("google:place1", () -> {
+			callCount.incrementAndGet();
+			loaderStarted.countDown();
+			await(releaseLoader);
+			return "장소1";
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			followers.add(executor.submit(() -> singleFlight.execute("google:place1", () -> {
+				callCount.incrementAndGet();
+				return "중복 호출";
+			})));
+		}
+
+		// when
+		Thread.sleep(100);
+		releaseLoader.countDown();
+
+		// then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("장소1");
+		for (Future<String> follower : followers) {
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("장소1");
+		}
+		assertThat(callCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("호출이 끝난 키는 다음 요청에서 다시 실행된다")
+	void shouldExecuteAgainAfterCompletion() {
+		// given
+		AtomicInteger callCount = new AtomicInteger();
+
+		// when
+		singleFlight.execute("google:place1", callCount::incrementAndGet);
+		singleFlight.execute("google:place1", callCount::incrementAndGet);
+
+		// then
+		assertThat(callCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("호출이 실패하면 원래 예외가 전파된다")
+	void shouldPropagateOriginalException() {
+		// when & then
+		assertThatThrownBy(() -> singleFlight.execute("google:invalid", () -> {
+			throw new IllegalStateException("API 오류");
+		}))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("API 오류");
+	}
+
+	@Test
+	@DisplayName("호출이 Error로 끝나도 대기 중인 요청은 블록되지 않고 같은 Error를 받는다")
+	void shouldReleaseWaitersWhenLoaderThrowsError() throws Exception {
+		// given
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> singleFlight.execute("google:place1", () -> {
+			loaderStarted.countDown();
+			await(releaseLoader);
+			throw new AssertionError("치명적 오류");
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<String> follower = executor.submit(() -> singleFlight.execute("google:place1", () -> "중복 호출"));
+
+		// when
+		Thread.sleep(100);
+		releaseLoader.countDown();
+
+		// then
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	@DisplayName("진행 중인 호출이 최대 대기 시간을 넘기면 대기 중인 요청은 예외로 응답한다")
+	void shouldStopWaitingAfterTimeout() throws Exception {
+		// given
+		SingleFlight shortWait = new SingleFlight(Duration.ofMillis(50));
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+
+		executor.submit(() -> shortWait.execute("google:place1", () -> {
+			loaderStarted.countDown();
+			await(releaseLoader);
+			return "장소1";
+		}));
+		assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> shortWait.execute("google:place1", () -> "중복 호출"))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_UNAVAILABLE);
+		} finally {
+			releaseLoader.countDown();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
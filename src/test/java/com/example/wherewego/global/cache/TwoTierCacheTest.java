@@ -0,0 +1,96 @@
+package com.example.wherewego.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@DisplayName("TwoTierCache 테스트")
+class TwoTierCacheTest {
+
+	private ConcurrentMapCache remoteCache;
+	private TwoTierCache twoTierCache;
+
+	@BeforeEach
+	void setUp() {
+		remoteCache = new ConcurrentMapCache("google-place-details");
+		twoTierCache = new TwoTierCache(remoteCache, 100, Duration.ofMinutes(1));
+	}
+
+	@Nested
+	@DisplayName("계층별 조회")
+	class Get {
+
+		@Test
+		@DisplayName("L2에만 있는 값은 L2에서 조회한 뒤 L1을 채운다")
+		void shouldPromoteRemoteHitToLocal() {
+			// given
+			remoteCache.put("google:place1", "장소1");
+
+			// when
+			Object first = twoTierCache.get("google:place1").get();
+			remoteCache.evict("google:place1");
+			Object second = twoTierCache.get("google:place1").get();
+
+			// then
+			assertThat(first).isEqualTo("장소1");
+			assertThat(second).isEqualTo("장소1");
+
+			CacheLayerStats stats = twoTierCache.getStats();
+			assertThat(stats.getRemoteHits()).isEqualTo(1);
+			assertThat(stats.getLocalHits()).isEqualTo(1);
+			assertThat(stats.getLocalHitRatio()).isEqualTo(0.5);
+		}
+
+		@Test
+		@DisplayName("양쪽 계층에 모두 없으면 미스로 기록한다")
+		void shouldRecordMiss() {
+			// when & then
+			assertThat(twoTierCache.get("google:unknown")).isNull();
+			assertThat(twoTierCache.getStats().getMisses()).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("저장 및 삭제")
+	class PutAndEvict {
+
+		@Test
+		@DisplayName("저장한 값은 양쪽 계층에 반영되고 삭제 시 양쪽에서 제거된다")
+		void shouldWriteThroughAndEvictBothLayers() {
+			// when
+			twoTierCache.put("stats:place1:guest", "통계");
+
+			// then
+			assertThat(remoteCache.get("stats:place1:guest")).isNotNull();
+			assertThat(twoTierCache.getLocal("stats:place1:guest")).isEqualTo("통계");
+
+			// when
+			twoTierCache.evict("stats:place1:guest");
+
+			// then
+			assertThat(remoteCache.get("stats:place1:guest")).isNull();
+			assertThat(twoTierCache.getLocal("stats:place1:guest")).isNull();
+		}
+
+		@Test
+		@DisplayName("전체 삭제 시 L1도 함께 비워진다")
+		void shouldClearBothLayers() {
+			// given
+			twoTierCache.put("stats:place1:guest", "통계1");
+			twoTierCache.put("stats:place2:guest", "통계2");
+
+			// when
+			twoTierCache.clear();
+
+			// then
+			assertThat(twoTierCache.get("stats:place1:guest")).isNull();
+			assertThat(twoTierCache.get("stats:place2:guest")).isNull();
+		}
+	}
+}
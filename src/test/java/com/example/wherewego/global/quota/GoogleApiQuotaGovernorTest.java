@@ -0,0 +1,103 @@
+package com.example.wherewego.global.quota;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+@DisplayName("GoogleApiQuotaGovernor 테스트")
+class GoogleApiQuotaGovernorTest {
+
+	// 용량 100,000 마이크로 달러(Place Details 4건), 초당 25,000 충전, 절반 이하에서 BACKGROUND 차단
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final GoogleApiQuotaGovernor governor = new GoogleApiQuotaGovernor(
+		new TokenBucket(100_000, 25_000, nanoTime::get), 0.5);
+
+	private GoogleApiQuotaStats.SkuUsage usageOf(GoogleApiSku sku, QuotaLane lane) {
+		return governor.getStats().getUsages().stream()
+			.filter(usage -> usage.getSku() == sku && usage.getLane() == lane)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Nested
+	@DisplayName("우선순위 레인")
+	class Lanes {
+
+		@Test
+		@DisplayName("예산이 예약 비율 아래로 내려가면 BACKGROUND 레인부터 차단하고 INTERACTIVE는 계속 허용한다")
+		void shouldThrottleBackgroundFirst() {
+			// given
+			governor.acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+			governor.acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+
+			// when
+			boolean background = governor.tryAcquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.BACKGROUND);
+			boolean interactive = governor.tryAcquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+
+			// then
+			assertThat(background).isFalse();
+			assertThat(interactive).isTrue();
+			assertThat(governor.getStats().isBackgroundThrottled()).isTrue();
+			assertThat(usageOf(GoogleApiSku.PLACE_DETAILS, QuotaLane.BACKGROUND).getDeniedCalls()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("예산이 모두 소진되면 INTERACTIVE 호출도 예외로 거절한다")
+		void shouldRejectInteractiveWhenBudgetExhausted() {
+			// given
+			for (int i = 0; i < 4; i++) {
+				governor.acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+			}
+
+			// when & then
+			assertThatThrownBy(() -> governor.acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_QUOTA_EXCEEDED);
+		}
+
+		@Test
+		@DisplayName("시간이 지나면 예산이 다시 채워진다")
+		void shouldRefillOverTime() {
+			// given
+			for (int i = 0; i < 4; i++) {
+				governor.acquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.INTERACTIVE);
+			}
+
+			// when
+			nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+
+			// then
+			assertThat(governor.tryAcquire(GoogleApiSku.PLACE_DETAILS, QuotaLane.BACKGROUND)).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("비용 집계")
+	class CostAccounting {
+
+		@Test
+		@DisplayName("SKU 비용을 레인별로 누적하고, 호출하지 않은 경우 되돌린다")
+		void shouldAccumulateAndRefundSkuCost() {
+			// given
+			governor.acquire(GoogleApiSku.TEXT_SEARCH, QuotaLane.INTERACTIVE);
+			governor.acquire(GoogleApiSku.TEXT_SEARCH, QuotaLane.INTERACTIVE);
+
+			// when
+			governor.refund(GoogleApiSku.TEXT_SEARCH, QuotaLane.INTERACTIVE);
+
+			// then
+			GoogleApiQuotaStats.SkuUsage usage = usageOf(GoogleApiSku.TEXT_SEARCH, QuotaLane.INTERACTIVE);
+			assertThat(usage.getGrantedCalls()).isEqualTo(1);
+			assertThat(usage.getCostMicros()).isEqualTo(GoogleApiSku.TEXT_SEARCH.getCostMicros());
+			assertThat(governor.getStats().getAvailableMicros()).isEqualTo(100_000 - 32_000);
+		}
+	}
+}
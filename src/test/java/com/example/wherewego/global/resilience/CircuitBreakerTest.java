@@ -0,0 +1,118 @@
+package com.example.wherewego.global.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 0.5, Duration.ofSeconds(30),
+		nanoTime::get);
+
+	private void advance(Duration duration) {
+		nanoTime.addAndGet(duration.toNanos());
+	}
+
+	@Nested
+	@DisplayName("회로 열림")
+	class Open {
+
+		@Test
+		@DisplayName("최소 호출 수 이후 실패율이 임계치를 넘으면 회로를 열고 호출을 거절한다")
+		void shouldOpenWhenFailureRateExceedsThreshold() {
+			// given
+			circuitBreaker.onSuccess();
+			circuitBreaker.onFailure();
+			circuitBreaker.onSuccess();
+			assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+			// when
+			circuitBreaker.onFailure();
+
+			// then
+			assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+			assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+		}
+
+		@Test
+		@DisplayName("최소 호출 수에 못 미치면 모두 실패해도 회로를 열지 않는다")
+		void shouldStayClosedBelowMinimumCalls() {
+			// when
+			circuitBreaker.onFailure();
+			circuitBreaker.onFailure();
+			circuitBreaker.onFailure();
+
+			// then
+			assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+			assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("반열림")
+	class HalfOpen {
+
+		private void open() {
+			for (int i = 0; i < 4; i++) {
+				circuitBreaker.onFailure();
+			}
+		}
+
+		@Test
+		@DisplayName("열린 시간이 지나면 시험 호출 하나만 허용하고, 성공하면 회로를 닫는다")
+		void shouldAllowSingleTrialAndCloseOnSuccess() {
+			// given
+			open();
+			advance(Duration.ofSeconds(31));
+
+			// when
+			boolean trial = circuitBreaker.tryAcquirePermission();
+			boolean concurrent = circuitBreaker.tryAcquirePermission();
+			circuitBreaker.onSuccess();
+
+			// then
+			assertThat(trial).isTrue();
+			assertThat(concurrent).isFalse();
+			assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+			assertThat(circuitBreaker.getFailureRate()).isZero();
+		}
+
+		@Test
+		@DisplayName("시험 호출이 실패하면 회로를 다시 연다")
+		void shouldReopenOnTrialFailure() {
+			// given
+			open();
+			advance(Duration.ofSeconds(31));
+			circuitBreaker.tryAcquirePermission();
+
+			// when
+			circuitBreaker.onFailure();
+
+			// then
+			assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+			assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+		}
+
+		@Test
+		@DisplayName("시험 호출 허용을 반납하면 다음 호출이 시험 호출이 된다")
+		void shouldAllowNextTrialAfterRelease() {
+			// given
+			open();
+			advance(Duration.ofSeconds(31));
+			circuitBreaker.tryAcquirePermission();
+
+			// when
+			circuitBreaker.releasePermission();
+
+			// then
+			assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.example.wherewego.global.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.wherewego.domain.common.enums.ErrorCode;
+import com.example.wherewego.global.exception.CustomException;
+
+import reactor.core.publisher.Mono;
+
+@DisplayName("ResilientEndpoint 테스트")
+class ResilientEndpointTest {
+
+	private static final EndpointPolicy POLICY = EndpointPolicy.builder()
+		.maxConcurrentCalls(1)
+		.maxWaitForPermit(Duration.ofMillis(50))
+		.minTimeout(Duration.ofMillis(100))
+		.maxTimeout(Duration.ofSeconds(2))
+		.minLatencySamples(5)
+		.hedgeMaxRatio(1.0)
+		.minimumCalls(2)
+		.slidingWindowSize(4)
+		.build();
+
+	/**
+	 * 지정한 지연 시간 샘플로 채운 히스토그램
+	 */
+	private LatencyHistogram histogramWith(long latencyMillis, int samples) {
+		LatencyHistogram histogram = new LatencyHistogram(Duration.ofMinutes(1));
+		for (int i = 0; i < samples; i++) {
+			histogram.record(latencyMillis);
+		}
+		return histogram;
+	}
+
+	@Nested
+	@DisplayName("서킷 브레이커")
+	class CircuitBreakerGuard {
+
+		@Test
+		@DisplayName("실패가 쌓여 회로가 열리면 외부 호출 없이 즉시 거절한다")
+		void shouldRejectWithoutCallingWhenOpen() {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", POLICY);
+			AtomicInteger calls = new AtomicInteger();
+			for (int i = 0; i < 2; i++) {
+				assertThatThrownBy(() -> endpoint.execute(() -> {
+					calls.incrementAndGet();
+					return Mono.error(new IllegalStateException("down"));
+				})).isInstanceOf(IllegalStateException.class);
+			}
+
+			// when & then
+			assertThatThrownBy(() -> endpoint.execute(() -> {
+				calls.incrementAndGet();
+				return Mono.just("ok");
+			}))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_UNAVAILABLE);
+			assertThat(calls).hasValue(2);
+			assertThat(endpoint.getStats().getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+			assertThat(endpoint.getStats().getRejectedCalls()).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("벌크헤드")
+	class Bulkhead {
+
+		@Test
+		@DisplayName("동시 호출 수가 가득 차면 슬롯을 잠시 기다린 뒤 거절한다")
+		void shouldRejectWhenAllPermitsAreInUse() throws Exception {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", POLICY);
+			CountDownLatch started = new CountDownLatch(1);
+			CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() -> endpoint.execute(() -> {
+				started.countDown();
+				return Mono.delay(Duration.ofMillis(500)).thenReturn("slow");
+			}));
+			assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+			// when & then
+			assertThatThrownBy(() -> endpoint.execute(() -> Mono.just("fast")))
+				.isInstanceOf(CustomException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXTERNAL_API_UNAVAILABLE);
+			assertThat(slowCall.get(2, TimeUnit.SECONDS)).isEqualTo("slow");
+			assertThat(endpoint.getStats().getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		}
+	}
+
+	@Nested
+	@DisplayName("적응형 타임아웃과 헤지 요청")
+	class AdaptiveTimeoutAndHedge {
+
+		@Test
+		@DisplayName("지연 통계가 부족하면 최대 타임아웃을, 충분하면 p99의 배수를 타임아웃으로 사용한다")
+		void shouldDeriveTimeoutFromLatencyPercentiles() {
+			// given
+			ResilientEndpoint coldEndpoint = new ResilientEndpoint("cold", POLICY);
+			ResilientEndpoint warmEndpoint = new ResilientEndpoint("warm", POLICY, histogramWith(150, 10),
+				new CircuitBreaker(4, 2, 0.5, Duration.ofSeconds(30)));
+
+			// when & then
+			assertThat(coldEndpoint.currentTimeout()).isEqualTo(Duration.ofSeconds(2));
+			assertThat(warmEndpoint.currentTimeout()).isEqualTo(Duration.ofMillis(300));
+		}
+
+		@Test
+		@DisplayName("응답이 p95보다 늦으면 헤지 요청을 보내 먼저 도착한 응답을 사용한다")
+		void shouldHedgeSlowRequest() {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", EndpointPolicy.builder()
+				.maxConcurrentCalls(2)
+				.minTimeout(Duration.ofSeconds(1))
+				.maxTimeout(Duration.ofSeconds(2))
+				.minLatencySamples(5)
+				.hedgeMaxRatio(1.0)
+				.build(), histogramWith(20, 10), new CircuitBreaker(4, 2, 0.5, Duration.ofSeconds(30)));
+			AtomicInteger attempts = new AtomicInteger();
+
+			// when
+			String result = endpoint.execute(() -> attempts.incrementAndGet() == 1
+				? Mono.<String>never()
+				: Mono.just("hedged"));
+
+			// then
+			assertThat(result).isEqualTo("hedged");
+			assertThat(attempts).hasValue(2);
+			assertThat(endpoint.getStats().getHedgedCalls()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("지연 통계가 충분해도 원 요청이 4xx로 실패하면 헤지 요청 없이 원래 예외를 전달하고 실패로 세지 않는다")
+		void shouldFailFastOnPrimaryClientErrorWithoutHedge() throws Exception {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", EndpointPolicy.builder()
+				.maxConcurrentCalls(2)
+				.minTimeout(Duration.ofSeconds(1))
+				.maxTimeout(Duration.ofSeconds(2))
+				.minLatencySamples(5)
+				.hedgeMaxRatio(1.0)
+				.build(), histogramWith(20, 10), new CircuitBreaker(4, 1, 0.5, Duration.ofSeconds(30)));
+			AtomicInteger attempts = new AtomicInteger();
+
+			// when & then
+			assertThatThrownBy(() -> endpoint.execute(() -> {
+				attempts.incrementAndGet();
+				return Mono.<String>error(WebClientResponseException.create(404, "Not Found", null, null, null));
+			}))
+				.isInstanceOf(WebClientResponseException.NotFound.class);
+
+			Thread.sleep(100);
+			assertThat(attempts).hasValue(1);
+			assertThat(endpoint.getStats().getHedgedCalls()).isZero();
+			assertThat(endpoint.getStats().getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		}
+
+		@Test
+		@DisplayName("헤지 요청이 허용되지 않으면 원 요청의 실패를 그대로 전달한다")
+		void shouldPropagatePrimaryErrorWhenHedgeNotAdmitted() {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", EndpointPolicy.builder()
+				.maxConcurrentCalls(2)
+				.minTimeout(Duration.ofSeconds(1))
+				.maxTimeout(Duration.ofSeconds(2))
+				.minLatencySamples(5)
+				.hedgeMaxRatio(1.0)
+				.build(), histogramWith(20, 10), new CircuitBreaker(4, 2, 0.5, Duration.ofSeconds(30)));
+
+			// when & then
+			assertThatThrownBy(() -> endpoint.execute(() -> Mono.delay(Duration.ofMillis(100))
+				.then(Mono.<String>error(WebClientResponseException.create(400, "Bad Request", null, null, null))),
+				() -> false))
+				.isInstanceOf(WebClientResponseException.BadRequest.class);
+			assertThat(endpoint.getStats().getHedgedCalls()).isZero();
+		}
+
+		@Test
+		@DisplayName("타임아웃 안에 응답이 없으면 실패로 처리한다")
+		void shouldFailWhenTimeoutElapses() {
+			// given
+			ResilientEndpoint endpoint = new ResilientEndpoint("test", EndpointPolicy.builder()
+				.minTimeout(Duration.ofMillis(100))
+				.maxTimeout(Duration.ofMillis(100))
+				.hedgeEnabled(false)
+				.build());
+
+			// when & then
+			assertThatThrownBy(() -> endpoint.execute(Mono::never))
+				.isInstanceOf(RuntimeException.class);
+			assertThat(endpoint.getStats().getFailureRate()).isEqualTo(1.0);
+		}
+	}
+}
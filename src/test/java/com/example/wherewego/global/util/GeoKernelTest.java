@@ -0,0 +1,89 @@
+package com.example.wherewego.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GeoKernel 테스트")
+class GeoKernelTest {
+
+	// 강남역 기준, 역삼역 / 서울역 / 잠실역 / 좌표 없음
+	private static final double ORIGIN_LAT = 37.4979;
+	private static final double ORIGIN_LNG = 127.0276;
+	private final double[] latitudes = {37.5006, 37.5547, 37.5133, Double.NaN};
+	private final double[] longitudes = {127.0364, 126.9707, 127.1001, Double.NaN};
+
+	@Nested
+	@DisplayName("한 지점에서 여러 지점까지의 거리")
+	class OneToMany {
+
+		@Test
+		@DisplayName("배열 Haversine 결과는 쌍 단위 계산과 같고, 좌표가 없는 지점은 NaN이다")
+		void shouldMatchPairwiseHaversine() {
+			// given
+			double[] out = new double[latitudes.length];
+
+			// when
+			GeoKernel.haversineFrom(ORIGIN_LAT, ORIGIN_LNG, latitudes, longitudes, out);
+
+			// then
+			for (int i = 0; i < 3; i++) {
+				assertThat(out[i]).isCloseTo(
+					GeoKernel.haversineMeters(ORIGIN_LAT, ORIGIN_LNG, latitudes[i], longitudes[i]), within(1e-6));
+			}
+			assertThat(out[0]).isBetween(800.0, 900.0);
+			assertThat(out[3]).isNaN();
+		}
+
+		@Test
+		@DisplayName("등장방형 근사는 도시 내 거리에서 Haversine과 0.1% 미만으로 차이 난다")
+		void shouldApproximateWithinCity() {
+			// given
+			double[] exact = new double[latitudes.length];
+			double[] approximate = new double[latitudes.length];
+
+			// when
+			GeoKernel.haversineFrom(ORIGIN_LAT, ORIGIN_LNG, latitudes, longitudes, exact);
+			GeoKernel.equirectangularFrom(ORIGIN_LAT, ORIGIN_LNG, latitudes, longitudes, approximate);
+
+			// then
+			for (int i = 0; i < 3; i++) {
+				assertThat(approximate[i]).isCloseTo(exact[i], withinPercentage(0.1));
+			}
+			assertThat(approximate[3]).isNaN();
+		}
+	}
+
+	@Nested
+	@DisplayName("연속한 지점 간 구간 거리")
+	class Legs {
+
+		@Test
+		@DisplayName("각 구간은 이전 지점에서의 거리이며, 좌표가 없는 지점과 맞닿은 구간은 NaN이다")
+		void shouldComputeSequentialLegs() {
+			// given
+			double[] out = new double[latitudes.length];
+
+			// when
+			GeoKernel.haversineLegs(latitudes, longitudes, out);
+
+			// then
+			assertThat(out[0]).isZero();
+			for (int i = 1; i < 3; i++) {
+				assertThat(out[i]).isCloseTo(GeoKernel.haversineMeters(latitudes[i - 1], longitudes[i - 1],
+					latitudes[i], longitudes[i]), within(1e-6));
+			}
+			assertThat(out[3]).isNaN();
+		}
+
+		@Test
+		@DisplayName("빈 배열은 아무것도 계산하지 않는다")
+		void shouldHandleEmptyInput() {
+			// when & then
+			assertThatCode(() -> GeoKernel.haversineLegs(new double[0], new double[0], new double[0]))
+				.doesNotThrowAnyException();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.wherewego.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HangulJamo 테스트")
+class HangulJamoTest {
+
+	@Nested
+	@DisplayName("자모 분해")
+	class Decompose {
+
+		@Test
+		@DisplayName("한글 음절은 호환 자모로 풀어 쓰고, 공백은 제거하며 영문은 소문자로 바꾼다")
+		void shouldDecomposeSyllables() {
+			assertThat(HangulJamo.decompose("강남 CGV")).isEqualTo("ㄱㅏㅇㄴㅏㅁcgv");
+		}
+
+		@Test
+		@DisplayName("입력 중인 글자도 완성된 글자의 접두사가 된다")
+		void shouldMatchSyllableBeingTyped() {
+			assertThat(HangulJamo.decompose("강남")).startsWith(HangulJamo.decompose("강나"));
+			assertThat(HangulJamo.decompose("닭갈비")).startsWith(HangulJamo.decompose("달"));
+			assertThat(HangulJamo.decompose("과자")).startsWith(HangulJamo.decompose("고"));
+		}
+
+		@Test
+		@DisplayName("직접 입력한 겹자음/이중모음도 구성 자모로 풀어 쓴다")
+		void shouldDecomposeCompoundJamo() {
+			assertThat(HangulJamo.decompose("ㄺㅘ")).isEqualTo("ㄹㄱㅗㅏ");
+		}
+	}
+
+	@Nested
+	@DisplayName("초성")
+	class Chosung {
+
+		@Test
+		@DisplayName("한글 음절의 초성만 남기고 다른 문자는 그대로 둔다")
+		void shouldExtractChosung() {
+			assertThat(HangulJamo.chosung("강남역 Starbucks")).isEqualTo("ㄱㄴㅇstarbucks");
+		}
+
+		@Test
+		@DisplayName("자음으로만 이루어진 입력만 초성 검색으로 판단한다")
+		void shouldDetectChosungOnlyInput() {
+			assertThat(HangulJamo.isChosungOnly("ㄱㄴ ㅇ")).isTrue();
+			assertThat(HangulJamo.isChosungOnly("ㄱㅏ")).isFalse();
+			assertThat(HangulJamo.isChosungOnly("강ㄴ")).isFalse();
+			assertThat(HangulJamo.isChosungOnly(" ")).isFalse();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.wherewego.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.wherewego.domain.places.dto.request.PlaceSearchRequestDto;
+
+@DisplayName("SearchQueryCanonicalizer 테스트")
+class SearchQueryCanonicalizerTest {
+
+	private final SearchQueryCanonicalizer canonicalizer = new SearchQueryCanonicalizer(
+		Map.of("강남역", "강남", "스벅", "스타벅스", "starbucks", "스타벅스"),
+		Set.of("근처", "주변"));
+
+	@Nested
+	@DisplayName("검색어 정규화")
+	class Canonicalize {
+
+		@Test
+		@DisplayName("단어 순서, 띄어쓰기, 별칭이 달라도 같은 대표 형태로 변환한다")
+		void shouldCanonicalizeEquivalentQueries() {
+			// when
+			String spaced = canonicalizer.canonicalize("강남 스타벅스");
+			String reordered = canonicalizer.canonicalize("스타벅스  강남");
+			String compound = canonicalizer.canonicalize("스타벅스강남역");
+			String aliased = canonicalizer.canonicalize("Starbucks, 강남역");
+
+			// then
+			assertThat(spaced).isEqualTo("강남 스타벅스");
+			assertThat(reordered).isEqualTo(spaced);
+			assertThat(compound).isEqualTo(spaced);
+			assertThat(aliased).isEqualTo(spaced);
+		}
+
+		@Test
+		@DisplayName("불용어는 제거하되, 모든 단어가 불용어이면 그대로 유지한다")
+		void shouldStripStopWords() {
+			// when
+			String withStopWord = canonicalizer.canonicalize("스벅 근처");
+			String onlyStopWords = canonicalizer.canonicalize("근처");
+
+			// then
+			assertThat(withStopWord).isEqualTo("스타벅스");
+			assertThat(onlyStopWords).isEqualTo("근처");
+		}
+
+		@Test
+		@DisplayName("조합형(NFD) 한글도 완성형(NFC)과 같은 결과를 만든다")
+		void shouldNormalizeUnicode() {
+			// given
+			String decomposed = Normalizer.normalize("강남 카페", Normalizer.Form.NFD);
+
+			// when & then
+			assertThat(canonicalizer.canonicalize(decomposed)).isEqualTo(canonicalizer.canonicalize("강남 카페"));
+		}
+	}
+
+	@Nested
+	@DisplayName("검색 캐시 키")
+	class SearchKey {
+
+		private final CacheKeyUtil cacheKeyUtil = new CacheKeyUtil(canonicalizer);
+
+		@Test
+		@DisplayName("같은 의미의 검색어는 같은 고정 길이 키를 만든다")
+		void shouldGenerateSameFixedLengthKey() {
+			// given
+			PlaceSearchRequestDto first = PlaceSearchRequestDto.builder().query("강남 스타벅스").build();
+			PlaceSearchRequestDto second = PlaceSearchRequestDto.builder().query("스타벅스강남역 근처").build();
+			PlaceSearchRequestDto other = PlaceSearchRequestDto.builder()
+				.query("강남 스타벅스 리저브 매장 중에서 주차가 가능한 곳").build();
+
+			// when
+			String firstKey = cacheKeyUtil.generateGoogleSearchKey(first);
+			String secondKey = cacheKeyUtil.generateGoogleSearchKey(second);
+			String otherKey = cacheKeyUtil.generateGoogleSearchKey(other);
+
+			// then
+			assertThat(firstKey).isEqualTo(secondKey).startsWith("search:").hasSize("search:".length() + 22);
+			assertThat(otherKey).isNotEqualTo(firstKey).hasSameSizeAs(firstKey);
+		}
+
+		@Test
+		@DisplayName("위치 기반 검색은 사용자 타일 키를 첫 번째로 하여 주변 타일 키까지 만든다")
+		void shouldGenerateTileKeysWithOwnTileFirst() {
+			// given
+			PlaceSearchRequestDto request = PlaceSearchRequestDto.builder()
+				.query("카페")
+				.userLocation(PlaceSearchRequestDto.UserLocation.builder()
+					.latitude(37.4979).longitude(127.0276).radius(1000).build())
+				.build();
+			PlaceSearchRequestDto movedRequest = PlaceSearchRequestDto.builder()
+				.query("카페")
+				.userLocation(PlaceSearchRequestDto.UserLocation.builder()
+					.latitude(37.4990).longitude(127.0276).radius(1000).build())
+				.build();
+
+			// when
+			List<String> tileKeys = cacheKeyUtil.generateGoogleSearchTileKeys(request);
+			String movedKey = cacheKeyUtil.generateGoogleSearchKey(movedRequest);
+
+			// then
+			assertThat(tileKeys).hasSize(9).doesNotHaveDuplicates();
+			assertThat(tileKeys.get(0)).isEqualTo(cacheKeyUtil.generateGoogleSearchKey(request));
+			assertThat(tileKeys).contains(movedKey);
+		}
+	}
+}